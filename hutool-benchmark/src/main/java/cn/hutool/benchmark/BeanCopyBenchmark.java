@@ -0,0 +1,52 @@
+package cn.hutool.benchmark;
+
+import cn.hutool.core.bean.BeanUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BeanUtil拷贝基准，包括同类型拷贝、带类型转换的异类型拷贝和Bean转Map
+ *
+ * @author looly
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BeanCopyBenchmark {
+
+	private Fixtures.User user;
+
+	@Setup
+	public void setup() {
+		user = Fixtures.user();
+	}
+
+	@Benchmark
+	public Fixtures.User copySameType() {
+		return BeanUtil.copyProperties(user, Fixtures.User.class);
+	}
+
+	@Benchmark
+	public Fixtures.UserView copyWithConvert() {
+		return BeanUtil.copyProperties(user, Fixtures.UserView.class);
+	}
+
+	@Benchmark
+	public Map<String, Object> beanToMap() {
+		return BeanUtil.beanToMap(user);
+	}
+}
@@ -0,0 +1,69 @@
+package cn.hutool.benchmark;
+
+import cn.hutool.core.io.BufferPool;
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.text.StrBuilder;
+import cn.hutool.core.util.RandomUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 缓冲池基准，对比启用和不启用{@link BufferPool}时读取流和拼接字符串的性能，建议配合-prof gc观察分配速率
+ *
+ * @author looly
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BufferPoolBenchmark {
+
+	@Param({"false", "true"})
+	private boolean pooled;
+
+	private byte[] data;
+	private String part;
+
+	@Setup
+	public void setup() {
+		data = RandomUtil.randomBytes(256 * 1024);
+		part = RandomUtil.randomString(100);
+		if (pooled) {
+			BufferPool.enableGlobal();
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		BufferPool.disableGlobal();
+	}
+
+	@Benchmark
+	public byte[] readBytes() {
+		return IoUtil.readBytes(new ByteArrayInputStream(data));
+	}
+
+	@Benchmark
+	public String strBuilder() {
+		final StrBuilder builder = StrBuilder.create();
+		for (int i = 0; i < 500; i++) {
+			builder.append(part);
+		}
+		return builder.toStringAndReset();
+	}
+}
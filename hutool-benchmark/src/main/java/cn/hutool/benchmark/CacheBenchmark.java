@@ -0,0 +1,81 @@
+package cn.hutool.benchmark;
+
+import cn.hutool.cache.Cache;
+import cn.hutool.cache.CacheUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 缓存get/put基准，4线程并发访问，键空间为容量的2倍，命中率约50%
+ *
+ * @author looly
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class CacheBenchmark {
+
+	private static final int CAPACITY = 1024;
+
+	@Param({"LRU", "LFU", "FIFO", "TIMED", "WEAK"})
+	public String type;
+
+	private Cache<Integer, String> cache;
+	private String[] values;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		switch (type) {
+			case "LRU":
+				cache = CacheUtil.newLRUCache(CAPACITY);
+				break;
+			case "LFU":
+				cache = CacheUtil.newLFUCache(CAPACITY);
+				break;
+			case "FIFO":
+				cache = CacheUtil.newFIFOCache(CAPACITY);
+				break;
+			case "TIMED":
+				cache = CacheUtil.newTimedCache(TimeUnit.MINUTES.toMillis(10));
+				break;
+			default:
+				cache = CacheUtil.newWeakCache(TimeUnit.MINUTES.toMillis(10));
+		}
+		values = new String[CAPACITY * 2];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = "value" + i;
+			if (i < CAPACITY) {
+				cache.put(i, values[i]);
+			}
+		}
+	}
+
+	@Benchmark
+	public String get() {
+		return cache.get(ThreadLocalRandom.current().nextInt(CAPACITY * 2));
+	}
+
+	@Benchmark
+	public void put() {
+		final int key = ThreadLocalRandom.current().nextInt(CAPACITY * 2);
+		cache.put(key, values[key]);
+	}
+}
@@ -0,0 +1,55 @@
+package cn.hutool.benchmark;
+
+import cn.hutool.core.convert.Convert;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Convert.convert基准，覆盖常见的字符串到基本类型、数字之间及日期的转换
+ *
+ * @author looly
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConvertBenchmark {
+
+	private final String intStr = "123456";
+	private final String decimalStr = "12345.6789";
+	private final String dateStr = "2024-01-01 12:30:00";
+	private final Long longValue = 123456789L;
+
+	@Benchmark
+	public Integer stringToInteger() {
+		return Convert.convert(Integer.class, intStr);
+	}
+
+	@Benchmark
+	public BigDecimal stringToBigDecimal() {
+		return Convert.convert(BigDecimal.class, decimalStr);
+	}
+
+	@Benchmark
+	public String longToString() {
+		return Convert.convert(String.class, longValue);
+	}
+
+	@Benchmark
+	public Date stringToDate() {
+		return Convert.convert(Date.class, dateStr);
+	}
+}
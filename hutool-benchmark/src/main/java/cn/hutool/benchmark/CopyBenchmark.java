@@ -0,0 +1,123 @@
+package cn.hutool.benchmark;
+
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.io.NioUtil;
+import cn.hutool.core.io.NullOutputStream;
+import cn.hutool.core.util.CharsetUtil;
+import cn.hutool.core.util.RandomUtil;
+import cn.hutool.core.util.ZipUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.Pipe;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 拷贝吞吐量基准，覆盖文件流之间的直接传输、文件拷贝、内存流拷贝、系统通道之间的直接缓冲区拷贝以及压缩
+ *
+ * @author looly
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CopyBenchmark {
+
+	@Param({"4096", "16777216"})
+	private int size;
+
+	private byte[] data;
+	private File dir;
+	private File src;
+	private File dest;
+
+	@Setup
+	public void setup() {
+		data = RandomUtil.randomBytes(size);
+		dir = FileUtil.mkdir(FileUtil.file(FileUtil.getTmpDir(), "copy-benchmark-" + size));
+		src = FileUtil.writeBytes(data, FileUtil.file(dir, "src.bin"));
+		dest = FileUtil.file(dir, "dest.bin");
+	}
+
+	@TearDown
+	public void tearDown() {
+		FileUtil.del(dir);
+	}
+
+	/**
+	 * 文件流之间拷贝，使用FileChannel#transferTo
+	 */
+	@Benchmark
+	public long fileStream() throws IOException {
+		try (final InputStream in = new FileInputStream(src); final OutputStream out = new FileOutputStream(dest)) {
+			return IoUtil.copy(in, out);
+		}
+	}
+
+	/**
+	 * 文件拷贝，使用Files#copy
+	 */
+	@Benchmark
+	public long fileCopy() {
+		return FileUtil.copy(src, dest, true).length();
+	}
+
+	/**
+	 * 内存流拷贝，缓存按照剩余长度缩小
+	 */
+	@Benchmark
+	public long byteArrayStream() {
+		final ByteArrayOutputStream out = new ByteArrayOutputStream(size);
+		return IoUtil.copy(new ByteArrayInputStream(data), out);
+	}
+
+	/**
+	 * 系统通道之间拷贝，使用线程内复用的直接缓冲区
+	 */
+	@Benchmark
+	public long pipeChannel() throws Exception {
+		final Pipe in = Pipe.open();
+		final Pipe out = Pipe.open();
+		final Thread writer = new Thread(() -> IoUtil.write(Channels.newOutputStream(in.sink()), true, data));
+		final Thread reader = new Thread(() -> IoUtil.copy(Channels.newInputStream(out.source()), new NullOutputStream()));
+		writer.start();
+		reader.start();
+		final long copied = NioUtil.copy(in.source(), out.sink(), NioUtil.DEFAULT_LARGE_BUFFER_SIZE, null);
+		out.sink().close();
+		in.source().close();
+		writer.join();
+		reader.join();
+		return copied;
+	}
+
+	/**
+	 * 压缩文件，文件流按照剩余长度确定缓存大小
+	 */
+	@Benchmark
+	public long zip() {
+		return ZipUtil.zip(dest, CharsetUtil.CHARSET_UTF_8, false, src).length();
+	}
+
+}
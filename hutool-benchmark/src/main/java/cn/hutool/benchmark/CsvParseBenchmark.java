@@ -0,0 +1,80 @@
+package cn.hutool.benchmark;
+
+import cn.hutool.core.text.csv.CsvParser;
+import cn.hutool.core.text.csv.CsvReadConfig;
+import cn.hutool.core.text.csv.CsvRow;
+import cn.hutool.core.text.csv.CsvSliceParser;
+import cn.hutool.core.text.csv.CsvSliceRow;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CSV解析基准，对比{@link CsvParser}与{@link CsvSliceParser}，以及只解析部分列的情况
+ *
+ * @author looly
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CsvParseBenchmark {
+
+	private String csv;
+	private final CsvReadConfig projectConfig = CsvReadConfig.defaultConfig().setColumns(1, 4);
+
+	@Setup
+	public void setup() {
+		final StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < 100000; i++) {
+			builder.append(i).append(",user").append(i).append(",\"Beijing, China\",")
+					.append(i % 100).append(",2024-01-01 12:30:00,").append(i * 31L).append('\n');
+		}
+		csv = builder.toString();
+	}
+
+	@Benchmark
+	public long parser() {
+		final CsvParser parser = new CsvParser(new StringReader(csv), null);
+		long length = 0;
+		CsvRow row;
+		while (null != (row = parser.nextRow())) {
+			length += row.get(1).length() + row.get(4).length();
+		}
+		return length;
+	}
+
+	@Benchmark
+	public long sliceParser() {
+		final CsvSliceParser parser = new CsvSliceParser(new StringReader(csv), null);
+		long length = 0;
+		CsvSliceRow row;
+		while (null != (row = parser.nextRow())) {
+			length += row.get(1).length() + row.get(4).length();
+		}
+		return length;
+	}
+
+	@Benchmark
+	public long sliceParserColumns() {
+		final CsvSliceParser parser = new CsvSliceParser(new StringReader(csv), projectConfig);
+		long length = 0;
+		CsvSliceRow row;
+		while (null != (row = parser.nextRow())) {
+			length += row.getSlice(1).length() + row.getSlice(4).length();
+		}
+		return length;
+	}
+}
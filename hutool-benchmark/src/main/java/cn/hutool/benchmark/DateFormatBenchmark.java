@@ -0,0 +1,84 @@
+package cn.hutool.benchmark;
+
+import cn.hutool.core.date.DatePattern;
+import cn.hutool.core.date.DateTime;
+import cn.hutool.core.date.DateUtil;
+import cn.hutool.core.date.format.FastDateFormat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Calendar;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FastDatePrinter格式化基准，毫秒数递增模拟日志时间戳
+ *
+ * @author looly
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateFormatBenchmark {
+
+	private final FastDateFormat format = DatePattern.NORM_DATETIME_MS_FORMAT;
+	private final char[] chars = new char[64];
+	private final byte[] bytes = new byte[64];
+	private final StringBuilder builder = new StringBuilder(64);
+	private long millis;
+	private DateTime dateTime;
+
+	@Setup
+	public void setup() {
+		millis = System.currentTimeMillis();
+		dateTime = DateUtil.date(millis);
+	}
+
+	@Benchmark
+	public String formatDateTime() {
+		return DateUtil.formatDateTime(new DateTime(++millis));
+	}
+
+	@Benchmark
+	public String formatString() {
+		return format.format(++millis);
+	}
+
+	@Benchmark
+	public String formatCalendar() {
+		final Calendar calendar = Calendar.getInstance(format.getTimeZone(), format.getLocale());
+		calendar.setTimeInMillis(++millis);
+		return format.format(calendar);
+	}
+
+	@Benchmark
+	public int formatToBuilder() {
+		builder.setLength(0);
+		return format.format(++millis, builder).length();
+	}
+
+	@Benchmark
+	public int formatToChars() {
+		return format.format(++millis, chars, 0);
+	}
+
+	@Benchmark
+	public int formatToBytes() {
+		return format.format(++millis, bytes, 0);
+	}
+
+	@Benchmark
+	public String dateTimeToString() {
+		return dateTime.toString();
+	}
+}
@@ -0,0 +1,38 @@
+package cn.hutool.benchmark;
+
+import cn.hutool.core.date.DateTime;
+import cn.hutool.core.date.DateUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DateUtil.parse自动识别格式的解析基准
+ *
+ * @author looly
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateParseBenchmark {
+
+	@Param({"2024-01-01 12:30:00", "2024-01-01", "2024-01-01T12:30:00.123+08:00", "20240101123000", "12:30:00", "2024年01月01日 12时30分00秒"})
+	public String date;
+
+	@Benchmark
+	public DateTime parse() {
+		return DateUtil.parse(date);
+	}
+}
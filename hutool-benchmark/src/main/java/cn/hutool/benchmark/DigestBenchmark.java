@@ -0,0 +1,63 @@
+package cn.hutool.benchmark;
+
+import cn.hutool.core.util.RandomUtil;
+import cn.hutool.crypto.SecureUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SecureUtil摘要基准
+ *
+ * @author looly
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DigestBenchmark {
+
+	@Param({"64", "4096"})
+	public int size;
+
+	private byte[] data;
+	private byte[] hmacKey;
+
+	@Setup
+	public void setup() {
+		data = RandomUtil.randomBytes(size);
+		hmacKey = RandomUtil.randomBytes(32);
+	}
+
+	@Benchmark
+	public String md5() {
+		return SecureUtil.md5().digestHex(data);
+	}
+
+	@Benchmark
+	public String sha1() {
+		return SecureUtil.sha1().digestHex(data);
+	}
+
+	@Benchmark
+	public String sha256() {
+		return SecureUtil.sha256().digestHex(data);
+	}
+
+	@Benchmark
+	public String hmacSha256() {
+		return SecureUtil.hmacSha256(hmacKey).digestHex(data);
+	}
+}
@@ -0,0 +1,135 @@
+package cn.hutool.benchmark;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * 基准测试公用的数据
+ *
+ * @author looly
+ */
+public class Fixtures {
+
+	/**
+	 * 创建测试用户
+	 *
+	 * @return 用户
+	 */
+	public static User user() {
+		final User user = new User();
+		user.setId(10086L);
+		user.setName("hutool");
+		user.setAge(18);
+		user.setEmail("hutool@example.com");
+		user.setBirthday(new Date(946656000000L));
+		final List<String> tags = new ArrayList<>();
+		tags.add("java");
+		tags.add("tool");
+		tags.add("benchmark");
+		user.setTags(tags);
+		return user;
+	}
+
+	/**
+	 * 测试用户
+	 */
+	public static class User {
+		private Long id;
+		private String name;
+		private Integer age;
+		private String email;
+		private Date birthday;
+		private List<String> tags;
+
+		public Long getId() {
+			return id;
+		}
+
+		public void setId(Long id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public Integer getAge() {
+			return age;
+		}
+
+		public void setAge(Integer age) {
+			this.age = age;
+		}
+
+		public String getEmail() {
+			return email;
+		}
+
+		public void setEmail(String email) {
+			this.email = email;
+		}
+
+		public Date getBirthday() {
+			return birthday;
+		}
+
+		public void setBirthday(Date birthday) {
+			this.birthday = birthday;
+		}
+
+		public List<String> getTags() {
+			return tags;
+		}
+
+		public void setTags(List<String> tags) {
+			this.tags = tags;
+		}
+	}
+
+	/**
+	 * 测试用户视图，字段与{@link User}部分相同
+	 */
+	public static class UserView {
+		private Long id;
+		private String name;
+		private String age;
+		private Date birthday;
+
+		public Long getId() {
+			return id;
+		}
+
+		public void setId(Long id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public String getAge() {
+			return age;
+		}
+
+		public void setAge(String age) {
+			this.age = age;
+		}
+
+		public Date getBirthday() {
+			return birthday;
+		}
+
+		public void setBirthday(Date birthday) {
+			this.birthday = birthday;
+		}
+	}
+}
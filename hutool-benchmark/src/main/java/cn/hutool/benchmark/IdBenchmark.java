@@ -0,0 +1,71 @@
+package cn.hutool.benchmark;
+
+import cn.hutool.core.lang.Snowflake;
+import cn.hutool.core.lang.id.BufferedSnowflake;
+import cn.hutool.core.util.IdUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * IdUtil生成器基准，4线程并发生成
+ *
+ * @author looly
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class IdBenchmark {
+
+	private final Snowflake snowflake = IdUtil.getSnowflake(1, 1);
+	private final Snowflake batchSnowflake = new Snowflake(2, 1);
+	private final BufferedSnowflake bufferedSnowflake = new BufferedSnowflake(new Snowflake(3, 1), 256);
+
+	@Benchmark
+	public String randomUUID() {
+		return IdUtil.randomUUID();
+	}
+
+	@Benchmark
+	public String fastSimpleUUID() {
+		return IdUtil.fastSimpleUUID();
+	}
+
+	@Benchmark
+	public String objectId() {
+		return IdUtil.objectId();
+	}
+
+	@Benchmark
+	public long snowflake() {
+		return snowflake.nextId();
+	}
+
+	@Benchmark
+	public long[] snowflakeBatch100() {
+		return batchSnowflake.nextIds(100);
+	}
+
+	@Benchmark
+	public long snowflakeBuffered() {
+		return bufferedSnowflake.nextId();
+	}
+
+	@Benchmark
+	public String nanoId() {
+		return IdUtil.nanoId();
+	}
+}
@@ -0,0 +1,61 @@
+package cn.hutool.benchmark;
+
+import cn.hutool.json.JSONObject;
+import cn.hutool.json.JSONUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSONUtil解析与序列化基准
+ *
+ * @author looly
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonBenchmark {
+
+	private String json;
+	private JSONObject jsonObject;
+	private Fixtures.User user;
+
+	@Setup
+	public void setup() {
+		user = Fixtures.user();
+		json = JSONUtil.toJsonStr(user);
+		jsonObject = JSONUtil.parseObj(json);
+	}
+
+	@Benchmark
+	public JSONObject parse() {
+		return JSONUtil.parseObj(json);
+	}
+
+	@Benchmark
+	public Fixtures.User parseToBean() {
+		return JSONUtil.toBean(json, Fixtures.User.class);
+	}
+
+	@Benchmark
+	public String serializeBean() {
+		return JSONUtil.toJsonStr(user);
+	}
+
+	@Benchmark
+	public String serializeJsonObject() {
+		return jsonObject.toString();
+	}
+}
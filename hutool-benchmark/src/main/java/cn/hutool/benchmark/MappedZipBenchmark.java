@@ -0,0 +1,78 @@
+package cn.hutool.benchmark;
+
+import cn.hutool.core.compress.MappedZipReader;
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.util.CharsetUtil;
+import cn.hutool.core.util.RandomUtil;
+import cn.hutool.core.util.ZipUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipFile;
+
+/**
+ * Zip随机读取基准，对比{@link ZipFile}与{@link MappedZipReader}多线程随机读取单个条目
+ *
+ * @author looly
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class MappedZipBenchmark {
+
+	private static final int COUNT = 10000;
+
+	private File dir;
+	private ZipFile zipFile;
+	private MappedZipReader reader;
+
+	@Setup
+	public void setup() throws IOException {
+		dir = FileUtil.mkdir(FileUtil.file(FileUtil.getTmpDir(), "mapped-zip-benchmark"));
+		final File srcDir = FileUtil.mkdir(FileUtil.file(dir, "src"));
+		for (int i = 0; i < COUNT; i++) {
+			FileUtil.writeUtf8String(RandomUtil.randomString(1024), FileUtil.file(srcDir, "f" + i + ".txt"));
+		}
+		final File file = ZipUtil.zip(FileUtil.file(dir, "src.zip"), CharsetUtil.CHARSET_UTF_8, false, srcDir);
+		zipFile = new ZipFile(file);
+		reader = MappedZipReader.of(file, CharsetUtil.CHARSET_UTF_8);
+	}
+
+	@TearDown
+	public void tearDown() {
+		IoUtil.close(zipFile);
+		IoUtil.close(reader);
+		FileUtil.del(dir);
+	}
+
+	@Benchmark
+	public int zipFile() throws IOException {
+		final String name = "f" + ThreadLocalRandom.current().nextInt(COUNT) + ".txt";
+		return IoUtil.readBytes(zipFile.getInputStream(zipFile.getEntry(name))).length;
+	}
+
+	@Benchmark
+	public int mappedZipReader() {
+		final String name = "f" + ThreadLocalRandom.current().nextInt(COUNT) + ".txt";
+		return reader.getBytes(name).length;
+	}
+}
@@ -0,0 +1,95 @@
+package cn.hutool.benchmark;
+
+import cn.hutool.core.compress.Gzip;
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.util.CharsetUtil;
+import cn.hutool.core.util.RandomUtil;
+import cn.hutool.core.util.StrUtil;
+import cn.hutool.core.util.ZipUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileFilter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 串行与并行压缩对比基准，覆盖大量小文件打包、解压以及大数据Gzip压缩，并行收益取决于CPU核数
+ *
+ * @author looly
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParallelZipBenchmark {
+
+	private File dir;
+	private File srcDir;
+	private File zipFile;
+	private byte[] data;
+
+	@Setup
+	public void setup() {
+		dir = FileUtil.mkdir(FileUtil.file(FileUtil.getTmpDir(), "parallel-zip-benchmark"));
+		srcDir = FileUtil.mkdir(FileUtil.file(dir, "src"));
+		for (int i = 0; i < 2000; i++) {
+			FileUtil.writeUtf8String(StrUtil.repeat(RandomUtil.randomString(64) + "\n", 64),
+					FileUtil.file(srcDir, "d" + (i % 20) + "/f" + i + ".txt"));
+		}
+		zipFile = ZipUtil.zip(FileUtil.file(dir, "src.zip"), CharsetUtil.CHARSET_UTF_8, false, srcDir);
+		data = StrUtil.repeat(RandomUtil.randomString(1024) + "\n", 16 * 1024).getBytes();
+	}
+
+	@TearDown
+	public void tearDown() {
+		FileUtil.del(dir);
+	}
+
+	@Benchmark
+	public long zip() {
+		return ZipUtil.zip(FileUtil.file(dir, "out.zip"), CharsetUtil.CHARSET_UTF_8, false, (FileFilter) null, srcDir).length();
+	}
+
+	@Benchmark
+	public long zipParallel() {
+		return ZipUtil.zipParallel(FileUtil.file(dir, "out.zip"), CharsetUtil.CHARSET_UTF_8, false, null, srcDir).length();
+	}
+
+	@Benchmark
+	public File unzip() {
+		return ZipUtil.unzip(zipFile, FileUtil.file(dir, "unzip"), CharsetUtil.CHARSET_UTF_8);
+	}
+
+	@Benchmark
+	public File unzipParallel() {
+		return ZipUtil.unzipParallel(zipFile, FileUtil.file(dir, "unzip"), CharsetUtil.CHARSET_UTF_8, 0);
+	}
+
+	@Benchmark
+	public int gzip() {
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		Gzip.of(new ByteArrayInputStream(data), out).gzip().close();
+		return out.size();
+	}
+
+	@Benchmark
+	public int gzipParallel() {
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		Gzip.of(new ByteArrayInputStream(data), out).gzipParallel().close();
+		return out.size();
+	}
+}
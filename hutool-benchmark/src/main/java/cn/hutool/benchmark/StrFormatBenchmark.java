@@ -0,0 +1,73 @@
+package cn.hutool.benchmark;
+
+import cn.hutool.core.map.MapUtil;
+import cn.hutool.core.text.StrTemplate;
+import cn.hutool.core.util.StrUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * StrUtil.format基准
+ *
+ * @author looly
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StrFormatBenchmark {
+
+	private final String template = "User [{}] login from {} at {}, cost {}ms";
+	private final String name = "hutool";
+	private final String ip = "127.0.0.1";
+	private final String time = "2024-01-01 12:30:00";
+	private final Integer cost = 25;
+	private final StrTemplate compiled = StrTemplate.compile(template);
+	private final StrTemplate namedTemplate = StrTemplate.compile("User [{name}] login from {ip} at {time}, cost {cost}ms");
+	private final Map<String, Object> params = MapUtil.<String, Object>builder()
+			.put("name", name).put("ip", ip).put("time", time).put("cost", cost).build();
+	private final StringBuilder builder = new StringBuilder(128);
+
+	@Benchmark
+	public String format() {
+		return StrUtil.format(template, name, ip, time, cost);
+	}
+
+	@Benchmark
+	public String formatWithEscape() {
+		return StrUtil.format("Escaped \\{} and {}", name);
+	}
+
+	@Benchmark
+	public String formatCompiled() {
+		return compiled.format(name, ip, time, cost);
+	}
+
+	@Benchmark
+	public int formatCompiledToBuilder() {
+		builder.setLength(0);
+		return compiled.appendTo(builder, name, ip, time, cost).length();
+	}
+
+	@Benchmark
+	public String formatMap() {
+		return StrUtil.format(namedTemplate.getPattern(), params);
+	}
+
+	@Benchmark
+	public String formatMapCompiled() {
+		return namedTemplate.format(params, true);
+	}
+}
@@ -0,0 +1,67 @@
+package cn.hutool.benchmark;
+
+import cn.hutool.core.util.RandomUtil;
+import cn.hutool.core.util.StrUtil;
+import cn.hutool.dfa.WordTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WordTree关键词匹配基准，词库1万词，文本约1万字符
+ *
+ * @author looly
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WordTreeBenchmark {
+
+	private WordTree tree;
+	private String text;
+
+	@Setup
+	public void setup() {
+		tree = new WordTree();
+		final String[] words = new String[10000];
+		for (int i = 0; i < words.length; i++) {
+			words[i] = RandomUtil.randomString(RandomUtil.BASE_CHAR, RandomUtil.randomInt(3, 8));
+		}
+		tree.addWords(words);
+
+		final StringBuilder builder = StrUtil.builder();
+		while (builder.length() < 10000) {
+			builder.append(RandomUtil.randomString(RandomUtil.BASE_CHAR, 50));
+			builder.append(words[RandomUtil.randomInt(words.length)]);
+		}
+		text = builder.toString();
+	}
+
+	@Benchmark
+	public boolean isMatch() {
+		return tree.isMatch(text);
+	}
+
+	@Benchmark
+	public List<String> matchAll() {
+		return tree.matchAll(text, -1);
+	}
+
+	@Benchmark
+	public List<String> matchAllDensityGreed() {
+		return tree.matchAll(text, -1, true, true);
+	}
+}
@@ -0,0 +1,8 @@
+/**
+ * 基于JMH的性能基准测试，覆盖缓存、JSON、Bean拷贝、类型转换、字符串格式化、日期解析、摘要、ID生成和关键词匹配等常用热点路径<br>
+ * 每个基准同时统计吞吐量（{@link org.openjdk.jmh.annotations.Mode#Throughput}）和延迟分布（{@link org.openjdk.jmh.annotations.Mode#SampleTime}），
+ * 运行方式见模块下的README.md
+ *
+ * @author looly
+ */
+package cn.hutool.benchmark;
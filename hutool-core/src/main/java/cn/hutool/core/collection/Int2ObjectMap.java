@@ -0,0 +1,417 @@
+package cn.hutool.core.collection;
+
+import cn.hutool.core.util.StrUtil;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * int为键的Map，使用开放地址法（线性探测）的数组存储，键不装箱<br>
+ * 0作为空槽标记，键0单独记录。值可以为{@code null}，此时{@link #get(int)}无法区分不存在的键，请使用{@link #containsKey(int)}。<br>
+ * 非线程安全，遍历时修改Map的结果不确定。
+ *
+ * @param <V> 值类型
+ * @author looly
+ * @since 5.8.31
+ */
+public class Int2ObjectMap<V> implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 键槽位，0表示空
+	 */
+	private int[] keys;
+	/**
+	 * 值，与键槽位一一对应
+	 */
+	private Object[] values;
+	private int mask;
+	private boolean containsZeroKey;
+	private V zeroValue;
+	private int size;
+
+	/**
+	 * 构造，默认容纳16个键值对不扩容
+	 */
+	public Int2ObjectMap() {
+		this(16);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param expectedSize 预期的键值对个数，不超过此数量不扩容
+	 */
+	public Int2ObjectMap(int expectedSize) {
+		if (expectedSize < 0) {
+			throw new IllegalArgumentException("Illegal size: " + expectedSize);
+		}
+		allocate(PrimitiveHashUtil.tableSize(expectedSize));
+	}
+
+	/**
+	 * 加入键值对
+	 *
+	 * @param key   键
+	 * @param value 值
+	 * @return 原值，不存在返回{@code null}
+	 */
+	public V put(int key, V value) {
+		if (0 == key) {
+			final V old = zeroValue;
+			if (false == containsZeroKey) {
+				containsZeroKey = true;
+				size++;
+			}
+			zeroValue = value;
+			return old;
+		}
+		final int index = indexOf(key);
+		if (index >= 0) {
+			final V old = valueAt(index);
+			values[index] = value;
+			return old;
+		}
+		insert(-index - 1, key, value);
+		return null;
+	}
+
+	/**
+	 * 获取值
+	 *
+	 * @param key 键
+	 * @return 值，不存在返回{@code null}
+	 */
+	public V get(int key) {
+		return getOrDefault(key, null);
+	}
+
+	/**
+	 * 获取值，不存在返回默认值
+	 *
+	 * @param key          键
+	 * @param defaultValue 默认值
+	 * @return 值
+	 */
+	public V getOrDefault(int key, V defaultValue) {
+		if (0 == key) {
+			return containsZeroKey ? zeroValue : defaultValue;
+		}
+		final int index = indexOf(key);
+		return index >= 0 ? valueAt(index) : defaultValue;
+	}
+
+	/**
+	 * 获取值，不存在时使用函数创建并加入
+	 *
+	 * @param key             键
+	 * @param mappingFunction 值创建函数，返回{@code null}时不加入
+	 * @return 值
+	 */
+	public V computeIfAbsent(int key, IntFunction<? extends V> mappingFunction) {
+		if (0 == key) {
+			if (false == containsZeroKey) {
+				final V value = mappingFunction.apply(key);
+				if (null != value) {
+					put(0, value);
+				}
+				return value;
+			}
+			return zeroValue;
+		}
+		final int index = indexOf(key);
+		if (index >= 0) {
+			return valueAt(index);
+		}
+		final V value = mappingFunction.apply(key);
+		if (null != value) {
+			// 函数中可能修改了Map，重新查找槽位
+			put(key, value);
+		}
+		return value;
+	}
+
+	/**
+	 * 是否包含指定键
+	 *
+	 * @param key 键
+	 * @return 是否包含
+	 */
+	public boolean containsKey(int key) {
+		return 0 == key ? containsZeroKey : indexOf(key) >= 0;
+	}
+
+	/**
+	 * 移除键值对
+	 *
+	 * @param key 键
+	 * @return 原值，不存在返回{@code null}
+	 */
+	public V remove(int key) {
+		if (0 == key) {
+			if (false == containsZeroKey) {
+				return null;
+			}
+			final V old = zeroValue;
+			containsZeroKey = false;
+			zeroValue = null;
+			size--;
+			return old;
+		}
+		final int index = indexOf(key);
+		if (index < 0) {
+			return null;
+		}
+		final V old = valueAt(index);
+		shiftKeys(index);
+		size--;
+		return old;
+	}
+
+	/**
+	 * @return 键值对个数
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @return 是否为空
+	 */
+	public boolean isEmpty() {
+		return 0 == size;
+	}
+
+	/**
+	 * 清空Map，容量不变
+	 */
+	public void clear() {
+		Arrays.fill(keys, 0);
+		Arrays.fill(values, null);
+		containsZeroKey = false;
+		zeroValue = null;
+		size = 0;
+	}
+
+	/**
+	 * 遍历所有键值对，顺序不确定
+	 *
+	 * @param action 键值对处理函数
+	 */
+	public void forEach(EntryConsumer<? super V> action) {
+		if (containsZeroKey) {
+			action.accept(0, zeroValue);
+		}
+		for (int i = 0; i < keys.length; i++) {
+			if (0 != keys[i]) {
+				action.accept(keys[i], valueAt(i));
+			}
+		}
+	}
+
+	/**
+	 * 所有键，顺序不确定
+	 *
+	 * @return 键的新数组
+	 */
+	public int[] keys() {
+		final int[] result = new int[size];
+		int i = 0;
+		final PrimitiveIterator.OfInt iter = keyIterator();
+		while (iter.hasNext()) {
+			result[i++] = iter.nextInt();
+		}
+		return result;
+	}
+
+	/**
+	 * 所有键的{@link IntStream}，顺序不确定
+	 *
+	 * @return {@link IntStream}
+	 */
+	public IntStream keyStream() {
+		return StreamSupport.intStream(Spliterators.spliterator(keyIterator(), size, Spliterator.DISTINCT | Spliterator.NONNULL), false);
+	}
+
+	/**
+	 * 键的迭代器，顺序不确定
+	 *
+	 * @return {@link PrimitiveIterator.OfInt}
+	 */
+	public PrimitiveIterator.OfInt keyIterator() {
+		return new PrimitiveIterator.OfInt() {
+			private boolean zeroPending = containsZeroKey;
+			private int index = nextSlot(0);
+
+			@Override
+			public boolean hasNext() {
+				return zeroPending || index < keys.length;
+			}
+
+			@Override
+			public int nextInt() {
+				if (zeroPending) {
+					zeroPending = false;
+					return 0;
+				}
+				if (index >= keys.length) {
+					throw new NoSuchElementException();
+				}
+				final int key = keys[index];
+				index = nextSlot(index + 1);
+				return key;
+			}
+		};
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder sb = StrUtil.builder(size * 8 + 2).append('{');
+		forEach((key, value) -> {
+			if (sb.length() > 1) {
+				sb.append(", ");
+			}
+			sb.append(key).append('=').append(value);
+		});
+		return sb.append('}').toString();
+	}
+
+	/**
+	 * 键值对处理函数
+	 *
+	 * @param <V> 值类型
+	 */
+	@FunctionalInterface
+	public interface EntryConsumer<V> {
+		/**
+		 * 处理键值对
+		 *
+		 * @param key   键
+		 * @param value 值
+		 */
+		void accept(int key, V value);
+	}
+
+	// ------------------------------------------------------------------------------------------------------------------ Private method start
+
+	/**
+	 * 查找非0键的槽位
+	 *
+	 * @param key 键，非0
+	 * @return 找到返回槽位，否则返回-(可插入的空槽位 + 1)
+	 */
+	private int indexOf(int key) {
+		int index = PrimitiveHashUtil.hash(key) & mask;
+		int current;
+		while (0 != (current = keys[index])) {
+			if (current == key) {
+				return index;
+			}
+			index = (index + 1) & mask;
+		}
+		return -index - 1;
+	}
+
+	/**
+	 * 在空槽位插入键值对，超过阈值时扩容
+	 *
+	 * @param index 空槽位
+	 * @param key   键
+	 * @param value 值
+	 */
+	private void insert(int index, int key, V value) {
+		keys[index] = key;
+		values[index] = value;
+		if (++size > PrimitiveHashUtil.threshold(keys.length)) {
+			rehash(PrimitiveHashUtil.nextCapacity(keys.length));
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private V valueAt(int index) {
+		return (V) values[index];
+	}
+
+	/**
+	 * 从指定位置开始查找下一个非空槽位
+	 *
+	 * @param from 开始位置
+	 * @return 槽位，没有返回keys.length
+	 */
+	private int nextSlot(int from) {
+		while (from < keys.length && 0 == keys[from]) {
+			from++;
+		}
+		return from;
+	}
+
+	/**
+	 * 移除槽位后，将之后同一探测序列中的键值对前移，保证查找不中断
+	 *
+	 * @param pos 被移除的槽位
+	 */
+	private void shiftKeys(int pos) {
+		int last, slot;
+		int current;
+		for (; ; ) {
+			last = pos;
+			pos = (pos + 1) & mask;
+			for (; ; ) {
+				if (0 == (current = keys[pos])) {
+					keys[last] = 0;
+					values[last] = null;
+					return;
+				}
+				slot = PrimitiveHashUtil.hash(current) & mask;
+				// 当前键的理想槽位不在(last, pos]之间时可以前移到last
+				if (last <= pos ? (last >= slot || slot > pos) : (last >= slot && slot > pos)) {
+					break;
+				}
+				pos = (pos + 1) & mask;
+			}
+			keys[last] = current;
+			values[last] = values[pos];
+		}
+	}
+
+	/**
+	 * 扩容并重新分布所有键值对
+	 *
+	 * @param newCapacity 新容量
+	 */
+	private void rehash(int newCapacity) {
+		final int[] oldKeys = this.keys;
+		final Object[] oldValues = this.values;
+		allocate(newCapacity);
+		int index;
+		for (int i = 0; i < oldKeys.length; i++) {
+			if (0 != oldKeys[i]) {
+				index = PrimitiveHashUtil.hash(oldKeys[i]) & mask;
+				while (0 != keys[index]) {
+					index = (index + 1) & mask;
+				}
+				keys[index] = oldKeys[i];
+				values[index] = oldValues[i];
+			}
+		}
+	}
+
+	/**
+	 * 分配槽位
+	 *
+	 * @param capacity 容量，2的幂
+	 */
+	private void allocate(int capacity) {
+		this.keys = new int[capacity];
+		this.values = new Object[capacity];
+		this.mask = capacity - 1;
+	}
+	// ------------------------------------------------------------------------------------------------------------------ Private method end
+}
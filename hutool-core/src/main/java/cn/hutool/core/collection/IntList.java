@@ -0,0 +1,268 @@
+package cn.hutool.core.collection;
+
+import cn.hutool.core.util.StrUtil;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.stream.IntStream;
+
+/**
+ * int列表，使用int数组存储，不装箱<br>
+ * 非线程安全
+ *
+ * @author looly
+ * @since 5.8.31
+ */
+public class IntList implements Iterable<Integer>, Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private int[] elements;
+	private int size;
+
+	/**
+	 * 根据给定的值创建列表
+	 *
+	 * @param values 值
+	 * @return IntList
+	 */
+	public static IntList of(int... values) {
+		final IntList list = new IntList(values.length);
+		list.addAll(values);
+		return list;
+	}
+
+	/**
+	 * 构造，初始容量10
+	 */
+	public IntList() {
+		this(10);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param initialCapacity 初始容量
+	 */
+	public IntList(int initialCapacity) {
+		if (initialCapacity < 0) {
+			throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+		}
+		this.elements = new int[initialCapacity];
+	}
+
+	/**
+	 * 在末尾加入值
+	 *
+	 * @param value 值
+	 */
+	public void add(int value) {
+		ensureCapacity(size + 1);
+		elements[size++] = value;
+	}
+
+	/**
+	 * 在末尾加入多个值
+	 *
+	 * @param values 值
+	 */
+	public void addAll(int... values) {
+		ensureCapacity(size + values.length);
+		System.arraycopy(values, 0, elements, size, values.length);
+		size += values.length;
+	}
+
+	/**
+	 * 获取指定位置的值
+	 *
+	 * @param index 位置
+	 * @return 值
+	 */
+	public int get(int index) {
+		checkIndex(index);
+		return elements[index];
+	}
+
+	/**
+	 * 设置指定位置的值
+	 *
+	 * @param index 位置
+	 * @param value 值
+	 * @return 原值
+	 */
+	public int set(int index, int value) {
+		checkIndex(index);
+		final int old = elements[index];
+		elements[index] = value;
+		return old;
+	}
+
+	/**
+	 * 移除指定位置的值，之后的值前移
+	 *
+	 * @param index 位置
+	 * @return 被移除的值
+	 */
+	public int removeAt(int index) {
+		checkIndex(index);
+		final int old = elements[index];
+		System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+		size--;
+		return old;
+	}
+
+	/**
+	 * 查找值第一次出现的位置
+	 *
+	 * @param value 值
+	 * @return 位置，未找到返回-1
+	 */
+	public int indexOf(int value) {
+		for (int i = 0; i < size; i++) {
+			if (elements[i] == value) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * 是否包含指定值
+	 *
+	 * @param value 值
+	 * @return 是否包含
+	 */
+	public boolean contains(int value) {
+		return indexOf(value) >= 0;
+	}
+
+	/**
+	 * @return 值的个数
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @return 是否为空
+	 */
+	public boolean isEmpty() {
+		return 0 == size;
+	}
+
+	/**
+	 * 清空列表，容量不变
+	 */
+	public void clear() {
+		size = 0;
+	}
+
+	/**
+	 * 升序排序
+	 */
+	public void sort() {
+		Arrays.sort(elements, 0, size);
+	}
+
+	/**
+	 * 转为数组
+	 *
+	 * @return 新数组
+	 */
+	public int[] toArray() {
+		return Arrays.copyOf(elements, size);
+	}
+
+	/**
+	 * 转为{@link IntStream}
+	 *
+	 * @return {@link IntStream}
+	 */
+	public IntStream stream() {
+		return Arrays.stream(elements, 0, size);
+	}
+
+	@Override
+	public PrimitiveIterator.OfInt iterator() {
+		return new PrimitiveIterator.OfInt() {
+			private int cursor;
+
+			@Override
+			public boolean hasNext() {
+				return cursor < size;
+			}
+
+			@Override
+			public int nextInt() {
+				if (cursor >= size) {
+					throw new NoSuchElementException();
+				}
+				return elements[cursor++];
+			}
+		};
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o == null || getClass() != o.getClass()) {
+			return false;
+		}
+		final IntList that = (IntList) o;
+		if (size != that.size) {
+			return false;
+		}
+		for (int i = 0; i < size; i++) {
+			if (elements[i] != that.elements[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public int hashCode() {
+		int result = 1;
+		for (int i = 0; i < size; i++) {
+			result = 31 * result + Integer.hashCode(elements[i]);
+		}
+		return result;
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder sb = StrUtil.builder(size * 4 + 2).append('[');
+		for (int i = 0; i < size; i++) {
+			if (i > 0) {
+				sb.append(", ");
+			}
+			sb.append(elements[i]);
+		}
+		return sb.append(']').toString();
+	}
+
+	/**
+	 * 确保容量，不足时按照1.5倍扩容
+	 *
+	 * @param minCapacity 最小容量
+	 */
+	private void ensureCapacity(int minCapacity) {
+		if (minCapacity > elements.length) {
+			elements = Arrays.copyOf(elements, Math.max(minCapacity, elements.length + (elements.length >> 1)));
+		}
+	}
+
+	/**
+	 * 检查位置
+	 *
+	 * @param index 位置
+	 */
+	private void checkIndex(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException(StrUtil.format("Index: {}, Size: {}", index, size));
+		}
+	}
+}
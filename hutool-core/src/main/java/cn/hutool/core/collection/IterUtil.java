@@ -157,7 +157,8 @@ public class IterUtil {
 			T t;
 			while (iter.hasNext()) {
 				t = iter.next();
-				countMap.put(t, countMap.getOrDefault(t, 0) + 1);
+				// 只查找一次
+				countMap.merge(t, 1, Integer::sum);
 			}
 		}
 		return countMap;
@@ -0,0 +1,366 @@
+package cn.hutool.core.collection;
+
+import cn.hutool.core.util.StrUtil;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * long集合，使用开放地址法（线性探测）的long数组存储，不装箱<br>
+ * 0作为空槽标记，值0单独记录。非线程安全，遍历时修改集合的结果不确定。
+ *
+ * @author looly
+ * @since 5.8.31
+ */
+public class LongHashSet implements Iterable<Long>, Serializable {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 槽位，0表示空
+	 */
+	private long[] table;
+	private int mask;
+	private boolean containsZero;
+	private int size;
+
+	/**
+	 * 根据给定的值创建集合
+	 *
+	 * @param values 值
+	 * @return LongHashSet
+	 */
+	public static LongHashSet of(long... values) {
+		final LongHashSet set = new LongHashSet(values.length);
+		set.addAll(values);
+		return set;
+	}
+
+	/**
+	 * 构造，默认容纳16个值不扩容
+	 */
+	public LongHashSet() {
+		this(16);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param expectedSize 预期的值个数，不超过此数量不扩容
+	 */
+	public LongHashSet(int expectedSize) {
+		if (expectedSize < 0) {
+			throw new IllegalArgumentException("Illegal size: " + expectedSize);
+		}
+		allocate(PrimitiveHashUtil.tableSize(expectedSize));
+	}
+
+	/**
+	 * 加入值
+	 *
+	 * @param value 值
+	 * @return 是否加入，已存在返回{@code false}
+	 */
+	public boolean add(long value) {
+		if (0 == value) {
+			if (containsZero) {
+				return false;
+			}
+			containsZero = true;
+			size++;
+			return true;
+		}
+		int index = PrimitiveHashUtil.hash(value) & mask;
+		long current;
+		while (0 != (current = table[index])) {
+			if (current == value) {
+				return false;
+			}
+			index = (index + 1) & mask;
+		}
+		table[index] = value;
+		if (++size > PrimitiveHashUtil.threshold(table.length)) {
+			rehash(PrimitiveHashUtil.nextCapacity(table.length));
+		}
+		return true;
+	}
+
+	/**
+	 * 加入多个值
+	 *
+	 * @param values 值
+	 */
+	public void addAll(long... values) {
+		for (long value : values) {
+			add(value);
+		}
+	}
+
+	/**
+	 * 是否包含指定值
+	 *
+	 * @param value 值
+	 * @return 是否包含
+	 */
+	public boolean contains(long value) {
+		if (0 == value) {
+			return containsZero;
+		}
+		int index = PrimitiveHashUtil.hash(value) & mask;
+		long current;
+		while (0 != (current = table[index])) {
+			if (current == value) {
+				return true;
+			}
+			index = (index + 1) & mask;
+		}
+		return false;
+	}
+
+	/**
+	 * 移除值
+	 *
+	 * @param value 值
+	 * @return 是否移除，不存在返回{@code false}
+	 */
+	public boolean remove(long value) {
+		if (0 == value) {
+			if (false == containsZero) {
+				return false;
+			}
+			containsZero = false;
+			size--;
+			return true;
+		}
+		int index = PrimitiveHashUtil.hash(value) & mask;
+		long current;
+		while (0 != (current = table[index])) {
+			if (current == value) {
+				shiftKeys(index);
+				size--;
+				return true;
+			}
+			index = (index + 1) & mask;
+		}
+		return false;
+	}
+
+	/**
+	 * 只保留同时存在于另一个集合中的值（交集）
+	 *
+	 * @param other 另一个集合
+	 * @return 是否有值被移除
+	 */
+	public boolean retainAll(LongHashSet other) {
+		if (other == this) {
+			return false;
+		}
+		final int oldSize = size;
+		final long[] oldTable = this.table;
+		final boolean oldContainsZero = this.containsZero;
+		allocate(oldTable.length);
+		this.size = 0;
+		this.containsZero = false;
+		if (oldContainsZero && other.contains(0)) {
+			add(0);
+		}
+		for (long value : oldTable) {
+			if (0 != value && other.contains(value)) {
+				add(value);
+			}
+		}
+		return size != oldSize;
+	}
+
+	/**
+	 * @return 值的个数
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @return 是否为空
+	 */
+	public boolean isEmpty() {
+		return 0 == size;
+	}
+
+	/**
+	 * 清空集合，容量不变
+	 */
+	public void clear() {
+		Arrays.fill(table, 0);
+		containsZero = false;
+		size = 0;
+	}
+
+	/**
+	 * 转为数组，顺序不确定
+	 *
+	 * @return 新数组
+	 */
+	public long[] toArray() {
+		final long[] result = new long[size];
+		int i = 0;
+		final PrimitiveIterator.OfLong iter = iterator();
+		while (iter.hasNext()) {
+			result[i++] = iter.nextLong();
+		}
+		return result;
+	}
+
+	/**
+	 * 转为{@link LongStream}，顺序不确定
+	 *
+	 * @return {@link LongStream}
+	 */
+	public LongStream stream() {
+		return StreamSupport.longStream(Spliterators.spliterator(iterator(), size, Spliterator.DISTINCT | Spliterator.NONNULL), false);
+	}
+
+	@Override
+	public PrimitiveIterator.OfLong iterator() {
+		return new PrimitiveIterator.OfLong() {
+			private boolean zeroPending = containsZero;
+			private int index = nextSlot(0);
+
+			@Override
+			public boolean hasNext() {
+				return zeroPending || index < table.length;
+			}
+
+			@Override
+			public long nextLong() {
+				if (zeroPending) {
+					zeroPending = false;
+					return 0;
+				}
+				if (index >= table.length) {
+					throw new NoSuchElementException();
+				}
+				final long value = table[index];
+				index = nextSlot(index + 1);
+				return value;
+			}
+		};
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o == null || getClass() != o.getClass()) {
+			return false;
+		}
+		final LongHashSet that = (LongHashSet) o;
+		if (size != that.size) {
+			return false;
+		}
+		final PrimitiveIterator.OfLong iter = iterator();
+		while (iter.hasNext()) {
+			if (false == that.contains(iter.nextLong())) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public int hashCode() {
+		int result = 0;
+		for (long value : table) {
+			result += Long.hashCode(value);
+		}
+		return result;
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder sb = StrUtil.builder(size * 4 + 2).append('[');
+		final PrimitiveIterator.OfLong iter = iterator();
+		while (iter.hasNext()) {
+			sb.append(iter.nextLong());
+			if (iter.hasNext()) {
+				sb.append(", ");
+			}
+		}
+		return sb.append(']').toString();
+	}
+
+	/**
+	 * 从指定位置开始查找下一个非空槽位
+	 *
+	 * @param from 开始位置
+	 * @return 槽位，没有返回table.length
+	 */
+	private int nextSlot(int from) {
+		while (from < table.length && 0 == table[from]) {
+			from++;
+		}
+		return from;
+	}
+
+	/**
+	 * 移除槽位后，将之后同一探测序列中的值前移，保证查找不中断
+	 *
+	 * @param pos 被移除的槽位
+	 */
+	private void shiftKeys(int pos) {
+		int last, slot;
+		long current;
+		for (; ; ) {
+			last = pos;
+			pos = (pos + 1) & mask;
+			for (; ; ) {
+				if (0 == (current = table[pos])) {
+					table[last] = 0;
+					return;
+				}
+				slot = PrimitiveHashUtil.hash(current) & mask;
+				// 当前值的理想槽位不在(last, pos]之间时可以前移到last
+				if (last <= pos ? (last >= slot || slot > pos) : (last >= slot && slot > pos)) {
+					break;
+				}
+				pos = (pos + 1) & mask;
+			}
+			table[last] = current;
+		}
+	}
+
+	/**
+	 * 扩容并重新分布所有值
+	 *
+	 * @param newCapacity 新容量
+	 */
+	private void rehash(int newCapacity) {
+		final long[] oldTable = this.table;
+		allocate(newCapacity);
+		int index;
+		for (long value : oldTable) {
+			if (0 != value) {
+				index = PrimitiveHashUtil.hash(value) & mask;
+				while (0 != table[index]) {
+					index = (index + 1) & mask;
+				}
+				table[index] = value;
+			}
+		}
+	}
+
+	/**
+	 * 分配槽位
+	 *
+	 * @param capacity 容量，2的幂
+	 */
+	private void allocate(int capacity) {
+		this.table = new long[capacity];
+		this.mask = capacity - 1;
+	}
+}
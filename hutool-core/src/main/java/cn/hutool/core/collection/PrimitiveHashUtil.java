@@ -0,0 +1,79 @@
+package cn.hutool.core.collection;
+
+/**
+ * 开放地址法的基本类型集合共用的hash及容量计算
+ *
+ * @author looly
+ * @since 5.8.31
+ */
+final class PrimitiveHashUtil {
+
+	/**
+	 * 负载因子，线性探测在此负载下平均探测次数较低
+	 */
+	private static final float LOAD_FACTOR = 0.6f;
+	/**
+	 * 最大容量
+	 */
+	private static final int MAX_CAPACITY = 1 << 30;
+
+	/**
+	 * 计算能容纳指定个数值的槽位数，为2的幂
+	 *
+	 * @param expectedSize 预期的值个数
+	 * @return 槽位数
+	 */
+	static int tableSize(int expectedSize) {
+		int capacity = 4;
+		while (threshold(capacity) < expectedSize) {
+			capacity = nextCapacity(capacity);
+		}
+		return capacity;
+	}
+
+	/**
+	 * 扩容后的槽位数
+	 *
+	 * @param capacity 当前槽位数
+	 * @return 扩容后的槽位数
+	 * @throws IllegalStateException 超过最大容量
+	 */
+	static int nextCapacity(int capacity) {
+		if (capacity >= MAX_CAPACITY) {
+			throw new IllegalStateException("Hash table is full, capacity: " + capacity);
+		}
+		return capacity << 1;
+	}
+
+	/**
+	 * 扩容阈值，值的个数超过此值时扩容
+	 *
+	 * @param capacity 槽位数
+	 * @return 阈值
+	 */
+	static int threshold(int capacity) {
+		return (int) (capacity * LOAD_FACTOR);
+	}
+
+	/**
+	 * int值的hash，打散连续值避免线性探测时聚集
+	 *
+	 * @param value 值
+	 * @return hash
+	 */
+	static int hash(int value) {
+		final int h = value * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+
+	/**
+	 * long值的hash，打散连续值避免线性探测时聚集
+	 *
+	 * @param value 值
+	 * @return hash
+	 */
+	static int hash(long value) {
+		final long h = value * 0x9E3779B97F4A7C15L;
+		return (int) (h ^ (h >>> 32));
+	}
+}
@@ -7,6 +7,7 @@ import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.concurrent.ForkJoinPool;
 import java.util.zip.Deflater;
 import java.util.zip.DeflaterOutputStream;
 import java.util.zip.Inflater;
@@ -77,6 +78,42 @@ public class Deflate implements Closeable {
 		return this;
 	}
 
+	/**
+	 * 将普通数据流使用多线程并行压缩，使用{@link ForkJoinPool#commonPool()}
+	 *
+	 * @param level 压缩级别，0~9
+	 * @return this
+	 * @see ParallelDeflateOutputStream
+	 * @since 5.8.31
+	 */
+	public Deflate deflaterParallel(int level) {
+		return deflaterParallel(level, null);
+	}
+
+	/**
+	 * 将普通数据流使用多线程并行压缩<br>
+	 * 数据分块并行压缩，结果与{@link #deflater(int)}格式相同，适用于大数据量的压缩
+	 *
+	 * @param level 压缩级别，0~9
+	 * @param pool  压缩使用的线程池，{@code null}表示使用{@link ForkJoinPool#commonPool()}
+	 * @return this
+	 * @see ParallelDeflateOutputStream
+	 * @since 5.8.31
+	 */
+	public Deflate deflaterParallel(int level, ForkJoinPool pool) {
+		target = (target instanceof ParallelDeflateOutputStream) ? target :
+				new ParallelDeflateOutputStream(target,
+						nowrap ? ParallelDeflateOutputStream.Format.RAW : ParallelDeflateOutputStream.Format.ZLIB,
+						level, ParallelDeflateOutputStream.DEFAULT_BLOCK_SIZE, pool);
+		IoUtil.copy(source, target, ParallelDeflateOutputStream.DEFAULT_BLOCK_SIZE);
+		try {
+			((ParallelDeflateOutputStream) target).finish();
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+		return this;
+	}
+
 	/**
 	 * 将压缩流解压到target中
 	 *
@@ -7,6 +7,8 @@ import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.Deflater;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 
@@ -70,6 +72,40 @@ public class Gzip implements Closeable {
 		return this;
 	}
 
+	/**
+	 * 将普通数据流使用多线程并行压缩，使用默认压缩级别和{@link ForkJoinPool#commonPool()}
+	 *
+	 * @return Gzip
+	 * @see ParallelDeflateOutputStream
+	 * @since 5.8.31
+	 */
+	public Gzip gzipParallel() {
+		return gzipParallel(Deflater.DEFAULT_COMPRESSION, null);
+	}
+
+	/**
+	 * 将普通数据流使用多线程并行压缩<br>
+	 * 数据分块并行压缩，结果为标准Gzip格式，适用于大数据量的压缩
+	 *
+	 * @param level 压缩级别，0~9，-1表示默认
+	 * @param pool  压缩使用的线程池，{@code null}表示使用{@link ForkJoinPool#commonPool()}
+	 * @return Gzip
+	 * @see ParallelDeflateOutputStream
+	 * @since 5.8.31
+	 */
+	public Gzip gzipParallel(int level, ForkJoinPool pool) {
+		try {
+			target = (target instanceof ParallelDeflateOutputStream) ? target :
+					new ParallelDeflateOutputStream(target, ParallelDeflateOutputStream.Format.GZIP, level,
+							ParallelDeflateOutputStream.DEFAULT_BLOCK_SIZE, pool);
+			IoUtil.copy(source, target, ParallelDeflateOutputStream.DEFAULT_BLOCK_SIZE);
+			((ParallelDeflateOutputStream) target).finish();
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+		return this;
+	}
+
 	/**
 	 * 将压缩流解压到target中
 	 *
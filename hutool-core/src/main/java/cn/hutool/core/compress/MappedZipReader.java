@@ -0,0 +1,796 @@
+package cn.hutool.core.compress;
+
+import cn.hutool.core.exceptions.UtilException;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.util.CharsetUtil;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+
+/**
+ * 基于内存映射的Zip随机读取器，适用于从大压缩包中多次读取个别条目<br>
+ * 打开时从文件末尾定位并解析中央目录，建立条目名到数据位置的索引，之后的读取直接定位到条目数据，无需从头遍历，
+ * 索引在读取器关闭前一直有效。压缩包按照512MB分段映射，多个线程可同时读取不同或相同的条目。
+ * <ul>
+ *     <li>未压缩（STORED）的条目：{@link #getBuffer(String)}直接返回映射的只读切片，不拷贝数据</li>
+ *     <li>压缩（DEFLATED）的条目：直接从映射中解压，解压器在读取器内复用</li>
+ * </ul>
+ * 支持Zip64格式，不支持加密条目和分卷压缩包。<br>
+ * 与{@link ZipReader}一致，解压前按照中央目录中的大小检查Zip bomb，解压后与压缩后的大小比例超过{@link #setMaxSizeDiff(int)}（默认100倍）时拒绝读取。<br>
+ * 注意：映射在关闭读取器后由GC回收，某些系统（如Windows）在回收前无法删除或修改该文件。
+ *
+ * <pre>
+ * try (MappedZipReader reader = MappedZipReader.of(zipFile, CharsetUtil.CHARSET_UTF_8)) {
+ *     ByteBuffer data = reader.getBuffer("a/b.txt");
+ * }
+ * </pre>
+ *
+ * @author looly
+ * @since 5.8.31
+ */
+public class MappedZipReader implements Closeable {
+
+	private static final int LOCAL_HEADER_SIG = 0x04034b50;
+	private static final int CENTRAL_HEADER_SIG = 0x02014b50;
+	private static final int ZIP64_END_SIG = 0x06064b50;
+	private static final int ZIP64_LOCATOR_SIG = 0x07064b50;
+	private static final int END_SIG = 0x06054b50;
+	private static final int END_SIZE = 22;
+	private static final int ZIP64_LOCATOR_SIZE = 20;
+	private static final long ZIP64_MAGIC = 0xFFFFFFFFL;
+	private static final int ZIP64_MAGIC_COUNT = 0xFFFF;
+	private static final int ZIP64_EXTRA_ID = 0x0001;
+	private static final int FLAG_ENCRYPTED = 0x0001;
+	private static final int FLAG_UTF8 = 0x0800;
+
+	/**
+	 * 分段映射的段大小，每段实际映射两倍长度，保证不超过段大小的数据总能在一个段内连续读取
+	 */
+	private static final int SEGMENT_SHIFT = 29;
+	private static final long SEGMENT_SIZE = 1L << SEGMENT_SHIFT;
+	/**
+	 * 默认Zip bomb检查的解压后与压缩后大小的最大倍数
+	 */
+	private static final int DEFAULT_MAX_SIZE_DIFF = 100;
+
+	/**
+	 * 创建MappedZipReader
+	 *
+	 * @param zipFile Zip文件
+	 * @param charset 编码，未设置UTF-8标记的条目名使用此编码解码，{@code null}表示UTF-8
+	 * @return MappedZipReader
+	 * @throws IORuntimeException IO异常或格式错误
+	 */
+	public static MappedZipReader of(File zipFile, Charset charset) throws IORuntimeException {
+		return new MappedZipReader(zipFile, charset);
+	}
+
+	private final FileChannel channel;
+	private final long fileSize;
+	private final AtomicReferenceArray<MappedByteBuffer> segments;
+	/**
+	 * 中央目录索引，按照条目在中央目录中的顺序
+	 */
+	private final List<Entry> entries;
+	private final Map<String, Entry> index;
+	private String comment;
+	private long centralOffset;
+	private int centralSize;
+	/**
+	 * 复用的解压器，解压器创建代价较高
+	 */
+	private final Queue<Inflater> inflaters = new ConcurrentLinkedQueue<>();
+	/**
+	 * 检查ZipBomb文件差异倍数，-1表示不检查ZipBomb
+	 */
+	private int maxSizeDiff = DEFAULT_MAX_SIZE_DIFF;
+	private volatile boolean closed;
+
+	/**
+	 * 构造，打开文件并建立中央目录索引
+	 *
+	 * @param zipFile Zip文件
+	 * @param charset 编码，未设置UTF-8标记的条目名使用此编码解码，{@code null}表示UTF-8
+	 * @throws IORuntimeException IO异常或格式错误
+	 */
+	public MappedZipReader(File zipFile, Charset charset) throws IORuntimeException {
+		Assert.notNull(zipFile, "Zip file must be not null!");
+		if (null == charset) {
+			charset = CharsetUtil.CHARSET_UTF_8;
+		}
+		try {
+			this.channel = FileChannel.open(zipFile.toPath(), StandardOpenOption.READ);
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+		try {
+			this.fileSize = channel.size();
+			this.segments = new AtomicReferenceArray<>((int) ((fileSize + SEGMENT_SIZE - 1) >>> SEGMENT_SHIFT));
+			final int count = readIndex(charset);
+			this.entries = new ArrayList<>(count);
+			this.index = new HashMap<>(count * 4 / 3 + 1);
+			readCentralDirectory(charset, count);
+		} catch (IOException e) {
+			IoUtil.close(channel);
+			throw new IORuntimeException(e);
+		} catch (RuntimeException e) {
+			IoUtil.close(channel);
+			throw e;
+		}
+	}
+
+	/**
+	 * 设置检查ZipBomb文件差异倍数，-1表示不检查ZipBomb
+	 *
+	 * @param maxSizeDiff 检查ZipBomb文件差异倍数，-1表示不检查ZipBomb
+	 * @return this
+	 */
+	public MappedZipReader setMaxSizeDiff(final int maxSizeDiff) {
+		this.maxSizeDiff = maxSizeDiff;
+		return this;
+	}
+
+	/**
+	 * 获取条目数
+	 *
+	 * @return 条目数
+	 */
+	public int size() {
+		return entries.size();
+	}
+
+	/**
+	 * 获取压缩包注释
+	 *
+	 * @return 注释，无注释返回{@code null}
+	 */
+	public String getComment() {
+		return comment;
+	}
+
+	/**
+	 * 获取所有条目，顺序与中央目录中的顺序一致
+	 *
+	 * @return 条目列表
+	 */
+	public List<ZipEntry> entries() {
+		final List<ZipEntry> result = new ArrayList<>(entries.size());
+		for (Entry entry : entries) {
+			result.add((ZipEntry) entry.zipEntry.clone());
+		}
+		return result;
+	}
+
+	/**
+	 * 获取指定条目
+	 *
+	 * @param name 条目名
+	 * @return 条目，不存在返回{@code null}
+	 */
+	public ZipEntry getEntry(String name) {
+		final Entry entry = index.get(name);
+		return null == entry ? null : (ZipEntry) entry.zipEntry.clone();
+	}
+
+	/**
+	 * 获取条目解压后的数据<br>
+	 * 未压缩的条目直接返回映射的只读切片，不拷贝数据；压缩的条目解压到新的堆内缓冲区
+	 *
+	 * @param name 条目名
+	 * @return 条目数据，position为0，limit为数据长度，不存在返回{@code null}
+	 * @throws IORuntimeException IO异常或数据格式错误
+	 */
+	public ByteBuffer getBuffer(String name) throws IORuntimeException {
+		final Entry entry = index.get(name);
+		if (null == entry) {
+			return null;
+		}
+		checkSupported(entry);
+		final ByteBuffer raw = slice(entry);
+		if (ZipEntry.STORED == entry.zipEntry.getMethod()) {
+			return raw;
+		}
+		final long size = entry.zipEntry.getSize();
+		if (size > Integer.MAX_VALUE) {
+			throw new IORuntimeException("Entry [{}] is too large for a buffer: {}", name, size);
+		}
+		return ByteBuffer.wrap(inflate(entry, raw, (int) size));
+	}
+
+	/**
+	 * 获取条目解压后的数据
+	 *
+	 * @param name 条目名
+	 * @return 条目数据，不存在返回{@code null}
+	 * @throws IORuntimeException IO异常或数据格式错误
+	 */
+	public byte[] getBytes(String name) throws IORuntimeException {
+		final ByteBuffer buffer = getBuffer(name);
+		if (null == buffer) {
+			return null;
+		}
+		if (buffer.hasArray() && 0 == buffer.arrayOffset() && buffer.array().length == buffer.remaining()) {
+			return buffer.array();
+		}
+		final byte[] bytes = new byte[buffer.remaining()];
+		buffer.get(bytes);
+		return bytes;
+	}
+
+	/**
+	 * 获取条目数据的流，流在读取器关闭前有效<br>
+	 * 压缩的条目边读取边解压，适用于较大的条目
+	 *
+	 * @param name 条目名
+	 * @return 条目数据的流，不存在返回{@code null}
+	 * @throws IORuntimeException IO异常或数据格式错误
+	 */
+	public InputStream get(String name) throws IORuntimeException {
+		final Entry entry = index.get(name);
+		if (null == entry) {
+			return null;
+		}
+		checkSupported(entry);
+		final InputStream raw = rawStream(entry);
+		if (ZipEntry.STORED == entry.zipEntry.getMethod()) {
+			return raw;
+		}
+		return new EntryInflaterInputStream(raw, borrowInflater());
+	}
+
+	/**
+	 * 关闭读取器，关闭后所有读取方法不可用，已获取的切片在映射回收前仍可读取
+	 */
+	@Override
+	public void close() {
+		closed = true;
+		IoUtil.close(channel);
+		for (int i = 0; i < segments.length(); i++) {
+			segments.set(i, null);
+		}
+		Inflater inflater;
+		while (null != (inflater = inflaters.poll())) {
+			inflater.end();
+		}
+	}
+
+	// ------------------------------------------------------------------------------------------------ Private method start
+
+	/**
+	 * 定位目录结束标记，读取中央目录位置和条目数
+	 *
+	 * @param charset 编码
+	 * @return 条目数
+	 * @throws IOException IO异常或格式错误
+	 */
+	private int readIndex(Charset charset) throws IOException {
+		// 目录结束标记之后最多有65535字节的注释，从后向前查找标记
+		final int tailSize = (int) Math.min(fileSize, END_SIZE + ZIP64_MAGIC_COUNT + ZIP64_LOCATOR_SIZE);
+		final ByteBuffer tail = read(fileSize - tailSize, tailSize);
+		int endPos = -1;
+		for (int i = tailSize - END_SIZE; i >= 0; i--) {
+			if (END_SIG == tail.getInt(i) && i + END_SIZE + (tail.getShort(i + 20) & 0xFFFF) <= tailSize) {
+				endPos = i;
+				break;
+			}
+		}
+		if (endPos < 0) {
+			throw new ZipException("zip END header not found");
+		}
+
+		final int commentLength = tail.getShort(endPos + 20) & 0xFFFF;
+		if (commentLength > 0) {
+			final byte[] commentBytes = new byte[commentLength];
+			((ByteBuffer) tail.duplicate().position(endPos + END_SIZE)).get(commentBytes);
+			this.comment = new String(commentBytes, charset);
+		}
+
+		long count = tail.getShort(endPos + 10) & 0xFFFF;
+		long centralSize = tail.getInt(endPos + 12) & ZIP64_MAGIC;
+		long centralOffset = tail.getInt(endPos + 16) & ZIP64_MAGIC;
+		// Zip64定位器紧邻目录结束标记之前
+		final int locatorPos = endPos - ZIP64_LOCATOR_SIZE;
+		if (locatorPos >= 0 && ZIP64_LOCATOR_SIG == tail.getInt(locatorPos)) {
+			final long zip64EndOffset = tail.getLong(locatorPos + 8);
+			final ByteBuffer zip64End = read(zip64EndOffset, 56);
+			if (ZIP64_END_SIG != zip64End.getInt(0)) {
+				throw new ZipException("invalid zip64 END header");
+			}
+			count = zip64End.getLong(32);
+			centralSize = zip64End.getLong(40);
+			centralOffset = zip64End.getLong(48);
+		}
+		if (count > Integer.MAX_VALUE || centralSize > Integer.MAX_VALUE || centralOffset + centralSize > fileSize) {
+			throw new ZipException("invalid END header (bad central directory size or offset)");
+		}
+		this.centralOffset = centralOffset;
+		this.centralSize = (int) centralSize;
+		return (int) count;
+	}
+
+	/**
+	 * 解析中央目录，建立索引
+	 *
+	 * @param charset 编码
+	 * @param count   条目数
+	 * @throws IOException IO异常或格式错误
+	 */
+	private void readCentralDirectory(Charset charset, int count) throws IOException {
+		final ByteBuffer central = channel.map(FileChannel.MapMode.READ_ONLY, centralOffset, centralSize).order(ByteOrder.LITTLE_ENDIAN);
+		int pos = 0;
+		for (int i = 0; i < count; i++) {
+			if (pos + 46 > centralSize || CENTRAL_HEADER_SIG != central.getInt(pos)) {
+				throw new ZipException("invalid CEN header (bad signature)");
+			}
+			final int flag = central.getShort(pos + 8) & 0xFFFF;
+			final int method = central.getShort(pos + 10) & 0xFFFF;
+			final long dosTime = central.getInt(pos + 12) & ZIP64_MAGIC;
+			final long crc = central.getInt(pos + 16) & ZIP64_MAGIC;
+			long compressedSize = central.getInt(pos + 20) & ZIP64_MAGIC;
+			long size = central.getInt(pos + 24) & ZIP64_MAGIC;
+			final int nameLength = central.getShort(pos + 28) & 0xFFFF;
+			final int extraLength = central.getShort(pos + 30) & 0xFFFF;
+			final int commentLength = central.getShort(pos + 32) & 0xFFFF;
+			long localOffset = central.getInt(pos + 42) & ZIP64_MAGIC;
+			if (pos + 46 + nameLength + extraLength + commentLength > centralSize) {
+				throw new ZipException("invalid CEN header (bad header size)");
+			}
+
+			final byte[] nameBytes = new byte[nameLength];
+			((ByteBuffer) central.duplicate().position(pos + 46)).get(nameBytes);
+			final Charset nameCharset = (flag & FLAG_UTF8) != 0 ? CharsetUtil.CHARSET_UTF_8 : charset;
+
+			// Zip64扩展只包含值为0xFFFFFFFF的字段，顺序固定
+			int extraPos = pos + 46 + nameLength;
+			final int extraEnd = extraPos + extraLength;
+			while (extraPos + 4 <= extraEnd) {
+				final int id = central.getShort(extraPos) & 0xFFFF;
+				final int dataSize = central.getShort(extraPos + 2) & 0xFFFF;
+				if (ZIP64_EXTRA_ID == id) {
+					int fieldPos = extraPos + 4;
+					final int fieldEnd = Math.min(fieldPos + dataSize, extraEnd);
+					if (ZIP64_MAGIC == size && fieldPos + 8 <= fieldEnd) {
+						size = central.getLong(fieldPos);
+						fieldPos += 8;
+					}
+					if (ZIP64_MAGIC == compressedSize && fieldPos + 8 <= fieldEnd) {
+						compressedSize = central.getLong(fieldPos);
+						fieldPos += 8;
+					}
+					if (ZIP64_MAGIC == localOffset && fieldPos + 8 <= fieldEnd) {
+						localOffset = central.getLong(fieldPos);
+					}
+					break;
+				}
+				extraPos += 4 + dataSize;
+			}
+
+			final ZipEntry zipEntry = new ZipEntry(new String(nameBytes, nameCharset));
+			zipEntry.setMethod(method);
+			zipEntry.setCrc(crc);
+			zipEntry.setSize(size);
+			zipEntry.setCompressedSize(compressedSize);
+			zipEntry.setTime(dosToJavaTime(dosTime));
+			if (commentLength > 0) {
+				final byte[] commentBytes = new byte[commentLength];
+				((ByteBuffer) central.duplicate().position(pos + 46 + nameLength + extraLength)).get(commentBytes);
+				zipEntry.setComment(new String(commentBytes, nameCharset));
+			}
+
+			final Entry entry = new Entry(zipEntry, flag, localOffset);
+			entries.add(entry);
+			// 重名的条目保留第一个
+			index.putIfAbsent(zipEntry.getName(), entry);
+			pos += 46 + nameLength + extraLength + commentLength;
+		}
+	}
+
+	/**
+	 * 检查条目是否支持读取，并检查Zip bomb
+	 *
+	 * @param entry 条目
+	 */
+	private void checkSupported(Entry entry) {
+		if (closed) {
+			throw new IORuntimeException("Zip reader is closed!");
+		}
+		if ((entry.flag & FLAG_ENCRYPTED) != 0) {
+			throw new IORuntimeException(new ZipException("Encrypted entry is not supported: " + entry.zipEntry.getName()));
+		}
+		final int method = entry.zipEntry.getMethod();
+		if (ZipEntry.STORED != method && ZipEntry.DEFLATED != method) {
+			throw new IORuntimeException(new ZipException("Unsupported compression method " + method + ": " + entry.zipEntry.getName()));
+		}
+		checkZipBomb(entry.zipEntry);
+	}
+
+	/**
+	 * 检查Zip bomb漏洞，在分配缓冲区和解压之前按照中央目录中的大小检查
+	 *
+	 * @param zipEntry {@link ZipEntry}
+	 */
+	private void checkZipBomb(ZipEntry zipEntry) {
+		if (maxSizeDiff < 0 || zipEntry.isDirectory()) {
+			// 目录不检查
+			return;
+		}
+		final long compressedSize = zipEntry.getCompressedSize();
+		final long uncompressedSize = zipEntry.getSize();
+		// 默认压缩比例是100倍，一旦发现压缩率超过这个阈值，被认为是Zip bomb
+		if (compressedSize * maxSizeDiff < uncompressedSize) {
+			throw new UtilException("Zip bomb attack detected, invalid sizes: compressed {}, uncompressed {}, name {}",
+					compressedSize, uncompressedSize, zipEntry.getName());
+		}
+	}
+
+	/**
+	 * 获取条目数据的起始位置，首次读取时解析本地文件头
+	 *
+	 * @param entry 条目
+	 * @return 数据的起始位置
+	 */
+	private long dataOffset(Entry entry) {
+		long offset = entry.dataOffset;
+		if (offset < 0) {
+			if (entry.localOffset + 30 > fileSize) {
+				throw new IORuntimeException(new ZipException("invalid LOC header (bad offset): " + entry.zipEntry.getName()));
+			}
+			final ByteBuffer header = range(entry.localOffset, 30);
+			if (LOCAL_HEADER_SIG != header.getInt(header.position())) {
+				throw new IORuntimeException(new ZipException("invalid LOC header (bad signature): " + entry.zipEntry.getName()));
+			}
+			// 本地文件头中的文件名和扩展长度可能与中央目录不同，以本地文件头为准
+			offset = entry.localOffset + 30
+					+ (header.getShort(header.position() + 26) & 0xFFFF)
+					+ (header.getShort(header.position() + 28) & 0xFFFF);
+			if (offset + entry.zipEntry.getCompressedSize() > fileSize) {
+				throw new IORuntimeException(new ZipException("invalid LOC header (bad data size): " + entry.zipEntry.getName()));
+			}
+			// 多线程重复计算的结果相同，无需同步
+			entry.dataOffset = offset;
+		}
+		return offset;
+	}
+
+	/**
+	 * 获取条目原始数据（压缩后的数据）的只读切片
+	 *
+	 * @param entry 条目
+	 * @return 只读切片
+	 */
+	private ByteBuffer slice(Entry entry) {
+		final long compressedSize = entry.zipEntry.getCompressedSize();
+		if (compressedSize > Integer.MAX_VALUE) {
+			throw new IORuntimeException("Entry [{}] is too large for a buffer: {}", entry.zipEntry.getName(), compressedSize);
+		}
+		return range(dataOffset(entry), (int) compressedSize).slice();
+	}
+
+	/**
+	 * 获取条目原始数据（压缩后的数据）的流，超出单个映射的条目使用文件通道按位置读取
+	 *
+	 * @param entry 条目
+	 * @return 流
+	 */
+	private InputStream rawStream(Entry entry) {
+		final long compressedSize = entry.zipEntry.getCompressedSize();
+		if (compressedSize <= SEGMENT_SIZE) {
+			return new BufferInputStream(slice(entry));
+		}
+		return new ChannelRangeInputStream(dataOffset(entry), compressedSize);
+	}
+
+	/**
+	 * 获取文件中指定范围的只读缓冲区，position为范围起始，limit为范围结束<br>
+	 * 不超过段大小的范围从共享的分段映射中获取，否则单独映射
+	 *
+	 * @param offset 起始位置
+	 * @param length 长度
+	 * @return 只读缓冲区
+	 */
+	private ByteBuffer range(long offset, int length) {
+		try {
+			if (length > SEGMENT_SIZE) {
+				return channel.map(FileChannel.MapMode.READ_ONLY, offset, length).order(ByteOrder.LITTLE_ENDIAN);
+			}
+			final int segmentIndex = (int) (offset >>> SEGMENT_SHIFT);
+			MappedByteBuffer segment = segments.get(segmentIndex);
+			if (null == segment) {
+				final long start = (long) segmentIndex << SEGMENT_SHIFT;
+				segment = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(fileSize - start, SEGMENT_SIZE << 1));
+				// 并发映射时只保留一个
+				if (false == segments.compareAndSet(segmentIndex, null, segment)) {
+					segment = segments.get(segmentIndex);
+				}
+			}
+			final int position = (int) (offset - ((long) segmentIndex << SEGMENT_SHIFT));
+			// 共享的映射不修改position和limit，每次读取使用独立的视图
+			final ByteBuffer view = segment.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+			view.limit(position + length).position(position);
+			return view;
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+	}
+
+	/**
+	 * 读取文件中指定范围的数据到堆内缓冲区
+	 *
+	 * @param offset 起始位置
+	 * @param length 长度
+	 * @return 小端序缓冲区，position为0
+	 * @throws IOException IO异常
+	 */
+	private ByteBuffer read(long offset, int length) throws IOException {
+		if (offset < 0 || offset + length > fileSize) {
+			throw new ZipException("invalid zip file, offset out of range: " + offset);
+		}
+		final ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+		while (buffer.hasRemaining()) {
+			if (channel.read(buffer, offset + buffer.position()) < 0) {
+				throw new EOFException();
+			}
+		}
+		buffer.flip();
+		return buffer;
+	}
+
+	/**
+	 * 将压缩数据解压到字节数组
+	 *
+	 * @param entry 条目
+	 * @param raw   压缩数据
+	 * @param size  解压后长度
+	 * @return 解压后的数据
+	 */
+	private byte[] inflate(Entry entry, ByteBuffer raw, int size) {
+		final byte[] result = new byte[size];
+		final byte[] input = new byte[(int) Math.min(raw.remaining() + 1L, IoUtil.DEFAULT_LARGE_BUFFER_SIZE)];
+		final Inflater inflater = borrowInflater();
+		try {
+			int n = 0;
+			int inputLength;
+			int inflated;
+			boolean padded = false;
+			while (n < size) {
+				if (inflater.needsInput()) {
+					inputLength = Math.min(raw.remaining(), input.length);
+					if (inputLength > 0) {
+						raw.get(input, 0, inputLength);
+						inflater.setInput(input, 0, inputLength);
+					} else if (false == padded) {
+						// 与ZipFile一致，在数据末尾补充一个空字节，兼容不完整的Deflate数据
+						padded = true;
+						inflater.setInput(new byte[1]);
+					} else {
+						throw new EOFException("Unexpected end of ZLIB input stream");
+					}
+				}
+				inflated = inflater.inflate(result, n, size - n);
+				if (0 == inflated && (inflater.finished() || inflater.needsDictionary())) {
+					break;
+				}
+				n += inflated;
+			}
+			if (n != size) {
+				throw new ZipException("invalid entry size (expected " + size + " but got " + n + " bytes): " + entry.zipEntry.getName());
+			}
+			return result;
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		} catch (DataFormatException e) {
+			throw new IORuntimeException(new ZipException(e.getMessage()));
+		} finally {
+			returnInflater(inflater);
+		}
+	}
+
+	/**
+	 * 借用解压器
+	 *
+	 * @return 解压器
+	 */
+	private Inflater borrowInflater() {
+		final Inflater inflater = inflaters.poll();
+		return null == inflater ? new Inflater(true) : inflater;
+	}
+
+	/**
+	 * 归还解压器，读取器已关闭时直接释放
+	 *
+	 * @param inflater 解压器
+	 */
+	private void returnInflater(Inflater inflater) {
+		if (closed) {
+			inflater.end();
+		} else {
+			inflater.reset();
+			inflaters.offer(inflater);
+		}
+	}
+
+	/**
+	 * 将DOS时间转换为Java时间戳
+	 *
+	 * @param dosTime DOS时间，高16位为日期，低16位为时间
+	 * @return 时间戳
+	 */
+	private static long dosToJavaTime(long dosTime) {
+		// 与ZipEntry一致，各字段超出范围时顺延
+		final LocalDateTime time = LocalDateTime.of((int) ((dosTime >> 25) & 0x7f) + 1980, 1, 1, 0, 0)
+				.plusMonths(((dosTime >> 21) & 0x0f) - 1)
+				.plusDays(((dosTime >> 16) & 0x1f) - 1)
+				.plusHours((dosTime >> 11) & 0x1f)
+				.plusMinutes((dosTime >> 5) & 0x3f)
+				.plusSeconds((dosTime << 1) & 0x3e);
+		return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+	}
+
+	/**
+	 * 中央目录中的条目信息
+	 */
+	private static class Entry {
+		final ZipEntry zipEntry;
+		final int flag;
+		final long localOffset;
+		/**
+		 * 数据起始位置，-1表示未解析本地文件头
+		 */
+		volatile long dataOffset = -1;
+
+		Entry(ZipEntry zipEntry, int flag, long localOffset) {
+			this.zipEntry = zipEntry;
+			this.flag = flag;
+			this.localOffset = localOffset;
+		}
+	}
+
+	/**
+	 * 读取{@link ByteBuffer}的流
+	 */
+	private static class BufferInputStream extends InputStream {
+		private final ByteBuffer buffer;
+
+		BufferInputStream(ByteBuffer buffer) {
+			this.buffer = buffer;
+		}
+
+		@Override
+		public int read() {
+			return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) {
+			if (0 == len) {
+				return 0;
+			}
+			if (false == buffer.hasRemaining()) {
+				return -1;
+			}
+			len = Math.min(len, buffer.remaining());
+			buffer.get(b, off, len);
+			return len;
+		}
+
+		@Override
+		public long skip(long n) {
+			final int skipped = (int) Math.max(0, Math.min(n, buffer.remaining()));
+			buffer.position(buffer.position() + skipped);
+			return skipped;
+		}
+
+		@Override
+		public int available() {
+			return buffer.remaining();
+		}
+	}
+
+	/**
+	 * 按照位置读取文件通道中指定范围的流，多个流可同时读取同一通道
+	 */
+	private class ChannelRangeInputStream extends InputStream {
+		private long position;
+		private final long end;
+
+		ChannelRangeInputStream(long position, long length) {
+			this.position = position;
+			this.end = position + length;
+		}
+
+		@Override
+		public int read() throws IOException {
+			final byte[] b = new byte[1];
+			return -1 == read(b, 0, 1) ? -1 : b[0] & 0xFF;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			if (0 == len) {
+				return 0;
+			}
+			if (position >= end) {
+				return -1;
+			}
+			len = (int) Math.min(len, end - position);
+			final int n = channel.read(ByteBuffer.wrap(b, off, len), position);
+			if (n > 0) {
+				position += n;
+			}
+			return n;
+		}
+
+		@Override
+		public long skip(long n) {
+			final long skipped = Math.max(0, Math.min(n, end - position));
+			position += skipped;
+			return skipped;
+		}
+
+		@Override
+		public int available() {
+			return (int) Math.min(Integer.MAX_VALUE, end - position);
+		}
+	}
+
+	/**
+	 * 条目解压流，关闭时归还解压器
+	 */
+	private class EntryInflaterInputStream extends InflaterInputStream {
+		private boolean eof;
+		private boolean streamClosed;
+
+		EntryInflaterInputStream(InputStream in, Inflater inflater) {
+			super(in, inflater, IoUtil.DEFAULT_BUFFER_SIZE);
+		}
+
+		@Override
+		protected void fill() throws IOException {
+			if (eof) {
+				throw new EOFException("Unexpected end of ZLIB input stream");
+			}
+			len = in.read(buf, 0, buf.length);
+			if (-1 == len) {
+				// 与ZipFile一致，在数据末尾补充一个空字节，兼容不完整的Deflate数据
+				buf[0] = 0;
+				len = 1;
+				eof = true;
+			}
+			inf.setInput(buf, 0, len);
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (false == streamClosed) {
+				streamClosed = true;
+				returnInflater(inf);
+				in.close();
+			}
+		}
+	}
+}
@@ -0,0 +1,373 @@
+package cn.hutool.core.compress;
+
+import cn.hutool.core.lang.Assert;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.zip.Adler32;
+import java.util.zip.CRC32;
+import java.util.zip.Checksum;
+import java.util.zip.Deflater;
+
+/**
+ * 并行Deflate压缩输出流，实现方式参考pigz<br>
+ * 数据按照固定大小分块，各块在线程池中并行压缩，每块使用前一块末尾32KB数据作为预设字典，压缩率与单线程压缩接近。
+ * 非末尾块以{@link Deflater#SYNC_FLUSH}结束并按字节对齐，各块的压缩结果按照顺序拼接即为一个完整的Deflate流，
+ * 因此结果可使用{@link java.util.zip.GZIPInputStream}、{@link java.util.zip.InflaterInputStream}等标准方式解压。<br>
+ * 写出的数据在凑满一块后才提交压缩，{@link #flush()}不会强制压缩未满的块。<br>
+ * 注意：此流非线程安全，写出操作应在同一线程中进行。
+ *
+ * @author looly
+ * @since 5.8.31
+ */
+public class ParallelDeflateOutputStream extends OutputStream {
+
+	/**
+	 * 默认块大小：128KB
+	 */
+	public static final int DEFAULT_BLOCK_SIZE = 128 * 1024;
+	/**
+	 * Deflate窗口大小，即预设字典的最大长度
+	 */
+	private static final int DICT_SIZE = 32 * 1024;
+	private static final byte[] GZIP_HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, 0};
+
+	/**
+	 * 输出格式
+	 */
+	public enum Format {
+		/**
+		 * 无头信息和校验的原始Deflate数据，与{@code new Inflater(true)}对应
+		 */
+		RAW,
+		/**
+		 * zlib格式，与{@code new Inflater()}对应
+		 */
+		ZLIB,
+		/**
+		 * Gzip格式
+		 */
+		GZIP
+	}
+
+	private final OutputStream out;
+	private final Format format;
+	private final int level;
+	private final int blockSize;
+	private final ForkJoinPool pool;
+	private final int maxInFlight;
+	private final Checksum checksum;
+	/**
+	 * 复用的压缩器，压缩器创建代价较高，各块压缩完毕后归还
+	 */
+	private final Queue<Deflater> deflaters = new ConcurrentLinkedQueue<>();
+	private final Deque<ForkJoinTask<byte[]>> tasks = new ArrayDeque<>();
+
+	private byte[] block;
+	private int count;
+	/**
+	 * 前一个已提交的块，其末尾数据作为下一块的预设字典
+	 */
+	private byte[] previous;
+	private long totalIn;
+	private boolean headerWritten;
+	private boolean finished;
+	private boolean closed;
+
+	/**
+	 * 构造，使用默认块大小和{@link ForkJoinPool#commonPool()}
+	 *
+	 * @param out    目标流
+	 * @param format 输出格式
+	 * @param level  压缩级别，0~9，-1表示默认
+	 */
+	public ParallelDeflateOutputStream(OutputStream out, Format format, int level) {
+		this(out, format, level, DEFAULT_BLOCK_SIZE, null);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param out       目标流
+	 * @param format    输出格式
+	 * @param level     压缩级别，0~9，-1表示默认
+	 * @param blockSize 块大小，不小于32KB
+	 * @param pool      压缩使用的线程池，{@code null}表示使用{@link ForkJoinPool#commonPool()}
+	 */
+	public ParallelDeflateOutputStream(OutputStream out, Format format, int level, int blockSize, ForkJoinPool pool) {
+		Assert.notNull(out, "Out must be not null!");
+		Assert.notNull(format, "Format must be not null!");
+		Assert.isTrue(level >= Deflater.DEFAULT_COMPRESSION && level <= Deflater.BEST_COMPRESSION, "Invalid level: {}", level);
+		Assert.isTrue(blockSize >= DICT_SIZE, "Block size must be >= {}", DICT_SIZE);
+		this.out = out;
+		this.format = format;
+		this.level = level;
+		this.blockSize = blockSize;
+		this.pool = null == pool ? ForkJoinPool.commonPool() : pool;
+		// 限制压缩中的块数，避免压缩速度小于写入速度时占用过多内存
+		this.maxInFlight = Math.max(2, this.pool.getParallelism() * 2);
+		switch (format) {
+			case GZIP:
+				this.checksum = new CRC32();
+				break;
+			case ZLIB:
+				this.checksum = new Adler32();
+				break;
+			default:
+				this.checksum = null;
+		}
+		this.block = new byte[blockSize];
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		write(new byte[]{(byte) b}, 0, 1);
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+		ensureOpen();
+		if (finished) {
+			throw new IOException("write beyond end of stream");
+		}
+		if ((off | len | (off + len) | (b.length - (off + len))) < 0) {
+			throw new IndexOutOfBoundsException();
+		}
+		if (null != checksum) {
+			checksum.update(b, off, len);
+		}
+		totalIn += len;
+		int n;
+		while (len > 0) {
+			n = Math.min(len, blockSize - count);
+			System.arraycopy(b, off, block, count, n);
+			count += n;
+			off += n;
+			len -= n;
+			if (count == blockSize) {
+				submit(false);
+			}
+		}
+	}
+
+	/**
+	 * 写出已压缩完成的块并刷新目标流，未满的块不会被压缩
+	 *
+	 * @throws IOException IO异常
+	 */
+	@Override
+	public void flush() throws IOException {
+		ensureOpen();
+		while (false == tasks.isEmpty() && tasks.peek().isDone()) {
+			writeBlock(tasks.poll());
+		}
+		out.flush();
+	}
+
+	/**
+	 * 完成压缩，写出所有剩余数据和尾部校验信息，不关闭目标流
+	 *
+	 * @throws IOException IO异常
+	 */
+	public void finish() throws IOException {
+		ensureOpen();
+		if (finished) {
+			return;
+		}
+		submit(true);
+		while (false == tasks.isEmpty()) {
+			writeBlock(tasks.poll());
+		}
+		writeTrailer();
+		finished = true;
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (closed) {
+			return;
+		}
+		try {
+			finish();
+		} finally {
+			closed = true;
+			// 等待未完成的块，保证压缩器不再使用后释放
+			for (ForkJoinTask<byte[]> task : tasks) {
+				task.quietlyJoin();
+			}
+			tasks.clear();
+			Deflater deflater;
+			while (null != (deflater = deflaters.poll())) {
+				deflater.end();
+			}
+			out.close();
+		}
+	}
+
+	/**
+	 * 提交当前块压缩
+	 *
+	 * @param last 是否为最后一块
+	 * @throws IOException IO异常
+	 */
+	private void submit(boolean last) throws IOException {
+		final byte[] input = this.block;
+		final int length = this.count;
+		final byte[] dictionary = this.previous;
+		tasks.add(pool.submit(() -> compress(input, length, dictionary, last)));
+		this.previous = input;
+		if (false == last) {
+			this.block = new byte[blockSize];
+		}
+		this.count = 0;
+
+		// 按照顺序写出已完成的块，压缩中的块过多时等待
+		while (false == tasks.isEmpty() && (tasks.size() >= maxInFlight || tasks.peek().isDone())) {
+			writeBlock(tasks.poll());
+		}
+	}
+
+	/**
+	 * 压缩一块数据
+	 *
+	 * @param input      块数据
+	 * @param length     块数据长度
+	 * @param dictionary 前一块数据，{@code null}表示首块
+	 * @param last       是否为最后一块
+	 * @return 压缩后的数据
+	 */
+	private byte[] compress(byte[] input, int length, byte[] dictionary, boolean last) {
+		Deflater deflater = deflaters.poll();
+		if (null == deflater) {
+			deflater = new Deflater(level, true);
+		}
+		try {
+			if (null != dictionary) {
+				deflater.setDictionary(dictionary, dictionary.length - DICT_SIZE, DICT_SIZE);
+			}
+			deflater.setInput(input, 0, length);
+			byte[] buffer = new byte[(length >> 1) + 64];
+			int n = 0;
+			int space;
+			int written;
+			if (last) {
+				deflater.finish();
+				while (false == deflater.finished()) {
+					if (n == buffer.length) {
+						buffer = Arrays.copyOf(buffer, buffer.length << 1);
+					}
+					n += deflater.deflate(buffer, n, buffer.length - n);
+				}
+			} else {
+				// SYNC_FLUSH在输出空间写满时需继续调用，直到输出不满为止
+				do {
+					if (n == buffer.length) {
+						buffer = Arrays.copyOf(buffer, buffer.length << 1);
+					}
+					space = buffer.length - n;
+					written = deflater.deflate(buffer, n, space, Deflater.SYNC_FLUSH);
+					n += written;
+				} while (written == space);
+			}
+			return n == buffer.length ? buffer : Arrays.copyOf(buffer, n);
+		} finally {
+			deflater.reset();
+			deflaters.offer(deflater);
+		}
+	}
+
+	/**
+	 * 等待块压缩完成并写出
+	 *
+	 * @param task 块压缩任务
+	 * @throws IOException IO异常
+	 */
+	private void writeBlock(ForkJoinTask<byte[]> task) throws IOException {
+		final byte[] data = task.join();
+		if (false == headerWritten) {
+			writeHeader();
+		}
+		out.write(data);
+	}
+
+	/**
+	 * 写出头信息
+	 *
+	 * @throws IOException IO异常
+	 */
+	private void writeHeader() throws IOException {
+		headerWritten = true;
+		switch (format) {
+			case GZIP:
+				out.write(GZIP_HEADER);
+				break;
+			case ZLIB:
+				// CMF：Deflate算法，32KB窗口；FLG：压缩级别标记，并使(CMF * 256 + FLG)为31的倍数
+				out.write(0x78);
+				if (level >= 0 && level <= 1) {
+					out.write(0x01);
+				} else if (level >= 2 && level <= 5) {
+					out.write(0x5e);
+				} else if (level >= 7) {
+					out.write(0xda);
+				} else {
+					out.write(0x9c);
+				}
+				break;
+			default:
+		}
+	}
+
+	/**
+	 * 写出尾部校验信息
+	 *
+	 * @throws IOException IO异常
+	 */
+	private void writeTrailer() throws IOException {
+		switch (format) {
+			case GZIP:
+				// CRC32和原始数据长度，小端序
+				writeInt((int) checksum.getValue(), false);
+				writeInt((int) totalIn, false);
+				break;
+			case ZLIB:
+				// Adler32，大端序
+				writeInt((int) checksum.getValue(), true);
+				break;
+			default:
+		}
+	}
+
+	/**
+	 * 写出int值
+	 *
+	 * @param value     值
+	 * @param bigEndian 是否大端序
+	 * @throws IOException IO异常
+	 */
+	private void writeInt(int value, boolean bigEndian) throws IOException {
+		final byte[] bytes = new byte[4];
+		for (int i = 0; i < 4; i++) {
+			bytes[bigEndian ? 3 - i : i] = (byte) (value >>> (i << 3));
+		}
+		out.write(bytes);
+	}
+
+	/**
+	 * 检查流是否已关闭
+	 *
+	 * @throws IOException 流已关闭
+	 */
+	private void ensureOpen() throws IOException {
+		if (closed) {
+			throw new IOException("Stream closed");
+		}
+	}
+}
@@ -0,0 +1,771 @@
+package cn.hutool.core.compress;
+
+import cn.hutool.core.io.FastByteArrayOutputStream;
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.io.NioUtil;
+import cn.hutool.core.io.resource.Resource;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.util.ArrayUtil;
+import cn.hutool.core.util.CharsetUtil;
+import cn.hutool.core.util.StrUtil;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileFilter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+
+/**
+ * 并行Zip生成封装<br>
+ * 各条目在线程池中并行压缩，压缩结果暂存在内存中（超出阈值时暂存在临时文件中），再按照加入的顺序写入压缩包，
+ * 适用于大量文件打包等CPU密集的场景。生成的压缩包中条目顺序与加入顺序一致，条目数或大小超出限制时自动使用Zip64扩展。<br>
+ * 用法与{@link ZipWriter}一致：
+ * <pre>
+ * try (ParallelZipWriter writer = ParallelZipWriter.of(zipFile, CharsetUtil.CHARSET_UTF_8)) {
+ *     writer.add(false, null, srcDir);
+ * }
+ * </pre>
+ * 注意：此类非线程安全，加入条目应在同一线程中进行。
+ *
+ * @author looly
+ * @since 5.8.31
+ */
+public class ParallelZipWriter implements Closeable {
+
+	/**
+	 * 默认单个条目暂存在内存中的最大压缩数据长度：1MB
+	 */
+	public static final int DEFAULT_SPILL_THRESHOLD = 1024 * 1024;
+
+	private static final int LOCAL_HEADER_SIG = 0x04034b50;
+	private static final int CENTRAL_HEADER_SIG = 0x02014b50;
+	private static final int ZIP64_END_SIG = 0x06064b50;
+	private static final int ZIP64_LOCATOR_SIG = 0x07064b50;
+	private static final int END_SIG = 0x06054b50;
+	private static final long ZIP64_MAGIC = 0xFFFFFFFFL;
+	private static final int ZIP64_MAGIC_COUNT = 0xFFFF;
+	private static final int ZIP64_EXTRA_ID = 0x0001;
+	private static final int FLAG_UTF8 = 0x0800;
+
+	/**
+	 * 创建ParallelZipWriter
+	 *
+	 * @param zipFile 生成的Zip文件
+	 * @param charset 编码
+	 * @return ParallelZipWriter
+	 */
+	public static ParallelZipWriter of(File zipFile, Charset charset) {
+		return new ParallelZipWriter(zipFile, charset);
+	}
+
+	/**
+	 * 创建ParallelZipWriter
+	 *
+	 * @param out     Zip输出的流，一般为输出文件流
+	 * @param charset 编码
+	 * @return ParallelZipWriter
+	 */
+	public static ParallelZipWriter of(OutputStream out, Charset charset) {
+		return new ParallelZipWriter(out, charset);
+	}
+
+	private File zipFile;
+	private final OutputStream out;
+	private final Charset charset;
+	private int level = Deflater.DEFAULT_COMPRESSION;
+	private byte[] comment;
+	private ForkJoinPool pool = ForkJoinPool.commonPool();
+	private int spillThreshold = DEFAULT_SPILL_THRESHOLD;
+
+	/**
+	 * 复用的压缩器，压缩器创建代价较高，各条目压缩完毕后归还
+	 */
+	private final Queue<Deflater> deflaters = new ConcurrentLinkedQueue<>();
+	/**
+	 * 压缩中的条目，按照加入顺序写出
+	 */
+	private final Deque<ForkJoinTask<Entry>> tasks = new ArrayDeque<>();
+	/**
+	 * 已写出的条目，用于最后写出中央目录
+	 */
+	private final List<Entry> entries = new ArrayList<>();
+	private final Set<String> names = new HashSet<>();
+	private long written;
+	private boolean failed;
+	private boolean closed;
+
+	/**
+	 * 构造
+	 *
+	 * @param zipFile 生成的Zip文件
+	 * @param charset 编码
+	 */
+	public ParallelZipWriter(File zipFile, Charset charset) {
+		this(FileUtil.getOutputStream(zipFile), charset);
+		this.zipFile = zipFile;
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param out     Zip输出的流，一般为输出文件流
+	 * @param charset 编码，{@code null}表示系统默认编码
+	 */
+	public ParallelZipWriter(OutputStream out, Charset charset) {
+		Assert.notNull(out, "Out must be not null!");
+		this.out = out;
+		this.charset = null == charset ? CharsetUtil.defaultCharset() : charset;
+	}
+
+	/**
+	 * 设置压缩级别，可选1~9，-1表示默认，须在加入条目前设置
+	 *
+	 * @param level 压缩级别
+	 * @return this
+	 */
+	public ParallelZipWriter setLevel(int level) {
+		Assert.isTrue(level >= Deflater.DEFAULT_COMPRESSION && level <= Deflater.BEST_COMPRESSION, "Invalid level: {}", level);
+		this.level = level;
+		return this;
+	}
+
+	/**
+	 * 设置注释
+	 *
+	 * @param comment 注释
+	 * @return this
+	 */
+	public ParallelZipWriter setComment(String comment) {
+		if (null == comment) {
+			this.comment = null;
+		} else {
+			this.comment = comment.getBytes(this.charset);
+			Assert.isTrue(this.comment.length <= ZIP64_MAGIC_COUNT, "ZIP file comment too long.");
+		}
+		return this;
+	}
+
+	/**
+	 * 设置压缩使用的线程池，默认使用{@link ForkJoinPool#commonPool()}，须在加入条目前设置
+	 *
+	 * @param pool 线程池
+	 * @return this
+	 */
+	public ParallelZipWriter setPool(ForkJoinPool pool) {
+		this.pool = Assert.notNull(pool);
+		return this;
+	}
+
+	/**
+	 * 设置单个条目暂存在内存中的最大压缩数据长度，超出后暂存在临时文件中<br>
+	 * 压缩中的条目数不超过线程池并行数的两倍，因此暂存占用的内存不超过此值与条目数的乘积
+	 *
+	 * @param spillThreshold 最大压缩数据长度
+	 * @return this
+	 */
+	public ParallelZipWriter setSpillThreshold(int spillThreshold) {
+		Assert.isTrue(spillThreshold >= 0, "Spill threshold must be >= 0");
+		this.spillThreshold = spillThreshold;
+		return this;
+	}
+
+	/**
+	 * 对文件或文件目录进行压缩
+	 *
+	 * @param withSrcDir 是否包含被打包目录，只针对压缩目录有效。若为false，则只压缩目录下的文件或目录，为true则将本目录也压缩
+	 * @param filter     文件过滤器，通过实现此接口，自定义要过滤的文件（过滤掉哪些文件或文件夹不加入压缩），{@code null}表示不过滤
+	 * @param files      要压缩的源文件或目录。如果压缩一个文件，则为该文件的全路径；如果压缩一个目录，则为该目录的顶层目录路径
+	 * @return this
+	 * @throws IORuntimeException IO异常
+	 */
+	public ParallelZipWriter add(boolean withSrcDir, FileFilter filter, File... files) throws IORuntimeException {
+		for (File file : files) {
+			// 如果只是压缩一个文件，则需要截取该文件的父目录
+			String srcRootDir;
+			try {
+				srcRootDir = file.getCanonicalPath();
+				if ((false == file.isDirectory()) || withSrcDir) {
+					// 若是文件，则将父目录完整路径都截取掉；若设置包含目录，则将上级目录全部截取掉，保留本目录名
+					srcRootDir = file.getCanonicalFile().getParentFile().getCanonicalPath();
+				}
+			} catch (IOException e) {
+				throw new IORuntimeException(e);
+			}
+
+			_add(file, srcRootDir, filter);
+		}
+		return this;
+	}
+
+	/**
+	 * 添加资源到压缩包，添加后关闭资源流
+	 *
+	 * @param resources 需要压缩的资源，资源的路径为{@link Resource#getName()}
+	 * @return this
+	 * @throws IORuntimeException IO异常
+	 */
+	public ParallelZipWriter add(Resource... resources) throws IORuntimeException {
+		for (Resource resource : resources) {
+			if (null != resource) {
+				add(resource.getName(), resource.getStream());
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * 添加文件流到压缩包，流在压缩线程中读取，读取后关闭<br>
+	 * 如果输入流为{@code null}，则只创建空目录
+	 *
+	 * @param path 压缩的路径, {@code null}和""表示根目录下
+	 * @param in   需要压缩的输入流，使用完后自动关闭，{@code null}表示加入空目录
+	 * @return this
+	 * @throws IORuntimeException IO异常
+	 */
+	public ParallelZipWriter add(String path, InputStream in) throws IORuntimeException {
+		path = StrUtil.nullToEmpty(path);
+		if (null == in) {
+			// 空目录需要检查路径规范性，目录以"/"结尾
+			path = StrUtil.addSuffixIfNot(path, StrUtil.SLASH);
+			if (StrUtil.isBlank(path)) {
+				return this;
+			}
+		}
+
+		return putEntry(path, null == in ? null : () -> in);
+	}
+
+	/**
+	 * 对流中的数据加入到压缩文件<br>
+	 * 路径列表和流列表长度必须一致
+	 *
+	 * @param paths 流数据在压缩文件中的路径或文件名
+	 * @param ins   要压缩的源，添加完成后自动关闭流
+	 * @return this
+	 * @throws IORuntimeException IO异常
+	 */
+	public ParallelZipWriter add(String[] paths, InputStream[] ins) throws IORuntimeException {
+		if (ArrayUtil.isEmpty(paths) || ArrayUtil.isEmpty(ins)) {
+			throw new IllegalArgumentException("Paths or ins is empty !");
+		}
+		if (paths.length != ins.length) {
+			throw new IllegalArgumentException("Paths length is not equals to ins length !");
+		}
+
+		for (int i = 0; i < paths.length; i++) {
+			add(paths[i], ins[i]);
+		}
+
+		return this;
+	}
+
+	/**
+	 * 等待所有条目压缩完成并写出，之后写出中央目录并关闭目标流<br>
+	 * 如加入条目时已出现异常，则不再写出中央目录
+	 *
+	 * @throws IORuntimeException IO异常
+	 */
+	@Override
+	public void close() throws IORuntimeException {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		try {
+			if (false == failed) {
+				while (false == tasks.isEmpty()) {
+					writeNext();
+				}
+				writeEnd();
+			}
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		} finally {
+			// 出现异常时丢弃未写出的条目，保证压缩器不再使用后释放
+			ForkJoinTask<Entry> task;
+			while (null != (task = tasks.poll())) {
+				task.quietlyJoin();
+				if (task.isCompletedNormally()) {
+					task.getRawResult().discard();
+				}
+			}
+			Deflater deflater;
+			while (null != (deflater = deflaters.poll())) {
+				deflater.end();
+			}
+			IoUtil.close(this.out);
+		}
+	}
+
+	/**
+	 * 递归压缩文件夹或压缩文件<br>
+	 * srcRootDir决定了路径截取的位置，例如：<br>
+	 * file的路径为d:/a/b/c/d.txt，srcRootDir为d:/a/b，则压缩后的文件与目录为结构为c/d.txt
+	 *
+	 * @param srcRootDir 被压缩的文件夹根目录
+	 * @param file       当前递归压缩的文件或目录对象
+	 * @param filter     文件过滤器，通过实现此接口，自定义要过滤的文件（过滤掉哪些文件或文件夹不加入压缩），{@code null}表示不过滤
+	 * @throws IORuntimeException IO异常
+	 */
+	private ParallelZipWriter _add(File file, String srcRootDir, FileFilter filter) throws IORuntimeException {
+		if (null == file || (null != filter && false == filter.accept(file))) {
+			return this;
+		}
+
+		// 获取文件相对于压缩文件夹根目录的子路径
+		final String subPath = FileUtil.subPath(srcRootDir, file);
+		if (file.isDirectory()) {
+			// 如果是目录，则压缩压缩目录中的文件或子目录
+			final File[] files = file.listFiles();
+			if (ArrayUtil.isEmpty(files)) {
+				// 加入目录，只有空目录时才加入目录，非空时会在创建文件时自动添加父级目录
+				add(subPath, null);
+			} else {
+				// 压缩目录下的子文件或目录
+				for (File childFile : files) {
+					_add(childFile, srcRootDir, filter);
+				}
+			}
+		} else {
+			// 检查加入的文件是否为压缩结果文件本身，避免死循环
+			if (FileUtil.equals(file, zipFile)) {
+				return this;
+			}
+
+			// 文件在压缩线程中打开，避免同时打开过多文件
+			putEntry(subPath, () -> IoUtil.toStream(file));
+		}
+		return this;
+	}
+
+	/**
+	 * 提交条目压缩，并按照顺序写出已压缩完成的条目
+	 *
+	 * @param path     压缩的路径
+	 * @param supplier 输入流提供者，{@code null}表示目录
+	 * @throws IORuntimeException IO异常
+	 */
+	private ParallelZipWriter putEntry(String path, InputSupplier supplier) throws IORuntimeException {
+		Assert.isFalse(closed, "Writer is closed!");
+		if (false == names.add(path)) {
+			throw new IORuntimeException(new ZipException("duplicate entry: " + path));
+		}
+		final Entry entry = new Entry(path.getBytes(charset), null == supplier, toDosTime(LocalDateTime.now()));
+		final int entryLevel = this.level;
+		tasks.add(pool.submit(() -> null == supplier ? entry : deflate(entry, supplier, entryLevel)));
+
+		// 限制压缩中的条目数，避免压缩速度大于写出速度时占用过多内存
+		final int maxInFlight = Math.max(2, pool.getParallelism() * 2);
+		try {
+			while (false == tasks.isEmpty() && (tasks.size() >= maxInFlight || tasks.peek().isDone())) {
+				writeNext();
+			}
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+		return this;
+	}
+
+	/**
+	 * 压缩条目数据，计算CRC32和长度
+	 *
+	 * @param entry    条目
+	 * @param supplier 输入流提供者
+	 * @param level    压缩级别
+	 * @return 条目
+	 */
+	private Entry deflate(Entry entry, InputSupplier supplier, int level) {
+		Deflater deflater = deflaters.poll();
+		if (null == deflater) {
+			deflater = new Deflater(level, true);
+		} else {
+			deflater.setLevel(level);
+		}
+		final SpillOutputStream data = new SpillOutputStream(spillThreshold);
+		InputStream in = null;
+		try {
+			in = supplier.get();
+			final DeflaterOutputStream deflaterOut = new DeflaterOutputStream(data, deflater, NioUtil.DEFAULT_BUFFER_SIZE);
+			final CRC32 crc = new CRC32();
+			final byte[] buffer = new byte[NioUtil.DEFAULT_BUFFER_SIZE];
+			long size = 0;
+			int n;
+			while ((n = in.read(buffer)) > -1) {
+				crc.update(buffer, 0, n);
+				deflaterOut.write(buffer, 0, n);
+				size += n;
+			}
+			// 只完成压缩，不关闭，压缩器需要复用
+			deflaterOut.finish();
+			entry.crc = crc.getValue();
+			entry.size = size;
+			entry.compressedSize = data.size();
+			entry.data = data;
+		} catch (IOException e) {
+			data.discard();
+			throw new IORuntimeException(e);
+		} catch (RuntimeException e) {
+			data.discard();
+			throw e;
+		} finally {
+			IoUtil.close(in);
+			deflater.reset();
+			deflaters.offer(deflater);
+		}
+		return entry;
+	}
+
+	/**
+	 * 等待下一个条目压缩完成并写出本地文件头和数据
+	 *
+	 * @throws IOException IO异常
+	 */
+	private void writeNext() throws IOException {
+		final Entry entry;
+		try {
+			entry = tasks.poll().join();
+		} catch (RuntimeException e) {
+			failed = true;
+			throw e;
+		}
+
+		entry.offset = written;
+		try {
+			final boolean zip64 = entry.size >= ZIP64_MAGIC || entry.compressedSize >= ZIP64_MAGIC;
+			final ByteBuffer header = newBuffer(30 + entry.name.length + (zip64 ? 20 : 0));
+			header.putInt(LOCAL_HEADER_SIG);
+			header.putShort((short) entry.versionNeeded(zip64));
+			header.putShort((short) flag());
+			header.putShort((short) entry.method());
+			header.putInt((int) entry.dosTime);
+			header.putInt((int) entry.crc);
+			header.putInt((int) (zip64 ? ZIP64_MAGIC : entry.compressedSize));
+			header.putInt((int) (zip64 ? ZIP64_MAGIC : entry.size));
+			header.putShort((short) entry.name.length);
+			header.putShort((short) (zip64 ? 20 : 0));
+			header.put(entry.name);
+			if (zip64) {
+				// 本地文件头中的Zip64扩展必须同时包含原始长度和压缩长度
+				header.putShort((short) ZIP64_EXTRA_ID);
+				header.putShort((short) 16);
+				header.putLong(entry.size);
+				header.putLong(entry.compressedSize);
+			}
+			write(header);
+			if (null != entry.data) {
+				entry.data.writeTo(out);
+				written += entry.compressedSize;
+			}
+		} catch (IOException | RuntimeException e) {
+			failed = true;
+			throw e;
+		} finally {
+			entry.discard();
+		}
+		entries.add(entry);
+	}
+
+	/**
+	 * 写出中央目录和目录结束标记，条目数或偏移超出限制时写出Zip64目录结束标记
+	 *
+	 * @throws IOException IO异常
+	 */
+	private void writeEnd() throws IOException {
+		final long centralOffset = written;
+		for (Entry entry : entries) {
+			int extraLength = 0;
+			if (entry.size >= ZIP64_MAGIC) {
+				extraLength += 8;
+			}
+			if (entry.compressedSize >= ZIP64_MAGIC) {
+				extraLength += 8;
+			}
+			if (entry.offset >= ZIP64_MAGIC) {
+				extraLength += 8;
+			}
+			final boolean zip64 = extraLength > 0;
+			if (zip64) {
+				extraLength += 4;
+			}
+
+			final ByteBuffer header = newBuffer(46 + entry.name.length + extraLength);
+			header.putInt(CENTRAL_HEADER_SIG);
+			// 版本，与版本需要相同
+			header.putShort((short) entry.versionNeeded(zip64));
+			header.putShort((short) entry.versionNeeded(zip64));
+			header.putShort((short) flag());
+			header.putShort((short) entry.method());
+			header.putInt((int) entry.dosTime);
+			header.putInt((int) entry.crc);
+			header.putInt((int) Math.min(entry.compressedSize, ZIP64_MAGIC));
+			header.putInt((int) Math.min(entry.size, ZIP64_MAGIC));
+			header.putShort((short) entry.name.length);
+			header.putShort((short) extraLength);
+			// 注释长度、磁盘编号、内部属性、外部属性
+			header.putShort((short) 0);
+			header.putShort((short) 0);
+			header.putShort((short) 0);
+			header.putInt(0);
+			header.putInt((int) Math.min(entry.offset, ZIP64_MAGIC));
+			header.put(entry.name);
+			if (zip64) {
+				// 中央目录中的Zip64扩展只包含超出限制的字段，顺序固定
+				header.putShort((short) ZIP64_EXTRA_ID);
+				header.putShort((short) (extraLength - 4));
+				if (entry.size >= ZIP64_MAGIC) {
+					header.putLong(entry.size);
+				}
+				if (entry.compressedSize >= ZIP64_MAGIC) {
+					header.putLong(entry.compressedSize);
+				}
+				if (entry.offset >= ZIP64_MAGIC) {
+					header.putLong(entry.offset);
+				}
+			}
+			write(header);
+		}
+
+		final long centralSize = written - centralOffset;
+		final int count = entries.size();
+		if (count >= ZIP64_MAGIC_COUNT || centralOffset >= ZIP64_MAGIC || centralSize >= ZIP64_MAGIC) {
+			final long zip64EndOffset = written;
+			final ByteBuffer zip64End = newBuffer(56 + 20);
+			zip64End.putInt(ZIP64_END_SIG);
+			zip64End.putLong(44);
+			zip64End.putShort((short) 45);
+			zip64End.putShort((short) 45);
+			zip64End.putInt(0);
+			zip64End.putInt(0);
+			zip64End.putLong(count);
+			zip64End.putLong(count);
+			zip64End.putLong(centralSize);
+			zip64End.putLong(centralOffset);
+			// Zip64目录结束标记定位器
+			zip64End.putInt(ZIP64_LOCATOR_SIG);
+			zip64End.putInt(0);
+			zip64End.putLong(zip64EndOffset);
+			zip64End.putInt(1);
+			write(zip64End);
+		}
+
+		final int commentLength = null == comment ? 0 : comment.length;
+		final ByteBuffer end = newBuffer(22 + commentLength);
+		end.putInt(END_SIG);
+		end.putShort((short) 0);
+		end.putShort((short) 0);
+		end.putShort((short) Math.min(count, ZIP64_MAGIC_COUNT));
+		end.putShort((short) Math.min(count, ZIP64_MAGIC_COUNT));
+		end.putInt((int) Math.min(centralSize, ZIP64_MAGIC));
+		end.putInt((int) Math.min(centralOffset, ZIP64_MAGIC));
+		end.putShort((short) commentLength);
+		if (commentLength > 0) {
+			end.put(comment);
+		}
+		write(end);
+		out.flush();
+	}
+
+	/**
+	 * 通用标记，UTF-8编码时设置语言编码标记，与{@link java.util.zip.ZipOutputStream}一致
+	 *
+	 * @return 通用标记
+	 */
+	private int flag() {
+		return StandardCharsets.UTF_8.equals(charset) ? FLAG_UTF8 : 0;
+	}
+
+	/**
+	 * 写出缓冲区中的数据并记录已写出的长度
+	 *
+	 * @param buffer 缓冲区
+	 * @throws IOException IO异常
+	 */
+	private void write(ByteBuffer buffer) throws IOException {
+		out.write(buffer.array(), 0, buffer.position());
+		written += buffer.position();
+	}
+
+	/**
+	 * 创建小端序缓冲区
+	 *
+	 * @param size 大小
+	 * @return 缓冲区
+	 */
+	private static ByteBuffer newBuffer(int size) {
+		return ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+	}
+
+	/**
+	 * 转换为DOS时间，高16位为日期，低16位为时间
+	 *
+	 * @param time 时间
+	 * @return DOS时间
+	 */
+	private static long toDosTime(LocalDateTime time) {
+		final int year = time.getYear();
+		if (year < 1980) {
+			return (1 << 21) | (1 << 16);
+		}
+		return ((long) (year - 1980) << 25 | time.getMonthValue() << 21 | time.getDayOfMonth() << 16
+				| time.getHour() << 11 | time.getMinute() << 5 | time.getSecond() >> 1) & ZIP64_MAGIC;
+	}
+
+	/**
+	 * 输入流提供者，在压缩线程中打开流
+	 */
+	@FunctionalInterface
+	private interface InputSupplier {
+		/**
+		 * 获取输入流
+		 *
+		 * @return 输入流
+		 * @throws IOException IO异常
+		 */
+		InputStream get() throws IOException;
+	}
+
+	/**
+	 * 压缩条目信息
+	 */
+	private static class Entry {
+		final byte[] name;
+		final boolean directory;
+		final long dosTime;
+		long crc;
+		long size;
+		long compressedSize;
+		long offset;
+		SpillOutputStream data;
+
+		Entry(byte[] name, boolean directory, long dosTime) {
+			this.name = name;
+			this.directory = directory;
+			this.dosTime = dosTime;
+		}
+
+		/**
+		 * 压缩方法，目录不压缩
+		 *
+		 * @return 压缩方法
+		 */
+		int method() {
+			return directory ? ZipEntry.STORED : ZipEntry.DEFLATED;
+		}
+
+		/**
+		 * 解压所需版本
+		 *
+		 * @param zip64 是否使用Zip64扩展
+		 * @return 版本
+		 */
+		int versionNeeded(boolean zip64) {
+			if (zip64) {
+				return 45;
+			}
+			return directory ? 10 : 20;
+		}
+
+		/**
+		 * 丢弃暂存的数据
+		 */
+		void discard() {
+			if (null != data) {
+				data.discard();
+				data = null;
+			}
+		}
+	}
+
+	/**
+	 * 压缩数据暂存输出流，超出阈值后转为写出到临时文件
+	 */
+	private static class SpillOutputStream extends OutputStream {
+		private final int threshold;
+		private FastByteArrayOutputStream memory = new FastByteArrayOutputStream();
+		private File file;
+		private OutputStream fileOut;
+		private long size;
+
+		SpillOutputStream(int threshold) {
+			this.threshold = threshold;
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			write(new byte[]{(byte) b}, 0, 1);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			if (null == fileOut && size + len > threshold) {
+				file = FileUtil.createTempFile("hutool-zip", ".tmp", true);
+				fileOut = Files.newOutputStream(file.toPath());
+				memory.writeTo(fileOut);
+				memory.reset();
+				memory = null;
+			}
+			if (null != fileOut) {
+				fileOut.write(b, off, len);
+			} else {
+				memory.write(b, off, len);
+			}
+			size += len;
+		}
+
+		long size() {
+			return size;
+		}
+
+		/**
+		 * 将暂存的数据写出到目标流
+		 *
+		 * @param out 目标流
+		 * @throws IOException IO异常
+		 */
+		void writeTo(OutputStream out) throws IOException {
+			if (null != fileOut) {
+				fileOut.close();
+				Files.copy(file.toPath(), out);
+			} else {
+				memory.writeTo(out);
+			}
+		}
+
+		/**
+		 * 丢弃暂存的数据，删除临时文件
+		 */
+		void discard() {
+			if (null != fileOut) {
+				IoUtil.close(fileOut);
+				FileUtil.del(file);
+				fileOut = null;
+			} else if (null != memory) {
+				memory.reset();
+			}
+		}
+	}
+}
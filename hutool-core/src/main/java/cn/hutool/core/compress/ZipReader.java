@@ -1,10 +1,17 @@
 package cn.hutool.core.compress;
 
 import cn.hutool.core.exceptions.UtilException;
+import cn.hutool.core.io.FastByteArrayOutputStream;
 import cn.hutool.core.io.FileUtil;
 import cn.hutool.core.io.IORuntimeException;
 import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.io.NioUtil;
+import cn.hutool.core.lang.Assert;
 import cn.hutool.core.lang.Filter;
+import cn.hutool.core.thread.ExecutorBuilder;
+import cn.hutool.core.thread.ThreadException;
+import cn.hutool.core.thread.ThreadUtil;
+import cn.hutool.core.util.RuntimeUtil;
 import cn.hutool.core.util.StrUtil;
 import cn.hutool.core.util.ZipUtil;
 
@@ -12,8 +19,20 @@ import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.charset.Charset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.Enumeration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
@@ -29,6 +48,10 @@ public class ZipReader implements Closeable {
 
 	// size of uncompressed zip entry shouldn't be bigger of compressed in MAX_SIZE_DIFF times
 	private static final int DEFAULT_MAX_SIZE_DIFF = 100;
+	/**
+	 * 流模式并行解压时，默认等待写出的数据占用的最大内存：64MB
+	 */
+	public static final int DEFAULT_MEMORY_LIMIT = 64 * 1024 * 1024;
 
 	private ZipFile zipFile;
 	private ZipInputStream in;
@@ -36,6 +59,10 @@ public class ZipReader implements Closeable {
 	 * 检查ZipBomb文件差异倍数，-1表示不检查ZipBomb
 	 */
 	private int maxSizeDiff = DEFAULT_MAX_SIZE_DIFF;
+	/**
+	 * 流模式并行解压时，等待写出的数据占用的最大内存
+	 */
+	private int memoryLimit = DEFAULT_MEMORY_LIMIT;
 
 	/**
 	 * 创建ZipReader
@@ -109,6 +136,20 @@ public class ZipReader implements Closeable {
 		return this;
 	}
 
+	/**
+	 * 设置流模式并行解压时，等待写出的数据占用的最大内存，默认{@link #DEFAULT_MEMORY_LIMIT}<br>
+	 * 超出此大小的条目不进入内存，直接在读取线程中写出
+	 *
+	 * @param memoryLimit 最大内存，单位字节
+	 * @return this
+	 * @since 5.8.31
+	 */
+	public ZipReader setMemoryLimit(final int memoryLimit) {
+		Assert.isTrue(memoryLimit >= 0, "Memory limit must be >= 0");
+		this.memoryLimit = memoryLimit;
+		return this;
+	}
+
 	/**
 	 * 获取指定路径的文件流<br>
 	 * 如果是文件模式，则直接获取Entry对应的流，如果是流模式，则遍历entry后，找到对应流返回
@@ -162,14 +203,7 @@ public class ZipReader implements Closeable {
 	public File readTo(File outFile, Filter<ZipEntry> entryFilter) throws IORuntimeException {
 		read((zipEntry) -> {
 			if (null == entryFilter || entryFilter.accept(zipEntry)) {
-				//gitee issue #I4ZDQI
-				String path = zipEntry.getName();
-				if (FileUtil.isWindows()) {
-					// Win系统下
-					path = StrUtil.replace(path, "*", "_");
-				}
-				// FileUtil.file会检查slip漏洞，漏洞说明见http://blog.nsfocus.net/zip-slip-2/
-				final File outItemFile = FileUtil.file(outFile, path);
+				final File outItemFile = getOutItemFile(outFile, zipEntry);
 				if (zipEntry.isDirectory()) {
 					// 目录
 					//noinspection ResultOfMethodCallIgnored
@@ -189,6 +223,38 @@ public class ZipReader implements Closeable {
 		return outFile;
 	}
 
+	/**
+	 * 使用多线程并行解压到指定目录中
+	 * <ul>
+	 *     <li>文件模式：各条目在多个线程中并行解压并写出</li>
+	 *     <li>流模式：条目数据在当前线程中按顺序读取并解压到内存，写出文件在多个线程中并行进行，
+	 *     等待写出的数据占用的内存不超过{@link #setMemoryLimit(int)}，超出时读取等待</li>
+	 * </ul>
+	 * 目录在当前线程中按顺序创建，任一条目解压失败时抛出该异常，已提交的其余条目不再写出。
+	 *
+	 * @param outFile     解压到的目录
+	 * @param entryFilter 过滤器，排除不需要的文件，{@code null}表示不过滤
+	 * @param parallelism 并行数，小于等于0表示使用CPU核数
+	 * @return 解压的目录
+	 * @throws IORuntimeException IO异常
+	 * @since 5.8.31
+	 */
+	public File readTo(File outFile, Filter<ZipEntry> entryFilter, int parallelism) throws IORuntimeException {
+		if (parallelism <= 0) {
+			parallelism = RuntimeUtil.getProcessorCount();
+		}
+		if (1 == parallelism) {
+			return readTo(outFile, entryFilter);
+		}
+
+		if (null != this.zipFile) {
+			readToFromZipFile(outFile, entryFilter, parallelism);
+		} else {
+			readToFromStream(outFile, entryFilter, parallelism);
+		}
+		return outFile;
+	}
+
 	/**
 	 * 读取并处理Zip文件中的每一个{@link ZipEntry}
 	 *
@@ -214,6 +280,161 @@ public class ZipReader implements Closeable {
 		}
 	}
 
+	/**
+	 * 获取条目解压后的文件
+	 *
+	 * @param outFile  解压到的目录
+	 * @param zipEntry {@link ZipEntry}
+	 * @return 解压后的文件
+	 */
+	private static File getOutItemFile(File outFile, ZipEntry zipEntry) {
+		//gitee issue #I4ZDQI
+		String path = zipEntry.getName();
+		if (FileUtil.isWindows()) {
+			// Win系统下
+			path = StrUtil.replace(path, "*", "_");
+		}
+		// FileUtil.file会检查slip漏洞，漏洞说明见http://blog.nsfocus.net/zip-slip-2/
+		return FileUtil.file(outFile, path);
+	}
+
+	/**
+	 * 文件模式下并行解压，各条目独立读取Zip文件，互不影响
+	 *
+	 * @param outFile     解压到的目录
+	 * @param entryFilter 过滤器
+	 * @param parallelism 并行数
+	 */
+	private void readToFromZipFile(File outFile, Filter<ZipEntry> entryFilter, int parallelism) {
+		final ZipFile zipFile = this.zipFile;
+		final List<Callable<Object>> tasks = new ArrayList<>();
+		readFromZipFile((zipEntry) -> {
+			if (null == entryFilter || entryFilter.accept(zipEntry)) {
+				final File outItemFile = getOutItemFile(outFile, zipEntry);
+				if (zipEntry.isDirectory()) {
+					//noinspection ResultOfMethodCallIgnored
+					outItemFile.mkdirs();
+				} else {
+					tasks.add(() -> {
+						FileUtil.writeFromStream(ZipUtil.getStream(zipFile, zipEntry), outItemFile, true);
+						return null;
+					});
+				}
+			}
+		});
+
+		try {
+			ThreadUtil.invokeAll(tasks, parallelism, 0, TimeUnit.NANOSECONDS);
+		} catch (ThreadException e) {
+			final Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * 流模式下并行解压，条目数据按顺序读取到内存后交给线程池写出
+	 *
+	 * @param outFile     解压到的目录
+	 * @param entryFilter 过滤器
+	 * @param parallelism 并行数
+	 */
+	private void readToFromStream(File outFile, Filter<ZipEntry> entryFilter, int parallelism) {
+		// 等待写出的条目数由内存限制约束，队列不限长度
+		final ExecutorService executor = ExecutorBuilder.create()
+				.setCorePoolSize(parallelism)
+				.setMaxPoolSize(parallelism)
+				.setWorkQueue(new LinkedBlockingQueue<>())
+				.build();
+		final Semaphore budget = new Semaphore(this.memoryLimit);
+		final Deque<Future<?>> futures = new ArrayDeque<>();
+		boolean success = false;
+		try {
+			readFromStream((zipEntry) -> {
+				// 尽早发现写出失败
+				while (false == futures.isEmpty() && futures.peek().isDone()) {
+					checkDone(futures.poll());
+				}
+				if (null != entryFilter && false == entryFilter.accept(zipEntry)) {
+					return;
+				}
+				final File outItemFile = getOutItemFile(outFile, zipEntry);
+				if (zipEntry.isDirectory()) {
+					//noinspection ResultOfMethodCallIgnored
+					outItemFile.mkdirs();
+					return;
+				}
+
+				final FastByteArrayOutputStream data = new FastByteArrayOutputStream();
+				IoUtil.copy(this.in, data, NioUtil.DEFAULT_BUFFER_SIZE, this.memoryLimit + 1L, null);
+				final int size = data.size();
+				if (size > this.memoryLimit) {
+					// 超出内存限制，直接写出已读取的部分和剩余部分
+					try (final OutputStream out = FileUtil.getOutputStream(outItemFile)) {
+						data.writeTo(out);
+						data.reset();
+						IoUtil.copy(this.in, out);
+					} catch (IOException e) {
+						throw new IORuntimeException(e);
+					}
+					return;
+				}
+
+				try {
+					budget.acquire(size);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new IORuntimeException(e);
+				}
+				futures.add(executor.submit(() -> {
+					try (final OutputStream out = FileUtil.getOutputStream(outItemFile)) {
+						data.writeTo(out);
+					} catch (IOException e) {
+						throw new IORuntimeException(e);
+					} finally {
+						data.reset();
+						budget.release(size);
+					}
+				}));
+			});
+			while (false == futures.isEmpty()) {
+				checkDone(futures.poll());
+			}
+			success = true;
+		} finally {
+			if (success) {
+				executor.shutdown();
+			} else {
+				for (Future<?> future : futures) {
+					future.cancel(true);
+				}
+				executor.shutdownNow();
+			}
+		}
+	}
+
+	/**
+	 * 等待写出任务完成，失败则抛出任务的异常
+	 *
+	 * @param future 写出任务
+	 */
+	private static void checkDone(Future<?> future) {
+		try {
+			future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IORuntimeException(e);
+		} catch (ExecutionException e) {
+			final Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			throw new IORuntimeException(cause);
+		}
+	}
+
 	/**
 	 * 读取并处理Zip文件中的每一个{@link ZipEntry}
 	 *
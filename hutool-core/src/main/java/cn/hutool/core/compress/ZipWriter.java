@@ -3,6 +3,7 @@ package cn.hutool.core.compress;
 import cn.hutool.core.io.FileUtil;
 import cn.hutool.core.io.IORuntimeException;
 import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.io.NioUtil;
 import cn.hutool.core.io.resource.Resource;
 import cn.hutool.core.util.ArrayUtil;
 import cn.hutool.core.util.StrUtil;
@@ -262,7 +263,8 @@ public class ZipWriter implements Closeable {
 			}
 
 			// 如果是文件或其它符号，则直接压缩该文件
-			putEntry(subPath, FileUtil.getInputStream(file));
+			// 不使用BufferedInputStream，以便拷贝时按照文件剩余长度确定缓存大小
+			putEntry(subPath, IoUtil.toStream(file));
 		}
 		return this;
 	}
@@ -279,7 +281,8 @@ public class ZipWriter implements Closeable {
 		try {
 			out.putNextEntry(new ZipEntry(path));
 			if (null != in) {
-				IoUtil.copy(in, out);
+				// 使用大缓存减少压缩器的调用次数，小文件按照剩余长度自动缩小缓存
+				IoUtil.copy(in, out, NioUtil.DEFAULT_LARGE_BUFFER_SIZE);
 			}
 			out.closeEntry();
 		} catch (IOException e) {
@@ -0,0 +1,447 @@
+package cn.hutool.core.date;
+
+import cn.hutool.core.date.format.FastDateFormat;
+import cn.hutool.core.util.SystemPropsUtil;
+
+import java.util.Calendar;
+import java.util.TimeZone;
+
+/**
+ * 日期字符串快速解析<br>
+ * 单次遍历识别最常见的几种格式，直接设置{@link Calendar}的字段，跳过正则匹配、规范化和{@link FastDateFormat}的逐策略解析：
+ * <ul>
+ *     <li>纯数字：yyyyMMdd、HHmmss、yyyyMMddHHmmss、yyyyMMddHHmmssSSS、13位毫秒时间戳</li>
+ *     <li>标准格式：yyyy-M-d、yyyy-M-d H:m、yyyy-M-d H:m:s、yyyy-M-d H:m:s.S（毫秒1~6位），日期分隔符可为-、/、.、年、月，时间分隔符可为:、时、分</li>
+ *     <li>中文格式：yyyy年M月d日 H时m分s秒</li>
+ *     <li>时间：H:m:s、H时m分s秒，日期为今天</li>
+ *     <li>ISO8601：yyyy-MM-dd'T'HH:mm、yyyy-MM-dd'T'HH:mm:ss[.S]，可带Z或+08:00、+0800、-08:00形式的时区偏移</li>
+ * </ul>
+ * 字段的设置顺序、时区、区域和宽松模式均与{@link DateUtil#parse(CharSequence)}原有规则对应格式的解析器一致，因此结果完全相同。
+ * 其它格式（如RFC2822）返回{@code null}，由{@link DateUtil#parse(CharSequence)}按照原有规则识别。
+ *
+ * @author looly
+ * @since 5.8.31
+ */
+final class DateStrScanner {
+
+	/**
+	 * 表示字段未设置
+	 */
+	private static final int NONE = -1;
+
+	/**
+	 * 解析日期字符串
+	 *
+	 * @param str 日期字符串，非空白
+	 * @return {@link DateTime}，不是支持的格式返回{@code null}
+	 * @throws DateException 非宽松模式下字段超出范围
+	 */
+	static DateTime parse(CharSequence str) throws DateException {
+		try {
+			return scan(str);
+		} catch (IllegalArgumentException e) {
+			// 非宽松模式下字段超出范围时Calendar抛出此异常，与其它解析方式保持一致
+			throw new DateException(e, "Parse [{}] error!", str);
+		}
+	}
+
+	/**
+	 * 扫描并解析日期字符串
+	 *
+	 * @param str 日期字符串，非空白
+	 * @return {@link DateTime}，不是支持的格式返回{@code null}
+	 */
+	private static DateTime scan(CharSequence str) {
+		// 与String.trim()规则一致
+		int start = 0;
+		int end = str.length();
+		while (start < end && str.charAt(start) <= ' ') {
+			start++;
+		}
+		while (end > start && str.charAt(end - 1) <= ' ') {
+			end--;
+		}
+
+		int pos = skipDigits(str, start, end);
+		if (pos == end) {
+			return parsePure(str, start, end);
+		}
+		char c = str.charAt(pos);
+		if (pos > start && pos - start <= 2 && (':' == c || '时' == c)) {
+			return parseTimeToday(str, start, end);
+		}
+
+		// yyyy-M-d
+		if (pos - start != 4 || false == isDateSeparator(c)) {
+			return null;
+		}
+		boolean iso = '-' == c;
+		final int year = toInt(str, start, pos);
+		int from = pos + 1;
+		pos = skipDigits(str, from, end);
+		if (pos - from < 1 || pos - from > 2 || pos == end || false == isDateSeparator(c = str.charAt(pos))) {
+			return null;
+		}
+		final int month = toInt(str, from, pos);
+		iso &= ('-' == c && pos - from == 2);
+		from = pos + 1;
+		pos = skipDigits(str, from, end);
+		if (pos - from < 1 || pos - from > 2) {
+			return null;
+		}
+		final int day = toInt(str, from, pos);
+		iso &= pos - from == 2;
+		if (pos < end && '日' == str.charAt(pos)) {
+			iso = false;
+			pos++;
+		}
+		if (pos == end) {
+			return toDateTime(newCalendar(DatePattern.NORM_DATE_FORMAT, year, month, day, NONE, NONE, NONE, NONE));
+		}
+
+		c = str.charAt(pos);
+		if (' ' == c) {
+			return parseNormTime(str, pos + 1, end, year, month, day);
+		} else if ('T' == c && iso) {
+			return parseIsoTime(str, pos + 1, end, year, month, day);
+		}
+		return null;
+	}
+
+	// ------------------------------------------------------------------------------------------------------------------ Private method start
+
+	/**
+	 * 解析纯数字，长度规则与{@link DateUtil#parse(CharSequence)}一致
+	 *
+	 * @param str   字符串
+	 * @param start 开始位置
+	 * @param end   结束位置
+	 * @return {@link DateTime}，长度不匹配返回{@code null}
+	 */
+	private static DateTime parsePure(CharSequence str, int start, int end) {
+		final Calendar calendar;
+		switch (end - start) {
+			case 8:
+				// yyyyMMdd
+				calendar = newCalendar(DatePattern.PURE_DATE_FORMAT, toInt(str, start, start + 4), toInt(str, start + 4, start + 6),
+						toInt(str, start + 6, start + 8), NONE, NONE, NONE, NONE);
+				break;
+			case 6:
+				// HHmmss
+				calendar = newCalendar(DatePattern.PURE_TIME_FORMAT, NONE, NONE, NONE,
+						toInt(str, start, start + 2), toInt(str, start + 2, start + 4), toInt(str, start + 4, start + 6), NONE);
+				break;
+			case 14:
+			case 17:
+				// yyyyMMddHHmmss[SSS]
+				final boolean withMs = end - start == 17;
+				calendar = newCalendar(withMs ? DatePattern.PURE_DATETIME_MS_FORMAT : DatePattern.PURE_DATETIME_FORMAT,
+						toInt(str, start, start + 4), toInt(str, start + 4, start + 6), toInt(str, start + 6, start + 8),
+						toInt(str, start + 8, start + 10), toInt(str, start + 10, start + 12), toInt(str, start + 12, start + 14),
+						withMs ? toInt(str, start + 14, start + 17) : NONE);
+				break;
+			case 13:
+				// 时间戳
+				return DateUtil.date(Long.parseLong(str.subSequence(start, end).toString()));
+			default:
+				return null;
+		}
+		return toDateTime(calendar);
+	}
+
+	/**
+	 * 解析H:m:s或H时m分s秒形式的时间，日期为今天，规则与{@link DateUtil#parseTimeToday(CharSequence)}一致<br>
+	 * H:m形式的时间返回{@code null}
+	 *
+	 * @param str   字符串
+	 * @param start 开始位置
+	 * @param end   结束位置
+	 * @return {@link DateTime}，格式不匹配返回{@code null}
+	 */
+	private static DateTime parseTimeToday(CharSequence str, int start, int end) {
+		int pos = skipDigits(str, start, end);
+		final int hour = toInt(str, start, pos);
+		int from = pos + 1;
+		pos = skipDigits(str, from, end);
+		if (pos - from < 1 || pos - from > 2 || pos == end) {
+			return null;
+		}
+		final int minute = toInt(str, from, pos);
+		char c = str.charAt(pos);
+		if (':' != c && '分' != c) {
+			return null;
+		}
+		from = pos + 1;
+		pos = skipDigits(str, from, end);
+		if (pos - from < 1 || pos - from > 2) {
+			return null;
+		}
+		final int second = toInt(str, from, pos);
+		if (pos < end && '秒' == str.charAt(pos)) {
+			pos++;
+		}
+		if (pos != end) {
+			return null;
+		}
+
+		// 今天的日期，与DateUtil.today()使用相同的时区和区域
+		final FastDateFormat dateFormat = DatePattern.NORM_DATE_FORMAT;
+		final Calendar today = Calendar.getInstance(dateFormat.getTimeZone(), dateFormat.getLocale());
+		return toDateTime(newCalendar(DatePattern.NORM_DATETIME_FORMAT, today.get(Calendar.YEAR),
+				today.get(Calendar.MONTH) + 1, today.get(Calendar.DAY_OF_MONTH), hour, minute, second, NONE));
+	}
+
+	/**
+	 * 解析标准格式的时间部分：H:m、H:m:s、H:m:s.S，分隔符可为:、时、分，毫秒分隔符可为.或,
+	 *
+	 * @param str   字符串
+	 * @param pos   时间部分开始位置
+	 * @param end   结束位置
+	 * @param year  年
+	 * @param month 月
+	 * @param day   日
+	 * @return {@link DateTime}，格式不匹配返回{@code null}
+	 */
+	private static DateTime parseNormTime(CharSequence str, int pos, int end, int year, int month, int day) {
+		int from = pos;
+		pos = skipDigits(str, from, end);
+		if (pos - from < 1 || pos - from > 2 || pos == end || false == isTimeSeparator(str.charAt(pos))) {
+			return null;
+		}
+		final int hour = toInt(str, from, pos);
+		from = pos + 1;
+		pos = skipDigits(str, from, end);
+		if (pos - from < 1 || pos - from > 2) {
+			return null;
+		}
+		final int minute = toInt(str, from, pos);
+		if (pos == end || (pos + 1 == end && isTimeSeparator(str.charAt(pos)))) {
+			// 末尾的分隔符被忽略，如12时30分
+			return toDateTime(newCalendar(DatePattern.NORM_DATETIME_MINUTE_FORMAT, year, month, day, hour, minute, NONE, NONE));
+		}
+		if (false == isTimeSeparator(str.charAt(pos))) {
+			return null;
+		}
+		from = pos + 1;
+		pos = skipDigits(str, from, end);
+		if (pos - from < 1 || pos - from > 2) {
+			return null;
+		}
+		final int second = toInt(str, from, pos);
+		if (pos < end && '秒' == str.charAt(pos)) {
+			pos++;
+		}
+		if (pos == end) {
+			return toDateTime(newCalendar(DatePattern.NORM_DATETIME_FORMAT, year, month, day, hour, minute, second, NONE));
+		}
+		final char c = str.charAt(pos);
+		if ('.' != c && ',' != c) {
+			return null;
+		}
+		from = pos + 1;
+		pos = skipDigits(str, from, end);
+		final int count = pos - from;
+		if (pos < end && '秒' == str.charAt(pos)) {
+			pos++;
+		}
+		if (pos != end || count < 1 || count > 6) {
+			return null;
+		}
+		// 超出3位的部分截断
+		return toDateTime(newCalendar(DatePattern.NORM_DATETIME_MS_FORMAT, year, month, day, hour, minute, second,
+				toInt(str, from, from + Math.min(count, 3))));
+	}
+
+	/**
+	 * 解析ISO8601格式的时间部分：HH:mm、HH:mm:ss、HH:mm:ss.S，可带Z或时区偏移，规则与{@link DateUtil#parseUTC(String)}一致
+	 *
+	 * @param str   字符串
+	 * @param pos   时间部分开始位置，即T之后
+	 * @param end   结束位置
+	 * @param year  年
+	 * @param month 月
+	 * @param day   日
+	 * @return {@link DateTime}，格式不匹配返回{@code null}
+	 */
+	private static DateTime parseIsoTime(CharSequence str, int pos, int end, int year, int month, int day) {
+		if (end - pos < 5 || false == isTwoDigits(str, pos) || ':' != str.charAt(pos + 2) || false == isTwoDigits(str, pos + 3)) {
+			return null;
+		}
+		final int hour = toInt(str, pos, pos + 2);
+		final int minute = toInt(str, pos + 3, pos + 5);
+		pos += 5;
+		if (pos == end) {
+			// 补充秒后按照yyyy-MM-dd'T'HH:mm:ss解析
+			return toDateTime(newCalendar(DatePattern.UTC_SIMPLE_FORMAT, year, month, day, hour, minute, 0, NONE));
+		}
+		if (end - pos < 3 || ':' != str.charAt(pos) || false == isTwoDigits(str, pos + 1)) {
+			return null;
+		}
+		final int second = toInt(str, pos + 1, pos + 3);
+		pos += 3;
+		if (pos == end) {
+			return toDateTime(newCalendar(DatePattern.UTC_SIMPLE_FORMAT, year, month, day, hour, minute, second, NONE));
+		}
+
+		int millis = NONE;
+		int count = 0;
+		if ('.' == str.charAt(pos)) {
+			final int from = pos + 1;
+			pos = skipDigits(str, from, end);
+			count = pos - from;
+			if (count < 1) {
+				return null;
+			}
+			if (pos == end) {
+				// 超出3位的部分截断
+				return toDateTime(newCalendar(DatePattern.UTC_SIMPLE_MS_FORMAT, year, month, day, hour, minute, second,
+						toInt(str, from, from + Math.min(count, 3))));
+			}
+			// 带Z的格式毫秒不截断，其它格式截断为3位
+			millis = toInt(str, from, from + ('Z' == str.charAt(pos) ? Math.min(count, 9) : Math.min(count, 3)));
+		}
+
+		final char sign = str.charAt(pos);
+		if ('Z' == sign) {
+			if (pos + 1 != end || count > 7) {
+				return null;
+			}
+			return toDateTime(newCalendar(NONE == millis ? DatePattern.UTC_FORMAT : DatePattern.UTC_MS_FORMAT,
+					year, month, day, hour, minute, second, millis));
+		}
+		if ('+' != sign && '-' != sign) {
+			return null;
+		}
+
+		// 时区偏移，+HH:mm、+HHmm、+HH的分钟部分被规范为00，-HH:00、-HH00
+		final int offsetLength = end - pos - 1;
+		if (offsetLength < 2 || false == isTwoDigits(str, pos + 1)) {
+			return null;
+		}
+		final String offset;
+		if (5 == offsetLength && ':' == str.charAt(pos + 3) && isTwoDigits(str, pos + 4)
+				&& ('+' == sign || ('0' == str.charAt(pos + 4) && '0' == str.charAt(pos + 5)))) {
+			offset = str.subSequence(pos, end).toString();
+		} else if ((4 == offsetLength && isTwoDigits(str, pos + 3) && ('+' == sign || ('0' == str.charAt(pos + 3) && '0' == str.charAt(pos + 4))))
+				|| (2 == offsetLength && '+' == sign)) {
+			offset = str.subSequence(pos, pos + 3) + ":00";
+		} else {
+			return null;
+		}
+		final Calendar calendar = newCalendar(NONE == millis ? DatePattern.UTC_WITH_XXX_OFFSET_FORMAT : DatePattern.UTC_MS_WITH_XXX_OFFSET_FORMAT,
+				year, month, day, hour, minute, second, millis);
+		calendar.setTimeZone(TimeZone.getTimeZone("GMT" + offset));
+		return toDateTime(calendar);
+	}
+
+	/**
+	 * 使用与解析器相同的时区、区域和宽松模式创建{@link Calendar}，按照解析器的顺序设置字段，未设置的字段保持清空状态
+	 *
+	 * @param format 对应格式的解析器
+	 * @param year   年，{@link #NONE}表示不设置
+	 * @param month  月，从1开始
+	 * @param day    日
+	 * @param hour   时，{@link #NONE}表示不设置
+	 * @param minute 分
+	 * @param second 秒，{@link #NONE}表示不设置
+	 * @param millis 毫秒，{@link #NONE}表示不设置
+	 * @return {@link Calendar}
+	 */
+	private static Calendar newCalendar(FastDateFormat format, int year, int month, int day, int hour, int minute, int second, int millis) {
+		final Calendar calendar = Calendar.getInstance(format.getTimeZone(), format.getLocale());
+		calendar.clear();
+		calendar.setLenient(SystemPropsUtil.getBoolean(SystemPropsUtil.HUTOOL_DATE_LENIENT, true));
+		if (NONE != year) {
+			calendar.set(Calendar.YEAR, year);
+			calendar.set(Calendar.MONTH, month - 1);
+			calendar.set(Calendar.DAY_OF_MONTH, day);
+		}
+		if (NONE != hour) {
+			calendar.set(Calendar.HOUR_OF_DAY, hour);
+			calendar.set(Calendar.MINUTE, minute);
+		}
+		if (NONE != second) {
+			calendar.set(Calendar.SECOND, second);
+		}
+		if (NONE != millis) {
+			calendar.set(Calendar.MILLISECOND, millis);
+		}
+		return calendar;
+	}
+
+	/**
+	 * 与{@link DateTime#DateTime(CharSequence, cn.hutool.core.date.format.DateParser)}相同，周一作为一周的第一天
+	 *
+	 * @param calendar {@link Calendar}
+	 * @return {@link DateTime}
+	 */
+	private static DateTime toDateTime(Calendar calendar) {
+		//noinspection MagicConstant
+		calendar.setFirstDayOfWeek(Week.MONDAY.getValue());
+		return new DateTime(calendar);
+	}
+
+	/**
+	 * 是否为日期分隔符，这些分隔符在规范化时都被替换为-
+	 *
+	 * @param c 字符
+	 * @return 是否为日期分隔符
+	 */
+	private static boolean isDateSeparator(char c) {
+		return '-' == c || '/' == c || '.' == c || '年' == c || '月' == c;
+	}
+
+	/**
+	 * 是否为时间分隔符，这些分隔符在规范化时都被替换为:
+	 *
+	 * @param c 字符
+	 * @return 是否为时间分隔符
+	 */
+	private static boolean isTimeSeparator(char c) {
+		return ':' == c || '时' == c || '分' == c;
+	}
+
+	/**
+	 * 跳过ASCII数字
+	 *
+	 * @param str  字符串
+	 * @param from 开始位置
+	 * @param end  结束位置
+	 * @return 第一个非数字字符的位置，全部为数字返回end
+	 */
+	private static int skipDigits(CharSequence str, int from, int end) {
+		char c;
+		while (from < end && (c = str.charAt(from)) >= '0' && c <= '9') {
+			from++;
+		}
+		return from;
+	}
+
+	/**
+	 * 指定位置开始的两个字符是否都为ASCII数字，调用方保证不越界
+	 *
+	 * @param str  字符串
+	 * @param from 开始位置
+	 * @return 是否都为数字
+	 */
+	private static boolean isTwoDigits(CharSequence str, int from) {
+		return skipDigits(str, from, from + 2) == from + 2;
+	}
+
+	/**
+	 * 将ASCII数字转为int，调用方保证全部为数字且不超过9位
+	 *
+	 * @param str  字符串
+	 * @param from 开始位置
+	 * @param to   结束位置（不包括）
+	 * @return int值
+	 */
+	private static int toInt(CharSequence str, int from, int to) {
+		int result = 0;
+		for (int i = from; i < to; i++) {
+			result = result * 10 + (str.charAt(i) - '0');
+		}
+		return result;
+	}
+	// ------------------------------------------------------------------------------------------------------------------ Private method end
+}
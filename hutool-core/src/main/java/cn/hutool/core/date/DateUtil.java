@@ -996,7 +996,22 @@ public class DateUtil extends CalendarUtil {
 		if (StrUtil.isBlank(dateCharSequence)) {
 			return null;
 		}
-		String dateStr = dateCharSequence.toString();
+		// 常见的标准格式单次遍历直接解析
+		final DateTime dateTime = DateStrScanner.parse(dateCharSequence);
+		if (null != dateTime) {
+			return dateTime;
+		}
+		return parseByDetect(dateCharSequence.toString());
+	}
+
+	/**
+	 * 逐个判断格式并解析日期字符串，规则见{@link #parse(CharSequence)}<br>
+	 * {@link DateStrScanner}不支持的格式使用此方法解析
+	 *
+	 * @param dateStr 日期字符串，非空白
+	 * @return 日期
+	 */
+	static DateTime parseByDetect(String dateStr) {
 		// 去掉两边空格并去掉中文日期中的“日”和“秒”，以规范长度
 		dateStr = StrUtil.removeAll(dateStr.trim(), '日', '秒');
 		int length = dateStr.length();
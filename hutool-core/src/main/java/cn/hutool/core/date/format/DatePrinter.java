@@ -1,5 +1,6 @@
 package cn.hutool.core.date.format;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Calendar;
 import java.util.Date;
 
@@ -75,4 +76,45 @@ public interface DatePrinter extends DateBasic {
 	 * @return the specified string buffer
 	 */
 	<B extends Appendable> B format(Calendar calendar, B buf);
+
+	/**
+	 * 格式化日期表示的毫秒数，结果写入给定的char数组<br>
+	 * 适用于日志、CSV等需要大量输出日期的场景，实现类可以避免创建中间对象
+	 *
+	 * @param millis 日期毫秒数
+	 * @param chars  目标数组
+	 * @param offset 写入的开始位置
+	 * @return 写入的字符数
+	 * @throws IndexOutOfBoundsException 数组剩余空间不足
+	 * @since 5.8.31
+	 */
+	default int format(long millis, char[] chars, int offset) {
+		final String result = format(millis);
+		final int length = result.length();
+		if (offset < 0 || offset + length > chars.length) {
+			throw new IndexOutOfBoundsException("Not enough space, need " + length + " chars from offset " + offset);
+		}
+		result.getChars(0, length, chars, offset);
+		return length;
+	}
+
+	/**
+	 * 格式化日期表示的毫秒数，结果以UTF-8编码写入给定的byte数组<br>
+	 * 适用于日志、CSV等需要大量输出日期的场景，实现类可以避免创建中间对象
+	 *
+	 * @param millis 日期毫秒数
+	 * @param bytes  目标数组
+	 * @param offset 写入的开始位置
+	 * @return 写入的字节数
+	 * @throws IndexOutOfBoundsException 数组剩余空间不足
+	 * @since 5.8.31
+	 */
+	default int format(long millis, byte[] bytes, int offset) {
+		final byte[] result = format(millis).getBytes(StandardCharsets.UTF_8);
+		if (offset < 0 || offset + result.length > bytes.length) {
+			throw new IndexOutOfBoundsException("Not enough space, need " + result.length + " bytes from offset " + offset);
+		}
+		System.arraycopy(result, 0, bytes, offset, result.length);
+		return result.length;
+	}
 }
@@ -328,6 +328,16 @@ public class FastDateFormat extends Format implements DateParser, DatePrinter {
 		return printer.format(calendar, buf);
 	}
 
+	@Override
+	public int format(final long millis, final char[] chars, final int offset) {
+		return printer.format(millis, chars, offset);
+	}
+
+	@Override
+	public int format(final long millis, final byte[] bytes, final int offset) {
+		return printer.format(millis, bytes, offset);
+	}
+
 	// ----------------------------------------------------------------------- Parsing
 	@Override
 	public Date parse(final String source) throws ParseException {
@@ -9,6 +9,7 @@ import java.text.DateFormatSymbols;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.GregorianCalendar;
 import java.util.List;
 import java.util.Locale;
 import java.util.TimeZone;
@@ -23,6 +24,24 @@ import java.util.concurrent.ConcurrentMap;
 public class FastDatePrinter extends AbstractDateBasic implements DatePrinter {
 	private static final long serialVersionUID = -6305750172255764887L;
 
+	private static final long MILLIS_PER_DAY = 86400000L;
+	/**
+	 * 直接格式化支持的最小毫秒数，即1600-01-01，留出一天用于时区偏移
+	 */
+	private static final long DIRECT_MIN_MILLIS = -11676096000000L + MILLIS_PER_DAY;
+	/**
+	 * 直接格式化支持的最大毫秒数，即10000-01-01，留出一天用于时区偏移
+	 */
+	private static final long DIRECT_MAX_MILLIS = 253402300800000L - MILLIS_PER_DAY;
+	/**
+	 * 直接格式化的文本规则
+	 */
+	private static final int DIRECT_LITERAL = -1;
+	/**
+	 * 直接格式化的两位年规则
+	 */
+	private static final int DIRECT_YEAR_OF_CENTURY = -2;
+
 	/**
 	 * 规则列表.
 	 */
@@ -31,6 +50,18 @@ public class FastDatePrinter extends AbstractDateBasic implements DatePrinter {
 	 * 估算最大长度.
 	 */
 	private transient int mMaxLengthEstimate;
+	/**
+	 * 直接计算字段时每个规则对应的字段，{@code null}表示不支持直接计算，见{@link #initDirect()}
+	 */
+	private transient int[] directFields;
+	/**
+	 * 毫秒规则是否都为定长，定长时同一秒内只需替换毫秒部分
+	 */
+	private transient boolean directBySecond;
+	/**
+	 * 每个线程最近一次直接格式化的结果
+	 */
+	private transient ThreadLocal<DirectCache> directCache;
 
 	// Constructor
 	// -----------------------------------------------------------------------
@@ -60,6 +91,70 @@ public class FastDatePrinter extends AbstractDateBasic implements DatePrinter {
 		}
 
 		mMaxLengthEstimate = len;
+		initDirect();
+	}
+
+	/**
+	 * 初始化直接计算字段的格式化<br>
+	 * 时区和区域对应的日历为{@link GregorianCalendar}，且格式只包含年（yyyy或yy）、数字月、日、时（H）、分、秒、毫秒和文本时，
+	 * 可以直接由毫秒数计算字段，无需创建{@link Calendar}
+	 */
+	private void initDirect() {
+		this.directFields = null;
+		this.directCache = null;
+		if (GregorianCalendar.class != Calendar.getInstance(timeZone, locale).getClass()) {
+			return;
+		}
+
+		final int[] fields = new int[rules.length];
+		boolean bySecond = true;
+		int millisCount = 0;
+		Rule rule;
+		int field;
+		for (int i = 0; i < rules.length; i++) {
+			rule = rules[i];
+			if (rule instanceof CharacterLiteral || rule instanceof StringLiteral) {
+				field = DIRECT_LITERAL;
+			} else if (rule instanceof TwoDigitYearField) {
+				field = DIRECT_YEAR_OF_CENTURY;
+			} else if (rule instanceof TwoDigitMonthField || rule instanceof UnpaddedMonthField) {
+				field = Calendar.MONTH;
+			} else if (rule instanceof PaddedNumberField) {
+				field = ((PaddedNumberField) rule).mField;
+			} else if (rule instanceof TwoDigitNumberField) {
+				field = ((TwoDigitNumberField) rule).mField;
+				bySecond &= Calendar.MILLISECOND != field;
+			} else if (rule instanceof UnpaddedNumberField) {
+				field = ((UnpaddedNumberField) rule).mField;
+				bySecond &= Calendar.MILLISECOND != field;
+			} else {
+				return;
+			}
+			switch (field) {
+				case Calendar.MILLISECOND:
+					millisCount++;
+					break;
+				case DIRECT_LITERAL:
+				case DIRECT_YEAR_OF_CENTURY:
+				case Calendar.YEAR:
+				case Calendar.MONTH:
+				case Calendar.DAY_OF_MONTH:
+				case Calendar.HOUR_OF_DAY:
+				case Calendar.MINUTE:
+				case Calendar.SECOND:
+					break;
+				default:
+					// 其它字段需要日历规则计算，如星期、12小时制等
+					return;
+			}
+			fields[i] = field;
+		}
+
+		this.directFields = fields;
+		this.directBySecond = bySecond;
+		final int capacity = mMaxLengthEstimate;
+		final int cachedMillisCount = bySecond ? millisCount : 0;
+		this.directCache = ThreadLocal.withInitial(() -> new DirectCache(capacity, cachedMillisCount));
 	}
 
 	// Parse the pattern
@@ -313,6 +408,9 @@ public class FastDatePrinter extends AbstractDateBasic implements DatePrinter {
 
 	@Override
 	public String format(long millis) {
+		if (isDirect(millis)) {
+			return formatDirect(millis).toString();
+		}
 		final Calendar c = Calendar.getInstance(timeZone, locale);
 		c.setTimeInMillis(millis);
 		return applyRulesToString(c);
@@ -320,6 +418,10 @@ public class FastDatePrinter extends AbstractDateBasic implements DatePrinter {
 
 	@Override
 	public String format(Date date) {
+		final long millis = date.getTime();
+		if (isDirect(millis)) {
+			return formatDirect(millis).toString();
+		}
 		final Calendar c = Calendar.getInstance(timeZone, locale);
 		c.setTime(date);
 		return applyRulesToString(c);
@@ -332,6 +434,9 @@ public class FastDatePrinter extends AbstractDateBasic implements DatePrinter {
 
 	@Override
 	public <B extends Appendable> B format(long millis, B buf) {
+		if (isDirect(millis)) {
+			return appendDirect(millis, buf);
+		}
 		final Calendar c = Calendar.getInstance(timeZone, locale);
 		c.setTimeInMillis(millis);
 		return applyRules(c, buf);
@@ -339,11 +444,63 @@ public class FastDatePrinter extends AbstractDateBasic implements DatePrinter {
 
 	@Override
 	public <B extends Appendable> B format(Date date, B buf) {
+		final long millis = date.getTime();
+		if (isDirect(millis)) {
+			return appendDirect(millis, buf);
+		}
 		final Calendar c = Calendar.getInstance(timeZone, locale);
 		c.setTime(date);
 		return applyRules(c, buf);
 	}
 
+	@Override
+	public int format(long millis, char[] chars, int offset) {
+		final CharSequence result = isDirect(millis) ? formatDirect(millis) : format(millis);
+		final int length = result.length();
+		if (offset < 0 || offset + length > chars.length) {
+			throw new IndexOutOfBoundsException("Not enough space, need " + length + " chars from offset " + offset);
+		}
+		if (result instanceof StringBuilder) {
+			((StringBuilder) result).getChars(0, length, chars, offset);
+		} else {
+			((String) result).getChars(0, length, chars, offset);
+		}
+		return length;
+	}
+
+	@Override
+	public int format(long millis, byte[] bytes, int offset) {
+		final CharSequence result = isDirect(millis) ? formatDirect(millis) : format(millis);
+		final int length = utf8Length(result);
+		if (offset < 0 || offset + length > bytes.length) {
+			throw new IndexOutOfBoundsException("Not enough space, need " + length + " bytes from offset " + offset);
+		}
+		char c;
+		for (int i = 0; i < result.length(); i++) {
+			c = result.charAt(i);
+			if (c < 0x80) {
+				bytes[offset++] = (byte) c;
+			} else if (c < 0x800) {
+				bytes[offset++] = (byte) (0xC0 | (c >> 6));
+				bytes[offset++] = (byte) (0x80 | (c & 0x3F));
+			} else if (Character.isHighSurrogate(c) && i + 1 < result.length() && Character.isLowSurrogate(result.charAt(i + 1))) {
+				final int codePoint = Character.toCodePoint(c, result.charAt(++i));
+				bytes[offset++] = (byte) (0xF0 | (codePoint >> 18));
+				bytes[offset++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+				bytes[offset++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+				bytes[offset++] = (byte) (0x80 | (codePoint & 0x3F));
+			} else if (Character.isSurrogate(c)) {
+				// 不成对的代理字符，与String.getBytes一致替换为?
+				bytes[offset++] = '?';
+			} else {
+				bytes[offset++] = (byte) (0xE0 | (c >> 12));
+				bytes[offset++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+				bytes[offset++] = (byte) (0x80 | (c & 0x3F));
+			}
+		}
+		return length;
+	}
+
 	@Override
 	public <B extends Appendable> B format(Calendar calendar, B buf) {
 		// do not pass in calendar directly, this will cause TimeZone of FastDatePrinter to be ignored
@@ -385,6 +542,147 @@ public class FastDatePrinter extends AbstractDateBasic implements DatePrinter {
 		return buf;
 	}
 
+	/**
+	 * 是否可以直接由毫秒数计算字段格式化，年份限定在1600~9999之间，避开儒略历切换等特殊情况
+	 *
+	 * @param millis 毫秒数
+	 * @return 是否可以直接格式化
+	 */
+	private boolean isDirect(long millis) {
+		return null != directFields && millis > DIRECT_MIN_MILLIS && millis < DIRECT_MAX_MILLIS;
+	}
+
+	/**
+	 * 直接计算字段并格式化，同一线程同一秒（毫秒规则不定长时为同一毫秒）内复用上一次的结果<br>
+	 * 返回的{@link StringBuilder}为线程内缓存，只能在下一次格式化前读取
+	 *
+	 * @param millis 毫秒数
+	 * @return 格式化结果
+	 */
+	private StringBuilder formatDirect(long millis) {
+		final DirectCache cache = directCache.get();
+		final StringBuilder buf = cache.buf;
+		final int millisOfSecond = (int) Math.floorMod(millis, 1000L);
+		final long key = directBySecond ? Math.floorDiv(millis, 1000L) : millis;
+		if (key == cache.key) {
+			if (millisOfSecond != cache.millis) {
+				// 只替换定长毫秒部分的最后3位，其余为补位的0
+				for (int end : cache.millisEnds) {
+					buf.setCharAt(end - 3, (char) ('0' + millisOfSecond / 100));
+					buf.setCharAt(end - 2, (char) ('0' + millisOfSecond / 10 % 10));
+					buf.setCharAt(end - 1, (char) ('0' + millisOfSecond % 10));
+				}
+				cache.millis = millisOfSecond;
+			}
+			return buf;
+		}
+
+		// 本地时间的天数和天内毫秒数，时区偏移每秒只计算一次
+		final long localMillis = millis + timeZone.getOffset(millis);
+		final long epochDay = Math.floorDiv(localMillis, MILLIS_PER_DAY);
+		final int millisOfDay = (int) Math.floorMod(localMillis, MILLIS_PER_DAY);
+
+		// 天数转为公历年月日，算法见：http://howardhinnant.github.io/date_algorithms.html#civil_from_days
+		final long shifted = epochDay + 719468;
+		final long era = (shifted >= 0 ? shifted : shifted - 146096) / 146097;
+		final int dayOfEra = (int) (shifted - era * 146097);
+		final int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+		final int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+		final int monthIndex = (5 * dayOfYear + 2) / 153;
+		final int day = dayOfYear - (153 * monthIndex + 2) / 5 + 1;
+		final int month = monthIndex < 10 ? monthIndex + 3 : monthIndex - 9;
+		final int year = (int) (yearOfEra + era * 400) + (month <= 2 ? 1 : 0);
+
+		buf.setLength(0);
+		int millisIndex = 0;
+		try {
+			for (int i = 0; i < rules.length; i++) {
+				switch (directFields[i]) {
+					case DIRECT_LITERAL:
+						rules[i].appendTo(buf, null);
+						break;
+					case DIRECT_YEAR_OF_CENTURY:
+						((NumberRule) rules[i]).appendTo(buf, year % 100);
+						break;
+					case Calendar.YEAR:
+						((NumberRule) rules[i]).appendTo(buf, year);
+						break;
+					case Calendar.MONTH:
+						((NumberRule) rules[i]).appendTo(buf, month);
+						break;
+					case Calendar.DAY_OF_MONTH:
+						((NumberRule) rules[i]).appendTo(buf, day);
+						break;
+					case Calendar.HOUR_OF_DAY:
+						((NumberRule) rules[i]).appendTo(buf, millisOfDay / 3600000);
+						break;
+					case Calendar.MINUTE:
+						((NumberRule) rules[i]).appendTo(buf, millisOfDay / 60000 % 60);
+						break;
+					case Calendar.SECOND:
+						((NumberRule) rules[i]).appendTo(buf, millisOfDay / 1000 % 60);
+						break;
+					default:
+						// 毫秒
+						((NumberRule) rules[i]).appendTo(buf, millisOfSecond);
+						if (directBySecond) {
+							cache.millisEnds[millisIndex++] = buf.length();
+						}
+				}
+			}
+		} catch (final IOException e) {
+			// StringBuilder不会抛出IO异常
+			throw new DateException(e);
+		}
+		cache.key = key;
+		cache.millis = millisOfSecond;
+		return buf;
+	}
+
+	/**
+	 * 直接格式化并追加到{@link Appendable}
+	 *
+	 * @param millis 毫秒数
+	 * @param buf    {@link Appendable}
+	 * @param <B>    Appendable类型
+	 * @return buf
+	 */
+	private <B extends Appendable> B appendDirect(long millis, B buf) {
+		try {
+			buf.append(formatDirect(millis));
+		} catch (final IOException e) {
+			throw new DateException(e);
+		}
+		return buf;
+	}
+
+	/**
+	 * 计算字符串UTF-8编码后的长度，不成对的代理字符按照1个字节计算
+	 *
+	 * @param str 字符串
+	 * @return 字节长度
+	 */
+	private static int utf8Length(CharSequence str) {
+		int length = 0;
+		char c;
+		for (int i = 0; i < str.length(); i++) {
+			c = str.charAt(i);
+			if (c < 0x80) {
+				length++;
+			} else if (c < 0x800) {
+				length += 2;
+			} else if (Character.isHighSurrogate(c) && i + 1 < str.length() && Character.isLowSurrogate(str.charAt(i + 1))) {
+				length += 4;
+				i++;
+			} else if (Character.isSurrogate(c)) {
+				length++;
+			} else {
+				length += 3;
+			}
+		}
+		return length;
+	}
+
 	/**
 	 * 估算生成的日期字符串长度<br>
 	 * 实际生成的字符串长度小于或等于此值
@@ -498,6 +796,33 @@ public class FastDatePrinter extends AbstractDateBasic implements DatePrinter {
 	// Rules
 	// -----------------------------------------------------------------------
 
+	/**
+	 * 线程内缓存的直接格式化结果
+	 */
+	private static class DirectCache {
+		/**
+		 * 格式化结果
+		 */
+		final StringBuilder buf;
+		/**
+		 * 定长毫秒规则在结果中的结束位置
+		 */
+		final int[] millisEnds;
+		/**
+		 * 结果对应的秒数（毫秒规则不定长时为毫秒数）
+		 */
+		long key = Long.MIN_VALUE;
+		/**
+		 * 结果中的毫秒值
+		 */
+		int millis;
+
+		DirectCache(int capacity, int millisCount) {
+			this.buf = new StringBuilder(capacity);
+			this.millisEnds = new int[millisCount];
+		}
+	}
+
 	/**
 	 * 规则
 	 */
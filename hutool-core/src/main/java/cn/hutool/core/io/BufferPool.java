@@ -0,0 +1,318 @@
+package cn.hutool.core.io;
+
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.text.StrBuilder;
+
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
+
+/**
+ * 数组缓冲池，复用byte[]和char[]缓冲区，减少频繁分配和丢弃大数组带来的GC压力<br>
+ * 缓冲区按照2的幂分级，从{@link #MIN_POOLED_LENGTH}到{@link #MAX_POOLED_LENGTH}个元素，借出时长度向上取整到所在级别，
+ * 超出范围的长度直接分配，不入池。缓冲池分为两层：
+ * <ul>
+ *     <li>线程本地缓存：每个线程每个级别（{@link #MAX_LOCAL_LENGTH}及以下）保留一个数组，无竞争</li>
+ *     <li>共享池：每个级别一个无锁队列，保留的总字节数不超过上限，超出上限时归还的数组直接丢弃</li>
+ * </ul>
+ * 全局缓冲池默认不启用，调用{@link #enableGlobal()}后，{@link FastByteBuffer}、{@link FastByteArrayOutputStream}
+ * 和{@link StrBuilder}自动从全局池借用缓冲区，并在重置或扩容时归还，无需修改调用代码。<br>
+ * 注意：归还的数组会被其它使用者复用，归还后不可再持有或读写。
+ *
+ * @author looly
+ * @since 5.8.31
+ */
+public class BufferPool {
+
+	/**
+	 * 入池的最小数组长度，更短的数组分配代价很低，直接分配
+	 */
+	public static final int MIN_POOLED_LENGTH = 1 << 10;
+	/**
+	 * 入池的最大数组长度
+	 */
+	public static final int MAX_POOLED_LENGTH = 1 << 20;
+	/**
+	 * 线程本地缓存的最大数组长度，避免每个线程保留过多内存
+	 */
+	public static final int MAX_LOCAL_LENGTH = 1 << 14;
+	/**
+	 * 共享池默认保留的最大字节数：32MB
+	 */
+	public static final long DEFAULT_MAX_RETAINED_BYTES = 32L * 1024 * 1024;
+
+	private static final int MIN_SHIFT = 10;
+	private static final int CLASS_COUNT = 20 - MIN_SHIFT + 1;
+	private static final int LOCAL_CLASS_COUNT = 14 - MIN_SHIFT + 1;
+
+	/**
+	 * 全局缓冲池，{@code null}表示未启用
+	 */
+	private static volatile BufferPool global;
+
+	/**
+	 * 获取全局缓冲池
+	 *
+	 * @return 全局缓冲池，未启用返回{@code null}
+	 */
+	public static BufferPool getGlobal() {
+		return global;
+	}
+
+	/**
+	 * 启用全局缓冲池，共享池最多保留{@link #DEFAULT_MAX_RETAINED_BYTES}字节
+	 *
+	 * @return 全局缓冲池
+	 */
+	public static BufferPool enableGlobal() {
+		return enableGlobal(DEFAULT_MAX_RETAINED_BYTES);
+	}
+
+	/**
+	 * 启用全局缓冲池，如已启用，则替换为新的缓冲池
+	 *
+	 * @param maxRetainedBytes 共享池最多保留的字节数
+	 * @return 全局缓冲池
+	 */
+	public static BufferPool enableGlobal(long maxRetainedBytes) {
+		final BufferPool pool = new BufferPool(maxRetainedBytes);
+		global = pool;
+		return pool;
+	}
+
+	/**
+	 * 停用全局缓冲池，已借出的缓冲区不再归还
+	 */
+	public static void disableGlobal() {
+		global = null;
+	}
+
+	private final long maxRetainedBytes;
+	private final AtomicLong retainedBytes = new AtomicLong();
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder discardCount = new LongAdder();
+
+	private final Shelf<byte[]> byteShelf = new Shelf<>(1, byte[]::new);
+	private final Shelf<char[]> charShelf = new Shelf<>(2, char[]::new);
+
+	/**
+	 * 构造
+	 *
+	 * @param maxRetainedBytes 共享池最多保留的字节数
+	 */
+	public BufferPool(long maxRetainedBytes) {
+		Assert.isTrue(maxRetainedBytes >= 0, "Max retained bytes must be >= 0");
+		this.maxRetainedBytes = maxRetainedBytes;
+	}
+
+	/**
+	 * 借用byte数组，数组内容未清空
+	 *
+	 * @param minLength 最小长度
+	 * @return byte数组，长度不小于minLength
+	 */
+	public byte[] borrowBytes(int minLength) {
+		return byteShelf.borrow(minLength);
+	}
+
+	/**
+	 * 归还byte数组，非入池长度的数组忽略
+	 *
+	 * @param array byte数组，归还后不可再使用
+	 */
+	public void returnBytes(byte[] array) {
+		if (null != array) {
+			byteShelf.giveBack(array, array.length);
+		}
+	}
+
+	/**
+	 * 借用char数组，数组内容未清空
+	 *
+	 * @param minLength 最小长度
+	 * @return char数组，长度不小于minLength
+	 */
+	public char[] borrowChars(int minLength) {
+		return charShelf.borrow(minLength);
+	}
+
+	/**
+	 * 归还char数组，非入池长度的数组忽略
+	 *
+	 * @param array char数组，归还后不可再使用
+	 */
+	public void returnChars(char[] array) {
+		if (null != array) {
+			charShelf.giveBack(array, array.length);
+		}
+	}
+
+	/**
+	 * 借用命中次数，包括线程本地缓存和共享池的命中
+	 *
+	 * @return 命中次数
+	 */
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+
+	/**
+	 * 借用未命中次数，即新分配数组的次数
+	 *
+	 * @return 未命中次数
+	 */
+	public long getMissCount() {
+		return missCount.sum();
+	}
+
+	/**
+	 * 归还时因超出保留上限而丢弃的次数
+	 *
+	 * @return 丢弃次数
+	 */
+	public long getDiscardCount() {
+		return discardCount.sum();
+	}
+
+	/**
+	 * 借用命中率
+	 *
+	 * @return 命中率，0~1，无借用时为0
+	 */
+	public double getHitRate() {
+		final long hits = getHitCount();
+		final long total = hits + getMissCount();
+		return 0 == total ? 0 : (double) hits / total;
+	}
+
+	/**
+	 * 共享池当前保留的字节数，不包括线程本地缓存
+	 *
+	 * @return 保留的字节数
+	 */
+	public long getRetainedBytes() {
+		return retainedBytes.get();
+	}
+
+	/**
+	 * 共享池最多保留的字节数
+	 *
+	 * @return 最多保留的字节数
+	 */
+	public long getMaxRetainedBytes() {
+		return maxRetainedBytes;
+	}
+
+	/**
+	 * 清空共享池和当前线程的本地缓存
+	 */
+	public void clear() {
+		byteShelf.clear();
+		charShelf.clear();
+	}
+
+	@Override
+	public String toString() {
+		return "BufferPool{" +
+				"hit=" + getHitCount() +
+				", miss=" + getMissCount() +
+				", discard=" + getDiscardCount() +
+				", retained=" + getRetainedBytes() + "/" + maxRetainedBytes +
+				'}';
+	}
+
+	/**
+	 * 获取长度所在的级别，即不小于长度的2的幂
+	 *
+	 * @param length 长度
+	 * @return 级别
+	 */
+	private static int classOf(int length) {
+		if (length <= MIN_POOLED_LENGTH) {
+			return 0;
+		}
+		return 32 - Integer.numberOfLeadingZeros(length - 1) - MIN_SHIFT;
+	}
+
+	/**
+	 * 某种类型数组的分级存放架
+	 *
+	 * @param <A> 数组类型
+	 */
+	private final class Shelf<A> {
+		private final int elementBytes;
+		private final IntFunction<A> factory;
+		private final ConcurrentLinkedDeque<A>[] shared;
+		private final ThreadLocal<Object[]> local = ThreadLocal.withInitial(() -> new Object[LOCAL_CLASS_COUNT]);
+
+		@SuppressWarnings("unchecked")
+		Shelf(int elementBytes, IntFunction<A> factory) {
+			this.elementBytes = elementBytes;
+			this.factory = factory;
+			this.shared = new ConcurrentLinkedDeque[CLASS_COUNT];
+			for (int i = 0; i < CLASS_COUNT; i++) {
+				this.shared[i] = new ConcurrentLinkedDeque<>();
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		A borrow(int minLength) {
+			if (minLength > MAX_POOLED_LENGTH) {
+				missCount.increment();
+				return factory.apply(minLength);
+			}
+			final int index = classOf(minLength);
+			if (index < LOCAL_CLASS_COUNT) {
+				final Object[] cache = local.get();
+				final Object cached = cache[index];
+				if (null != cached) {
+					cache[index] = null;
+					hitCount.increment();
+					return (A) cached;
+				}
+			}
+			// 后进先出，优先复用最近归还的数组
+			final A array = shared[index].pollFirst();
+			if (null != array) {
+				retainedBytes.addAndGet(-((long) MIN_POOLED_LENGTH << index) * elementBytes);
+				hitCount.increment();
+				return array;
+			}
+			missCount.increment();
+			return factory.apply(MIN_POOLED_LENGTH << index);
+		}
+
+		void giveBack(A array, int length) {
+			if (length < MIN_POOLED_LENGTH || length > MAX_POOLED_LENGTH || 0 != (length & (length - 1))) {
+				// 非分级长度，不入池
+				return;
+			}
+			final int index = classOf(length);
+			if (index < LOCAL_CLASS_COUNT) {
+				final Object[] cache = local.get();
+				if (null == cache[index]) {
+					cache[index] = array;
+					return;
+				}
+			}
+			final long bytes = (long) length * elementBytes;
+			if (retainedBytes.addAndGet(bytes) > maxRetainedBytes) {
+				retainedBytes.addAndGet(-bytes);
+				discardCount.increment();
+				return;
+			}
+			shared[index].offerFirst(array);
+		}
+
+		void clear() {
+			local.remove();
+			for (int i = 0; i < CLASS_COUNT; i++) {
+				while (null != shared[i].pollFirst()) {
+					retainedBytes.addAndGet(-((long) MIN_POOLED_LENGTH << i) * elementBytes);
+				}
+			}
+		}
+	}
+}
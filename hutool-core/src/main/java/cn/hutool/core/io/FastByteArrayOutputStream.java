@@ -12,7 +12,9 @@ import java.nio.charset.Charset;
  * <p>
  * 可以通过{@link #toByteArray()}和 {@link #toString()}来获取数据
  * <p>
- * {@link #close()}方法无任何效果，当流被关闭后不会抛出IOException
+ * {@link #close()}方法不影响已写出的数据，当流被关闭后不会抛出IOException
+ * <p>
+ * 启用{@link BufferPool}全局缓冲池时，缓冲区从池中借用，在{@link #reset()}或{@link #close()}时归还
  * <p>
  * 这种设计避免重新分配内存块而是分配新增的缓冲区，缓冲区不会被GC，数据也不会被拷贝到其他缓冲区。
  *
@@ -53,13 +55,17 @@ public class FastByteArrayOutputStream extends OutputStream {
 	}
 
 	/**
-	 * 此方法无任何效果，当流被关闭后不会抛出IOException
+	 * 此方法不影响已写出的数据，当流被关闭后不会抛出IOException<br>
+	 * 启用缓冲池时，数据合并到独立数组中，原缓冲区归还缓冲池
 	 */
 	@Override
 	public void close() {
-		// nop
+		buffer.compact();
 	}
 
+	/**
+	 * 重置，清空所有数据，启用缓冲池时归还缓冲区
+	 */
 	public void reset() {
 		buffer.reset();
 	}
@@ -2,7 +2,8 @@ package cn.hutool.core.io;
 
 /**
  * 代码移植自<a href="https://github.com/biezhi/blade">blade</a><br>
- * 快速缓冲，将数据存放在缓冲集中，取代以往的单一数组
+ * 快速缓冲，将数据存放在缓冲集中，取代以往的单一数组<br>
+ * 启用{@link BufferPool}全局缓冲池时，缓冲区从池中借用，并在{@link #reset()}时归还
  *
  * @author biezhi, looly
  * @since 1.0
@@ -60,7 +61,9 @@ public class FastByteBuffer {
 		int newBufferSize = Math.max(minChunkLen, delta);
 
 		currentBufferIndex++;
-		currentBuffer = new byte[newBufferSize];
+		final BufferPool pool = BufferPool.getGlobal();
+		currentBuffer = (null != pool && newBufferSize >= BufferPool.MIN_POOLED_LENGTH)
+				? pool.borrowBytes(newBufferSize) : new byte[newBufferSize];
 		offset = 0;
 
 		// add buffer
@@ -195,7 +198,11 @@ public class FastByteBuffer {
 		return buffers[index];
 	}
 
+	/**
+	 * 重置，清空所有数据，启用缓冲池时归还缓冲区
+	 */
 	public void reset() {
+		recycle();
 		size = 0;
 		offset = 0;
 		currentBufferIndex = -1;
@@ -203,6 +210,24 @@ public class FastByteBuffer {
 		buffersCount = 0;
 	}
 
+	/**
+	 * 启用缓冲池时，将数据合并到一个等长的独立数组中，并将原缓冲区归还缓冲池，数据不变
+	 */
+	void compact() {
+		if (null == BufferPool.getGlobal() || currentBufferIndex < 0
+				|| (0 == currentBufferIndex && offset == currentBuffer.length)) {
+			// 未启用缓冲池，或数据已经在一个等长数组中
+			return;
+		}
+		final byte[] array = toArray();
+		recycle();
+		buffers[0] = array;
+		currentBuffer = array;
+		currentBufferIndex = 0;
+		buffersCount = 1;
+		offset = array.length;
+	}
+
 	/**
 	 * 返回快速缓冲中的数据
 	 *
@@ -285,4 +310,16 @@ public class FastByteBuffer {
 		}
 	}
 
+	/**
+	 * 释放所有缓冲区，启用缓冲池时归还
+	 */
+	private void recycle() {
+		final BufferPool pool = BufferPool.getGlobal();
+		for (int i = 0; i <= currentBufferIndex; i++) {
+			if (null != pool) {
+				pool.returnBytes(buffers[i]);
+			}
+			buffers[i] = null;
+		}
+	}
 }
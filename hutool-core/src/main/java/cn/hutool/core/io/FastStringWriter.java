@@ -82,6 +82,15 @@ public final class FastStringWriter extends Writer {
 	}
 
 
+	/**
+	 * 重置，清空已写出的内容，启用{@link BufferPool}时较大的缓冲区归还缓冲池
+	 *
+	 * @since 5.8.31
+	 */
+	public void reset() {
+		this.builder.reset();
+	}
+
 	@Override
 	public String toString() {
 		return this.builder.toString();
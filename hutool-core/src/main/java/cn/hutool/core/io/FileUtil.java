@@ -23,6 +23,7 @@ import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.jar.JarFile;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
 import java.util.zip.CRC32;
 import java.util.zip.Checksum;
 
@@ -2500,6 +2501,34 @@ public class FileUtil extends PathUtil {
 		FileReader.create(file, charset).readLines(lineHandler);
 	}
 
+	/**
+	 * 使用内存映射多线程按行处理文件内容，适用于大文件，详见{@link MappedLineReader}
+	 *
+	 * @param file        文件
+	 * @param charset     编码，须兼容ASCII，如UTF-8、GBK等
+	 * @param ordered     是否按照行顺序处理，{@code false}时处理器在多个线程中同时调用，须线程安全
+	 * @param lineHandler {@link LineHandler}行处理器
+	 * @throws IORuntimeException IO异常
+	 * @since 5.8.31
+	 */
+	public static void readLinesParallel(File file, Charset charset, boolean ordered, LineHandler lineHandler) throws IORuntimeException {
+		MappedLineReader.create(file, charset).readLines(lineHandler, ordered);
+	}
+
+	/**
+	 * 使用内存映射获取文件行的流，每行为解码后字符数组的视图，不生成字符串，详见{@link MappedLineReader#lines(boolean)}
+	 *
+	 * @param file     文件
+	 * @param charset  编码，须兼容ASCII，如UTF-8、GBK等
+	 * @param parallel 是否为并行流
+	 * @return 行的流
+	 * @throws IORuntimeException IO异常
+	 * @since 5.8.31
+	 */
+	public static Stream<CharSequence> mappedLines(File file, Charset charset, boolean parallel) throws IORuntimeException {
+		return MappedLineReader.create(file, charset).lines(parallel);
+	}
+
 	/**
 	 * 按行处理文件内容
 	 *
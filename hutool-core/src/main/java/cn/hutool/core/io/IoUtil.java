@@ -471,7 +471,11 @@ public class IoUtil extends NioUtil {
 	 * @since 5.0.4
 	 */
 	public static byte[] readBytes(InputStream in, boolean isClose) throws IORuntimeException {
-		return read(in, isClose).toByteArray();
+		final FastByteArrayOutputStream out = read(in, isClose);
+		final byte[] result = out.toByteArray();
+		// 启用缓冲池时归还缓冲区
+		out.reset();
+		return result;
 	}
 
 	/**
@@ -492,7 +496,10 @@ public class IoUtil extends NioUtil {
 
 		final FastByteArrayOutputStream out = new FastByteArrayOutputStream(length);
 		copy(in, out, DEFAULT_BUFFER_SIZE, length, null);
-		return out.toByteArray();
+		final byte[] result = out.toByteArray();
+		// 启用缓冲池时归还缓冲区
+		out.reset();
+		return result;
 	}
 
 	/**
@@ -5,6 +5,8 @@ import cn.hutool.core.lang.Assert;
 import cn.hutool.core.util.CharsetUtil;
 import cn.hutool.core.util.StrUtil;
 
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -58,6 +60,7 @@ public class NioUtil {
 
 	/**
 	 * 拷贝流<br>
+	 * 文件流使用其{@link FileChannel}，以便使用系统的直接传输<br>
 	 * 本方法不会关闭流
 	 *
 	 * @param in             输入流
@@ -70,7 +73,11 @@ public class NioUtil {
 	 * @since 5.7.8
 	 */
 	public static long copyByNIO(InputStream in, OutputStream out, int bufferSize, long count, StreamProgress streamProgress) throws IORuntimeException {
-		final long copySize = copy(Channels.newChannel(in), Channels.newChannel(out), bufferSize, count, streamProgress);
+		final ReadableByteChannel inChannel = (FileInputStream.class == in.getClass())
+				? ((FileInputStream) in).getChannel() : Channels.newChannel(in);
+		final WritableByteChannel outChannel = (FileOutputStream.class == out.getClass())
+				? ((FileOutputStream) out).getChannel() : Channels.newChannel(out);
+		final long copySize = copy(inChannel, outChannel, bufferSize, count, streamProgress);
 		IoUtil.flush(out);
 		return copySize;
 	}
@@ -8,12 +8,24 @@ import cn.hutool.core.lang.Assert;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.lang.ref.SoftReference;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.channels.SelectableChannel;
 import java.nio.channels.WritableByteChannel;
 
 /**
- * {@link ReadableByteChannel} 向 {@link WritableByteChannel} 拷贝
+ * {@link ReadableByteChannel} 向 {@link WritableByteChannel} 拷贝<br>
+ * 根据通道类型选择拷贝方式：
+ * <ul>
+ *     <li>源为{@link FileChannel}时，使用{@link FileChannel#transferTo(long, long, WritableByteChannel)}，由系统直接传输（零拷贝）</li>
+ *     <li>目标为{@link FileChannel}时，使用{@link FileChannel#transferFrom(ReadableByteChannel, long, long)}</li>
+ *     <li>两端均为系统通道（如SocketChannel）时，使用线程内复用的直接缓冲区</li>
+ *     <li>其它情况使用堆缓冲区</li>
+ * </ul>
+ * 缓冲区大小根据源的剩余长度自动缩小，避免小数据分配大缓存。
  *
  * @author looly
  * @since 5.7.8
@@ -57,6 +69,19 @@ public class ChannelCopier extends IoCopier<ReadableByteChannel, WritableByteCha
 		super(bufferSize, count, progress);
 	}
 
+	/**
+	 * 单次传输的最大长度，用于分段报告进度，同时避免部分系统对单次传输长度的限制
+	 */
+	private static final long MAX_TRANSFER_SIZE = 8 * 1024 * 1024;
+	/**
+	 * 线程内复用的直接缓冲区最大容量，超出此容量的缓冲区不复用
+	 */
+	private static final int MAX_CACHED_DIRECT_SIZE = 1024 * 1024;
+	/**
+	 * 线程内复用的直接缓冲区，直接缓冲区分配和回收代价较高，因此复用之
+	 */
+	private static final ThreadLocal<SoftReference<ByteBuffer>> DIRECT_BUFFER_CACHE = new ThreadLocal<>();
+
 	@Override
 	public long copy(ReadableByteChannel source, WritableByteChannel target) {
 		Assert.notNull(source, "InputStream is null !");
@@ -68,7 +93,13 @@ public class ChannelCopier extends IoCopier<ReadableByteChannel, WritableByteCha
 		}
 		final long size;
 		try {
-			size = doCopy(source, target, ByteBuffer.allocate(bufferSize(this.count)), progress);
+			if (source instanceof FileChannel) {
+				size = doTransferTo((FileChannel) source, target, progress);
+			} else if (target instanceof FileChannel) {
+				size = doTransferFrom(source, (FileChannel) target, progress);
+			} else {
+				size = doCopy(source, target, this.count, 0, progress);
+			}
 		} catch (IOException e) {
 			throw new IORuntimeException(e);
 		}
@@ -80,37 +111,159 @@ public class ChannelCopier extends IoCopier<ReadableByteChannel, WritableByteCha
 	}
 
 	/**
-	 * 执行拷贝，如果限制最大长度，则按照最大长度读取，否则一直读取直到遇到-1
+	 * 从文件通道的当前位置开始，使用{@link FileChannel#transferTo(long, long, WritableByteChannel)}传输，
+	 * 传输完毕后源通道的位置移动到读取结束处<br>
+	 * /proc、管道、字符设备等非普通文件的size()为0，此时无法确定长度，直接按缓冲区读取直到末尾；
+	 * 传输中途返回0时（文件被截断或目标通道暂时无法写入），剩余部分同样按缓冲区读取
+	 *
+	 * @param source   源文件通道
+	 * @param target   目标通道
+	 * @param progress 进度条
+	 * @return 拷贝总长度
+	 * @throws IOException IO异常
+	 */
+	private long doTransferTo(FileChannel source, WritableByteChannel target, StreamProgress progress) throws IOException {
+		final long size = source.size();
+		if (size <= 0) {
+			return doCopy(source, target, this.count, 0, progress);
+		}
+
+		final long start = source.position();
+		final long numToRead = Math.min(this.count, Math.max(0, size - start));
+		long total = 0;
+
+		long transferred;
+		while (total < numToRead) {
+			transferred = source.transferTo(start + total, Math.min(numToRead - total, MAX_TRANSFER_SIZE), target);
+			if (transferred <= 0) {
+				source.position(start + total);
+				return total + doCopy(source, target, this.count - total, total, progress);
+			}
+			total += transferred;
+			if (null != progress) {
+				progress.progress(this.count, total);
+			}
+		}
+
+		source.position(start + total);
+		return total;
+	}
+
+	/**
+	 * 从文件通道的当前位置开始，使用{@link FileChannel#transferFrom(ReadableByteChannel, long, long)}写入，
+	 * 写入完毕后目标通道的位置移动到写入结束处<br>
+	 * transferFrom返回0时无法区分源已结束还是暂时无数据（如非阻塞通道），此时剩余部分按缓冲区读取，直到读取返回-1
 	 *
-	 * @param source   {@link InputStream}
-	 * @param target   {@link OutputStream}
-	 * @param buffer   缓存
+	 * @param source   源通道
+	 * @param target   目标文件通道
 	 * @param progress 进度条
 	 * @return 拷贝总长度
 	 * @throws IOException IO异常
 	 */
-	private long doCopy(ReadableByteChannel source, WritableByteChannel target, ByteBuffer buffer, StreamProgress progress) throws IOException {
-		long numToRead = this.count > 0 ? this.count : Long.MAX_VALUE;
+	private long doTransferFrom(ReadableByteChannel source, FileChannel target, StreamProgress progress) throws IOException {
+		final long start = target.position();
+		long numToRead = this.count;
+		long total = 0;
+
+		long transferred;
+		while (numToRead > 0) {
+			transferred = target.transferFrom(source, start + total, Math.min(numToRead, MAX_TRANSFER_SIZE));
+			if (transferred <= 0) {
+				target.position(start + total);
+				return total + doCopy(source, target, numToRead, total, progress);
+			}
+			numToRead -= transferred;
+			total += transferred;
+			if (null != progress) {
+				progress.progress(this.count, total);
+			}
+		}
+
+		target.position(start + total);
+		return total;
+	}
+
+	/**
+	 * 执行拷贝，如果限制最大长度，则按照最大长度读取，否则一直读取直到遇到-1
+	 *
+	 * @param source   {@link ReadableByteChannel}
+	 * @param target   {@link WritableByteChannel}
+	 * @param count    最大拷贝长度
+	 * @param copied   此前已拷贝的长度，用于报告进度
+	 * @param progress 进度条
+	 * @return 本次拷贝长度
+	 * @throws IOException IO异常
+	 */
+	private long doCopy(ReadableByteChannel source, WritableByteChannel target, long count, long copied, StreamProgress progress) throws IOException {
+		long numToRead = count;
+		if (source instanceof SeekableByteChannel) {
+			final SeekableByteChannel seekable = (SeekableByteChannel) source;
+			final long remaining = seekable.size() - seekable.position();
+			if (remaining > 0) {
+				// 仅用于确定缓存大小，源可能仍在增长，因此不限制读取长度
+				numToRead = Math.min(numToRead, remaining);
+			}
+		}
+		final int bufferSize = Math.max(1, bufferSize(numToRead));
+		final ByteBuffer buffer = (isSystemChannel(source) && isSystemChannel(target))
+				? borrowDirectBuffer(bufferSize) : ByteBuffer.allocate(bufferSize);
+
+		numToRead = count;
 		long total = 0;
 
 		int read;
 		while (numToRead > 0) {
+			if (numToRead < buffer.remaining()) {
+				// 不超出限制长度读取
+				buffer.limit((int) numToRead);
+			}
 			read = source.read(buffer);
 			if (read < 0) {
 				// 提前读取到末尾
 				break;
 			}
 			buffer.flip();// 写转读
-			target.write(buffer);
+			while (buffer.hasRemaining()) {
+				target.write(buffer);
+			}
 			buffer.clear();
 
 			numToRead -= read;
 			total += read;
 			if (null != progress) {
-				progress.progress(this.count, total);
+				progress.progress(this.count, copied + total);
 			}
 		}
 
 		return total;
 	}
+
+	/**
+	 * 是否为系统通道，系统通道读写直接缓冲区时可以避免一次内存拷贝
+	 *
+	 * @param channel 通道
+	 * @return 是否为系统通道
+	 */
+	private static boolean isSystemChannel(Object channel) {
+		return channel instanceof FileChannel || channel instanceof SelectableChannel;
+	}
+
+	/**
+	 * 获取当前线程复用的直接缓冲区，容量不足时重新分配
+	 *
+	 * @param size 需要的容量
+	 * @return 直接缓冲区，limit为size
+	 */
+	private static ByteBuffer borrowDirectBuffer(int size) {
+		final SoftReference<ByteBuffer> ref = DIRECT_BUFFER_CACHE.get();
+		ByteBuffer buffer = null == ref ? null : ref.get();
+		if (null == buffer || buffer.capacity() < size) {
+			buffer = ByteBuffer.allocateDirect(size);
+			if (size <= MAX_CACHED_DIRECT_SIZE) {
+				DIRECT_BUFFER_CACHE.set(new SoftReference<>(buffer));
+			}
+		}
+		buffer.clear().limit(size);
+		return buffer;
+	}
 }
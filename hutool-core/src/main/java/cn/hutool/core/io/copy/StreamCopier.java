@@ -5,12 +5,16 @@ import cn.hutool.core.io.IoUtil;
 import cn.hutool.core.io.StreamProgress;
 import cn.hutool.core.lang.Assert;
 
+import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 
 /**
- * {@link InputStream} 向 {@link OutputStream} 拷贝
+ * {@link InputStream} 向 {@link OutputStream} 拷贝<br>
+ * 文件流之间的拷贝转为{@link ChannelCopier}的通道传输；已知剩余长度的流（如{@link ByteArrayInputStream}）按照剩余长度缩小缓存。
  *
  * @author looly
  * @since 5.7.8
@@ -59,13 +63,19 @@ public class StreamCopier extends IoCopier<InputStream, OutputStream> {
 		Assert.notNull(source, "InputStream is null !");
 		Assert.notNull(target, "OutputStream is null !");
 
+		if (false == this.flushEveryBuffer && FileInputStream.class == source.getClass() && FileOutputStream.class == target.getClass()) {
+			// 文件之间直接传输，FileOutputStream无缓存，无需flush
+			return new ChannelCopier(this.bufferSize, this.count, this.progress)
+					.copy(((FileInputStream) source).getChannel(), ((FileOutputStream) target).getChannel());
+		}
+
 		final StreamProgress progress = this.progress;
 		if (null != progress) {
 			progress.start();
 		}
 		final long size;
 		try {
-			size = doCopy(source, target, new byte[bufferSize(this.count)], progress);
+			size = doCopy(source, target, new byte[bufferSize(source)], progress);
 			target.flush();
 		} catch (IOException e) {
 			throw new IORuntimeException(e);
@@ -94,7 +104,7 @@ public class StreamCopier extends IoCopier<InputStream, OutputStream> {
 
 		int read;
 		while (numToRead > 0) {
-			read = source.read(buffer, 0, bufferSize(numToRead));
+			read = source.read(buffer, 0, (int) Math.min(buffer.length, numToRead));
 			if (read < 0) {
 				// 提前读取到末尾
 				break;
@@ -113,4 +123,23 @@ public class StreamCopier extends IoCopier<InputStream, OutputStream> {
 
 		return total;
 	}
+
+	/**
+	 * 根据源的剩余长度确定缓存大小，剩余长度未知时使用拷贝总数
+	 *
+	 * @param source 源
+	 * @return 缓存大小
+	 * @throws IOException IO异常
+	 */
+	private int bufferSize(InputStream source) throws IOException {
+		final Class<?> sourceClass = source.getClass();
+		if (ByteArrayInputStream.class == sourceClass || FileInputStream.class == sourceClass) {
+			// 这两种流的available()为准确的剩余长度
+			final int available = source.available();
+			if (available > 0) {
+				return bufferSize(Math.min(this.count, available));
+			}
+		}
+		return bufferSize(this.count);
+	}
 }
@@ -0,0 +1,455 @@
+package cn.hutool.core.io.file;
+
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.io.LineHandler;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.util.CharUtil;
+import cn.hutool.core.util.CharsetUtil;
+import cn.hutool.core.util.StrUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 基于内存映射的多线程按行读取，适用于大文件的按行处理（如日志检索）<br>
+ * 文件按照字节数切分为多个块，块的边界对齐到\n之后，每个块独立映射并直接从{@link MappedByteBuffer}解码，
+ * 在{@link ForkJoinPool}中并行处理。行的切分规则与{@link java.io.BufferedReader#readLine()}一致。
+ *
+ * <p>编码须兼容ASCII，即ASCII字符编码为单字节且不会出现在多字节字符中，如UTF-8、GBK、ISO-8859-1等，UTF-16等编码不支持。</p>
+ *
+ * <pre>
+ * // 按照顺序处理每行
+ * MappedLineReader.create(file, CharsetUtil.CHARSET_UTF_8).readLines(line -&gt; ...);
+ * // 统计包含ERROR的行数
+ * long count = MappedLineReader.create(file, CharsetUtil.CHARSET_UTF_8).lines(true)
+ *     .filter(line -&gt; StrUtil.contains(line, "ERROR")).count();
+ * </pre>
+ *
+ * @author looly
+ * @since 5.8.31
+ */
+public class MappedLineReader {
+
+	/**
+	 * 默认每块的字节数
+	 */
+	private static final int DEFAULT_CHUNK_SIZE = 1 << 23;
+	/**
+	 * 解码时每次从映射中拷贝的字节数，也是字符窗口的初始大小
+	 */
+	private static final int DECODE_BUFFER_SIZE = 1 << 16;
+	/**
+	 * 字符窗口的最小剩余空间，不足时移动或扩容窗口
+	 */
+	private static final int MIN_WINDOW_FREE = 1 << 10;
+	/**
+	 * 用于检查编码是否兼容ASCII的字符
+	 */
+	private static final byte[] ASCII_SAMPLE = StrUtil.bytes("\r\n\t 09AZaz~", CharsetUtil.CHARSET_ISO_8859_1);
+
+	private final File file;
+	private final Charset charset;
+	private ForkJoinPool pool = ForkJoinPool.commonPool();
+	private int chunkSize = DEFAULT_CHUNK_SIZE;
+
+	/**
+	 * 创建MappedLineReader
+	 *
+	 * @param file    文件
+	 * @param charset 编码，null表示UTF-8
+	 * @return MappedLineReader
+	 */
+	public static MappedLineReader create(File file, Charset charset) {
+		return new MappedLineReader(file, charset);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param file    文件
+	 * @param charset 编码，null表示UTF-8
+	 * @throws IllegalArgumentException 编码不兼容ASCII
+	 */
+	public MappedLineReader(File file, Charset charset) {
+		this.file = Assert.notNull(file, "File must be not null!");
+		this.charset = null == charset ? CharsetUtil.CHARSET_UTF_8 : charset;
+		Assert.isTrue(Arrays.equals(ASCII_SAMPLE, StrUtil.bytes(new String(ASCII_SAMPLE, CharsetUtil.CHARSET_ISO_8859_1), this.charset)),
+				"Charset [{}] is not ASCII compatible", this.charset);
+	}
+
+	/**
+	 * 设置执行解码和处理的线程池，默认{@link ForkJoinPool#commonPool()}<br>
+	 * 此设置对{@link #lines(boolean)}无效，并行流总是在当前所在的{@link ForkJoinPool}中执行
+	 *
+	 * @param pool {@link ForkJoinPool}
+	 * @return this
+	 */
+	public MappedLineReader setPool(ForkJoinPool pool) {
+		this.pool = Assert.notNull(pool, "Pool must be not null!");
+		return this;
+	}
+
+	/**
+	 * 设置每块的字节数，默认8MB，块的实际大小会延伸到下一个\n之后
+	 *
+	 * @param chunkSize 每块的字节数
+	 * @return this
+	 */
+	public MappedLineReader setChunkSize(int chunkSize) {
+		Assert.isTrue(chunkSize > 0, "Chunk size must be > 0");
+		this.chunkSize = chunkSize;
+		return this;
+	}
+
+	/**
+	 * 按照行处理文件内容
+	 *
+	 * @param lineHandler 行处理器
+	 * @param ordered     是否按照行顺序处理，{@code true}时处理器在当前线程中按照文件中的顺序调用；
+	 *                    {@code false}时处理器在多个线程中同时调用，顺序不确定，处理器须线程安全
+	 * @throws IORuntimeException IO异常
+	 */
+	public void readLines(LineHandler lineHandler, boolean ordered) throws IORuntimeException {
+		if (ordered) {
+			readLines(lineHandler);
+		} else {
+			readLinesUnordered(lineHandler);
+		}
+	}
+
+	/**
+	 * 按照行顺序处理文件内容，块的解码并行进行，处理器在当前线程中按照文件中的顺序调用
+	 *
+	 * @param lineHandler 行处理器
+	 * @throws IORuntimeException IO异常
+	 */
+	public void readLines(LineHandler lineHandler) throws IORuntimeException {
+		Assert.notNull(lineHandler);
+		final List<MappedByteBuffer> chunks = map();
+		// 限制处理中的块数，避免解码速度大于处理速度时占用过多内存
+		final int maxInFlight = pool.getParallelism() * 2;
+		final Deque<ForkJoinTask<DecodedLines>> tasks = new ArrayDeque<>(maxInFlight);
+		int next = 0;
+		try {
+			while (next < chunks.size() || false == tasks.isEmpty()) {
+				while (next < chunks.size() && tasks.size() < maxInFlight) {
+					final MappedByteBuffer chunk = chunks.get(next++);
+					tasks.add(pool.submit(() -> {
+						final DecodedLines lines = new DecodedLines(chunk.capacity());
+						forEachLine(chunk, charset, true, lines);
+						return lines;
+					}));
+				}
+				tasks.poll().join().forEach(lineHandler);
+			}
+		} finally {
+			for (ForkJoinTask<?> task : tasks) {
+				task.cancel(true);
+			}
+		}
+	}
+
+	/**
+	 * 并行处理文件内容，处理器在多个线程中同时调用，行的处理顺序不确定，处理器须线程安全
+	 *
+	 * @param lineHandler 行处理器
+	 * @throws IORuntimeException IO异常
+	 */
+	public void readLinesUnordered(LineHandler lineHandler) throws IORuntimeException {
+		Assert.notNull(lineHandler);
+		final List<MappedByteBuffer> chunks = map();
+		final List<ForkJoinTask<?>> tasks = new ArrayList<>(chunks.size());
+		try {
+			for (MappedByteBuffer chunk : chunks) {
+				tasks.add(pool.submit(() -> forEachLine(chunk, charset, true, (chars, offset, count) -> lineHandler.handle(new String(chars, offset, count)))));
+			}
+			for (ForkJoinTask<?> task : tasks) {
+				task.join();
+			}
+		} finally {
+			for (ForkJoinTask<?> task : tasks) {
+				task.cancel(true);
+			}
+		}
+	}
+
+	/**
+	 * 获取行的流，流中的每行为解码后字符数组的视图（{@link CharBuffer}），不生成字符串<br>
+	 * 流的顺序与文件中行的顺序一致，如需字符串可调用{@link CharSequence#toString()}
+	 *
+	 * @param parallel 是否为并行流
+	 * @return 行的流
+	 * @throws IORuntimeException IO异常
+	 */
+	public Stream<CharSequence> lines(boolean parallel) throws IORuntimeException {
+		final List<MappedByteBuffer> chunks = map();
+		IntStream indexes = IntStream.range(0, chunks.size());
+		if (parallel) {
+			indexes = indexes.parallel();
+		}
+		return indexes.mapToObj(i -> StreamSupport.stream(new ChunkSpliterator(chunks.get(i), charset), false))
+				.flatMap(Function.identity());
+	}
+
+	// ------------------------------------------------------------------------------------------------ Private method start
+
+	/**
+	 * 将文件切分为多个块并分别映射，映射后文件通道即可关闭
+	 *
+	 * @return 各块的映射
+	 * @throws IORuntimeException IO异常
+	 */
+	private List<MappedByteBuffer> map() throws IORuntimeException {
+		try (final FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			final long size = channel.size();
+			final List<MappedByteBuffer> chunks = new ArrayList<>((int) Math.min(Integer.MAX_VALUE, size / chunkSize + 1));
+			final ByteBuffer buffer = ByteBuffer.allocate(IoUtil.DEFAULT_BUFFER_SIZE);
+			long start = 0;
+			long end;
+			while (start < size) {
+				end = nextLineStart(channel, Math.min(start + chunkSize, size) - 1, size, buffer);
+				if (end - start > Integer.MAX_VALUE) {
+					throw new IORuntimeException("Line is too long at position {}", start);
+				}
+				chunks.add(channel.map(FileChannel.MapMode.READ_ONLY, start, end - start));
+				start = end;
+			}
+			return chunks;
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+	}
+
+	/**
+	 * 查找指定位置（包括）之后第一个\n的下一个位置
+	 *
+	 * @param channel 文件通道
+	 * @param from    开始位置
+	 * @param size    文件长度
+	 * @param buffer  读取缓存
+	 * @return \n的下一个位置，未找到返回文件长度
+	 * @throws IOException IO异常
+	 */
+	private static long nextLineStart(FileChannel channel, long from, long size, ByteBuffer buffer) throws IOException {
+		long pos = from;
+		int length;
+		while (pos < size) {
+			buffer.clear();
+			length = channel.read(buffer, pos);
+			if (length < 0) {
+				break;
+			}
+			for (int i = 0; i < length; i++) {
+				if (buffer.get(i) == CharUtil.LF) {
+					return pos + i + 1;
+				}
+			}
+			pos += length;
+		}
+		return size;
+	}
+
+	/**
+	 * 解码一个块并按照\r、\n或\r\n切分行，末尾的换行符不产生空行<br>
+	 * 直接内存逐字节读取较慢，因此分段批量拷贝到堆内存的缓存后解码，解码结果写入字符窗口，
+	 * 窗口中剩余空间不足时，将未结束的行移到窗口开头（或更大的新窗口）后继续。
+	 *
+	 * @param buffer   块的映射
+	 * @param charset  编码
+	 * @param reuse    是否复用字符窗口，行只在处理时使用时可复用；行需要保留时（如作为视图）每次使用新窗口
+	 * @param consumer 行的消费者
+	 */
+	private static void forEachLine(MappedByteBuffer buffer, Charset charset, boolean reuse, LineConsumer consumer) {
+		final ByteBuffer source = buffer.duplicate();
+		final ByteBuffer in = ByteBuffer.allocate(DECODE_BUFFER_SIZE);
+		final CharsetDecoder decoder = charset.newDecoder()
+				.onMalformedInput(CodingErrorAction.REPLACE)
+				.onUnmappableCharacter(CodingErrorAction.REPLACE);
+		char[] chars = new char[DECODE_BUFFER_SIZE];
+		// 当前行的开始位置
+		int start = 0;
+		// 窗口中已解码的结束位置
+		int limit = 0;
+		// 上一个换行符为\r，如果紧跟\n需跳过
+		boolean skipLf = false;
+		boolean endOfInput;
+		CoderResult result;
+		CharBuffer out;
+		char c;
+		do {
+			// 上次未解码的不完整字符保留在缓存头部
+			final int length = Math.min(in.remaining(), source.remaining());
+			source.get(in.array(), in.position(), length);
+			in.position(in.position() + length);
+			in.flip();
+			endOfInput = false == source.hasRemaining();
+
+			if (chars.length - limit < MIN_WINDOW_FREE) {
+				final int pending = limit - start;
+				final char[] target = (reuse && pending <= chars.length / 2) ? chars : new char[Math.max(DECODE_BUFFER_SIZE, pending * 2)];
+				System.arraycopy(chars, start, target, 0, pending);
+				chars = target;
+				start = 0;
+				limit = pending;
+			}
+			out = CharBuffer.wrap(chars, limit, chars.length - limit);
+			result = decoder.decode(in, out, endOfInput);
+			if (endOfInput && result.isUnderflow()) {
+				decoder.flush(out);
+			}
+			in.compact();
+
+			for (int i = limit, end = out.position(); i < end; i++) {
+				c = chars[i];
+				if (skipLf) {
+					skipLf = false;
+					if (c == CharUtil.LF) {
+						start = i + 1;
+						continue;
+					}
+				}
+				if (c == CharUtil.LF || c == CharUtil.CR) {
+					consumer.accept(chars, start, i - start);
+					start = i + 1;
+					skipLf = c == CharUtil.CR;
+				}
+			}
+			limit = out.position();
+		} while (false == endOfInput || result.isOverflow());
+
+		if (start < limit) {
+			consumer.accept(chars, start, limit - start);
+		}
+	}
+
+	/**
+	 * 行的消费者，参数为行在字符数组中的位置
+	 */
+	@FunctionalInterface
+	private interface LineConsumer {
+		/**
+		 * 处理一行
+		 *
+		 * @param chars  字符数组
+		 * @param offset 行的开始位置
+		 * @param count  行的长度，不包括换行符
+		 */
+		void accept(char[] chars, int offset, int count);
+	}
+
+	/**
+	 * 解码后的行，所有行的内容连续存放，避免预先解码时产生大量字符串对象
+	 */
+	private static class DecodedLines implements LineConsumer {
+
+		private final char[] chars;
+		private int length;
+		private int[] ends = new int[1024];
+		private int count;
+
+		/**
+		 * 构造
+		 *
+		 * @param capacity 最大字符数，支持的编码中字符数不超过字节数
+		 */
+		DecodedLines(int capacity) {
+			this.chars = new char[capacity];
+		}
+
+		@Override
+		public void accept(char[] chars, int offset, int count) {
+			System.arraycopy(chars, offset, this.chars, this.length, count);
+			this.length += count;
+			if (this.count == this.ends.length) {
+				this.ends = Arrays.copyOf(this.ends, this.count << 1);
+			}
+			this.ends[this.count++] = this.length;
+		}
+
+		/**
+		 * 按照顺序处理每行
+		 *
+		 * @param lineHandler 行处理器
+		 */
+		void forEach(LineHandler lineHandler) {
+			int start = 0;
+			for (int i = 0; i < count; i++) {
+				lineHandler.handle(new String(chars, start, ends[i] - start));
+				start = ends[i];
+			}
+		}
+	}
+
+	/**
+	 * 一个块中行的{@link Spliterator}，批量遍历时边解码边处理，逐个遍历时先解码整个块
+	 */
+	private static class ChunkSpliterator extends Spliterators.AbstractSpliterator<CharSequence> {
+
+		private final MappedByteBuffer buffer;
+		private final Charset charset;
+		private Iterator<CharSequence> decoded;
+
+		/**
+		 * 构造
+		 *
+		 * @param buffer  块的映射
+		 * @param charset 编码
+		 */
+		ChunkSpliterator(MappedByteBuffer buffer, Charset charset) {
+			super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+			this.buffer = buffer;
+			this.charset = charset;
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super CharSequence> action) {
+			if (null == decoded) {
+				final List<CharSequence> lines = new ArrayList<>();
+				forEachLine(buffer, charset, false, (chars, offset, count) -> lines.add(CharBuffer.wrap(chars, offset, count)));
+				decoded = lines.iterator();
+			}
+			if (decoded.hasNext()) {
+				action.accept(decoded.next());
+				return true;
+			}
+			return false;
+		}
+
+		@Override
+		public void forEachRemaining(Consumer<? super CharSequence> action) {
+			if (null == decoded) {
+				decoded = Collections.emptyIterator();
+				forEachLine(buffer, charset, false, (chars, offset, count) -> action.accept(CharBuffer.wrap(chars, offset, count)));
+			} else {
+				decoded.forEachRemaining(action);
+			}
+		}
+	}
+	// ------------------------------------------------------------------------------------------------ Private method end
+}
@@ -0,0 +1,706 @@
+package cn.hutool.core.io.watch;
+
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.lang.Console;
+import cn.hutool.core.thread.ThreadFactoryBuilder;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * 批量文件监听服务，多个监听路径共用一个{@link WatchService}和一个监听线程，特点：
+ *
+ * <pre>
+ * 1、同一路径在防抖窗口内的多个事件合并为一个变更，例如先创建后修改合并为创建，先创建后删除则相互抵消
+ * 2、每个监听路径在事件静默一个防抖窗口后（持续有事件时最长等待maxDelay），一次性回调所有变更
+ * 3、递归注册的目录总数受maxWatchDirs限制，新建的子目录自动加入监听
+ * 4、系统不支持原生监听、注册失败或超出目录数限制时，对应路径退化为基于修改时间和大小快照的轮询
+ * </pre>
+ *
+ * 使用方式：
+ * <pre>
+ * BatchWatchServer server = new BatchWatchServer().setDebounce(500);
+ * server.register(Paths.get("config"), 3, (root, changes) -&gt; reload(changes));
+ * </pre>
+ *
+ * @author looly
+ * @since 5.8.31
+ */
+public class BatchWatchServer implements Closeable {
+
+	/**
+	 * 默认防抖窗口，单位毫秒
+	 */
+	public static final long DEFAULT_DEBOUNCE = 200;
+	/**
+	 * 默认轮询间隔，单位毫秒
+	 */
+	public static final long DEFAULT_POLL_INTERVAL = 2000;
+	/**
+	 * 默认最多注册的原生监听目录数
+	 */
+	public static final int DEFAULT_MAX_WATCH_DIRS = 8192;
+
+	private long debounce = DEFAULT_DEBOUNCE;
+	private long maxDelay = DEFAULT_DEBOUNCE * 10;
+	private long pollInterval = DEFAULT_POLL_INTERVAL;
+	private int maxWatchDirs = DEFAULT_MAX_WATCH_DIRS;
+	private boolean forcePolling;
+
+	/**
+	 * 所有监听路径
+	 */
+	private final List<Root> roots = new CopyOnWriteArrayList<>();
+	/**
+	 * WatchKey 和目录的对应表，多个监听路径共用同一目录的WatchKey
+	 */
+	private final Map<WatchKey, Path> keyPathMap = new ConcurrentHashMap<>();
+	private final Map<Path, WatchKey> pathKeyMap = new ConcurrentHashMap<>();
+	/**
+	 * 用于合并回调和轮询的单线程调度器
+	 */
+	private final ScheduledThreadPoolExecutor scheduler;
+	/**
+	 * 注册锁，保证注册、退化和释放WatchKey的过程互斥
+	 */
+	private final Object registerLock = new Object();
+	private WatchService watchService;
+	private boolean nativeUnavailable;
+	private volatile boolean closed;
+
+	/**
+	 * 构造
+	 */
+	public BatchWatchServer() {
+		scheduler = new ScheduledThreadPoolExecutor(1,
+				ThreadFactoryBuilder.create().setNamePrefix("hutool-batch-watch-").setDaemon(true).build());
+		scheduler.setRemoveOnCancelPolicy(true);
+	}
+
+	/**
+	 * 设置防抖窗口，同一监听路径在此时间内无新事件时回调，须在注册前设置
+	 *
+	 * @param debounce 防抖窗口，单位毫秒
+	 * @return this
+	 */
+	public BatchWatchServer setDebounce(long debounce) {
+		Assert.isTrue(debounce >= 0, "Debounce must be >= 0");
+		this.debounce = debounce;
+		return this;
+	}
+
+	/**
+	 * 设置持续有事件时的最长等待时间，超出后即使事件未静默也回调，避免事件风暴下迟迟不回调，须在注册前设置
+	 *
+	 * @param maxDelay 最长等待时间，单位毫秒，小于防抖窗口时按防抖窗口处理
+	 * @return this
+	 */
+	public BatchWatchServer setMaxDelay(long maxDelay) {
+		this.maxDelay = maxDelay;
+		return this;
+	}
+
+	/**
+	 * 设置轮询模式下的扫描间隔，须在注册前设置
+	 *
+	 * @param pollInterval 轮询间隔，单位毫秒
+	 * @return this
+	 */
+	public BatchWatchServer setPollInterval(long pollInterval) {
+		Assert.isTrue(pollInterval > 0, "Poll interval must be > 0");
+		this.pollInterval = pollInterval;
+		return this;
+	}
+
+	/**
+	 * 设置最多注册的原生监听目录数，超出后新注册的路径退化为轮询，须在注册前设置
+	 *
+	 * @param maxWatchDirs 最多注册的目录数
+	 * @return this
+	 */
+	public BatchWatchServer setMaxWatchDirs(int maxWatchDirs) {
+		this.maxWatchDirs = maxWatchDirs;
+		return this;
+	}
+
+	/**
+	 * 设置是否强制使用轮询，用于网络文件系统等原生监听不可靠的场景，须在注册前设置
+	 *
+	 * @param forcePolling 是否强制使用轮询
+	 * @return this
+	 */
+	public BatchWatchServer setForcePolling(boolean forcePolling) {
+		this.forcePolling = forcePolling;
+		return this;
+	}
+
+	/**
+	 * 注册监听路径，注册后立即开始监听
+	 *
+	 * @param path     监听的目录或文件，必须存在
+	 * @param maxDepth 目录的最大监听深度，小于等于1表示只监听目录下的直接子文件和子目录，监听文件时无效
+	 * @param watcher  批量变更回调
+	 * @return this
+	 * @throws WatchException 路径不存在或服务已关闭
+	 */
+	public BatchWatchServer register(Path path, int maxDepth, BatchWatcher watcher) throws WatchException {
+		Assert.notNull(path, "Path must be not null!");
+		Assert.notNull(watcher, "Watcher must be not null!");
+		if (closed) {
+			throw new WatchException("Watch server is closed!");
+		}
+		path = path.toAbsolutePath().normalize();
+		if (false == Files.exists(path)) {
+			throw new WatchException("Path [{}] not exist!", path);
+		}
+
+		final Root root = Files.isDirectory(path) ? new Root(path, path, Math.max(1, maxDepth), watcher)
+				: new Root(path, path.getParent(), 1, watcher);
+		synchronized (registerLock) {
+			roots.add(root);
+			if (forcePolling || false == initWatchService() || false == registerTree(root, root.dir, false)) {
+				root.polling = true;
+				releaseKeys();
+				root.startPolling();
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * 取消指定路径的所有监听，只被此路径使用的目录同时取消原生监听
+	 *
+	 * @param path 注册时的路径
+	 * @return this
+	 */
+	public BatchWatchServer unregister(Path path) {
+		path = path.toAbsolutePath().normalize();
+		synchronized (registerLock) {
+			for (Root root : roots) {
+				if (root.path.equals(path)) {
+					roots.remove(root);
+					root.cancel();
+				}
+			}
+			releaseKeys();
+		}
+		return this;
+	}
+
+	/**
+	 * 指定路径当前是否使用轮询方式监听
+	 *
+	 * @param path 注册时的路径
+	 * @return 是否轮询，未注册返回{@code false}
+	 */
+	public boolean isPolling(Path path) {
+		path = path.toAbsolutePath().normalize();
+		for (Root root : roots) {
+			if (root.path.equals(path)) {
+				return root.polling;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 获取当前注册的原生监听目录数
+	 *
+	 * @return 目录数
+	 */
+	public int getWatchDirCount() {
+		return pathKeyMap.size();
+	}
+
+	/**
+	 * 关闭监听，未回调的变更被丢弃
+	 */
+	@Override
+	public void close() {
+		closed = true;
+		scheduler.shutdownNow();
+		synchronized (registerLock) {
+			roots.clear();
+			IoUtil.close(watchService);
+			keyPathMap.clear();
+			pathKeyMap.clear();
+		}
+	}
+
+	// ---------------------------------------------------------------------------------------------------------- Private method start
+
+	/**
+	 * 初始化原生监听服务和监听线程，JDK在不支持原生监听的系统中使用的PollingWatchService每个目录单独轮询且间隔较长，此时使用快照轮询代替
+	 *
+	 * @return 原生监听是否可用
+	 */
+	private boolean initWatchService() {
+		if (null == watchService && false == nativeUnavailable) {
+			try {
+				watchService = FileSystems.getDefault().newWatchService();
+			} catch (IOException | UnsupportedOperationException e) {
+				nativeUnavailable = true;
+				return false;
+			}
+			if (watchService.getClass().getName().endsWith("PollingWatchService")) {
+				IoUtil.close(watchService);
+				watchService = null;
+				nativeUnavailable = true;
+				return false;
+			}
+
+			final Thread thread = new Thread(this::watchLoop, "hutool-batch-watch");
+			thread.setDaemon(true);
+			thread.start();
+		}
+		return null != watchService;
+	}
+
+	/**
+	 * 监听线程，读取原生事件并分发给对应的监听路径
+	 */
+	private void watchLoop() {
+		while (false == closed) {
+			final WatchKey key;
+			try {
+				key = watchService.take();
+			} catch (InterruptedException | ClosedWatchServiceException e) {
+				return;
+			}
+
+			final Path dir = keyPathMap.get(key);
+			if (null != dir) {
+				for (WatchEvent<?> event : key.pollEvents()) {
+					final WatchEvent.Kind<?> kind = event.kind();
+					if (WatchKind.OVERFLOW.getValue() == kind) {
+						onOverflow(dir);
+						continue;
+					}
+
+					final Path path = dir.resolve((Path) event.context());
+					if (WatchKind.CREATE.getValue() == kind) {
+						if (Files.isDirectory(path, LinkOption.NOFOLLOW_LINKS)) {
+							onDirCreate(path);
+						}
+						dispatch(path, WatchKind.CREATE);
+					} else if (WatchKind.MODIFY.getValue() == kind) {
+						dispatch(path, WatchKind.MODIFY);
+					} else if (WatchKind.DELETE.getValue() == kind) {
+						dispatch(path, WatchKind.DELETE);
+					}
+				}
+			}
+
+			if (false == key.reset()) {
+				// 目录被删除或不可访问，WatchKey失效
+				keyPathMap.remove(key);
+				if (null != dir) {
+					pathKeyMap.remove(dir, key);
+				}
+			}
+		}
+	}
+
+	/**
+	 * 分发事件到关联的原生监听路径
+	 *
+	 * @param path 变更路径
+	 * @param kind 变更类型
+	 */
+	private void dispatch(Path path, WatchKind kind) {
+		for (Root root : roots) {
+			if (false == root.polling && root.accept(path)) {
+				root.offer(path, kind);
+			}
+		}
+	}
+
+	/**
+	 * 新建目录时加入监听，并补充注册前已在其中创建的文件
+	 *
+	 * @param dir 新建的目录
+	 */
+	private void onDirCreate(Path dir) {
+		synchronized (registerLock) {
+			for (Root root : roots) {
+				if (false == root.polling && root.isWatchDir(dir) && false == registerTree(root, dir, true)) {
+					fallback(root);
+				}
+			}
+		}
+	}
+
+	/**
+	 * 事件丢失时通知关联的监听路径全量重新加载，并补充注册可能遗漏的新目录
+	 *
+	 * @param dir 事件丢失的目录
+	 */
+	private void onOverflow(Path dir) {
+		synchronized (registerLock) {
+			for (Root root : roots) {
+				if (false == root.polling && root.isWatchDir(dir)) {
+					root.offer(root.path, WatchKind.OVERFLOW);
+					if (false == registerTree(root, root.dir, false)) {
+						fallback(root);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * 注册目录及其在监听深度内的子目录，已被其它路径注册的目录复用已有的WatchKey
+	 *
+	 * @param root   监听路径
+	 * @param start  开始注册的目录
+	 * @param create 是否将已存在的子文件和子目录作为创建事件通知
+	 * @return 是否注册成功，失败或超出目录数限制返回{@code false}
+	 */
+	private boolean registerTree(Root root, Path start, boolean create) {
+		final List<Path> dirs = new ArrayList<>();
+		final int depth = root.isFile() ? 0 : root.maxDepth - root.depth(start);
+		walk(start, depth, (path, attrs) -> {
+			if (attrs.isDirectory() && root.isWatchDir(path) && false == pathKeyMap.containsKey(path)) {
+				dirs.add(path);
+			}
+			if (create && false == path.equals(start) && root.accept(path)) {
+				root.offer(path, WatchKind.CREATE);
+			}
+		});
+		if (pathKeyMap.size() + dirs.size() > maxWatchDirs) {
+			return false;
+		}
+
+		for (Path dir : dirs) {
+			try {
+				final WatchKey key = dir.register(watchService, WatchKind.ALL);
+				keyPathMap.put(key, dir);
+				pathKeyMap.put(dir, key);
+			} catch (AccessDeniedException | NoSuchFileException e) {
+				// 禁止访问或已被删除的目录，跳过监听
+			} catch (IOException | ClosedWatchServiceException e) {
+				// 例如超出系统的监听数限制
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 运行中原生监听失败时退化为轮询，并通知全量重新加载
+	 *
+	 * @param root 监听路径
+	 */
+	private void fallback(Root root) {
+		root.polling = true;
+		releaseKeys();
+		root.startPolling();
+		root.offer(root.path, WatchKind.OVERFLOW);
+	}
+
+	/**
+	 * 取消不再被任何原生监听路径使用的WatchKey
+	 */
+	private void releaseKeys() {
+		final Iterator<Map.Entry<Path, WatchKey>> iterator = pathKeyMap.entrySet().iterator();
+		while (iterator.hasNext()) {
+			final Map.Entry<Path, WatchKey> entry = iterator.next();
+			boolean used = false;
+			for (Root root : roots) {
+				if (false == root.polling && root.isWatchDir(entry.getKey())) {
+					used = true;
+					break;
+				}
+			}
+			if (false == used) {
+				entry.getValue().cancel();
+				keyPathMap.remove(entry.getValue());
+				iterator.remove();
+			}
+		}
+	}
+
+	/**
+	 * 遍历路径，访问失败（无权限或已被删除）的文件跳过
+	 *
+	 * @param start    开始路径
+	 * @param maxDepth 最大深度，0表示只访问开始路径
+	 * @param consumer 路径和属性的处理，包括开始路径本身
+	 */
+	private static void walk(Path start, int maxDepth, BiConsumer<Path, BasicFileAttributes> consumer) {
+		try {
+			Files.walkFileTree(start, EnumSet.noneOf(FileVisitOption.class), maxDepth, new SimpleFileVisitor<Path>() {
+				@Override
+				public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+					consumer.accept(dir, attrs);
+					return FileVisitResult.CONTINUE;
+				}
+
+				@Override
+				public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+					consumer.accept(file, attrs);
+					return FileVisitResult.CONTINUE;
+				}
+
+				@Override
+				public FileVisitResult visitFileFailed(Path file, IOException exc) {
+					return FileVisitResult.CONTINUE;
+				}
+			});
+		} catch (IOException e) {
+			throw new WatchException(e);
+		}
+	}
+
+	/**
+	 * 合并同一路径的前后两个事件
+	 *
+	 * @param old  之前的合并结果，{@code null}表示无
+	 * @param kind 新事件
+	 * @return 合并结果，{@code null}表示相互抵消
+	 */
+	private static WatchKind merge(WatchKind old, WatchKind kind) {
+		if (null == old) {
+			return kind;
+		}
+		switch (kind) {
+			case CREATE:
+				// 删除后重建视为修改
+				return WatchKind.DELETE == old ? WatchKind.MODIFY : old;
+			case MODIFY:
+				return WatchKind.CREATE == old ? WatchKind.CREATE : WatchKind.MODIFY;
+			case DELETE:
+				// 新建后删除相互抵消
+				return WatchKind.CREATE == old ? null : WatchKind.DELETE;
+			default:
+				return kind;
+		}
+	}
+	// ---------------------------------------------------------------------------------------------------------- Private method end
+
+	/**
+	 * 注册的监听路径，包括待回调的变更和轮询快照
+	 */
+	private class Root {
+		/**
+		 * 注册的路径，目录或文件
+		 */
+		final Path path;
+		/**
+		 * 监听的目录，监听文件时为其父目录
+		 */
+		final Path dir;
+		final int maxDepth;
+		final BatchWatcher watcher;
+		volatile boolean polling;
+
+		/**
+		 * 待回调的变更，按首次发生顺序
+		 */
+		private final Map<Path, WatchKind> pending = new LinkedHashMap<>();
+		private boolean overflow;
+		private boolean cancelled;
+		private long firstTime;
+		private long lastTime;
+		private ScheduledFuture<?> flushFuture;
+
+		/**
+		 * 轮询快照，路径对应[修改时间, 大小]，目录大小为-1，只在调度线程中访问
+		 */
+		private Map<Path, long[]> snapshot;
+		private ScheduledFuture<?> pollFuture;
+
+		Root(Path path, Path dir, int maxDepth, BatchWatcher watcher) {
+			this.path = path;
+			this.dir = dir;
+			this.maxDepth = maxDepth;
+			this.watcher = watcher;
+		}
+
+		boolean isFile() {
+			return path != dir;
+		}
+
+		/**
+		 * 路径相对监听目录的深度，监听目录本身为0
+		 */
+		int depth(Path p) {
+			return p.equals(dir) ? 0 : dir.relativize(p).getNameCount();
+		}
+
+		/**
+		 * 路径的变更是否属于此监听路径
+		 */
+		boolean accept(Path p) {
+			if (isFile()) {
+				return path.equals(p);
+			}
+			return p.startsWith(dir) && false == p.equals(dir) && depth(p) <= maxDepth;
+		}
+
+		/**
+		 * 目录是否需要注册原生监听
+		 */
+		boolean isWatchDir(Path p) {
+			if (isFile()) {
+				return dir.equals(p);
+			}
+			return p.startsWith(dir) && depth(p) < maxDepth;
+		}
+
+		/**
+		 * 加入变更，首个变更启动防抖计时
+		 */
+		synchronized void offer(Path p, WatchKind kind) {
+			if (closed || cancelled) {
+				return;
+			}
+			if (WatchKind.OVERFLOW == kind) {
+				overflow = true;
+			} else {
+				final WatchKind merged = merge(pending.get(p), kind);
+				if (null == merged) {
+					pending.remove(p);
+				} else {
+					pending.put(p, merged);
+				}
+			}
+
+			lastTime = System.nanoTime();
+			if (null == flushFuture) {
+				firstTime = lastTime;
+				flushFuture = scheduler.schedule(this::flush, debounce, TimeUnit.MILLISECONDS);
+			}
+		}
+
+		/**
+		 * 事件静默一个防抖窗口或等待超出maxDelay时回调，否则继续等待
+		 */
+		void flush() {
+			final List<WatchChange> changes;
+			synchronized (this) {
+				if (closed || cancelled) {
+					return;
+				}
+				final long now = System.nanoTime();
+				final long quietWait = TimeUnit.MILLISECONDS.toNanos(debounce) - (now - lastTime);
+				final long maxWait = TimeUnit.MILLISECONDS.toNanos(Math.max(debounce, maxDelay)) - (now - firstTime);
+				if (quietWait > 0 && maxWait > 0) {
+					flushFuture = scheduler.schedule(this::flush, Math.min(quietWait, maxWait), TimeUnit.NANOSECONDS);
+					return;
+				}
+
+				flushFuture = null;
+				if (pending.isEmpty() && false == overflow) {
+					return;
+				}
+				changes = new ArrayList<>(pending.size() + 1);
+				if (overflow) {
+					changes.add(new WatchChange(path, WatchKind.OVERFLOW));
+					overflow = false;
+				}
+				pending.forEach((p, kind) -> changes.add(new WatchChange(p, kind)));
+				pending.clear();
+			}
+
+			try {
+				watcher.onChanges(path, Collections.unmodifiableList(changes));
+			} catch (Exception e) {
+				// 回调异常不影响后续监听
+				Console.error(e, "Watcher of [{}] error: {}", path, e.getMessage());
+			}
+		}
+
+		/**
+		 * 生成初始快照并开始定时轮询
+		 */
+		void startPolling() {
+			snapshot = scan(16);
+			pollFuture = scheduler.scheduleWithFixedDelay(this::poll, pollInterval, pollInterval, TimeUnit.MILLISECONDS);
+		}
+
+		/**
+		 * 扫描并与上次快照对比，差异作为变更加入
+		 */
+		void poll() {
+			final Map<Path, long[]> current;
+			try {
+				current = scan(snapshot.size());
+			} catch (Exception e) {
+				// 扫描异常时等待下次轮询
+				return;
+			}
+			for (Map.Entry<Path, long[]> entry : current.entrySet()) {
+				final long[] old = snapshot.remove(entry.getKey());
+				final long[] value = entry.getValue();
+				if (null == old) {
+					offer(entry.getKey(), WatchKind.CREATE);
+				} else if (value[1] >= 0 && (old[0] != value[0] || old[1] != value[1])) {
+					offer(entry.getKey(), WatchKind.MODIFY);
+				}
+			}
+			// 剩余的为已删除的路径
+			for (Path deleted : snapshot.keySet()) {
+				offer(deleted, WatchKind.DELETE);
+			}
+			snapshot = current;
+		}
+
+		/**
+		 * 扫描监听范围内所有路径的修改时间和大小
+		 */
+		Map<Path, long[]> scan(int expectedSize) {
+			final Map<Path, long[]> result = new HashMap<>((int) (expectedSize / 0.75f) + 1);
+			walk(path, isFile() ? 0 : maxDepth, (p, attrs) -> {
+				if (accept(p)) {
+					result.put(p, new long[]{attrs.lastModifiedTime().toMillis(), attrs.isDirectory() ? -1 : attrs.size()});
+				}
+			});
+			return result;
+		}
+
+		/**
+		 * 取消轮询和待回调的变更
+		 */
+		synchronized void cancel() {
+			cancelled = true;
+			if (null != pollFuture) {
+				pollFuture.cancel(false);
+			}
+			if (null != flushFuture) {
+				flushFuture.cancel(false);
+				flushFuture = null;
+			}
+			pending.clear();
+		}
+	}
+}
@@ -0,0 +1,23 @@
+package cn.hutool.core.io.watch;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * 批量监听事件处理接口，配合{@link BatchWatchServer}使用，一次回调防抖窗口内合并后的所有变更
+ *
+ * @author looly
+ * @since 5.8.31
+ */
+@FunctionalInterface
+public interface BatchWatcher {
+
+	/**
+	 * 变更回调，同一服务中的回调在同一线程中串行执行，不宜有耗时操作<br>
+	 * 变更按首次发生的顺序排列；如果出现事件丢失，列表首个元素为路径为监听根路径的{@link WatchKind#OVERFLOW}变更，此时应全量重新加载
+	 *
+	 * @param root    注册的监听路径
+	 * @param changes 合并后的变更列表，不可修改
+	 */
+	void onChanges(Path root, List<WatchChange> changes);
+}
@@ -0,0 +1,67 @@
+package cn.hutool.core.io.watch;
+
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * 合并后的文件变更，表示一个路径在防抖窗口内的最终变化，例如先创建后修改合并为创建，先创建后删除则相互抵消
+ *
+ * @author looly
+ * @since 5.8.31
+ */
+public class WatchChange {
+
+	private final Path path;
+	private final WatchKind kind;
+
+	/**
+	 * 构造
+	 *
+	 * @param path 变更的完整路径
+	 * @param kind 变更类型
+	 */
+	public WatchChange(Path path, WatchKind kind) {
+		this.path = path;
+		this.kind = kind;
+	}
+
+	/**
+	 * 获取变更的完整路径
+	 *
+	 * @return 完整路径
+	 */
+	public Path getPath() {
+		return path;
+	}
+
+	/**
+	 * 获取变更类型
+	 *
+	 * @return 变更类型
+	 */
+	public WatchKind getKind() {
+		return kind;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o == null || getClass() != o.getClass()) {
+			return false;
+		}
+		final WatchChange that = (WatchChange) o;
+		return kind == that.kind && Objects.equals(path, that.path);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(path, kind);
+	}
+
+	@Override
+	public String toString() {
+		return kind + ":" + path;
+	}
+}
@@ -3,8 +3,13 @@ package cn.hutool.core.lang;
 import cn.hutool.core.lang.hash.Hash32;
 import cn.hutool.core.util.HashUtil;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.SortedMap;
 import java.util.TreeMap;
 
@@ -12,6 +17,10 @@ import java.util.TreeMap;
  * 一致性Hash算法
  * 算法详解：http://blog.csdn.net/sparkliang/article/details/5279393
  * 算法实现：https://weblogs.java.net/blog/2007/11/27/consistent-hashing
+ * <p>
+ * 哈希环以有序数组的只读快照保存，{@link #get(Object)}使用二分查找，无锁且不产生装箱；
+ * {@link #add(Object)}和{@link #remove(Object)}加锁修改后整体替换快照（写时复制），适用于读多写少的场景，线程安全。
+ *
  * @author xiaoleilu
  *
  * @param <T>	节点类型
@@ -23,8 +32,10 @@ public class ConsistentHash<T> implements Serializable{
 	Hash32<Object> hashFunc;
 	/** 复制的节点个数 */
 	private final int numberOfReplicas;
-	/** 一致性Hash环 */
+	/** 一致性Hash环，仅在修改时使用（持有其锁），查找使用{@link #ring} */
 	private final SortedMap<Integer, T> circle = new TreeMap<>();
+	/** 一致性Hash环的只读快照 */
+	private transient volatile Ring ring = Ring.EMPTY;
 
 	/**
 	 * 构造，使用Java默认的Hash算法
@@ -39,8 +50,9 @@ public class ConsistentHash<T> implements Serializable{
 		};
 		//初始化节点
 		for (T node : nodes) {
-			add(node);
+			putNode(node);
 		}
+		refresh();
 	}
 
 	/**
@@ -54,8 +66,9 @@ public class ConsistentHash<T> implements Serializable{
 		this.hashFunc = hashFunc;
 		//初始化节点
 		for (T node : nodes) {
-			add(node);
+			putNode(node);
 		}
+		refresh();
 	}
 
 	/**
@@ -66,8 +79,9 @@ public class ConsistentHash<T> implements Serializable{
 	 * @param node 节点对象
 	 */
 	public void add(T node) {
-		for (int i = 0; i < numberOfReplicas; i++) {
-			circle.put(hashFunc.hash32(node.toString() + i), node);
+		synchronized (circle) {
+			putNode(node);
+			refresh();
 		}
 	}
 
@@ -76,8 +90,11 @@ public class ConsistentHash<T> implements Serializable{
 	 * @param node 节点对象
 	 */
 	public void remove(T node) {
-		for (int i = 0; i < numberOfReplicas; i++) {
-			circle.remove(hashFunc.hash32(node.toString() + i));
+		synchronized (circle) {
+			for (int i = 0; i < numberOfReplicas; i++) {
+				circle.remove(hashFunc.hash32(node.toString() + i));
+			}
+			refresh();
 		}
 	}
 
@@ -86,16 +103,102 @@ public class ConsistentHash<T> implements Serializable{
 	 * @param key 为给定键取Hash，取得顺时针方向上最近的一个虚拟节点对应的实际节点
 	 * @return 节点对象
 	 */
+	@SuppressWarnings("unchecked")
 	public T get(Object key) {
-		if (circle.isEmpty()) {
+		final Ring ring = this.ring;
+		if (ring.hashes.length == 0) {
 			return null;
 		}
-		int hash = hashFunc.hash32(key);
-		if (false == circle.containsKey(hash)) {
-			SortedMap<Integer, T> tailMap = circle.tailMap(hash);	//返回此映射的部分视图，其键大于等于 hash
-			hash = tailMap.isEmpty() ? circle.firstKey() : tailMap.firstKey();
+		return (T) ring.nodes[ring.indexOf(hashFunc.hash32(key))];
+	}
+
+	/**
+	 * 统计给定的样本key在各节点上的分布，用于评估负载是否均衡<br>
+	 * 理想情况下各节点的数量接近样本数/节点数，偏差较大时可增加复制的节点个数。
+	 *
+	 * @param keys 样本key，如近期的请求key
+	 * @return 节点与命中数的Map，包含未命中的节点，按照节点在环上首次出现的顺序
+	 * @since 5.8.31
+	 */
+	@SuppressWarnings("unchecked")
+	public Map<T, Integer> getDistribution(Iterable<?> keys) {
+		final Ring ring = this.ring;
+		final Map<T, Integer> result = new LinkedHashMap<>();
+		for (Object node : ring.nodes) {
+			result.putIfAbsent((T) node, 0);
+		}
+		if (ring.hashes.length > 0) {
+			for (Object key : keys) {
+				result.merge((T) ring.nodes[ring.indexOf(hashFunc.hash32(key))], 1, Integer::sum);
+			}
+		}
+		return result;
+	}
+
+	// ------------------------------------------------------------------------------------------------------------------ Private method start
+
+	/**
+	 * 在环上增加节点的虚拟节点，需持有circle的锁或在构造中调用
+	 *
+	 * @param node 节点对象
+	 */
+	private void putNode(T node) {
+		for (int i = 0; i < numberOfReplicas; i++) {
+			circle.put(hashFunc.hash32(node.toString() + i), node);
+		}
+	}
+
+	/**
+	 * 根据circle重建只读快照，需持有circle的锁或在构造中调用
+	 */
+	private void refresh() {
+		final int size = circle.size();
+		final int[] hashes = new int[size];
+		final Object[] nodes = new Object[size];
+		int i = 0;
+		for (Map.Entry<Integer, T> entry : circle.entrySet()) {
+			hashes[i] = entry.getKey();
+			nodes[i] = entry.getValue();
+			i++;
+		}
+		this.ring = new Ring(hashes, nodes);
+	}
+
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		refresh();
+	}
+	// ------------------------------------------------------------------------------------------------------------------ Private method end
+
+	/**
+	 * 哈希环的只读快照，hashes升序排列，nodes[i]为hashes[i]对应的节点
+	 */
+	private static class Ring {
+		static final Ring EMPTY = new Ring(new int[0], new Object[0]);
+
+		final int[] hashes;
+		final Object[] nodes;
+
+		Ring(int[] hashes, Object[] nodes) {
+			this.hashes = hashes;
+			this.nodes = nodes;
+		}
+
+		/**
+		 * 查找大于等于hash的第一个虚拟节点，没有则回到环的起点
+		 *
+		 * @param hash hash值
+		 * @return 虚拟节点下标
+		 */
+		int indexOf(int hash) {
+			int index = Arrays.binarySearch(hashes, hash);
+			if (index < 0) {
+				index = -index - 1;
+				if (index == hashes.length) {
+					index = 0;
+				}
+			}
+			return index;
 		}
-		//正好命中
-		return circle.get(hash);
 	}
-}
\ No newline at end of file
+}
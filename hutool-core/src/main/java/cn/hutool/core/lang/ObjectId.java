@@ -47,6 +47,8 @@ public class ObjectId {
 
 	/** 线程安全的下一个随机数,每次生成自增+1 */
 	private static final AtomicInteger NEXT_INC = new AtomicInteger(RandomUtil.randomInt());
+	/** 小写的hex字符 */
+	private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
 	/** 机器信息 */
 	private static final int MACHINE = getMachinePiece() | getProcessPiece();
 
@@ -114,24 +116,37 @@ public class ObjectId {
 	 * @return objectId
 	 */
 	public static String next(boolean withHyphen) {
-		byte[] array = nextBytes();
-		final StringBuilder buf = new StringBuilder(withHyphen ? 26 : 24);
-		int t;
-		for (int i = 0; i < array.length; i++) {
-			if (withHyphen && i % 4 == 0 && i != 0) {
-				buf.append("-");
-			}
-			t = array[i] & 0xff;
-			if (t < 16) {
-				buf.append('0');
-			}
-			buf.append(Integer.toHexString(t));
-
+		// 直接按照int写入hex字符，避免中间字节数组和逐字节转换的开销
+		final char[] chars = new char[withHyphen ? 26 : 24];
+		int pos = appendHex(chars, 0, (int) DateUtil.currentSeconds());
+		if (withHyphen) {
+			chars[pos++] = '-';
 		}
-		return buf.toString();
+		pos = appendHex(chars, pos, MACHINE);
+		if (withHyphen) {
+			chars[pos++] = '-';
+		}
+		appendHex(chars, pos, NEXT_INC.getAndIncrement());
+		return new String(chars);
 	}
 
 	// ----------------------------------------------------------------------------------------- Private method start
+
+	/**
+	 * 将int值按照8位小写hex写入字符数组
+	 *
+	 * @param chars 字符数组
+	 * @param pos   写入的起始位置
+	 * @param value 值
+	 * @return 写入后的位置
+	 */
+	private static int appendHex(char[] chars, int pos, int value) {
+		for (int i = pos + 7; i >= pos; i--) {
+			chars[i] = HEX_DIGITS[value & 0xF];
+			value >>>= 4;
+		}
+		return pos + 8;
+	}
 	/**
 	 * 获取机器码片段
 	 *
@@ -0,0 +1,178 @@
+package cn.hutool.core.lang;
+
+import cn.hutool.core.lang.hash.Hash32;
+import cn.hutool.core.util.HashUtil;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Rendezvous Hash（最高随机权重，HRW）算法<br>
+ * 对每个key，计算其与每个节点组合的权重，选择权重最大的节点。相比{@link ConsistentHash}无需虚拟节点即可均匀分布，
+ * 增删任一节点时只有属于该节点的key被重新映射，代价是每次查找需要遍历所有节点，适用于节点数较少（几十个以内）的场景。
+ * <p>
+ * 节点列表以数组快照保存，{@link #get(Object)}无锁且不分配内存（key的hash计算除外）；
+ * {@link #add(Object)}和{@link #remove(Object)}加锁后整体替换快照，线程安全。
+ * <p>
+ * 参考：https://en.wikipedia.org/wiki/Rendezvous_hashing
+ *
+ * @param <T> 节点类型
+ * @author looly
+ * @since 5.8.31
+ */
+public class RendezvousHash<T> implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Hash计算对象，用于自定义hash算法
+	 */
+	private final Hash32<Object> hashFunc;
+	/**
+	 * 节点快照
+	 */
+	private volatile Nodes nodes;
+
+	/**
+	 * 构造，使用FNV1 hash算法
+	 *
+	 * @param nodes 节点对象
+	 */
+	public RendezvousHash(Collection<T> nodes) {
+		this(key -> HashUtil.fnvHash(key.toString()), nodes);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param hashFunc hash算法对象
+	 * @param nodes    节点对象
+	 */
+	public RendezvousHash(Hash32<Object> hashFunc, Collection<T> nodes) {
+		this.hashFunc = Assert.notNull(hashFunc);
+		final List<T> list = new ArrayList<>(nodes.size());
+		for (T node : nodes) {
+			if (false == contains(list, node)) {
+				list.add(node);
+			}
+		}
+		update(list.toArray());
+	}
+
+	/**
+	 * 增加节点，由于hash算法会调用node的toString方法，故按照toString去重
+	 *
+	 * @param node 节点对象
+	 */
+	public synchronized void add(T node) {
+		final Object[] nodes = this.nodes.nodes;
+		if (contains(Arrays.asList(nodes), node)) {
+			return;
+		}
+		final Object[] newNodes = new Object[nodes.length + 1];
+		System.arraycopy(nodes, 0, newNodes, 0, nodes.length);
+		newNodes[nodes.length] = node;
+		update(newNodes);
+	}
+
+	/**
+	 * 移除节点，按照toString匹配
+	 *
+	 * @param node 节点对象
+	 */
+	public synchronized void remove(T node) {
+		final Object[] nodes = this.nodes.nodes;
+		final List<Object> list = new ArrayList<>(nodes.length);
+		for (Object n : nodes) {
+			if (false == n.toString().equals(node.toString())) {
+				list.add(n);
+			}
+		}
+		update(list.toArray());
+	}
+
+	/**
+	 * 获得key对应的节点，即与key组合权重最大的节点
+	 *
+	 * @param key 键
+	 * @return 节点对象，无节点返回{@code null}
+	 */
+	@SuppressWarnings("unchecked")
+	public T get(Object key) {
+		final Nodes snapshot = this.nodes;
+		final Object[] nodes = snapshot.nodes;
+		final long[] nodeHashes = snapshot.hashes;
+		final int size = nodes.length;
+		if (0 == size) {
+			return null;
+		}
+		final long keyHash = hashFunc.hash32(key);
+		int selected = 0;
+		long max = Long.MIN_VALUE;
+		long weight;
+		for (int i = 0; i < size; i++) {
+			weight = HashUtil.mix64(keyHash ^ nodeHashes[i]);
+			if (weight > max) {
+				max = weight;
+				selected = i;
+			}
+		}
+		return (T) nodes[selected];
+	}
+
+	/**
+	 * 节点数
+	 *
+	 * @return 节点数
+	 */
+	public int size() {
+		return this.nodes.nodes.length;
+	}
+
+	/**
+	 * 更新节点快照
+	 *
+	 * @param nodes 新的节点
+	 */
+	private void update(Object[] nodes) {
+		final long[] hashes = new long[nodes.length];
+		for (int i = 0; i < nodes.length; i++) {
+			// 节点hash扩展到64位，避免与32位的key hash异或后相互抵消
+			hashes[i] = HashUtil.mix64(hashFunc.hash32(nodes[i].toString()));
+		}
+		this.nodes = new Nodes(nodes, hashes);
+	}
+
+	/**
+	 * 列表中是否已有toString相同的节点
+	 *
+	 * @param list 列表
+	 * @param node 节点
+	 * @return 是否包含
+	 */
+	private static boolean contains(List<?> list, Object node) {
+		for (Object n : list) {
+			if (n.toString().equals(node.toString())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 节点快照，nodes[i]的hash值为hashes[i]
+	 */
+	private static class Nodes implements Serializable {
+		private static final long serialVersionUID = 1L;
+
+		final Object[] nodes;
+		final long[] hashes;
+
+		Nodes(Object[] nodes, long[] hashes) {
+			this.nodes = nodes;
+			this.hashes = hashes;
+		}
+	}
+}
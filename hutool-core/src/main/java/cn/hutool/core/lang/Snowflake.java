@@ -8,6 +8,7 @@ import cn.hutool.core.util.StrUtil;
 
 import java.io.Serializable;
 import java.util.Date;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 
 /**
  * Twitter的Snowflake 算法<br>
@@ -27,6 +28,9 @@ import java.util.Date;
  * <p>
  * 并且可以通过生成的id反推出生成时间,datacenterId和workerId
  * <p>
+ * 生成ID时不加锁，上次时间戳和序号打包在一个long中通过CAS更新，高并发下不会产生锁竞争；
+ * 批量生成可使用{@link #nextIds(int)}，每毫秒只需一次CAS即可预留多个序号。
+ * <p>
  * 参考：http://www.cnblogs.com/relucent/p/4955340.html<br>
  * 关于长度是18还是19的问题见：https://blog.csdn.net/unifirst/article/details/80408050
  *
@@ -64,6 +68,8 @@ public class Snowflake implements Serializable {
 	private static final long TIMESTAMP_LEFT_SHIFT = SEQUENCE_BITS + WORKER_ID_BITS + DATA_CENTER_ID_BITS;
 	// 序列掩码，用于限定序列最大值不能超过4095
 	private static final long SEQUENCE_MASK = ~(-1L << SEQUENCE_BITS);// 4095
+	// 状态的CAS更新器
+	private static final AtomicLongFieldUpdater<Snowflake> STATE = AtomicLongFieldUpdater.newUpdater(Snowflake.class, "state");
 
 	/**
 	 * 初始化时间点
@@ -85,10 +91,10 @@ public class Snowflake implements Serializable {
 	private final long randomSequenceLimit;
 
 	/**
-	 * 自增序号，当高频模式下时，同一毫秒内生成N个ID，则这个序号在同一毫秒下，自增以避免ID重复。
+	 * 上次生成ID的状态，高位为时间戳，低{@link #SEQUENCE_BITS}位为最后使用的序号。<br>
+	 * 当高频模式下时，同一毫秒内生成N个ID，则这个序号在同一毫秒下，自增以避免ID重复。
 	 */
-	private long sequence = 0L;
-	private long lastTimestamp = -1L;
+	private volatile long state = 0L;
 
 	/**
 	 * 构造，使用自动生成的工作节点ID和数据中心ID
@@ -238,39 +244,35 @@ public class Snowflake implements Serializable {
 	 *
 	 * @return ID
 	 */
-	public synchronized long nextId() {
-		long timestamp = genTime();
-		if (timestamp < this.lastTimestamp) {
-			if (this.lastTimestamp - timestamp < timeOffset) {
-				// 容忍指定的回拨，避免NTP校时造成的异常
-				timestamp = lastTimestamp;
-			} else {
-				// 如果服务器时间有问题(时钟后退) 报错。
-				throw new IllegalStateException(StrUtil.format("Clock moved backwards. Refusing to generate id for {}ms", lastTimestamp - timestamp));
-			}
-		}
+	public long nextId() {
+		final long reserved = reserve(1);
+		return toId(reserved >>> SEQUENCE_BITS, reserved & SEQUENCE_MASK);
+	}
 
-		if (timestamp == this.lastTimestamp) {
-			final long sequence = (this.sequence + 1) & SEQUENCE_MASK;
-			if (sequence == 0) {
-				timestamp = tilNextMillis(lastTimestamp);
-			}
-			this.sequence = sequence;
-		} else {
-			// issue#I51EJY
-			if (randomSequenceLimit > 1) {
-				sequence = RandomUtil.randomLong(randomSequenceLimit);
-			} else {
-				sequence = 0L;
+	/**
+	 * 批量生成ID，同一毫秒内的序号一次性预留，生成的ID递增<br>
+	 * 单毫秒内最多{@link #SEQUENCE_MASK} + 1个序号，数量超出时会跨越多个毫秒。
+	 *
+	 * @param count ID个数
+	 * @return ID数组
+	 * @since 5.8.31
+	 */
+	public long[] nextIds(int count) {
+		Assert.isTrue(count > 0, "Count must be > 0!");
+		final long[] ids = new long[count];
+		int filled = 0;
+		long reserved, timestamp, sequence;
+		int size;
+		while (filled < count) {
+			reserved = reserve(count - filled);
+			timestamp = reserved >>> SEQUENCE_BITS;
+			sequence = reserved & SEQUENCE_MASK;
+			size = reservedSize(sequence, count - filled);
+			for (int i = 0; i < size; i++) {
+				ids[filled++] = toId(timestamp, sequence + i);
 			}
 		}
-
-		lastTimestamp = timestamp;
-
-		return ((timestamp - twepoch) << TIMESTAMP_LEFT_SHIFT)
-				| (dataCenterId << DATA_CENTER_ID_SHIFT)
-				| (workerId << WORKER_ID_SHIFT)
-				| sequence;
+		return ids;
 	}
 
 	/**
@@ -284,6 +286,69 @@ public class Snowflake implements Serializable {
 
 	// ------------------------------------------------------------------------------------------------------------------------------------ Private method start
 
+	/**
+	 * 通过CAS预留当前毫秒内的序号
+	 *
+	 * @param maxCount 最多预留的序号个数
+	 * @return 预留的起始状态，高位为时间戳，低{@link #SEQUENCE_BITS}位为起始序号，预留个数见{@link #reservedSize(long, int)}
+	 */
+	private long reserve(int maxCount) {
+		long current, lastTimestamp, timestamp, sequence;
+		do {
+			current = this.state;
+			lastTimestamp = current >>> SEQUENCE_BITS;
+			timestamp = genTime();
+			if (timestamp < lastTimestamp) {
+				if (lastTimestamp - timestamp < timeOffset) {
+					// 容忍指定的回拨，避免NTP校时造成的异常
+					timestamp = lastTimestamp;
+				} else {
+					// 如果服务器时间有问题(时钟后退) 报错。
+					throw new IllegalStateException(StrUtil.format("Clock moved backwards. Refusing to generate id for {}ms", lastTimestamp - timestamp));
+				}
+			}
+
+			if (timestamp == lastTimestamp) {
+				sequence = (current & SEQUENCE_MASK) + 1;
+				if (sequence > SEQUENCE_MASK) {
+					timestamp = tilNextMillis(lastTimestamp);
+					sequence = 0L;
+				}
+			} else {
+				// issue#I51EJY
+				sequence = randomSequenceLimit > 1 ? RandomUtil.randomLong(randomSequenceLimit) : 0L;
+			}
+		} while (false == STATE.compareAndSet(this, current,
+				(timestamp << SEQUENCE_BITS) | (sequence + reservedSize(sequence, maxCount) - 1)));
+
+		return (timestamp << SEQUENCE_BITS) | sequence;
+	}
+
+	/**
+	 * 计算从指定序号开始可预留的序号个数
+	 *
+	 * @param sequence 起始序号
+	 * @param maxCount 最多预留的序号个数
+	 * @return 预留的序号个数
+	 */
+	private static int reservedSize(long sequence, int maxCount) {
+		return (int) Math.min(maxCount, SEQUENCE_MASK - sequence + 1);
+	}
+
+	/**
+	 * 根据时间戳和序号生成ID
+	 *
+	 * @param timestamp 时间戳
+	 * @param sequence  序号
+	 * @return ID
+	 */
+	private long toId(long timestamp, long sequence) {
+		return ((timestamp - twepoch) << TIMESTAMP_LEFT_SHIFT)
+				| (dataCenterId << DATA_CENTER_ID_SHIFT)
+				| (workerId << WORKER_ID_SHIFT)
+				| sequence;
+	}
+
 	/**
 	 * 循环等待下一个时间
 	 *
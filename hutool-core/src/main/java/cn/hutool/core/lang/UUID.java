@@ -1,12 +1,12 @@
 package cn.hutool.core.lang;
 
 import cn.hutool.core.util.RandomUtil;
-import cn.hutool.core.util.StrUtil;
 
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * 提供通用唯一识别码（universally unique identifier）（UUID）实现，UUID表示一个128位的值。<br>
@@ -52,6 +52,11 @@ public class UUID implements java.io.Serializable, Comparable<UUID> {
 		static final SecureRandom NUMBER_GENERATOR = RandomUtil.getSecureRandom();
 	}
 
+	/**
+	 * 小写的hex字符
+	 */
+	private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
 	/**
 	 * 此UUID的最高64有效位
 	 */
@@ -117,7 +122,15 @@ public class UUID implements java.io.Serializable, Comparable<UUID> {
 	 * @return 随机生成的 {@code UUID}
 	 */
 	public static UUID randomUUID(boolean isSecure) {
-		final Random ng = isSecure ? Holder.NUMBER_GENERATOR : RandomUtil.getRandom();
+		if (false == isSecure) {
+			// 线程本地随机数，直接生成两个long，避免字节数组的分配和转换
+			final ThreadLocalRandom random = ThreadLocalRandom.current();
+			return new UUID(
+					(random.nextLong() & ~0xF000L) | 0x4000L, /* version 4 */
+					(random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L /* IETF variant */);
+		}
+
+		final Random ng = Holder.NUMBER_GENERATOR;
 
 		final byte[] randomBytes = new byte[16];
 		ng.nextBytes(randomBytes);
@@ -344,31 +357,32 @@ public class UUID implements java.io.Serializable, Comparable<UUID> {
 	 * @return 此{@code UUID} 的字符串表现形式
 	 */
 	public String toString(boolean isSimple) {
-		final StringBuilder builder = StrUtil.builder(isSimple ? 32 : 36);
+		final char[] chars = new char[isSimple ? 32 : 36];
+		int pos = 0;
 		// time_low
-		builder.append(digits(mostSigBits >> 32, 8));
+		pos = digits(chars, pos, mostSigBits >> 32, 8);
 		if (false == isSimple) {
-			builder.append('-');
+			chars[pos++] = '-';
 		}
 		// time_mid
-		builder.append(digits(mostSigBits >> 16, 4));
+		pos = digits(chars, pos, mostSigBits >> 16, 4);
 		if (false == isSimple) {
-			builder.append('-');
+			chars[pos++] = '-';
 		}
 		// time_high_and_version
-		builder.append(digits(mostSigBits, 4));
+		pos = digits(chars, pos, mostSigBits, 4);
 		if (false == isSimple) {
-			builder.append('-');
+			chars[pos++] = '-';
 		}
 		// variant_and_sequence
-		builder.append(digits(leastSigBits >> 48, 4));
+		pos = digits(chars, pos, leastSigBits >> 48, 4);
 		if (false == isSimple) {
-			builder.append('-');
+			chars[pos++] = '-';
 		}
 		// node
-		builder.append(digits(leastSigBits, 12));
+		digits(chars, pos, leastSigBits, 12);
 
-		return builder.toString();
+		return new String(chars);
 	}
 
 	/**
@@ -424,15 +438,20 @@ public class UUID implements java.io.Serializable, Comparable<UUID> {
 	// ------------------------------------------------------------------------------------------------------------------- Private method start
 
 	/**
-	 * 返回指定数字对应的hex值
+	 * 将指定数字的低位按照hex写入字符数组，不足位数补0
 	 *
+	 * @param chars  字符数组
+	 * @param pos    写入的起始位置
 	 * @param val    值
 	 * @param digits 位
-	 * @return 值
+	 * @return 写入后的位置
 	 */
-	private static String digits(long val, int digits) {
-		long hi = 1L << (digits * 4);
-		return Long.toHexString(hi | (val & (hi - 1))).substring(1);
+	private static int digits(char[] chars, int pos, long val, int digits) {
+		for (int i = pos + digits - 1; i >= pos; i--) {
+			chars[i] = HEX_DIGITS[(int) (val & 0xF)];
+			val >>>= 4;
+		}
+		return pos + digits;
 	}
 
 	/**
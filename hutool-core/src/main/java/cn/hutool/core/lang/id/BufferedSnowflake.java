@@ -0,0 +1,69 @@
+package cn.hutool.core.lang.id;
+
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.lang.Snowflake;
+
+/**
+ * 线程本地缓冲的Snowflake ID生成器<br>
+ * 每个线程通过{@link Snowflake#nextIds(int)}一次预留一批ID，用完后再预留下一批，大部分调用无需访问共享状态。
+ *
+ * <p>
+ * 注意：
+ * <ul>
+ *     <li>单个线程内ID递增，但不同线程之间的ID不再按照生成时间有序</li>
+ *     <li>ID中的时间为预留时间，可能早于实际使用时间</li>
+ *     <li>线程结束时未使用的ID会被丢弃，ID不连续</li>
+ * </ul>
+ *
+ * @author looly
+ * @since 5.8.31
+ */
+public class BufferedSnowflake {
+
+	private final Snowflake snowflake;
+	private final int batchSize;
+	private final ThreadLocal<Buffer> buffer = ThreadLocal.withInitial(Buffer::new);
+
+	/**
+	 * 构造
+	 *
+	 * @param snowflake {@link Snowflake}，同一机器上应为单例
+	 * @param batchSize 每个线程每次预留的ID数
+	 */
+	public BufferedSnowflake(Snowflake snowflake, int batchSize) {
+		this.snowflake = Assert.notNull(snowflake, "Snowflake must be not null!");
+		Assert.isTrue(batchSize > 0, "BatchSize must be > 0!");
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * 下一个ID
+	 *
+	 * @return ID
+	 */
+	public long nextId() {
+		final Buffer buffer = this.buffer.get();
+		if (buffer.position >= buffer.ids.length) {
+			buffer.ids = snowflake.nextIds(batchSize);
+			buffer.position = 0;
+		}
+		return buffer.ids[buffer.position++];
+	}
+
+	/**
+	 * 下一个ID（字符串形式）
+	 *
+	 * @return ID 字符串形式
+	 */
+	public String nextIdStr() {
+		return Long.toString(nextId());
+	}
+
+	/**
+	 * 线程本地的ID缓冲
+	 */
+	private static class Buffer {
+		private long[] ids = new long[0];
+		private int position;
+	}
+}
@@ -1,6 +1,7 @@
 package cn.hutool.core.text;
 
 import cn.hutool.core.convert.Convert;
+import cn.hutool.core.io.BufferPool;
 import cn.hutool.core.util.ArrayUtil;
 import cn.hutool.core.util.StrUtil;
 
@@ -9,6 +10,7 @@ import java.util.Arrays;
 
 /**
  * 可复用的字符串生成器，非线程安全<br>
+ * 启用{@link BufferPool}全局缓冲池时，较大的缓冲区从池中借用，并在扩容或{@link #reset()}时归还<br>
  *  TODO 6.x移除此类，java8的StringBuilder非常完善了，无需重写。
  *
  * @author Looly
@@ -76,7 +78,7 @@ public class StrBuilder implements CharSequence, Appendable, Serializable {
 	 * @param initialCapacity 初始容量
 	 */
 	public StrBuilder(int initialCapacity) {
-		value = new char[initialCapacity];
+		value = newBuffer(initialCapacity);
 	}
 
 	/**
@@ -378,12 +380,18 @@ public class StrBuilder implements CharSequence, Appendable, Serializable {
 	}
 
 	/**
-	 * 删除全部字符，位置归零
+	 * 删除全部字符，位置归零<br>
+	 * 启用缓冲池时，较大的缓冲区归还缓冲池
 	 *
 	 * @return this
 	 */
 	public StrBuilder reset() {
 		this.position = 0;
+		final BufferPool pool = BufferPool.getGlobal();
+		if (null != pool && this.value.length >= BufferPool.MIN_POOLED_LENGTH) {
+			pool.returnChars(this.value);
+			this.value = new char[DEFAULT_CAPACITY];
+		}
 		return this;
 	}
 
@@ -565,7 +573,28 @@ public class StrBuilder implements CharSequence, Appendable, Serializable {
 		if (newCapacity < 0) {
 			throw new OutOfMemoryError("Capacity is too long and max than Integer.MAX");
 		}
-		value = Arrays.copyOf(value, newCapacity);
+		final char[] newValue = newBuffer(newCapacity);
+		System.arraycopy(value, 0, newValue, 0, value.length);
+		final BufferPool pool = BufferPool.getGlobal();
+		if (null != pool) {
+			// 原缓冲区不再使用，归还缓冲池
+			pool.returnChars(value);
+		}
+		value = newValue;
+	}
+
+	/**
+	 * 分配缓冲区，启用缓冲池且容量较大时从池中借用
+	 *
+	 * @param capacity 容量
+	 * @return 缓冲区，长度不小于capacity
+	 */
+	private static char[] newBuffer(int capacity) {
+		final BufferPool pool = BufferPool.getGlobal();
+		if (null != pool && capacity >= BufferPool.MIN_POOLED_LENGTH) {
+			return pool.borrowChars(capacity);
+		}
+		return new char[capacity];
 	}
 
 	/**
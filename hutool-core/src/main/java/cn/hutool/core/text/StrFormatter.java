@@ -1,17 +1,33 @@
 package cn.hutool.core.text;
 
+import cn.hutool.core.map.SafeConcurrentHashMap;
 import cn.hutool.core.util.ArrayUtil;
 import cn.hutool.core.util.StrUtil;
 
 import java.util.Map;
 
 /**
- * 字符串格式化工具
+ * 字符串格式化工具<br>
+ * 使用默认占位符{}及命名占位符时，模板编译为{@link StrTemplate}并缓存，重复使用同一模板时无需再次解析；
+ * 无法缓存的模板（过长或缓存已满）直接单次扫描格式化，不做编译。
  *
  * @author Looly
  */
 public class StrFormatter {
 
+	/**
+	 * 缓存的模板数上限，超过后新的模板不再缓存而是直接扫描格式化，避免动态拼接的模板导致内存无限增长
+	 */
+	private static final int TEMPLATE_CACHE_SIZE = 4096;
+	/**
+	 * 缓存的模板长度上限
+	 */
+	private static final int TEMPLATE_MAX_LENGTH = 1024;
+	/**
+	 * 模板缓存
+	 */
+	private static final Map<String, StrTemplate> TEMPLATE_CACHE = new SafeConcurrentHashMap<>();
+
 	/**
 	 * 格式化字符串<br>
 	 * 此方法只是简单将占位符 {} 按照顺序替换为参数<br>
@@ -48,6 +64,12 @@ public class StrFormatter {
 		if (StrUtil.isBlank(strPattern) || StrUtil.isBlank(placeHolder) || ArrayUtil.isEmpty(argArray)) {
 			return strPattern;
 		}
+		if (StrUtil.EMPTY_JSON.equals(placeHolder)) {
+			final StrTemplate template = getTemplate(strPattern);
+			if (null != template) {
+				return template.format(argArray);
+			}
+		}
 		final int strPatternLength = strPattern.length();
 		final int placeHolderLength = placeHolder.length();
 
@@ -112,15 +134,63 @@ public class StrFormatter {
 			return template.toString();
 		}
 
-		String template2 = template.toString();
+		final String pattern = template.toString();
+		final StrTemplate strTemplate = getTemplate(pattern);
+		if (null != strTemplate) {
+			return strTemplate.format(map, ignoreNull);
+		}
+		return formatNamed(pattern, map, ignoreNull);
+	}
+
+	/**
+	 * 获取编译后的模板，优先从缓存中获取，不在缓存中时编译并加入缓存
+	 *
+	 * @param pattern 模板
+	 * @return {@link StrTemplate}，模板过长或缓存已满时返回{@code null}，此时应直接扫描格式化
+	 */
+	private static StrTemplate getTemplate(String pattern) {
+		StrTemplate template = TEMPLATE_CACHE.get(pattern);
+		if (null == template && pattern.length() <= TEMPLATE_MAX_LENGTH && TEMPLATE_CACHE.size() < TEMPLATE_CACHE_SIZE) {
+			template = StrTemplate.compile(pattern);
+			TEMPLATE_CACHE.putIfAbsent(pattern, template);
+		}
+		return template;
+	}
+
+	/**
+	 * 单次扫描替换{name}形式的占位符，规则与{@link StrTemplate#format(Map, boolean)}一致，用于未缓存的模板
+	 *
+	 * @param pattern    模板
+	 * @param map        参数值对
+	 * @param ignoreNull 是否忽略 {@code null} 值
+	 * @return 格式化后的文本
+	 */
+	private static String formatNamed(String pattern, Map<?, ?> map, boolean ignoreNull) {
+		final Map<?, ?> strKeyMap = StrTemplate.toStrKeyMap(map);
+		final StringBuilder sb = new StringBuilder(pattern.length() + 50);
+		int literalStart = 0;
+		int open = pattern.indexOf(StrUtil.C_DELIM_START);
+		int close;
+		String name;
 		String value;
-		for (Map.Entry<?, ?> entry : map.entrySet()) {
-			value = StrUtil.utf8Str(entry.getValue());
-			if (null == value && ignoreNull) {
-				continue;
+		while (open >= 0) {
+			close = pattern.indexOf(StrUtil.C_DELIM_END, open + 1);
+			if (close < 0) {
+				break;
+			}
+			// 嵌套时取最内层
+			open = pattern.lastIndexOf(StrUtil.C_DELIM_START, close);
+			sb.append(pattern, literalStart, open);
+			name = pattern.substring(open + 1, close);
+			value = StrUtil.utf8Str(strKeyMap.get(name));
+			if (null != value) {
+				sb.append(value);
+			} else if (ignoreNull || false == strKeyMap.containsKey(name)) {
+				sb.append(pattern, open, close + 1);
 			}
-			template2 = StrUtil.replace(template2, "{" + entry.getKey() + "}", value);
+			literalStart = close + 1;
+			open = pattern.indexOf(StrUtil.C_DELIM_START, literalStart);
 		}
-		return template2;
+		return sb.append(pattern, literalStart, pattern.length()).toString();
 	}
 }
@@ -0,0 +1,279 @@
+package cn.hutool.core.text;
+
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.util.ArrayUtil;
+import cn.hutool.core.util.StrUtil;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 预编译的字符串模板<br>
+ * 编译时将模板拆分为文本片段和占位符，格式化时只需按顺序拼接，无需重复查找占位符和处理转义，适用于同一模板反复格式化的场景。<br>
+ * 支持两种占位符，规则分别与{@link StrFormatter#formatWith(String, String, Object...)}和{@link StrFormatter#format(CharSequence, Map, boolean)}一致：
+ * <ul>
+ *     <li>顺序占位符，默认为{}，按照参数顺序替换，支持\\转义</li>
+ *     <li>命名占位符{name}，按照Map中的键替换</li>
+ * </ul>
+ *
+ * <pre>
+ * StrTemplate template = StrTemplate.compile("this is {} for {}");
+ * template.format("a", "b");   // this is a for b
+ * template.appendTo(builder, "a", "b");
+ * </pre>
+ * <p>
+ * 编译后的对象不可变，线程安全。
+ *
+ * @author looly
+ * @since 5.8.31
+ */
+public class StrTemplate implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 原始模板
+	 */
+	private final String pattern;
+
+	// ------------------------------------------------------------------- 顺序占位符
+	/**
+	 * 第i个占位符之前的文本（已处理转义）
+	 */
+	private final String[] literals;
+	/**
+	 * 替换i个参数后，剩余原始文本的起始位置，参数不足时剩余部分原样保留
+	 */
+	private final int[] rawStarts;
+	/**
+	 * 最后一个占位符之后的文本（已处理转义），参数多于占位符时使用
+	 */
+	private final String tail;
+
+	// ------------------------------------------------------------------- 命名占位符
+	/**
+	 * 第i个命名占位符之前的文本，最后一个元素为最后一个占位符之后的文本
+	 */
+	private final String[] namedLiterals;
+	/**
+	 * 命名占位符的名称
+	 */
+	private final String[] names;
+
+	/**
+	 * 编译模板，顺序占位符为{}
+	 *
+	 * @param pattern 模板
+	 * @return StrTemplate
+	 */
+	public static StrTemplate compile(String pattern) {
+		return new StrTemplate(pattern, StrUtil.EMPTY_JSON);
+	}
+
+	/**
+	 * 编译模板
+	 *
+	 * @param pattern     模板
+	 * @param placeHolder 顺序占位符，例如{}
+	 * @return StrTemplate
+	 */
+	public static StrTemplate compile(String pattern, String placeHolder) {
+		return new StrTemplate(pattern, placeHolder);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param pattern     模板
+	 * @param placeHolder 顺序占位符
+	 */
+	private StrTemplate(String pattern, String placeHolder) {
+		this.pattern = Assert.notNull(pattern, "Pattern must be not null!");
+		Assert.notBlank(placeHolder, "PlaceHolder must be not blank!");
+
+		// 顺序占位符，处理逻辑与StrFormatter.formatWith一致
+		final List<String> literals = new ArrayList<>();
+		final List<Integer> rawStarts = new ArrayList<>();
+		final StringBuilder buf = new StringBuilder();
+		final int placeHolderLength = placeHolder.length();
+		int handledPosition = 0;
+		int delimIndex;
+		rawStarts.add(0);
+		while ((delimIndex = pattern.indexOf(placeHolder, handledPosition)) != -1) {
+			if (delimIndex > 0 && pattern.charAt(delimIndex - 1) == StrUtil.C_BACKSLASH) {
+				if (delimIndex > 1 && pattern.charAt(delimIndex - 2) == StrUtil.C_BACKSLASH) {
+					// 双转义符，占位符依旧有效
+					buf.append(pattern, handledPosition, delimIndex - 1);
+				} else {
+					// 占位符被转义
+					buf.append(pattern, handledPosition, delimIndex - 1).append(placeHolder.charAt(0));
+					handledPosition = delimIndex + 1;
+					continue;
+				}
+			} else {
+				buf.append(pattern, handledPosition, delimIndex);
+			}
+			literals.add(buf.toString());
+			buf.setLength(0);
+			handledPosition = delimIndex + placeHolderLength;
+			rawStarts.add(handledPosition);
+		}
+		buf.append(pattern, handledPosition, pattern.length());
+		this.literals = literals.toArray(new String[0]);
+		this.rawStarts = rawStarts.stream().mapToInt(Integer::intValue).toArray();
+		this.tail = buf.toString();
+
+		// 命名占位符，{和}之间的内容为名称，嵌套时取最内层
+		final List<String> namedLiterals = new ArrayList<>();
+		final List<String> names = new ArrayList<>();
+		int literalStart = 0;
+		int open = pattern.indexOf(StrUtil.C_DELIM_START);
+		int close;
+		while (open >= 0) {
+			close = pattern.indexOf(StrUtil.C_DELIM_END, open + 1);
+			if (close < 0) {
+				break;
+			}
+			open = pattern.lastIndexOf(StrUtil.C_DELIM_START, close);
+			namedLiterals.add(pattern.substring(literalStart, open));
+			names.add(pattern.substring(open + 1, close));
+			literalStart = close + 1;
+			open = pattern.indexOf(StrUtil.C_DELIM_START, literalStart);
+		}
+		namedLiterals.add(pattern.substring(literalStart));
+		this.namedLiterals = namedLiterals.toArray(new String[0]);
+		this.names = names.toArray(new String[0]);
+	}
+
+	/**
+	 * 获取原始模板
+	 *
+	 * @return 模板
+	 */
+	public String getPattern() {
+		return pattern;
+	}
+
+	/**
+	 * 使用参数按照顺序替换占位符<br>
+	 * 参数少于占位符时，剩余部分原样保留；参数为空时返回原模板
+	 *
+	 * @param args 参数
+	 * @return 格式化后的字符串
+	 */
+	public String format(Object... args) {
+		if (ArrayUtil.isEmpty(args)) {
+			return pattern;
+		}
+		return appendTo(new StringBuilder(pattern.length() + 50), args).toString();
+	}
+
+	/**
+	 * 使用参数按照顺序替换占位符，结果追加到给定的{@link Appendable}，如可复用的{@link StringBuilder}
+	 *
+	 * @param <T>        Appendable类型
+	 * @param appendable {@link Appendable}
+	 * @param args       参数
+	 * @return appendable
+	 * @throws IORuntimeException IO异常
+	 */
+	public <T extends Appendable> T appendTo(T appendable, Object... args) throws IORuntimeException {
+		try {
+			if (ArrayUtil.isEmpty(args)) {
+				appendable.append(pattern);
+				return appendable;
+			}
+			final int count = Math.min(args.length, literals.length);
+			for (int i = 0; i < count; i++) {
+				appendable.append(literals[i]).append(StrUtil.utf8Str(args[i]));
+			}
+			if (args.length > literals.length) {
+				appendable.append(tail);
+			} else {
+				appendable.append(pattern, rawStarts[count], pattern.length());
+			}
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+		return appendable;
+	}
+
+	/**
+	 * 使用Map按照名称替换{name}形式的占位符，Map中不存在的名称原样保留
+	 *
+	 * @param map        参数值对
+	 * @param ignoreNull 是否忽略 {@code null} 值，忽略则 {@code null} 值对应的变量不被替换，否则替换为""
+	 * @return 格式化后的字符串
+	 */
+	public String format(Map<?, ?> map, boolean ignoreNull) {
+		if (null == map || map.isEmpty() || 0 == names.length) {
+			return pattern;
+		}
+		return appendTo(new StringBuilder(pattern.length() + 50), map, ignoreNull).toString();
+	}
+
+	/**
+	 * 使用Map按照名称替换{name}形式的占位符，结果追加到给定的{@link Appendable}，Map中不存在的名称原样保留
+	 *
+	 * @param <T>        Appendable类型
+	 * @param appendable {@link Appendable}
+	 * @param map        参数值对
+	 * @param ignoreNull 是否忽略 {@code null} 值，忽略则 {@code null} 值对应的变量不被替换，否则替换为""
+	 * @return appendable
+	 * @throws IORuntimeException IO异常
+	 */
+	public <T extends Appendable> T appendTo(T appendable, Map<?, ?> map, boolean ignoreNull) throws IORuntimeException {
+		try {
+			if (null == map || map.isEmpty()) {
+				appendable.append(pattern);
+				return appendable;
+			}
+			final Map<?, ?> strKeyMap = toStrKeyMap(map);
+			String name;
+			String value;
+			for (int i = 0; i < names.length; i++) {
+				appendable.append(namedLiterals[i]);
+				name = names[i];
+				value = StrUtil.utf8Str(strKeyMap.get(name));
+				if (null != value) {
+					appendable.append(value);
+				} else if (false == ignoreNull && strKeyMap.containsKey(name)) {
+					// null值替换为""
+					continue;
+				} else {
+					appendable.append(StrUtil.C_DELIM_START).append(name).append(StrUtil.C_DELIM_END);
+				}
+			}
+			appendable.append(namedLiterals[names.length]);
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+		return appendable;
+	}
+
+	@Override
+	public String toString() {
+		return pattern;
+	}
+
+	/**
+	 * 键全部为String时直接使用，否则转换为以键的字符串形式为键的Map
+	 *
+	 * @param map Map
+	 * @return 键为String的Map
+	 */
+	static Map<?, ?> toStrKeyMap(Map<?, ?> map) {
+		for (Object key : map.keySet()) {
+			if (false == key instanceof String) {
+				final Map<String, Object> result = new HashMap<>(map.size(), 1);
+				map.forEach((k, v) -> result.putIfAbsent(String.valueOf(k), v));
+				return result;
+			}
+		}
+		return map;
+	}
+}
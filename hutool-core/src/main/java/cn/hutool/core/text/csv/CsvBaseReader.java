@@ -270,6 +270,39 @@ public class CsvBaseReader implements Serializable {
 		read(parse(reader), close, rowHandler);
 	}
 
+	/**
+	 * 使用{@link CsvSliceParser}从Reader中读取CSV数据，读取后关闭Reader<br>
+	 * 行中的字段值在使用时才生成，适用于大数据量或只需部分列（见{@link CsvReadConfig#setColumns(int...)}）的场景
+	 *
+	 * @param reader       Reader
+	 * @param sliceHandler 行切片处理器，行对象被复用，仅在处理方法内有效
+	 * @throws IORuntimeException IO异常
+	 * @since 5.8.31
+	 */
+	public void readSlice(Reader reader, CsvSliceHandler sliceHandler) throws IORuntimeException {
+		final CsvSliceParser parser = new CsvSliceParser(reader, this.config);
+		try {
+			parser.parse(sliceHandler);
+		} finally {
+			IoUtil.close(parser);
+		}
+	}
+
+	/**
+	 * 使用{@link CsvSliceParser}多线程分块读取CSV文件，限制条件见{@link CsvSliceParser#parallelParse(Path, Charset, CsvReadConfig, int, CsvSliceHandler)}
+	 *
+	 * @param path         CSV文件
+	 * @param charset      文件编码，null表示UTF-8
+	 * @param parallelism  并行数，小于等于0表示使用CPU核数
+	 * @param sliceHandler 行切片处理器，会被多个线程同时调用，须线程安全
+	 * @throws IORuntimeException IO异常
+	 * @since 5.8.31
+	 */
+	public void readSlice(Path path, Charset charset, int parallelism, CsvSliceHandler sliceHandler) throws IORuntimeException {
+		Assert.notNull(path, "path must not be null");
+		CsvSliceParser.parallelParse(path, charset, this.config, parallelism, sliceHandler);
+	}
+
 	//--------------------------------------------------------------------------------------------- Private method start
 
 	/**
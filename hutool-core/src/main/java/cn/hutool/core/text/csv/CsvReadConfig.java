@@ -23,6 +23,8 @@ public class CsvReadConfig extends CsvConfig<CsvReadConfig> implements Serializa
 	protected long endLineNo = Long.MAX_VALUE-1;
 	/** 每个字段是否去除两边空白符 */
 	protected boolean trimField;
+	/** 需要解析的列号（从0开始），null表示所有列，仅对{@link CsvSliceParser}有效 */
+	protected int[] columns;
 
 	/**
 	 * 默认配置
@@ -115,4 +117,16 @@ public class CsvReadConfig extends CsvConfig<CsvReadConfig> implements Serializa
 		this.trimField = trimField;
 		return this;
 	}
+
+	/**
+	 * 设置只解析的列，列号从0开始，未指定的列不生成字段值，仅对{@link CsvSliceParser}有效
+	 *
+	 * @param columns 列号，不指定或null表示解析所有列
+	 * @return this
+	 * @since 5.8.31
+	 */
+	public CsvReadConfig setColumns(int... columns) {
+		this.columns = (null == columns || columns.length == 0) ? null : columns.clone();
+		return this;
+	}
 }
@@ -0,0 +1,19 @@
+package cn.hutool.core.text.csv;
+
+/**
+ * CSV的行切片处理器，实现此接口用于按照行处理{@link CsvSliceParser}解析的数据<br>
+ * 传入的{@link CsvSliceRow}在解析下一行时会被复用，如需保留请调用{@link CsvSliceRow#toCsvRow()}
+ *
+ * @author looly
+ * @since 5.8.31
+ */
+@FunctionalInterface
+public interface CsvSliceHandler {
+
+	/**
+	 * 处理行数据
+	 *
+	 * @param row 行切片，仅在本方法内有效
+	 */
+	void handle(CsvSliceRow row);
+}
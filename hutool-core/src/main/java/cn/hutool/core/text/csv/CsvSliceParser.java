@@ -0,0 +1,606 @@
+package cn.hutool.core.text.csv;
+
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.map.MapUtil;
+import cn.hutool.core.thread.ThreadException;
+import cn.hutool.core.thread.ThreadUtil;
+import cn.hutool.core.util.CharUtil;
+import cn.hutool.core.util.CharsetUtil;
+import cn.hutool.core.util.ObjectUtil;
+import cn.hutool.core.util.RuntimeUtil;
+import cn.hutool.core.util.StrUtil;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CSV切片解析器，适用于大文件的高吞吐解析<br>
+ * 与{@link CsvParser}逐字符拷贝字段不同，此解析器将数据批量读入一个较大的字符窗口，
+ * 在窗口上成批扫描分隔符、包装符和换行符，每行只记录字段的起止位置，字段值在使用时才生成。
+ * 配合{@link CsvReadConfig#setColumns(int...)}可只解析需要的列。
+ *
+ * <p>解析规则与{@link CsvParser}一致，区别在于：</p>
+ * <ul>
+ *     <li>返回的{@link CsvSliceRow}被复用，仅在获取下一行之前有效</li>
+ *     <li>包装内的转义包装符（""）按照RFC 4180处理，不会结束包装</li>
+ * </ul>
+ *
+ * @author looly
+ * @since 5.8.31
+ */
+public final class CsvSliceParser implements Closeable {
+
+	/**
+	 * 默认窗口大小，单行超出窗口时自动扩容
+	 */
+	private static final int DEFAULT_WINDOW_SIZE = 1 << 16;
+	/**
+	 * 并行解析时每块的最小字节数
+	 */
+	private static final long MIN_CHUNK_SIZE = 1 << 20;
+
+	private final Reader reader;
+	private final CsvReadConfig config;
+	private final CsvSliceRow row;
+	/**
+	 * 是否记录行号，并行解析时无法获得真实行号
+	 */
+	private final boolean lineNumbered;
+
+	/**
+	 * 解析窗口
+	 */
+	private char[] buf = new char[DEFAULT_WINDOW_SIZE];
+	/**
+	 * 当前行在窗口中的开始位置
+	 */
+	private int position;
+	/**
+	 * 窗口中有效数据的结束位置
+	 */
+	private int limit;
+	/**
+	 * Reader是否已读取结束
+	 */
+	private boolean eof;
+	/**
+	 * 上一行是否以\r结束，如果是，则下一行开头的\n需跳过
+	 */
+	private boolean skipLf;
+
+	/**
+	 * 下一行的行号
+	 */
+	private long lineNo;
+	/**
+	 * 标题Map
+	 */
+	private Map<String, Integer> headerMap;
+	/**
+	 * 标题行
+	 */
+	private List<String> header;
+	/**
+	 * 第一行字段数，用于检查每行字段数是否一致
+	 */
+	private int firstLineFieldCount = -1;
+	/**
+	 * 是否读取结束
+	 */
+	private boolean finished;
+
+	/**
+	 * CSV切片解析器
+	 *
+	 * @param reader Reader
+	 * @param config 配置，null则为默认配置
+	 */
+	public CsvSliceParser(Reader reader, CsvReadConfig config) {
+		this(reader, config, null, true);
+	}
+
+	/**
+	 * CSV切片解析器
+	 *
+	 * @param reader       Reader
+	 * @param config       配置，null则为默认配置
+	 * @param headerMap    已解析的标题Map，null表示按照配置解析标题行
+	 * @param lineNumbered 是否记录行号
+	 */
+	private CsvSliceParser(Reader reader, CsvReadConfig config, Map<String, Integer> headerMap, boolean lineNumbered) {
+		this.reader = Objects.requireNonNull(reader, "reader must not be null");
+		this.config = ObjectUtil.defaultIfNull(config, CsvReadConfig::defaultConfig);
+		this.row = new CsvSliceRow(this.config, this.config.columns);
+		this.headerMap = headerMap;
+		this.lineNumbered = lineNumbered;
+	}
+
+	/**
+	 * 获取头部字段列表，如果headerLineNo &lt; 0，抛出异常
+	 *
+	 * @return 头部列表
+	 * @throws IllegalStateException 如果不解析头部或者没有调用nextRow()方法
+	 */
+	public List<String> getHeader() {
+		if (config.headerLineNo < 0) {
+			throw new IllegalStateException("No header available - header parsing is disabled");
+		}
+		if (null == header) {
+			throw new IllegalStateException("No header available - call nextRow() first");
+		}
+		return header;
+	}
+
+	/**
+	 * 读取下一行数据，返回的行对象被复用，读取下一行后失效
+	 *
+	 * @return {@link CsvSliceRow}，null表示读取结束
+	 * @throws IORuntimeException IO读取异常
+	 */
+	public CsvSliceRow nextRow() throws IORuntimeException {
+		final CsvReadConfig config = this.config;
+		final CsvSliceRow row = this.row;
+		long rowLineNo;
+		int fieldCount;
+		while (false == finished) {
+			rowLineNo = this.lineNo;
+			if (false == readRow(null == headerMap && rowLineNo == config.headerLineNo)) {
+				finished = true;
+				break;
+			}
+			if (row.fieldCount < 0) {
+				// 注释行
+				continue;
+			}
+
+			// 读取范围校验
+			if (rowLineNo < config.beginLineNo) {
+				// 未达到读取起始行，继续
+				continue;
+			}
+			if (rowLineNo > config.endLineNo) {
+				// 超出结束行，读取结束
+				finished = true;
+				break;
+			}
+
+			// 跳过空行
+			fieldCount = row.fieldCount;
+			if (config.skipEmptyRows && row.isEmptyRow()) {
+				continue;
+			}
+
+			// 检查每行的字段数是否一致
+			if (config.errorOnDifferentFieldCount) {
+				if (firstLineFieldCount < 0) {
+					firstLineFieldCount = fieldCount;
+				} else if (fieldCount != firstLineFieldCount) {
+					throw new IORuntimeException(String.format("Line %d has %d fields, but first line has %d fields", rowLineNo, fieldCount, firstLineFieldCount));
+				}
+			}
+
+			//初始化标题
+			if (rowLineNo == config.headerLineNo && null == headerMap) {
+				initHeader(row.toFullList());
+				// 作为标题行后，此行跳过，下一行做为第一行
+				continue;
+			}
+
+			row.lineNo = lineNumbered ? rowLineNo : -1;
+			row.headerMap = headerMap;
+			return row;
+		}
+		return null;
+	}
+
+	/**
+	 * 读取所有行并交给处理器处理
+	 *
+	 * @param handler 行处理器
+	 * @throws IORuntimeException IO读取异常
+	 */
+	public void parse(CsvSliceHandler handler) throws IORuntimeException {
+		CsvSliceRow row;
+		while (null != (row = nextRow())) {
+			handler.handle(row);
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		reader.close();
+	}
+
+	/**
+	 * 多线程分块解析文件<br>
+	 * 文件按照字节数切分为多个块，块的边界对齐到换行符（\n）之后，每个块独立解析，因此：
+	 * <ul>
+	 *     <li>包装符内的字段值不能包含换行符，否则切分的边界可能落在字段中间</li>
+	 *     <li>编码中\n必须为单字节且不会出现在多字节字符中，如UTF-8、GBK、ISO-8859-1等</li>
+	 *     <li>处理器会被多个线程同时调用，行的处理顺序不确定，处理器须线程安全</li>
+	 *     <li>行号无法获得，{@link CsvSliceRow#getOriginalLineNumber()}返回-1；不支持指定开始和结束行，标题行只能为首行</li>
+	 *     <li>每行字段数的检查在每个块内分别进行</li>
+	 * </ul>
+	 *
+	 * @param path        文件路径
+	 * @param charset     编码，null表示UTF-8
+	 * @param config      配置，null则为默认配置
+	 * @param parallelism 并行数，小于等于0表示使用CPU核数
+	 * @param handler     行处理器，须线程安全
+	 * @throws IORuntimeException IO读取异常
+	 */
+	public static void parallelParse(Path path, Charset charset, CsvReadConfig config, int parallelism, CsvSliceHandler handler) throws IORuntimeException {
+		final Charset finalCharset = ObjectUtil.defaultIfNull(charset, CharsetUtil.CHARSET_UTF_8);
+		final CsvReadConfig finalConfig = ObjectUtil.defaultIfNull(config, CsvReadConfig::defaultConfig);
+		Assert.isTrue(1 == StrUtil.bytes("\n", finalCharset).length, "Charset [{}] is not supported in parallel mode", finalCharset);
+		Assert.isTrue(0 == finalConfig.beginLineNo && Long.MAX_VALUE - 1 == finalConfig.endLineNo, "Begin or end line number is not supported in parallel mode");
+		Assert.isTrue(finalConfig.headerLineNo <= 0, "Only the first line can be header in parallel mode");
+		if (parallelism <= 0) {
+			parallelism = RuntimeUtil.getProcessorCount();
+		}
+
+		try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			final long[] bounds = split(channel, parallelism);
+
+			// 标题只在首块中解析，其它块共享解析结果
+			Map<String, Integer> headerMap = null;
+			if (0 == finalConfig.headerLineNo) {
+				try (final CsvSliceParser parser = new CsvSliceParser(newChunkReader(channel, 0, bounds[bounds.length - 1], finalCharset), finalConfig)) {
+					parser.nextRow();
+					headerMap = parser.headerMap;
+				}
+			}
+
+			final List<Callable<Object>> tasks = new ArrayList<>(bounds.length - 1);
+			for (int i = 0; i < bounds.length - 1; i++) {
+				final Reader reader = newChunkReader(channel, bounds[i], bounds[i + 1], finalCharset);
+				// 首块自行解析并跳过标题行
+				final Map<String, Integer> chunkHeaderMap = 0 == i ? null : headerMap;
+				tasks.add(() -> {
+					try (final CsvSliceParser parser = new CsvSliceParser(reader, finalConfig, chunkHeaderMap, false)) {
+						parser.parse(handler);
+					}
+					return null;
+				});
+			}
+			ThreadUtil.invokeAll(tasks, parallelism, 0, TimeUnit.NANOSECONDS);
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		} catch (ThreadException e) {
+			final Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			throw e;
+		}
+	}
+
+	// ------------------------------------------------------------------------------------------------ Private method start
+
+	/**
+	 * 当前行做为标题行
+	 *
+	 * @param currentFields 当前行字段列表
+	 */
+	private void initHeader(List<String> currentFields) {
+		final Map<String, Integer> localHeaderMap = new LinkedHashMap<>(currentFields.size());
+		for (int i = 0; i < currentFields.size(); i++) {
+			String field = currentFields.get(i);
+			if (MapUtil.isNotEmpty(this.config.headerAlias)) {
+				// 自定义别名
+				field = ObjectUtil.defaultIfNull(this.config.headerAlias.get(field), field);
+			}
+			if (StrUtil.isNotEmpty(field) && false == localHeaderMap.containsKey(field)) {
+				localHeaderMap.put(field, i);
+			}
+		}
+
+		this.headerMap = Collections.unmodifiableMap(localHeaderMap);
+		this.header = Collections.unmodifiableList(currentFields);
+	}
+
+	/**
+	 * 读取一行，窗口中数据不足一行时补充数据后重新扫描<br>
+	 * 注释行的字段数记为-1
+	 *
+	 * @param recordAll 是否记录所有字段，用于标题行
+	 * @return 是否读取到行，{@code false}表示读取结束
+	 */
+	private boolean readRow(boolean recordAll) {
+		while (true) {
+			if (skipLf) {
+				if (position == limit) {
+					if (eof) {
+						return false;
+					}
+					fill();
+					continue;
+				}
+				skipLf = false;
+				if (buf[position] == CharUtil.LF) {
+					position++;
+				}
+			}
+			if (position == limit) {
+				if (eof) {
+					return false;
+				}
+				fill();
+				continue;
+			}
+			if (scanRow(recordAll ? Integer.MAX_VALUE : row.recordLimit())) {
+				return true;
+			}
+			fill();
+		}
+	}
+
+	/**
+	 * 从当前位置扫描一行，记录各字段位置<br>
+	 * 窗口中的数据不足一行且未读取结束时返回{@code false}，当前位置不变，以便补充数据后重新扫描
+	 *
+	 * @param recordLimit 记录位置的字段数上限
+	 * @return 是否扫描到完整的行
+	 */
+	private boolean scanRow(int recordLimit) {
+		final char[] buf = this.buf;
+		final int limit = this.limit;
+		final boolean eof = this.eof;
+		final char fieldSeparator = config.fieldSeparator;
+		final char textDelimiter = config.textDelimiter;
+		int pos = this.position;
+		char c;
+
+		// 注释行，直到遇到换行符
+		if (null != config.commentCharacter && buf[pos] == config.commentCharacter) {
+			while (pos < limit && (c = buf[pos]) != CharUtil.CR && c != CharUtil.LF) {
+				pos++;
+			}
+			if (pos == limit && false == eof) {
+				return false;
+			}
+			row.fieldCount = -1;
+			endRow(pos, 0);
+			return true;
+		}
+
+		int fieldCount = 0;
+		int inQuotesLineCount = 0;
+		int fieldStart;
+		while (true) {
+			fieldStart = pos;
+			if (pos < limit && buf[pos] == textDelimiter) {
+				// 包装符内，直到包装结束
+				pos++;
+				while (true) {
+					if (pos == limit) {
+						if (false == eof) {
+							return false;
+						}
+						break;
+					}
+					c = buf[pos];
+					if (c == textDelimiter) {
+						if (pos + 1 == limit && false == eof) {
+							return false;
+						}
+						if (pos + 1 < limit && buf[pos + 1] == textDelimiter) {
+							// 转义的包装符
+							pos += 2;
+							continue;
+						}
+						pos++;
+						break;
+					}
+					if ((c == CharUtil.CR || c == CharUtil.LF) && buf[pos - 1] != CharUtil.CR) {
+						// 字段内容中新行
+						inQuotesLineCount++;
+					}
+					pos++;
+				}
+			}
+
+			// 非包装内容，直到字段或行结束
+			while (pos < limit && (c = buf[pos]) != fieldSeparator && c != CharUtil.LF && c != CharUtil.CR) {
+				pos++;
+			}
+			if (pos == limit && false == eof) {
+				return false;
+			}
+			if (fieldCount < recordLimit) {
+				row.set(fieldCount, fieldStart, pos);
+			}
+			fieldCount++;
+
+			if (pos == limit) {
+				// 读取结束，剩余部分作为一个字段
+				break;
+			}
+			if (buf[pos] != fieldSeparator) {
+				// 换行符，行结束
+				break;
+			}
+			pos++;
+		}
+
+		row.fieldCount = fieldCount;
+		endRow(pos, inQuotesLineCount);
+		return true;
+	}
+
+	/**
+	 * 行结束，跳过换行符并更新位置和行号
+	 *
+	 * @param pos               行结束位置（换行符位置或数据结束位置）
+	 * @param inQuotesLineCount 引号内的行数
+	 */
+	private void endRow(int pos, int inQuotesLineCount) {
+		if (pos < limit) {
+			// \r\n中的\n在下一行开始时跳过，避免此处读取窗口之外的数据
+			skipLf = buf[pos] == CharUtil.CR;
+			pos++;
+		}
+		row.buf = this.buf;
+		this.position = pos;
+		this.lineNo += 1 + inQuotesLineCount;
+	}
+
+	/**
+	 * 补充数据到窗口，未处理的数据移动到窗口开头，窗口已满时扩容
+	 */
+	private void fill() {
+		final int remaining = limit - position;
+		if (position > 0) {
+			System.arraycopy(buf, position, buf, 0, remaining);
+		} else if (remaining == buf.length) {
+			// 单行超出窗口大小
+			buf = Arrays.copyOf(buf, buf.length << 1);
+		}
+		position = 0;
+		limit = remaining;
+
+		final int length;
+		try {
+			length = reader.read(buf, limit, buf.length - limit);
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+		if (length < 0) {
+			eof = true;
+		} else {
+			limit += length;
+		}
+	}
+
+	/**
+	 * 将文件按照并行数切分为多个块，块的边界对齐到\n之后
+	 *
+	 * @param channel     文件通道
+	 * @param parallelism 并行数
+	 * @return 各块的边界，首个元素为0，末尾元素为文件长度
+	 * @throws IOException IO异常
+	 */
+	private static long[] split(FileChannel channel, int parallelism) throws IOException {
+		final long size = channel.size();
+		// 块数多于并行数，以平衡各块的解析耗时
+		final int chunkCount = (int) Math.max(1, Math.min(parallelism * 4L, size / MIN_CHUNK_SIZE));
+		final long[] bounds = new long[chunkCount + 1];
+		final ByteBuffer buffer = ByteBuffer.allocate(IoUtil.DEFAULT_BUFFER_SIZE);
+		int count = 1;
+		long bound;
+		for (int i = 1; i < chunkCount; i++) {
+			bound = Math.max(size / chunkCount * i, bounds[count - 1]);
+			bound = nextLineStart(channel, bound, size, buffer);
+			if (bound > bounds[count - 1] && bound < size) {
+				bounds[count++] = bound;
+			}
+		}
+		bounds[count++] = size;
+		return Arrays.copyOf(bounds, count);
+	}
+
+	/**
+	 * 查找指定位置（包括）之后第一个\n的下一个位置
+	 *
+	 * @param channel 文件通道
+	 * @param from    开始位置
+	 * @param size    文件长度
+	 * @param buffer  读取缓存
+	 * @return \n的下一个位置，未找到返回文件长度
+	 * @throws IOException IO异常
+	 */
+	private static long nextLineStart(FileChannel channel, long from, long size, ByteBuffer buffer) throws IOException {
+		long pos = from;
+		int length;
+		while (pos < size) {
+			buffer.clear();
+			length = channel.read(buffer, pos);
+			if (length < 0) {
+				break;
+			}
+			for (int i = 0; i < length; i++) {
+				if (buffer.get(i) == '\n') {
+					return pos + i + 1;
+				}
+			}
+			pos += length;
+		}
+		return size;
+	}
+
+	/**
+	 * 创建读取文件指定范围的Reader
+	 *
+	 * @param channel 文件通道
+	 * @param start   开始位置（包括）
+	 * @param end     结束位置（不包括）
+	 * @param charset 编码
+	 * @return Reader
+	 */
+	private static Reader newChunkReader(FileChannel channel, long start, long end, Charset charset) {
+		return new InputStreamReader(new ChunkInputStream(channel, start, end), charset);
+	}
+
+	/**
+	 * 读取文件指定范围的流，使用指定位置读取，多个流可共享一个{@link FileChannel}并发读取
+	 *
+	 * @author looly
+	 */
+	private static class ChunkInputStream extends InputStream {
+
+		private final FileChannel channel;
+		private final long end;
+		private long position;
+
+		/**
+		 * 构造
+		 *
+		 * @param channel 文件通道
+		 * @param start   开始位置（包括）
+		 * @param end     结束位置（不包括）
+		 */
+		ChunkInputStream(FileChannel channel, long start, long end) {
+			this.channel = channel;
+			this.position = start;
+			this.end = end;
+		}
+
+		@Override
+		public int read() throws IOException {
+			final byte[] b = new byte[1];
+			return read(b, 0, 1) < 0 ? -1 : (b[0] & 0xff);
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			if (position >= end) {
+				return -1;
+			}
+			final int length = channel.read(ByteBuffer.wrap(b, off, (int) Math.min(len, end - position)), position);
+			if (length > 0) {
+				position += length;
+			}
+			return length;
+		}
+	}
+	// ------------------------------------------------------------------------------------------------ Private method end
+}
@@ -0,0 +1,327 @@
+package cn.hutool.core.text.csv;
+
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.util.CharUtil;
+
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CSV中一行的切片表示，由{@link CsvSliceParser}解析产生<br>
+ * 行中只记录每个字段在解析窗口中的起止位置，字段内容在调用{@link #get(int)}时才生成字符串，
+ * 未调用的字段不产生任何对象。<br>
+ * 此对象在解析下一行时被复用，不可跨行保存，如需保留请调用{@link #toCsvRow()}。
+ *
+ * @author looly
+ * @since 5.8.31
+ */
+public final class CsvSliceRow {
+
+	private final char textDelimiter;
+	private final boolean trimField;
+	/**
+	 * 需要解析的列，null表示所有列
+	 */
+	private final boolean[] selected;
+
+	/**
+	 * 解析窗口
+	 */
+	char[] buf;
+	/**
+	 * 字段在窗口中的开始位置（包括）
+	 */
+	int[] starts;
+	/**
+	 * 字段在窗口中的结束位置（不包括）
+	 */
+	int[] ends;
+	/**
+	 * 字段数
+	 */
+	int fieldCount;
+	/**
+	 * 行号，-1表示未知
+	 */
+	long lineNo;
+	/**
+	 * 标题Map
+	 */
+	Map<String, Integer> headerMap;
+
+	/**
+	 * 构造
+	 *
+	 * @param config  配置
+	 * @param columns 需要解析的列，null表示所有列
+	 */
+	CsvSliceRow(CsvReadConfig config, int[] columns) {
+		this.textDelimiter = config.textDelimiter;
+		this.trimField = config.trimField;
+		if (null == columns) {
+			this.selected = null;
+		} else {
+			int max = -1;
+			for (int column : columns) {
+				Assert.isTrue(column >= 0, "Column index must be >= 0, but got: {}", column);
+				max = Math.max(max, column);
+			}
+			this.selected = new boolean[max + 1];
+			for (int column : columns) {
+				this.selected[column] = true;
+			}
+		}
+		final int capacity = null == this.selected ? 16 : Math.max(this.selected.length, 1);
+		this.starts = new int[capacity];
+		this.ends = new int[capacity];
+	}
+
+	/**
+	 * 获取原始行号，多行情况下为首行行号，并行解析时为-1
+	 *
+	 * @return 行号
+	 */
+	public long getOriginalLineNumber() {
+		return lineNo;
+	}
+
+	/**
+	 * 获取字段数，包括未选择解析的列
+	 *
+	 * @return 字段数
+	 */
+	public int getFieldCount() {
+		return fieldCount;
+	}
+
+	/**
+	 * 指定列是否被选择解析
+	 *
+	 * @param index 列号，从0开始
+	 * @return 是否被选择解析
+	 */
+	public boolean isSelected(int index) {
+		return index >= 0 && index < fieldCount && (null == selected || (index < selected.length && selected[index]));
+	}
+
+	/**
+	 * 获取字段值，此方法会生成新的字符串，并去除包装符和转义
+	 *
+	 * @param index 列号，从0开始
+	 * @return 字段值，未选择解析的列返回null
+	 * @throws IndexOutOfBoundsException 列号超出字段数
+	 */
+	public String get(int index) {
+		checkIndex(index);
+		if (false == isSelected(index)) {
+			return null;
+		}
+		return (String) slice(index, true);
+	}
+
+	/**
+	 * 获取字段值的切片，不拷贝数据，仅在当前行有效<br>
+	 * 包含转义的包装符时，无法直接切片，此时返回生成的字符串
+	 *
+	 * @param index 列号，从0开始
+	 * @return 字段值切片，未选择解析的列返回null
+	 * @throws IndexOutOfBoundsException 列号超出字段数
+	 */
+	public CharSequence getSlice(int index) {
+		checkIndex(index);
+		if (false == isSelected(index)) {
+			return null;
+		}
+		return slice(index, false);
+	}
+
+	/**
+	 * 获取标题对应的字段内容
+	 *
+	 * @param name 标题名
+	 * @return 字段值，null表示无此字段值或未选择解析此列
+	 * @throws IllegalArgumentException CSV文件无标题行抛出此异常
+	 */
+	public String getByName(String name) {
+		Assert.notNull(this.headerMap, "No header available!");
+
+		final Integer col = headerMap.get(name);
+		if (null != col && col < fieldCount) {
+			return get(col);
+		}
+		return null;
+	}
+
+	/**
+	 * 生成独立的{@link CsvRow}，未选择解析的列值为null
+	 *
+	 * @return {@link CsvRow}
+	 */
+	public CsvRow toCsvRow() {
+		return new CsvRow(lineNo, headerMap, toList());
+	}
+
+	@Override
+	public String toString() {
+		return "row=" + toList();
+	}
+
+	/**
+	 * 生成所有字段值列表，未选择解析的列值为null
+	 *
+	 * @return 字段值列表
+	 */
+	List<String> toList() {
+		final List<String> fields = new ArrayList<>(fieldCount);
+		for (int i = 0; i < fieldCount; i++) {
+			fields.add(get(i));
+		}
+		return fields;
+	}
+
+	/**
+	 * 生成所有字段值列表，忽略列选择，用于解析标题行
+	 *
+	 * @return 字段值列表
+	 */
+	List<String> toFullList() {
+		final List<String> fields = new ArrayList<>(fieldCount);
+		for (int i = 0; i < fieldCount; i++) {
+			fields.add((String) slice(i, true));
+		}
+		return fields;
+	}
+
+	/**
+	 * 是否为空行，即只有一个字段且字段值为空
+	 *
+	 * @return 是否为空行
+	 */
+	boolean isEmptyRow() {
+		if (1 != fieldCount) {
+			return false;
+		}
+		return slice(0, false).length() == 0;
+	}
+
+	/**
+	 * 需要记录位置的字段数上限
+	 *
+	 * @return 字段数上限
+	 */
+	int recordLimit() {
+		return null == selected ? Integer.MAX_VALUE : selected.length;
+	}
+
+	/**
+	 * 记录字段位置
+	 *
+	 * @param index 列号
+	 * @param start 开始位置（包括）
+	 * @param end   结束位置（不包括）
+	 */
+	void set(int index, int start, int end) {
+		if (index == starts.length) {
+			starts = Arrays.copyOf(starts, index << 1);
+			ends = Arrays.copyOf(ends, index << 1);
+		}
+		starts[index] = start;
+		ends[index] = end;
+	}
+
+	// ------------------------------------------------------------------------------------------------ Private method start
+
+	/**
+	 * 生成字段值或切片，规则与{@link CsvParser}一致：去除末尾换行符、去除包装符并转义、按照配置去除空白符
+	 *
+	 * @param index 列号
+	 * @param copy  是否生成字符串，{@code false}时如无转义则返回不拷贝数据的切片
+	 * @return 字段值
+	 */
+	private CharSequence slice(int index, boolean copy) {
+		final char[] buf = this.buf;
+		int start = starts[index];
+		int end = ends[index];
+		// 忽略多余引号后的换行符
+		while (end > start && (buf[end - 1] == CharUtil.LF || buf[end - 1] == CharUtil.CR)) {
+			end--;
+		}
+		final boolean wrapped = end - start >= 2 && buf[start] == textDelimiter && buf[end - 1] == textDelimiter;
+		if (wrapped) {
+			start++;
+			end--;
+		}
+		if (trimField) {
+			// issue#I49M0C@Gitee
+			while (start < end && CharUtil.isBlankChar(buf[start])) {
+				start++;
+			}
+			while (end > start && CharUtil.isBlankChar(buf[end - 1])) {
+				end--;
+			}
+		}
+		if (copy || (wrapped && indexOfDelimiter(start, end) >= 0)) {
+			return wrapped ? unescape(start, end) : new String(buf, start, end - start);
+		}
+		return CharBuffer.wrap(buf, start, end - start);
+	}
+
+	/**
+	 * 查找包装符位置
+	 *
+	 * @param start 开始位置
+	 * @param end   结束位置
+	 * @return 位置，-1表示未找到
+	 */
+	private int indexOfDelimiter(int start, int end) {
+		for (int i = start; i < end; i++) {
+			if (buf[i] == textDelimiter) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * 去除转义的包装符，即两个连续的包装符转为一个
+	 *
+	 * @param start 开始位置
+	 * @param end   结束位置
+	 * @return 字段值
+	 */
+	private String unescape(int start, int end) {
+		int i = indexOfDelimiter(start, end);
+		if (i < 0) {
+			return new String(buf, start, end - start);
+		}
+		final StringBuilder builder = new StringBuilder(end - start);
+		builder.append(buf, start, i - start);
+		final char delimiter = this.textDelimiter;
+		char c;
+		while (i < end) {
+			c = buf[i++];
+			builder.append(c);
+			if (c == delimiter && i < end && buf[i] == delimiter) {
+				// https://datatracker.ietf.org/doc/html/rfc4180#section-2
+				// 第七条规则，只有包装内的包装符需要转义
+				i++;
+			}
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * 检查列号
+	 *
+	 * @param index 列号
+	 */
+	private void checkIndex(int index) {
+		if (index < 0 || index >= fieldCount) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Field count: " + fieldCount);
+		}
+	}
+	// ------------------------------------------------------------------------------------------------ Private method end
+}
@@ -20,6 +20,10 @@ import java.io.IOException;
  * ct.close();
  * </pre>
  *
+ * <p>
+ * 此类只统计多线程执行的总耗时，没有预热和统计控制，仅适合简单的并发验证，性能对比请使用hutool-benchmark模块中基于JMH的基准测试。
+ * </p>
+ *
  * @author kwer
  */
 public class ConcurrencyTester implements Closeable {
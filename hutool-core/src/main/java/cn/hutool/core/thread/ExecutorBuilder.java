@@ -61,6 +61,22 @@ public class ExecutorBuilder implements Builder<ThreadPoolExecutor> {
 	 * 线程执行超时后是否回收线程
 	 */
 	private Boolean allowCoreThreadTimeOut;
+	/**
+	 * 是否构建带运行统计的线程池
+	 */
+	private boolean monitored;
+	/**
+	 * 自适应调整的目标排队耗时，单位纳秒，小于等于0表示不开启
+	 */
+	private long targetQueueDelay;
+	/**
+	 * 自适应调整的检查周期，单位纳秒
+	 */
+	private long adjustPeriod;
+	/**
+	 * 自适应调整的最小核心线程数
+	 */
+	private int minCorePoolSize;
 
 	/**
 	 * 设置初始池大小，默认0
@@ -197,6 +213,38 @@ public class ExecutorBuilder implements Builder<ThreadPoolExecutor> {
 		return this;
 	}
 
+	/**
+	 * 设置是否构建带运行统计的线程池，即{@link MonitoredThreadPoolExecutor}，默认否
+	 *
+	 * @param monitored 是否带运行统计
+	 * @return this
+	 * @since 5.8.31
+	 */
+	public ExecutorBuilder setMonitored(boolean monitored) {
+		this.monitored = monitored;
+		return this;
+	}
+
+	/**
+	 * 开启核心线程数的自适应调整，核心线程数在[minCorePoolSize, maxPoolSize]之间根据平均排队耗时调整，
+	 * 初始值为{@link #setCorePoolSize(int)}设置的值，见{@link MonitoredThreadPoolExecutor#enableAdaptiveSizing(int, int, long, long, TimeUnit)}<br>
+	 * 开启后构建带运行统计的线程池。注意使用有界队列时，队列满才会创建超出核心线程数的线程，因此调整核心线程数才会生效。
+	 *
+	 * @param minCorePoolSize  最小核心线程数
+	 * @param targetQueueDelay 目标排队耗时
+	 * @param period           检查周期
+	 * @param unit             时间单位
+	 * @return this
+	 * @since 5.8.31
+	 */
+	public ExecutorBuilder setAdaptiveSizing(int minCorePoolSize, long targetQueueDelay, long period, TimeUnit unit) {
+		this.monitored = true;
+		this.minCorePoolSize = minCorePoolSize;
+		this.targetQueueDelay = unit.toNanos(targetQueueDelay);
+		this.adjustPeriod = unit.toNanos(period);
+		return this;
+	}
+
 	/**
 	 * 创建ExecutorBuilder，开始构建
 	 *
@@ -244,14 +292,31 @@ public class ExecutorBuilder implements Builder<ThreadPoolExecutor> {
 		final ThreadFactory threadFactory = (null != builder.threadFactory) ? builder.threadFactory : Executors.defaultThreadFactory();
 		RejectedExecutionHandler handler = ObjectUtil.defaultIfNull(builder.handler, RejectPolicy.ABORT.getValue());
 
-		final ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(//
-				corePoolSize, //
-				maxPoolSize, //
-				keepAliveTime, TimeUnit.NANOSECONDS, //
-				workQueue, //
-				threadFactory, //
-				handler//
-		);
+		final ThreadPoolExecutor threadPoolExecutor;
+		if (builder.monitored) {
+			final MonitoredThreadPoolExecutor monitoredExecutor = new MonitoredThreadPoolExecutor(//
+					corePoolSize, //
+					maxPoolSize, //
+					keepAliveTime, TimeUnit.NANOSECONDS, //
+					workQueue, //
+					threadFactory, //
+					handler//
+			);
+			if (builder.targetQueueDelay > 0) {
+				monitoredExecutor.enableAdaptiveSizing(Math.min(builder.minCorePoolSize, corePoolSize), maxPoolSize,
+						builder.targetQueueDelay, builder.adjustPeriod, TimeUnit.NANOSECONDS);
+			}
+			threadPoolExecutor = monitoredExecutor;
+		} else {
+			threadPoolExecutor = new ThreadPoolExecutor(//
+					corePoolSize, //
+					maxPoolSize, //
+					keepAliveTime, TimeUnit.NANOSECONDS, //
+					workQueue, //
+					threadFactory, //
+					handler//
+			);
+		}
 		if (null != builder.allowCoreThreadTimeOut) {
 			threadPoolExecutor.allowCoreThreadTimeOut(builder.allowCoreThreadTimeOut);
 		}
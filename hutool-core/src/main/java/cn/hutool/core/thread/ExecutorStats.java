@@ -0,0 +1,252 @@
+package cn.hutool.core.thread;
+
+import cn.hutool.core.util.StrUtil;
+
+import java.io.Serializable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 线程池运行统计快照，由{@link MonitoredThreadPoolExecutor#getStats()}生成，生成后不再变化
+ *
+ * @author looly
+ * @since 5.8.31
+ */
+public class ExecutorStats implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private final long submitted;
+	private final long completed;
+	private final long failed;
+	private final long rejected;
+	private final int active;
+	private final int peakActive;
+	private final int poolSize;
+	private final int corePoolSize;
+	private final int maxPoolSize;
+	private final int queueSize;
+	private final Latency queueTime;
+	private final Latency runTime;
+
+	/**
+	 * 构造
+	 *
+	 * @param submitted    提交的任务数
+	 * @param completed    执行完成的任务数
+	 * @param failed       执行抛出异常的任务数
+	 * @param rejected     被拒绝的任务数
+	 * @param active       正在执行的任务数
+	 * @param peakActive   同时执行任务数的峰值
+	 * @param poolSize     当前线程数
+	 * @param corePoolSize 核心线程数
+	 * @param maxPoolSize  最大线程数
+	 * @param queueSize    队列中等待的任务数
+	 * @param queueTime    排队耗时
+	 * @param runTime      执行耗时
+	 */
+	public ExecutorStats(long submitted, long completed, long failed, long rejected, int active, int peakActive,
+						 int poolSize, int corePoolSize, int maxPoolSize, int queueSize, Latency queueTime, Latency runTime) {
+		this.submitted = submitted;
+		this.completed = completed;
+		this.failed = failed;
+		this.rejected = rejected;
+		this.active = active;
+		this.peakActive = peakActive;
+		this.poolSize = poolSize;
+		this.corePoolSize = corePoolSize;
+		this.maxPoolSize = maxPoolSize;
+		this.queueSize = queueSize;
+		this.queueTime = queueTime;
+		this.runTime = runTime;
+	}
+
+	/**
+	 * @return 提交的任务数，包括被拒绝的任务
+	 */
+	public long getSubmitted() {
+		return submitted;
+	}
+
+	/**
+	 * @return 执行完成的任务数，包括执行失败的任务
+	 */
+	public long getCompleted() {
+		return completed;
+	}
+
+	/**
+	 * 执行抛出异常的任务数，包括通过submit提交、异常由Future持有的任务
+	 *
+	 * @return 执行抛出异常的任务数
+	 */
+	public long getFailed() {
+		return failed;
+	}
+
+	/**
+	 * @return 被拒绝的任务数
+	 */
+	public long getRejected() {
+		return rejected;
+	}
+
+	/**
+	 * @return 正在执行的任务数
+	 */
+	public int getActive() {
+		return active;
+	}
+
+	/**
+	 * @return 同时执行任务数的峰值
+	 */
+	public int getPeakActive() {
+		return peakActive;
+	}
+
+	/**
+	 * @return 当前线程数
+	 */
+	public int getPoolSize() {
+		return poolSize;
+	}
+
+	/**
+	 * @return 核心线程数，开启自适应调整时为调整后的值
+	 */
+	public int getCorePoolSize() {
+		return corePoolSize;
+	}
+
+	/**
+	 * @return 最大线程数
+	 */
+	public int getMaxPoolSize() {
+		return maxPoolSize;
+	}
+
+	/**
+	 * @return 队列中等待的任务数
+	 */
+	public int getQueueSize() {
+		return queueSize;
+	}
+
+	/**
+	 * 饱和度，即正在执行的任务数与最大线程数之比
+	 *
+	 * @return 饱和度，0~1
+	 */
+	public double getSaturation() {
+		return maxPoolSize > 0 ? (double) active / maxPoolSize : 0;
+	}
+
+	/**
+	 * @return 排队耗时，即从提交到开始执行的时长
+	 */
+	public Latency getQueueTime() {
+		return queueTime;
+	}
+
+	/**
+	 * @return 执行耗时
+	 */
+	public Latency getRunTime() {
+		return runTime;
+	}
+
+	@Override
+	public String toString() {
+		return StrUtil.format("ExecutorStats{submitted={}, completed={}, failed={}, rejected={}, active={}, peakActive={}, " +
+						"poolSize={}, corePoolSize={}, maxPoolSize={}, queueSize={}, queueTime={}, runTime={}}",
+				submitted, completed, failed, rejected, active, peakActive, poolSize, corePoolSize, maxPoolSize, queueSize, queueTime, runTime);
+	}
+
+	/**
+	 * 耗时分布，按照2的幂（纳秒）分桶统计，百分位为所在桶的上界，误差不超过2倍
+	 */
+	public static class Latency implements Serializable {
+		private static final long serialVersionUID = 1L;
+
+		private final long count;
+		private final long totalNanos;
+		private final long maxNanos;
+		/**
+		 * 第i个桶统计耗时在[2^(i-1), 2^i)纳秒内的次数，第0个桶为0纳秒
+		 */
+		private final long[] buckets;
+
+		/**
+		 * 构造
+		 *
+		 * @param count      次数
+		 * @param totalNanos 总耗时，单位纳秒
+		 * @param maxNanos   最大耗时，单位纳秒
+		 * @param buckets    分桶计数
+		 */
+		public Latency(long count, long totalNanos, long maxNanos, long[] buckets) {
+			this.count = count;
+			this.totalNanos = totalNanos;
+			this.maxNanos = maxNanos;
+			this.buckets = buckets;
+		}
+
+		/**
+		 * @return 次数
+		 */
+		public long getCount() {
+			return count;
+		}
+
+		/**
+		 * 获取平均耗时
+		 *
+		 * @param unit 时间单位
+		 * @return 平均耗时
+		 */
+		public double getAvg(TimeUnit unit) {
+			return count > 0 ? (double) totalNanos / count / unit.toNanos(1) : 0;
+		}
+
+		/**
+		 * 获取最大耗时
+		 *
+		 * @param unit 时间单位
+		 * @return 最大耗时
+		 */
+		public long getMax(TimeUnit unit) {
+			return unit.convert(maxNanos, TimeUnit.NANOSECONDS);
+		}
+
+		/**
+		 * 获取百分位耗时，如0.99表示99%的任务耗时不超过此值
+		 *
+		 * @param percentile 百分位，0~1
+		 * @param unit       时间单位
+		 * @return 百分位耗时，无数据返回0
+		 */
+		public long getPercentile(double percentile, TimeUnit unit) {
+			if (count <= 0) {
+				return 0;
+			}
+			final long threshold = (long) Math.ceil(count * Math.min(1, Math.max(0, percentile)));
+			long sum = 0;
+			for (int i = 0; i < buckets.length; i++) {
+				sum += buckets[i];
+				if (sum >= threshold && sum > 0) {
+					final long upper = (0 == i) ? 0 : (i >= 63 ? Long.MAX_VALUE : (1L << i) - 1);
+					return unit.convert(Math.min(upper, maxNanos), TimeUnit.NANOSECONDS);
+				}
+			}
+			return unit.convert(maxNanos, TimeUnit.NANOSECONDS);
+		}
+
+		@Override
+		public String toString() {
+			return StrUtil.format("{count={}, avg={}us, p50={}us, p99={}us, max={}us}", count,
+					(long) getAvg(TimeUnit.MICROSECONDS),
+					getPercentile(0.5, TimeUnit.MICROSECONDS),
+					getPercentile(0.99, TimeUnit.MICROSECONDS),
+					getMax(TimeUnit.MICROSECONDS));
+		}
+	}
+}
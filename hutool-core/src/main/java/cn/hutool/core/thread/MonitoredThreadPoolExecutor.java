@@ -0,0 +1,341 @@
+package cn.hutool.core.thread;
+
+import cn.hutool.core.lang.Assert;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 带运行统计的{@link ThreadPoolExecutor}<br>
+ * 统计每个任务的排队耗时和执行耗时分布、正在执行的任务数及峰值、拒绝次数等，通过{@link #getStats()}获取快照。<br>
+ * 可选开启核心线程数的自适应调整：按照固定周期检查平均排队耗时，超过目标值时增加核心线程数，远低于目标值且空闲时减少核心线程数。
+ *
+ * <p>
+ * 注意：提交的任务会被包装以记录提交时间，因此{@link #getQueue()}、{@link #shutdownNow()}返回的以及拒绝策略收到的均为包装后的任务。
+ * </p>
+ *
+ * @author looly
+ * @see ExecutorBuilder#setMonitored(boolean)
+ * @since 5.8.31
+ */
+public class MonitoredThreadPoolExecutor extends ThreadPoolExecutor {
+
+	/**
+	 * 耗时分桶数，覆盖所有long值
+	 */
+	private static final int BUCKET_SIZE = 64;
+
+	private final LongAdder submitted = new LongAdder();
+	private final LongAdder completed = new LongAdder();
+	private final LongAdder failed = new LongAdder();
+	private final LongAdder rejected = new LongAdder();
+	private final AtomicInteger active = new AtomicInteger();
+	private final AtomicInteger peakActive = new AtomicInteger();
+	private final LatencyRecorder queueTime = new LatencyRecorder();
+	private final LatencyRecorder runTime = new LatencyRecorder();
+
+	// 自适应调整
+	private volatile boolean adaptive;
+	private int minCorePoolSize;
+	private int maxCorePoolSize;
+	private long targetQueueNanos;
+	private long adjustPeriodNanos;
+	private final AtomicLong nextAdjustTime = new AtomicLong();
+	private final LongAdder windowQueueNanos = new LongAdder();
+	private final LongAdder windowCount = new LongAdder();
+
+	/**
+	 * 构造
+	 *
+	 * @param corePoolSize    核心线程数
+	 * @param maximumPoolSize 最大线程数
+	 * @param keepAliveTime   线程存活时间
+	 * @param unit            时间单位
+	 * @param workQueue       队列
+	 * @param threadFactory   线程工厂
+	 * @param handler         拒绝策略
+	 */
+	public MonitoredThreadPoolExecutor(int corePoolSize, int maximumPoolSize, long keepAliveTime, TimeUnit unit,
+									   BlockingQueue<Runnable> workQueue, ThreadFactory threadFactory, RejectedExecutionHandler handler) {
+		super(corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue, threadFactory, handler);
+		// 包装拒绝策略以统计拒绝次数
+		super.setRejectedExecutionHandler(new CountingRejectedHandler(handler));
+	}
+
+	/**
+	 * 开启核心线程数的自适应调整<br>
+	 * 每隔一个周期（由任务完成触发，不使用额外线程）检查周期内的平均排队耗时：
+	 * <ul>
+	 *     <li>超过目标值且有任务排队时，核心线程数增加1/4（至少1个），不超过maxCorePoolSize和最大线程数</li>
+	 *     <li>低于目标值的1/4且正在执行的任务数不足核心线程数的一半时，核心线程数减少1，不小于minCorePoolSize</li>
+	 * </ul>
+	 *
+	 * @param minCorePoolSize  最小核心线程数
+	 * @param maxCorePoolSize  最大核心线程数
+	 * @param targetQueueDelay 目标排队耗时
+	 * @param period           检查周期
+	 * @param unit             时间单位
+	 * @return this
+	 */
+	public MonitoredThreadPoolExecutor enableAdaptiveSizing(int minCorePoolSize, int maxCorePoolSize,
+															long targetQueueDelay, long period, TimeUnit unit) {
+		Assert.isTrue(minCorePoolSize >= 0 && minCorePoolSize <= maxCorePoolSize,
+				"Invalid core pool size range: [{}, {}]", minCorePoolSize, maxCorePoolSize);
+		Assert.isTrue(targetQueueDelay > 0 && period > 0, "targetQueueDelay and period must be > 0!");
+		this.minCorePoolSize = minCorePoolSize;
+		this.maxCorePoolSize = maxCorePoolSize;
+		this.targetQueueNanos = unit.toNanos(targetQueueDelay);
+		this.adjustPeriodNanos = unit.toNanos(period);
+		this.nextAdjustTime.set(System.nanoTime() + this.adjustPeriodNanos);
+		this.adaptive = true;
+		return this;
+	}
+
+	/**
+	 * 关闭核心线程数的自适应调整，当前核心线程数保持不变
+	 *
+	 * @return this
+	 */
+	public MonitoredThreadPoolExecutor disableAdaptiveSizing() {
+		this.adaptive = false;
+		return this;
+	}
+
+	@Override
+	public void execute(Runnable command) {
+		if (null == command) {
+			throw new NullPointerException();
+		}
+		submitted.increment();
+		super.execute(new MonitoredTask(command, System.nanoTime()));
+	}
+
+	@Override
+	public void setRejectedExecutionHandler(RejectedExecutionHandler handler) {
+		super.setRejectedExecutionHandler(new CountingRejectedHandler(handler));
+	}
+
+	@Override
+	public RejectedExecutionHandler getRejectedExecutionHandler() {
+		final RejectedExecutionHandler handler = super.getRejectedExecutionHandler();
+		return handler instanceof CountingRejectedHandler ? ((CountingRejectedHandler) handler).raw : handler;
+	}
+
+	/**
+	 * 获取运行统计快照
+	 *
+	 * @return {@link ExecutorStats}
+	 */
+	public ExecutorStats getStats() {
+		return new ExecutorStats(
+				submitted.sum(), completed.sum(), failed.sum(), rejected.sum(),
+				active.get(), peakActive.get(),
+				getPoolSize(), getCorePoolSize(), getMaximumPoolSize(), getQueue().size(),
+				queueTime.snapshot(), runTime.snapshot());
+	}
+
+	/**
+	 * 重置累计的统计数据，正在执行的任务数不重置，峰值重置为当前值
+	 */
+	public void resetStats() {
+		submitted.reset();
+		completed.reset();
+		failed.reset();
+		rejected.reset();
+		peakActive.set(active.get());
+		queueTime.reset();
+		runTime.reset();
+	}
+
+	/**
+	 * 任务开始执行
+	 *
+	 * @param queueNanos 排队耗时
+	 */
+	private void onStart(long queueNanos) {
+		queueTime.record(queueNanos);
+		if (adaptive) {
+			windowQueueNanos.add(queueNanos);
+			windowCount.increment();
+		}
+		final int current = active.incrementAndGet();
+		int peak;
+		while (current > (peak = peakActive.get())) {
+			if (peakActive.compareAndSet(peak, current)) {
+				break;
+			}
+		}
+	}
+
+	/**
+	 * 任务执行结束
+	 *
+	 * @param runNanos 执行耗时
+	 * @param success  是否成功
+	 * @param now      当前时间
+	 */
+	private void onComplete(long runNanos, boolean success, long now) {
+		active.decrementAndGet();
+		runTime.record(runNanos);
+		completed.increment();
+		if (false == success) {
+			failed.increment();
+		}
+		if (adaptive) {
+			adjustIfNecessary(now);
+		}
+	}
+
+	/**
+	 * 到达检查周期时调整核心线程数，同一周期只有一个线程执行调整
+	 *
+	 * @param now 当前时间
+	 */
+	private void adjustIfNecessary(long now) {
+		final long next = nextAdjustTime.get();
+		if (now - next < 0 || false == nextAdjustTime.compareAndSet(next, now + adjustPeriodNanos)) {
+			return;
+		}
+
+		final long count = windowCount.sumThenReset();
+		final long total = windowQueueNanos.sumThenReset();
+		if (count <= 0) {
+			return;
+		}
+		final long avgQueueNanos = total / count;
+		final int core = getCorePoolSize();
+		final int upper = Math.min(maxCorePoolSize, getMaximumPoolSize());
+		if (avgQueueNanos > targetQueueNanos && false == getQueue().isEmpty() && core < upper) {
+			setCorePoolSize(Math.min(upper, core + Math.max(1, core / 4)));
+		} else if (avgQueueNanos < targetQueueNanos / 4 && active.get() < core / 2 && core > minCorePoolSize) {
+			setCorePoolSize(core - 1);
+		}
+	}
+
+	/**
+	 * 记录提交时间的任务包装
+	 */
+	private class MonitoredTask implements Runnable {
+		private final Runnable raw;
+		private final long submitTime;
+
+		MonitoredTask(Runnable raw, long submitTime) {
+			this.raw = raw;
+			this.submitTime = submitTime;
+		}
+
+		@Override
+		public void run() {
+			final long start = System.nanoTime();
+			onStart(start - submitTime);
+			boolean success = false;
+			try {
+				raw.run();
+				success = false == isFailedFuture(raw);
+			} finally {
+				final long end = System.nanoTime();
+				onComplete(end - start, success, end);
+			}
+		}
+
+		@Override
+		public String toString() {
+			return raw.toString();
+		}
+	}
+
+	/**
+	 * 通过submit提交的任务被包装为{@link Future}，执行异常由Future持有而不抛出，此处检查是否执行失败
+	 *
+	 * @param task 任务
+	 * @return 是否为执行失败的Future，被取消的不算失败
+	 */
+	private static boolean isFailedFuture(Runnable task) {
+		if (task instanceof Future && ((Future<?>) task).isDone()) {
+			try {
+				((Future<?>) task).get();
+			} catch (ExecutionException e) {
+				return true;
+			} catch (CancellationException e) {
+				return false;
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 统计拒绝次数的拒绝策略包装
+	 */
+	private class CountingRejectedHandler implements RejectedExecutionHandler {
+		private final RejectedExecutionHandler raw;
+
+		CountingRejectedHandler(RejectedExecutionHandler raw) {
+			this.raw = Assert.notNull(raw);
+		}
+
+		@Override
+		public void rejectedExecution(Runnable r, ThreadPoolExecutor executor) {
+			rejected.increment();
+			raw.rejectedExecution(r, executor);
+		}
+	}
+
+	/**
+	 * 耗时记录器，按照2的幂（纳秒）分桶
+	 */
+	private static class LatencyRecorder {
+		private final LongAdder count = new LongAdder();
+		private final LongAdder total = new LongAdder();
+		private final AtomicLong max = new AtomicLong();
+		private final LongAdder[] buckets = new LongAdder[BUCKET_SIZE];
+
+		LatencyRecorder() {
+			for (int i = 0; i < BUCKET_SIZE; i++) {
+				buckets[i] = new LongAdder();
+			}
+		}
+
+		void record(long nanos) {
+			if (nanos < 0) {
+				nanos = 0;
+			}
+			count.increment();
+			total.add(nanos);
+			buckets[Math.min(BUCKET_SIZE - 1, 64 - Long.numberOfLeadingZeros(nanos))].increment();
+			long current;
+			while (nanos > (current = max.get())) {
+				if (max.compareAndSet(current, nanos)) {
+					break;
+				}
+			}
+		}
+
+		ExecutorStats.Latency snapshot() {
+			final long[] counts = new long[BUCKET_SIZE];
+			for (int i = 0; i < BUCKET_SIZE; i++) {
+				counts[i] = buckets[i].sum();
+			}
+			return new ExecutorStats.Latency(count.sum(), total.sum(), max.get(), counts);
+		}
+
+		void reset() {
+			count.reset();
+			total.reset();
+			max.set(0);
+			for (LongAdder bucket : buckets) {
+				bucket.reset();
+			}
+		}
+	}
+}
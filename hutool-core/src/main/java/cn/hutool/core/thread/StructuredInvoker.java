@@ -0,0 +1,160 @@
+package cn.hutool.core.thread;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 结构化并发执行一组任务：所有任务成功才返回，任一任务失败、超时或调用线程被中断时，取消其余任务并抛出异常，
+ * 保证方法返回时不存在仍在运行的子任务（已取消的任务会被中断，是否立即结束取决于任务是否响应中断）。
+ *
+ * @author looly
+ * @since 5.8.31
+ */
+final class StructuredInvoker {
+
+	/**
+	 * 等待并发许可时，检查已完成任务的间隔
+	 */
+	private static final long PERMIT_CHECK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+	/**
+	 * 执行所有任务并按照任务顺序返回结果
+	 *
+	 * @param <T>            结果类型
+	 * @param executor       执行器
+	 * @param tasks          任务
+	 * @param maxConcurrency 最大并发数，小于等于0表示不限制
+	 * @param timeoutNanos   整体超时时长，单位纳秒，小于等于0表示不超时
+	 * @return 结果列表，与任务顺序一致
+	 * @throws ThreadException 任务失败（cause为任务抛出的异常）、超时（cause为{@link TimeoutException}）或被中断
+	 */
+	static <T> List<T> invokeAll(ExecutorService executor, Collection<? extends Callable<T>> tasks, int maxConcurrency, long timeoutNanos) {
+		final int size = tasks.size();
+		final long deadline = timeoutNanos > 0 ? System.nanoTime() + timeoutNanos : 0;
+		final Semaphore semaphore = maxConcurrency > 0 && maxConcurrency < size ? new Semaphore(maxConcurrency) : null;
+		final ExecutorCompletionService<T> completionService = new ExecutorCompletionService<>(executor);
+		final List<Future<T>> futures = new ArrayList<>(size);
+
+		boolean success = false;
+		try {
+			int completed = 0;
+			for (Callable<T> task : tasks) {
+				if (null != semaphore) {
+					// 等待许可期间检查已完成的任务，发现失败尽早返回
+					while (false == semaphore.tryAcquire(Math.min(PERMIT_CHECK_NANOS, remaining(deadline)), TimeUnit.NANOSECONDS)) {
+						completed += drainCompleted(completionService);
+					}
+					futures.add(completionService.submit(() -> {
+						try {
+							return task.call();
+						} finally {
+							semaphore.release();
+						}
+					}));
+				} else {
+					futures.add(completionService.submit(task));
+				}
+				completed += drainCompleted(completionService);
+			}
+
+			Future<T> future;
+			while (completed < size) {
+				future = (0 == deadline) ? completionService.take() : completionService.poll(remaining(deadline), TimeUnit.NANOSECONDS);
+				if (null == future) {
+					throw timeout();
+				}
+				checkCompleted(future);
+				completed++;
+			}
+
+			final List<T> results = new ArrayList<>(size);
+			for (Future<T> f : futures) {
+				results.add(f.get());
+			}
+			success = true;
+			return results;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ThreadException(e);
+		} catch (ExecutionException e) {
+			// 已在checkCompleted中检查，不会发生
+			throw new ThreadException(e.getCause());
+		} finally {
+			if (false == success) {
+				for (Future<T> future : futures) {
+					future.cancel(true);
+				}
+			}
+		}
+	}
+
+	/**
+	 * 非阻塞获取已完成的任务并检查结果
+	 *
+	 * @param completionService {@link ExecutorCompletionService}
+	 * @return 完成的任务数
+	 */
+	private static int drainCompleted(ExecutorCompletionService<?> completionService) {
+		int count = 0;
+		Future<?> future;
+		while (null != (future = completionService.poll())) {
+			checkCompleted(future);
+			count++;
+		}
+		return count;
+	}
+
+	/**
+	 * 检查已完成的任务，失败则抛出异常
+	 *
+	 * @param future 已完成的任务
+	 * @throws ThreadException 任务失败
+	 */
+	private static void checkCompleted(Future<?> future) {
+		try {
+			future.get();
+		} catch (ExecutionException e) {
+			throw new ThreadException(e.getCause());
+		} catch (InterruptedException e) {
+			// 已完成的任务不会阻塞
+			Thread.currentThread().interrupt();
+			throw new ThreadException(e);
+		}
+	}
+
+	/**
+	 * 距离截止时间的剩余时长
+	 *
+	 * @param deadline 截止时间，0表示不超时
+	 * @return 剩余时长，不超时返回{@link Long#MAX_VALUE}
+	 * @throws ThreadException 已超时
+	 */
+	private static long remaining(long deadline) {
+		if (0 == deadline) {
+			return Long.MAX_VALUE;
+		}
+		final long remaining = deadline - System.nanoTime();
+		if (remaining <= 0) {
+			throw timeout();
+		}
+		return remaining;
+	}
+
+	/**
+	 * 创建超时异常
+	 *
+	 * @return 异常
+	 */
+	private static ThreadException timeout() {
+		return new ThreadException(new TimeoutException("Tasks not completed within the deadline"));
+	}
+}
@@ -33,6 +33,10 @@ public class SyncFinisher implements Closeable {
 	private ExecutorService executorService;
 
 	private boolean isBeginAtSameTime;
+	/**
+	 * 是否使用虚拟线程
+	 */
+	private boolean useVirtualThread;
 	/**
 	 * 启动同步器，用于保证所有worker线程同时开始
 	 */
@@ -68,6 +72,19 @@ public class SyncFinisher implements Closeable {
 		return this;
 	}
 
+	/**
+	 * 设置是否使用虚拟线程执行worker，默认否<br>
+	 * 适用于worker以阻塞IO为主且数量很大的场景，不支持虚拟线程（Java 21以下）时使用守护平台线程，每个worker一个线程
+	 *
+	 * @param useVirtualThread 是否使用虚拟线程
+	 * @return this
+	 * @since 5.8.31
+	 */
+	public SyncFinisher setUseVirtualThread(boolean useVirtualThread) {
+		this.useVirtualThread = useVirtualThread;
+		return this;
+	}
+
 	/**
 	 * 设置异常处理
 	 *
@@ -256,6 +273,14 @@ public class SyncFinisher implements Closeable {
 	 * @return {@link ExecutorService}
 	 */
 	private ExecutorService buildExecutor() {
+		if (this.useVirtualThread) {
+			// 每个worker一个线程
+			return ExecutorBuilder.create()
+				.setCorePoolSize(0)
+				.useSynchronousQueue()
+				.setThreadFactory(ThreadUtil.newVirtualThreadFactory("hutool-", exceptionHandler))
+				.build();
+		}
 		return ExecutorBuilder.create()
 			.setCorePoolSize(threadSize)
 			.setThreadFactory(new NamedThreadFactory("hutool-", null, false, exceptionHandler))
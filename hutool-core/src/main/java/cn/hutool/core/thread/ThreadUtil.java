@@ -3,11 +3,15 @@ package cn.hutool.core.thread;
 import cn.hutool.core.util.RuntimeUtil;
 
 import java.lang.Thread.UncaughtExceptionHandler;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletionService;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.RejectedExecutionHandler;
@@ -110,6 +114,25 @@ public class ThreadUtil {
 				.build();
 	}
 
+	/**
+	 * 获得一个带运行统计的线程池，可通过{@link MonitoredThreadPoolExecutor#getStats()}获取排队耗时、执行耗时、拒绝次数等统计<br>
+	 * 线程池参数与{@link #newExecutor(int, int, int)}相同
+	 *
+	 * @param corePoolSize     初始线程池大小
+	 * @param maximumPoolSize  最大线程池大小
+	 * @param maximumQueueSize 最大任务队列大小
+	 * @return {@link MonitoredThreadPoolExecutor}
+	 * @since 5.8.31
+	 */
+	public static MonitoredThreadPoolExecutor newMonitoredExecutor(int corePoolSize, int maximumPoolSize, int maximumQueueSize) {
+		return (MonitoredThreadPoolExecutor) ExecutorBuilder.create()
+				.setCorePoolSize(corePoolSize)
+				.setMaxPoolSize(maximumPoolSize)
+				.setWorkQueue(new LinkedBlockingQueue<>(maximumQueueSize))
+				.setMonitored(true)
+				.build();
+	}
+
 	/**
 	 * 获得一个新的线程池<br>
 	 * 传入阻塞系数，线程池的大小计算公式为：CPU可用核心数 / (1 - 阻塞因子)<br>
@@ -199,6 +222,117 @@ public class ThreadUtil {
 				.build();
 	}
 
+	/**
+	 * 当前运行环境是否支持虚拟线程（Java 21及以上）
+	 *
+	 * @return 是否支持虚拟线程
+	 * @since 5.8.31
+	 */
+	public static boolean isVirtualThreadSupported() {
+		return VirtualThreadSupport.isSupported();
+	}
+
+	/**
+	 * 创建虚拟线程的{@link ExecutorService}，每个任务一个虚拟线程，适用于大量阻塞IO的任务<br>
+	 * 不支持虚拟线程（Java 21以下）时，退化为线程数不限的缓存线程池（守护线程），语义相同但使用平台线程，此时应控制并发量。
+	 *
+	 * @return {@link ExecutorService}
+	 * @since 5.8.31
+	 */
+	public static ExecutorService newVirtualExecutor() {
+		return newVirtualExecutor("hutool-virtual-");
+	}
+
+	/**
+	 * 创建虚拟线程的{@link ExecutorService}，每个任务一个虚拟线程，适用于大量阻塞IO的任务<br>
+	 * 不支持虚拟线程（Java 21以下）时，退化为线程数不限的缓存线程池（守护线程），语义相同但使用平台线程，此时应控制并发量。
+	 *
+	 * @param threadNamePrefix 线程名前缀
+	 * @return {@link ExecutorService}
+	 * @since 5.8.31
+	 */
+	public static ExecutorService newVirtualExecutor(String threadNamePrefix) {
+		if (VirtualThreadSupport.isSupported()) {
+			return VirtualThreadSupport.newThreadPerTaskExecutor(VirtualThreadSupport.newThreadFactory(threadNamePrefix, null));
+		}
+		return ExecutorBuilder.create()
+				.setCorePoolSize(0)
+				.setMaxPoolSize(Integer.MAX_VALUE)
+				.useSynchronousQueue()
+				.setThreadFactory(newNamedThreadFactory(threadNamePrefix, true))
+				.build();
+	}
+
+	/**
+	 * 创建虚拟线程工厂，不支持虚拟线程（Java 21以下）时返回创建守护线程的{@link NamedThreadFactory}
+	 *
+	 * @param threadNamePrefix 线程名前缀
+	 * @param handler          未捕获异常处理器，{@code null}表示使用默认
+	 * @return {@link ThreadFactory}
+	 * @since 5.8.31
+	 */
+	public static ThreadFactory newVirtualThreadFactory(String threadNamePrefix, UncaughtExceptionHandler handler) {
+		if (VirtualThreadSupport.isSupported()) {
+			return VirtualThreadSupport.newThreadFactory(threadNamePrefix, handler);
+		}
+		return new NamedThreadFactory(threadNamePrefix, null, true, handler);
+	}
+
+	/**
+	 * 并行执行所有任务并等待全部完成，任一任务失败时取消其余任务并抛出异常<br>
+	 * 支持虚拟线程时每个任务一个虚拟线程，否则使用公共线程池。
+	 *
+	 * @param tasks 任务
+	 * @throws ThreadException 任务失败，cause为任务抛出的异常
+	 * @since 5.8.31
+	 */
+	public static void parallelInvoke(Runnable... tasks) {
+		final List<Callable<Object>> callables = new ArrayList<>(tasks.length);
+		for (Runnable task : tasks) {
+			callables.add(Executors.callable(task));
+		}
+		invokeAll(callables, 0, 0, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * 结构化并行执行所有任务，按照任务顺序返回结果<br>
+	 * 任一任务失败、超过截止时间或调用线程被中断时，取消（中断）其余任务并抛出异常，不会遗留运行中的任务。<br>
+	 * 支持虚拟线程时每个任务一个虚拟线程，否则使用公共线程池。
+	 *
+	 * @param <T>            结果类型
+	 * @param tasks          任务
+	 * @param maxConcurrency 最大并发数，通过信号量控制，小于等于0表示不限制
+	 * @param timeout        整体超时时长，小于等于0表示不超时
+	 * @param unit           超时时长单位
+	 * @return 结果列表，与任务顺序一致
+	 * @throws ThreadException 任务失败（cause为任务抛出的异常）、超时（cause为{@link java.util.concurrent.TimeoutException}）或被中断
+	 * @since 5.8.31
+	 */
+	public static <T> List<T> invokeAll(Collection<? extends Callable<T>> tasks, int maxConcurrency, long timeout, TimeUnit unit) {
+		// 公共线程池可能被关闭后重新初始化，每次重新获取
+		final ExecutorService executor = isVirtualThreadSupported() ? FanOutExecutorHolder.EXECUTOR : GlobalThreadPool.getExecutor();
+		return invokeAll(executor, tasks, maxConcurrency, timeout, unit);
+	}
+
+	/**
+	 * 结构化并行执行所有任务，按照任务顺序返回结果<br>
+	 * 任一任务失败、超过截止时间或调用线程被中断时，取消（中断）其余任务并抛出异常，不会遗留运行中的任务。
+	 *
+	 * @param <T>            结果类型
+	 * @param executor       执行器，使用有界线程池时注意最大并发数不应超过线程数，避免任务排队占用截止时间
+	 * @param tasks          任务
+	 * @param maxConcurrency 最大并发数，通过信号量控制，小于等于0表示不限制
+	 * @param timeout        整体超时时长，小于等于0表示不超时
+	 * @param unit           超时时长单位
+	 * @return 结果列表，与任务顺序一致
+	 * @throws ThreadException 任务失败（cause为任务抛出的异常）、超时（cause为{@link java.util.concurrent.TimeoutException}）或被中断
+	 * @since 5.8.31
+	 */
+	public static <T> List<T> invokeAll(ExecutorService executor, Collection<? extends Callable<T>> tasks,
+										int maxConcurrency, long timeout, TimeUnit unit) {
+		return StructuredInvoker.invokeAll(executor, tasks, maxConcurrency, unit.toNanos(timeout));
+	}
+
 	/**
 	 * 直接在公共线程池中执行线程
 	 *
@@ -704,4 +838,11 @@ public class ThreadUtil {
 
 		return executor;
 	}
+
+	/**
+	 * 支持虚拟线程时，并行执行默认使用的虚拟线程执行器，懒加载
+	 */
+	private static class FanOutExecutorHolder {
+		private static final ExecutorService EXECUTOR = newVirtualExecutor("hutool-fan-out-");
+	}
 }
@@ -0,0 +1,109 @@
+package cn.hutool.core.thread;
+
+import java.lang.Thread.UncaughtExceptionHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 虚拟线程支持，运行时通过反射检测并试创建线程工厂，Java 21以下版本不可用（Java 19、20未开启预览特性时相关方法调用抛出异常）<br>
+ * 编译目标为Java 8，因此不能直接引用虚拟线程相关API。
+ *
+ * @author looly
+ * @since 5.8.31
+ */
+final class VirtualThreadSupport {
+
+	/**
+	 * Thread.ofVirtual()
+	 */
+	private static final Method OF_VIRTUAL;
+	/**
+	 * Thread.Builder#name(String, long)
+	 */
+	private static final Method BUILDER_NAME;
+	/**
+	 * Thread.Builder#uncaughtExceptionHandler(UncaughtExceptionHandler)
+	 */
+	private static final Method BUILDER_HANDLER;
+	/**
+	 * Thread.Builder#factory()
+	 */
+	private static final Method BUILDER_FACTORY;
+	/**
+	 * Executors.newThreadPerTaskExecutor(ThreadFactory)
+	 */
+	private static final Method NEW_THREAD_PER_TASK_EXECUTOR;
+
+	static {
+		Method ofVirtual = null;
+		Method builderName = null;
+		Method builderHandler = null;
+		Method builderFactory = null;
+		Method newThreadPerTaskExecutor = null;
+		try {
+			ofVirtual = Thread.class.getMethod("ofVirtual");
+			// 使用公开接口上的方法，避免访问实现类的模块限制
+			final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+			builderName = builderClass.getMethod("name", String.class, long.class);
+			builderHandler = builderClass.getMethod("uncaughtExceptionHandler", UncaughtExceptionHandler.class);
+			builderFactory = builderClass.getMethod("factory");
+			newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+			// 试创建线程工厂，Java 19、20中方法存在，但未开启预览特性时调用抛出UnsupportedOperationException
+			builderFactory.invoke(ofVirtual.invoke(null));
+		} catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+			// Java 21以下版本，不支持虚拟线程
+			ofVirtual = null;
+		}
+		OF_VIRTUAL = ofVirtual;
+		BUILDER_NAME = builderName;
+		BUILDER_HANDLER = builderHandler;
+		BUILDER_FACTORY = builderFactory;
+		NEW_THREAD_PER_TASK_EXECUTOR = newThreadPerTaskExecutor;
+	}
+
+	/**
+	 * 当前运行环境是否支持虚拟线程
+	 *
+	 * @return 是否支持
+	 */
+	static boolean isSupported() {
+		return null != OF_VIRTUAL;
+	}
+
+	/**
+	 * 创建虚拟线程工厂，调用前需检查{@link #isSupported()}
+	 *
+	 * @param prefix  线程名前缀，线程名为前缀加从0开始的序号
+	 * @param handler 未捕获异常处理器，{@code null}表示使用默认
+	 * @return {@link ThreadFactory}
+	 */
+	static ThreadFactory newThreadFactory(String prefix, UncaughtExceptionHandler handler) {
+		try {
+			Object builder = OF_VIRTUAL.invoke(null);
+			builder = BUILDER_NAME.invoke(builder, prefix, 0L);
+			if (null != handler) {
+				builder = BUILDER_HANDLER.invoke(builder, handler);
+			}
+			return (ThreadFactory) BUILDER_FACTORY.invoke(builder);
+		} catch (IllegalAccessException | InvocationTargetException e) {
+			throw new ThreadException(e, "Create virtual thread factory error!");
+		}
+	}
+
+	/**
+	 * 创建每个任务一个线程的{@link ExecutorService}，调用前需检查{@link #isSupported()}
+	 *
+	 * @param threadFactory 线程工厂
+	 * @return {@link ExecutorService}
+	 */
+	static ExecutorService newThreadPerTaskExecutor(ThreadFactory threadFactory) {
+		try {
+			return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(null, threadFactory);
+		} catch (IllegalAccessException | InvocationTargetException e) {
+			throw new ThreadException(e, "Create virtual thread executor error!");
+		}
+	}
+}
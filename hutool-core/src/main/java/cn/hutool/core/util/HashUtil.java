@@ -626,4 +626,43 @@ public class HashUtil {
 		}
 		return hash;
 	}
+
+	/**
+	 * Jump Consistent Hash算法，将key映射到[0, buckets)中的一个桶<br>
+	 * 无需存储哈希环，无内存分配，桶数由n增加到n+1时只有约1/(n+1)的key被重新映射。<br>
+	 * 注意：桶只能在末尾增减，适用于桶以编号表示的场景（如分片），删除中间节点请使用{@link cn.hutool.core.lang.ConsistentHash}或{@link cn.hutool.core.lang.RendezvousHash}。
+	 * <p>
+	 * 参考：https://arxiv.org/abs/1406.2294
+	 *
+	 * @param key     key的hash值
+	 * @param buckets 桶数，必须大于0
+	 * @return 桶编号，范围[0, buckets)
+	 * @since 5.8.31
+	 */
+	public static int jumpConsistentHash(long key, int buckets) {
+		if (buckets <= 0) {
+			throw new IllegalArgumentException("Buckets must be > 0!");
+		}
+		long b = -1;
+		long j = 0;
+		while (j < buckets) {
+			b = j;
+			key = key * 2862933555777941757L + 1;
+			j = (long) ((b + 1) * ((double) (1L << 31) / (double) ((key >>> 33) + 1)));
+		}
+		return (int) b;
+	}
+
+	/**
+	 * 64位整数混淆，使输入的每一位都均匀影响输出（SplitMix64的finalizer）
+	 *
+	 * @param key 整数
+	 * @return hash值
+	 * @since 5.8.31
+	 */
+	public static long mix64(long key) {
+		key = (key ^ (key >>> 30)) * 0xbf58476d1ce4e5b9L;
+		key = (key ^ (key >>> 27)) * 0x94d049bb133111ebL;
+		return key ^ (key >>> 31);
+	}
 }
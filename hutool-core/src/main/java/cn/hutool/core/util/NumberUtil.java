@@ -1,5 +1,6 @@
 package cn.hutool.core.util;
 
+import cn.hutool.core.collection.IntHashSet;
 import cn.hutool.core.exceptions.UtilException;
 import cn.hutool.core.lang.Assert;
 import cn.hutool.core.math.Calculator;
@@ -12,9 +13,7 @@ import java.text.DecimalFormat;
 import java.text.NumberFormat;
 import java.text.ParseException;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Objects;
-import java.util.Set;
 
 /**
  * 数字工具类<br>
@@ -1329,6 +1328,29 @@ public class NumberUtil {
 	 * @return 随机int数组
 	 */
 	public static int[] generateRandomNumber(int begin, int end, int size) {
+		if (begin > end) {
+			int temp = begin;
+			begin = end;
+			end = temp;
+		}
+		// 加入逻辑判断，确保begin<end并且size不能大于该表示范围
+		Assert.isTrue((end - begin) >= size, "Size is larger than range between begin and end!");
+
+		if ((end - begin) / 4 > size) {
+			// 范围远大于个数时，随机取值并去重，避免创建整个范围的种子数组
+			final IntHashSet set = new IntHashSet(size);
+			final int[] ranArr = new int[size];
+			int i = 0;
+			int value;
+			while (i < size) {
+				value = begin + RandomUtil.randomInt(end - begin);
+				if (set.add(value)) {
+					ranArr[i++] = value;
+				}
+			}
+			return ranArr;
+		}
+
 		// 种子你可以随意生成，但不能重复
 		final int[] seed = ArrayUtil.range(begin, end);
 		return generateRandomNumber(begin, end, size, seed);
@@ -1386,12 +1408,12 @@ public class NumberUtil {
 			throw new UtilException("Size is larger than range between begin and end!");
 		}
 
-		Set<Integer> set = new HashSet<>(size, 1);
+		final IntHashSet set = new IntHashSet(size);
 		while (set.size() < size) {
 			set.add(begin + RandomUtil.randomInt(end - begin));
 		}
 
-		return set.toArray(new Integer[0]);
+		return ArrayUtil.wrap(set.toArray());
 	}
 
 	// ------------------------------------------------------------------------------------------- range
@@ -1,5 +1,8 @@
 package cn.hutool.core.util;
 
+import cn.hutool.core.collection.IntHashSet;
+import cn.hutool.core.collection.LongHashSet;
+
 import java.lang.reflect.Array;
 import java.util.Arrays;
 import java.util.Random;
@@ -3214,4 +3217,52 @@ public class PrimitiveArrayUtil {
 
 		return true;
 	}
+
+	// ---------------------------------------------------------------------- distinct
+
+	/**
+	 * 去重数组中的元素，保留首次出现的顺序，去重后生成新的数组，原数组不变<br>
+	 * 此方法通过{@link IntHashSet}去重，不装箱
+	 *
+	 * @param array 数组
+	 * @return 去重后的数组
+	 * @since 5.8.31
+	 */
+	public static int[] distinct(int[] array) {
+		if (isEmpty(array)) {
+			return array;
+		}
+		final IntHashSet set = new IntHashSet(array.length);
+		final int[] result = new int[array.length];
+		int size = 0;
+		for (int value : array) {
+			if (set.add(value)) {
+				result[size++] = value;
+			}
+		}
+		return size == array.length ? result : Arrays.copyOf(result, size);
+	}
+
+	/**
+	 * 去重数组中的元素，保留首次出现的顺序，去重后生成新的数组，原数组不变<br>
+	 * 此方法通过{@link LongHashSet}去重，不装箱
+	 *
+	 * @param array 数组
+	 * @return 去重后的数组
+	 * @since 5.8.31
+	 */
+	public static long[] distinct(long[] array) {
+		if (isEmpty(array)) {
+			return array;
+		}
+		final LongHashSet set = new LongHashSet(array.length);
+		final long[] result = new long[array.length];
+		int size = 0;
+		for (long value : array) {
+			if (set.add(value)) {
+				result[size++] = value;
+			}
+		}
+		return size == array.length ? result : Arrays.copyOf(result, size);
+	}
 }
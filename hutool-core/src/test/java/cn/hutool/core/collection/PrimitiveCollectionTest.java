@@ -0,0 +1,175 @@
+package cn.hutool.core.collection;
+
+import cn.hutool.core.util.RandomUtil;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 基本类型集合单元测试
+ */
+public class PrimitiveCollectionTest {
+
+	@Test
+	public void intListTest() {
+		final IntList list = IntList.of(3, 1, 2);
+		for (int i = 0; i < 100; i++) {
+			list.add(i);
+		}
+		assertEquals(103, list.size());
+		assertEquals(3, list.get(0));
+		assertEquals(99, list.get(102));
+		assertEquals(1, list.indexOf(1));
+		assertTrue(list.contains(50));
+
+		assertEquals(3, list.removeAt(0));
+		assertEquals(1, list.set(0, 100));
+		assertEquals(102, list.size());
+		assertEquals(102, list.stream().count());
+		assertThrows(IndexOutOfBoundsException.class, () -> list.get(102));
+
+		final IntList small = IntList.of(3, 1, 2);
+		small.sort();
+		assertArrayEquals(new int[]{1, 2, 3}, small.toArray());
+		assertEquals("[1, 2, 3]", small.toString());
+		assertEquals(IntList.of(1, 2, 3), small);
+		assertEquals(IntList.of(1, 2, 3).hashCode(), small.hashCode());
+
+		int sum = 0;
+		for (Integer value : small) {
+			sum += value;
+		}
+		assertEquals(6, sum);
+	}
+
+	@Test
+	public void longListTest() {
+		final LongList list = LongList.of(Long.MAX_VALUE, 0L);
+		list.addAll(1L, 2L);
+		assertEquals(4, list.size());
+		assertEquals(Long.MAX_VALUE, list.get(0));
+		assertEquals(Long.MAX_VALUE, list.stream().max().getAsLong());
+		final PrimitiveIterator.OfLong iter = list.iterator();
+		assertEquals(Long.MAX_VALUE, iter.nextLong());
+		list.clear();
+		assertTrue(list.isEmpty());
+	}
+
+	@Test
+	public void intHashSetTest() {
+		final IntHashSet set = IntHashSet.of(0, 1, -1, Integer.MIN_VALUE, 1);
+		assertEquals(4, set.size());
+		assertTrue(set.contains(0));
+		assertTrue(set.contains(Integer.MIN_VALUE));
+		assertFalse(set.contains(2));
+		assertTrue(set.remove(0));
+		assertFalse(set.remove(0));
+		assertEquals(3, set.stream().count());
+
+		final int[] array = set.toArray();
+		Arrays.sort(array);
+		assertArrayEquals(new int[]{Integer.MIN_VALUE, -1, 1}, array);
+		assertEquals(IntHashSet.of(1, -1, Integer.MIN_VALUE), set);
+	}
+
+	@Test
+	public void longHashSetRandomTest() {
+		// 与HashSet对比，覆盖扩容及删除时的前移
+		final Random random = new Random(42);
+		final LongHashSet set = new LongHashSet();
+		final Set<Long> expected = new HashSet<>();
+		long value;
+		for (int i = 0; i < 200000; i++) {
+			value = random.nextInt(5000) - 100;
+			switch (random.nextInt(3)) {
+				case 0:
+				case 1:
+					assertEquals(expected.add(value), set.add(value));
+					break;
+				default:
+					assertEquals(expected.remove(value), set.remove(value));
+			}
+		}
+		assertEquals(expected.size(), set.size());
+		for (long v = -100; v < 4900; v++) {
+			assertEquals(expected.contains(v), set.contains(v));
+		}
+		final Set<Long> iterated = new HashSet<>();
+		for (Long v : set) {
+			iterated.add(v);
+		}
+		assertEquals(expected, iterated);
+	}
+
+	@Test
+	public void retainAllTest() {
+		final LongHashSet set = LongHashSet.of(0, 1, 2, 3, 4, 5);
+		assertTrue(set.retainAll(LongHashSet.of(0, 2, 4, 6)));
+		assertEquals(LongHashSet.of(0, 2, 4), set);
+		assertFalse(set.retainAll(LongHashSet.of(0, 2, 4)));
+
+		final IntHashSet intSet = IntHashSet.of(1, 2, 3);
+		intSet.retainAll(new IntHashSet());
+		assertTrue(intSet.isEmpty());
+
+		// 与自身求交集不改变集合
+		assertFalse(set.retainAll(set));
+		assertEquals(LongHashSet.of(0, 2, 4), set);
+		final IntHashSet intSet2 = IntHashSet.of(0, 1, 2);
+		assertFalse(intSet2.retainAll(intSet2));
+		assertEquals(IntHashSet.of(0, 1, 2), intSet2);
+	}
+
+	@Test
+	public void int2ObjectMapTest() {
+		final Int2ObjectMap<String> map = new Int2ObjectMap<>();
+		assertNull(map.put(0, "zero"));
+		assertNull(map.put(1, "one"));
+		assertEquals("one", map.put(1, "ONE"));
+		map.put(2, null);
+		assertEquals(3, map.size());
+		assertEquals("zero", map.get(0));
+		assertEquals("ONE", map.get(1));
+		assertTrue(map.containsKey(2));
+		assertNull(map.get(2));
+		assertEquals("none", map.getOrDefault(3, "none"));
+
+		assertEquals("three", map.computeIfAbsent(3, Integer::toString).replace("3", "three"));
+		assertEquals("3", map.get(3));
+		assertEquals("ONE", map.computeIfAbsent(1, key -> "x"));
+
+		assertEquals("zero", map.remove(0));
+		assertFalse(map.containsKey(0));
+		final int[] keys = map.keys();
+		Arrays.sort(keys);
+		assertArrayEquals(new int[]{1, 2, 3}, keys);
+		assertEquals(3, map.keyStream().count());
+	}
+
+	@Test
+	public void long2ObjectMapRandomTest() {
+		final Long2ObjectMap<Long> map = new Long2ObjectMap<>(4);
+		final Map<Long, Long> expected = new HashMap<>();
+		long key;
+		for (int i = 0; i < 100000; i++) {
+			key = RandomUtil.randomLong(-50, 3000);
+			if (RandomUtil.randomInt(3) > 0) {
+				assertEquals(expected.put(key, (long) i), map.put(key, (long) i));
+			} else {
+				assertEquals(expected.remove(key), map.remove(key));
+			}
+		}
+		assertEquals(expected.size(), map.size());
+		final Map<Long, Long> actual = new HashMap<>();
+		map.forEach(actual::put);
+		assertEquals(expected, actual);
+	}
+}
@@ -0,0 +1,192 @@
+package cn.hutool.core.compress;
+
+import cn.hutool.core.exceptions.UtilException;
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.thread.ThreadUtil;
+import cn.hutool.core.util.CharsetUtil;
+import cn.hutool.core.util.RandomUtil;
+import cn.hutool.core.util.StrUtil;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link MappedZipReader}单元测试，与{@link ZipFile}的结果对比
+ */
+public class MappedZipReaderTest {
+
+	@Test
+	public void readTest() throws IOException {
+		for (Charset charset : new Charset[]{CharsetUtil.CHARSET_UTF_8, CharsetUtil.CHARSET_GBK}) {
+			final Map<String, byte[]> data = new LinkedHashMap<>();
+			data.put("empty.txt", new byte[0]);
+			data.put("目录/文本.txt", RandomUtil.randomString("hutool工具", 50000).getBytes(CharsetUtil.CHARSET_UTF_8));
+			data.put("random.bin", RandomUtil.randomBytes(100000));
+			data.put("stored.bin", RandomUtil.randomBytes(3000));
+			final File zipFile = createZip(data, charset, "stored.bin");
+			try (final MappedZipReader reader = MappedZipReader.of(zipFile, charset);
+				 final ZipFile zip = new ZipFile(zipFile, charset)) {
+				assertEquals(zip.size(), reader.size());
+				assertEquals("注释", reader.getComment());
+				final List<ZipEntry> entries = reader.entries();
+				assertEquals("dir/", entries.get(0).getName());
+				assertTrue(entries.get(0).isDirectory());
+
+				for (Map.Entry<String, byte[]> item : data.entrySet()) {
+					final ZipEntry expected = zip.getEntry(item.getKey());
+					final ZipEntry entry = reader.getEntry(item.getKey());
+					assertNotNull(entry, item.getKey());
+					assertEquals(expected.getMethod(), entry.getMethod());
+					assertEquals(expected.getCrc(), entry.getCrc());
+					assertEquals(expected.getSize(), entry.getSize());
+					assertEquals(expected.getCompressedSize(), entry.getCompressedSize());
+					assertEquals(expected.getTime(), entry.getTime());
+
+					assertArrayEquals(item.getValue(), reader.getBytes(item.getKey()), item.getKey());
+					try (final InputStream in = reader.get(item.getKey())) {
+						assertArrayEquals(item.getValue(), IoUtil.readBytes(in, false), item.getKey());
+					}
+				}
+				assertNull(reader.getEntry("none"));
+				assertNull(reader.getBytes("none"));
+				assertNull(reader.get("none"));
+			} finally {
+				FileUtil.del(zipFile);
+			}
+		}
+	}
+
+	@Test
+	public void storedSliceTest() throws IOException {
+		final Map<String, byte[]> data = new LinkedHashMap<>();
+		data.put("stored.bin", RandomUtil.randomBytes(5000));
+		final File zipFile = createZip(data, CharsetUtil.CHARSET_UTF_8, "stored.bin");
+		try (final MappedZipReader reader = MappedZipReader.of(zipFile, CharsetUtil.CHARSET_UTF_8)) {
+			// 未压缩条目返回映射的只读切片
+			final ByteBuffer buffer = reader.getBuffer("stored.bin");
+			assertTrue(buffer.isDirect());
+			assertTrue(buffer.isReadOnly());
+			assertEquals(0, buffer.position());
+			assertEquals(5000, buffer.remaining());
+			assertEquals(ByteBuffer.wrap(data.get("stored.bin")), buffer);
+		} finally {
+			FileUtil.del(zipFile);
+		}
+	}
+
+	@Test
+	public void zipBombTest() throws IOException {
+		final Map<String, byte[]> data = new LinkedHashMap<>();
+		final byte[] bomb = StrUtil.repeat("hutool工具", 5000).getBytes(CharsetUtil.CHARSET_UTF_8);
+		data.put("bomb.txt", bomb);
+		final File zipFile = createZip(data, CharsetUtil.CHARSET_UTF_8);
+		try (final MappedZipReader reader = MappedZipReader.of(zipFile, CharsetUtil.CHARSET_UTF_8)) {
+			// 压缩比例超过默认的100倍，解压前拒绝
+			assertTrue(reader.getEntry("bomb.txt").getSize() > reader.getEntry("bomb.txt").getCompressedSize() * 100);
+			assertThrows(UtilException.class, () -> reader.getBuffer("bomb.txt"));
+			assertThrows(UtilException.class, () -> reader.get("bomb.txt"));
+
+			// 关闭检查后可以读取
+			reader.setMaxSizeDiff(-1);
+			assertArrayEquals(bomb, reader.getBytes("bomb.txt"));
+		} finally {
+			FileUtil.del(zipFile);
+		}
+	}
+
+	@Test
+	public void concurrentReadTest() throws IOException {
+		final Map<String, byte[]> data = new LinkedHashMap<>();
+		for (int i = 0; i < 200; i++) {
+			data.put("f" + i, StrUtil.repeat(RandomUtil.randomString(100), 1 + i % 50).getBytes());
+		}
+		final File zipFile = createZip(data, CharsetUtil.CHARSET_UTF_8, "f3", "f7");
+		try (final MappedZipReader reader = MappedZipReader.of(zipFile, CharsetUtil.CHARSET_UTF_8)) {
+			final List<Callable<Object>> tasks = new ArrayList<>();
+			for (int t = 0; t < 8; t++) {
+				final int offset = t;
+				tasks.add(() -> {
+					for (int i = 0; i < 1000; i++) {
+						final String name = "f" + ((i * 7 + offset) % 200);
+						if (0 == i % 2) {
+							assertArrayEquals(data.get(name), reader.getBytes(name), name);
+						} else {
+							try (final InputStream in = reader.get(name)) {
+								assertArrayEquals(data.get(name), IoUtil.readBytes(in, false), name);
+							}
+						}
+					}
+					return null;
+				});
+			}
+			ThreadUtil.invokeAll(tasks, 0, 0, TimeUnit.NANOSECONDS);
+		} finally {
+			FileUtil.del(zipFile);
+		}
+	}
+
+	@Test
+	public void zip64Test() {
+		// 条目数超出0xFFFF，使用Zip64目录结束标记
+		final int count = 0xFFFF + 10;
+		final File zipFile = FileUtil.createTempFile("mapped-zip", ".zip", true);
+		try {
+			try (final ParallelZipWriter writer = ParallelZipWriter.of(zipFile, CharsetUtil.CHARSET_UTF_8)) {
+				for (int i = 0; i < count; i++) {
+					writer.add(i + ".txt", new ByteArrayInputStream(StrUtil.utf8Bytes(String.valueOf(i))));
+				}
+			}
+			try (final MappedZipReader reader = MappedZipReader.of(zipFile, CharsetUtil.CHARSET_UTF_8)) {
+				assertEquals(count, reader.size());
+				assertEquals("65540", StrUtil.utf8Str(reader.getBytes("65540.txt")));
+				assertEquals("0", StrUtil.utf8Str(reader.getBytes("0.txt")));
+			}
+		} finally {
+			FileUtil.del(zipFile);
+		}
+	}
+
+	/**
+	 * 使用{@link ZipOutputStream}生成压缩包，包含一个目录条目和注释
+	 */
+	private static File createZip(Map<String, byte[]> data, Charset charset, String... storedNames) throws IOException {
+		final File zipFile = FileUtil.createTempFile("mapped-zip", ".zip", true);
+		try (final ZipOutputStream out = new ZipOutputStream(FileUtil.getOutputStream(zipFile), charset)) {
+			out.setComment("注释");
+			out.putNextEntry(new ZipEntry("dir/"));
+			out.closeEntry();
+			for (Map.Entry<String, byte[]> item : data.entrySet()) {
+				final ZipEntry entry = new ZipEntry(item.getKey());
+				if (StrUtil.equalsAny(item.getKey(), storedNames)) {
+					final CRC32 crc = new CRC32();
+					crc.update(item.getValue());
+					entry.setMethod(ZipEntry.STORED);
+					entry.setSize(item.getValue().length);
+					entry.setCrc(crc.getValue());
+				}
+				out.putNextEntry(entry);
+				out.write(item.getValue());
+				out.closeEntry();
+			}
+		}
+		return zipFile;
+	}
+}
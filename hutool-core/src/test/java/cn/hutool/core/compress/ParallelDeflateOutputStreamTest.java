@@ -0,0 +1,112 @@
+package cn.hutool.core.compress;
+
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.util.StrUtil;
+import cn.hutool.core.util.ZipUtil;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link ParallelDeflateOutputStream}单元测试，使用JDK标准解压方式校验结果
+ */
+public class ParallelDeflateOutputStreamTest {
+
+	@Test
+	public void roundTripTest() throws IOException {
+		final ForkJoinPool pool = new ForkJoinPool(3);
+		final Random random = new Random(42);
+		for (int length : new int[]{0, 1, 1000, 32 * 1024, 32 * 1024 + 1, 100 * 1024, 1024 * 1024 + 7}) {
+			final byte[] data = randomData(random, length);
+			for (ParallelDeflateOutputStream.Format format : ParallelDeflateOutputStream.Format.values()) {
+				for (int level : new int[]{-1, 0, 1, 9}) {
+					final ByteArrayOutputStream out = new ByteArrayOutputStream();
+					try (final ParallelDeflateOutputStream deflateOut = new ParallelDeflateOutputStream(out, format, level, 32 * 1024, pool)) {
+						// 分多次写出，覆盖跨块写出
+						int off = 0;
+						while (off < data.length) {
+							final int n = Math.min(data.length - off, 1 + random.nextInt(50000));
+							deflateOut.write(data, off, n);
+							off += n;
+						}
+					}
+					assertArrayEquals(data, inflate(out.toByteArray(), format), format + ":" + level + ":" + length);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void ratioTest() throws IOException {
+		// 使用前一块数据作为字典，压缩率与单线程压缩接近
+		final byte[] data = StrUtil.repeat("Hutool是一个小而全的Java工具类库，", 20000).getBytes();
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		Gzip.of(new ByteArrayInputStream(data), out).gzipParallel().close();
+		final byte[] parallel = out.toByteArray();
+		final byte[] single = ZipUtil.gzip(data);
+		assertArrayEquals(data, ZipUtil.unGzip(parallel));
+		assertTrue(parallel.length < single.length * 2, parallel.length + " vs " + single.length);
+	}
+
+	@Test
+	public void deflaterParallelTest() {
+		final byte[] data = randomData(new Random(7), 300 * 1024);
+		for (boolean nowrap : new boolean[]{true, false}) {
+			final ByteArrayOutputStream out = new ByteArrayOutputStream();
+			Deflate.of(new ByteArrayInputStream(data), out, nowrap).deflaterParallel(6);
+
+			final ByteArrayOutputStream result = new ByteArrayOutputStream();
+			Deflate.of(new ByteArrayInputStream(out.toByteArray()), result, nowrap).inflater();
+			assertArrayEquals(data, result.toByteArray());
+		}
+	}
+
+	@Test
+	public void writeAfterFinishTest() throws IOException {
+		final ParallelDeflateOutputStream out = new ParallelDeflateOutputStream(new ByteArrayOutputStream(), ParallelDeflateOutputStream.Format.GZIP, -1);
+		out.finish();
+		assertThrows(IOException.class, () -> out.write(1));
+		out.close();
+		assertThrows(IOException.class, out::flush);
+	}
+
+	private static byte[] inflate(byte[] data, ParallelDeflateOutputStream.Format format) throws IOException {
+		switch (format) {
+			case GZIP:
+				return IoUtil.readBytes(new GZIPInputStream(new ByteArrayInputStream(data)));
+			case ZLIB:
+				return IoUtil.readBytes(new InflaterInputStream(new ByteArrayInputStream(data)));
+			default:
+				return IoUtil.readBytes(new InflaterInputStream(new ByteArrayInputStream(data), new Inflater(true)));
+		}
+	}
+
+	/**
+	 * 随机生成可压缩的数据，包含重复片段和随机字节
+	 */
+	private static byte[] randomData(Random random, int length) {
+		final byte[] data = new byte[length];
+		int i = 0;
+		while (i < length) {
+			final int n = Math.min(length - i, 1 + random.nextInt(200));
+			if (random.nextBoolean() && i > n) {
+				System.arraycopy(data, random.nextInt(i - n), data, i, n);
+			} else {
+				for (int j = 0; j < n; j++) {
+					data[i + j] = (byte) ('a' + random.nextInt(random.nextBoolean() ? 4 : 26));
+				}
+			}
+			i += n;
+		}
+		return data;
+	}
+}
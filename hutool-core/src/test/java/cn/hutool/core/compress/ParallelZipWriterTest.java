@@ -0,0 +1,150 @@
+package cn.hutool.core.compress;
+
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.util.CharsetUtil;
+import cn.hutool.core.util.RandomUtil;
+import cn.hutool.core.util.StrUtil;
+import cn.hutool.core.util.ZipUtil;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link ParallelZipWriter}和{@link ZipReader}并行解压单元测试
+ */
+public class ParallelZipWriterTest {
+
+	@Test
+	public void zipDirTest() throws IOException {
+		final File root = FileUtil.mkdir(FileUtil.file(FileUtil.getTmpDir(), "hutool-parallel-zip-" + RandomUtil.randomString(6)));
+		try {
+			final File srcDir = FileUtil.mkdir(FileUtil.file(root, "src"));
+			final Map<String, String> expected = new LinkedHashMap<>();
+			for (int i = 0; i < 50; i++) {
+				final String path = "dir" + (i % 5) + "/file" + i + ".txt";
+				final String content = RandomUtil.randomString(i * 37);
+				FileUtil.writeUtf8String(content, FileUtil.file(srcDir, path));
+				expected.put("src/" + path, content);
+			}
+			FileUtil.mkdir(FileUtil.file(srcDir, "empty"));
+
+			final File zipFile = FileUtil.file(root, "test.zip");
+			try (final ParallelZipWriter writer = ParallelZipWriter.of(zipFile, CharsetUtil.CHARSET_UTF_8)) {
+				writer.setPool(new ForkJoinPool(3)).setSpillThreshold(1000).setComment("注释");
+				writer.add(true, null, srcDir);
+			}
+
+			try (final ZipFile zip = new ZipFile(zipFile, CharsetUtil.CHARSET_UTF_8)) {
+				assertEquals(51, zip.size());
+				assertEquals("注释", zip.getComment());
+				assertTrue(zip.getEntry("src/empty/").isDirectory());
+				for (Map.Entry<String, String> entry : expected.entrySet()) {
+					assertEquals(entry.getValue(), IoUtil.readUtf8(zip.getInputStream(zip.getEntry(entry.getKey()))));
+				}
+			}
+			// 流方式读取，校验本地文件头
+			try (final ZipInputStream in = new ZipInputStream(FileUtil.getInputStream(zipFile), CharsetUtil.CHARSET_UTF_8)) {
+				int count = 0;
+				ZipEntry entry;
+				while (null != (entry = in.getNextEntry())) {
+					if (false == entry.isDirectory()) {
+						assertEquals(expected.get(entry.getName()), StrUtil.utf8Str(IoUtil.readBytes(in, false)));
+					}
+					count++;
+				}
+				assertEquals(51, count);
+			}
+
+			// 并行解压
+			final File fileOut = ZipUtil.unzipParallel(zipFile, FileUtil.file(root, "out1"), CharsetUtil.CHARSET_UTF_8, 3);
+			final File streamOut = FileUtil.file(root, "out2");
+			try (final ZipReader reader = ZipReader.of(FileUtil.getInputStream(zipFile), CharsetUtil.CHARSET_UTF_8)) {
+				// 较小的内存限制，覆盖超出限制直接写出的情况
+				reader.setMemoryLimit(2000).readTo(streamOut, null, 3);
+			}
+			for (File out : new File[]{fileOut, streamOut}) {
+				for (Map.Entry<String, String> entry : expected.entrySet()) {
+					assertEquals(entry.getValue(), FileUtil.readUtf8String(FileUtil.file(out, entry.getKey())));
+				}
+				assertTrue(FileUtil.isDirectory(FileUtil.file(out, "src/empty")));
+			}
+		} finally {
+			FileUtil.del(root);
+		}
+	}
+
+	@Test
+	public void sameAsZipWriterTest() throws IOException {
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (final ParallelZipWriter writer = ParallelZipWriter.of(out, CharsetUtil.CHARSET_GBK)) {
+			writer.add(new String[]{"a.txt", "目录/b.txt"}, new java.io.InputStream[]{
+					IoUtil.toUtf8Stream("aaa"), IoUtil.toUtf8Stream("")});
+			writer.add("c/", null);
+		}
+
+		final List<String> names = new ArrayList<>();
+		try (final ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()), CharsetUtil.CHARSET_GBK)) {
+			ZipEntry entry;
+			while (null != (entry = in.getNextEntry())) {
+				names.add(entry.getName());
+				if ("a.txt".equals(entry.getName())) {
+					assertEquals("aaa", StrUtil.utf8Str(IoUtil.readBytes(in, false)));
+				}
+			}
+		}
+		assertEquals(3, names.size());
+		assertEquals("目录/b.txt", names.get(1));
+		assertEquals("c/", names.get(2));
+	}
+
+	@Test
+	public void duplicateTest() {
+		final ParallelZipWriter writer = ParallelZipWriter.of(new ByteArrayOutputStream(), CharsetUtil.CHARSET_UTF_8);
+		writer.add("a.txt", IoUtil.toUtf8Stream("a"));
+		assertThrows(IORuntimeException.class, () -> writer.add("a.txt", IoUtil.toUtf8Stream("b")));
+		writer.close();
+	}
+
+	@Test
+	public void zip64CountTest() throws IOException {
+		// 条目数超出0xFFFF，使用Zip64目录结束标记
+		final int count = 0xFFFF + 10;
+		final File zipFile = FileUtil.createTempFile("parallel-zip", ".zip", true);
+		try {
+			try (final ParallelZipWriter writer = ParallelZipWriter.of(zipFile, CharsetUtil.CHARSET_UTF_8)) {
+				for (int i = 0; i < count; i++) {
+					writer.add(i + ".txt", new ByteArrayInputStream(new byte[]{(byte) i}));
+				}
+			}
+			try (final ZipFile zip = new ZipFile(zipFile)) {
+				assertEquals(count, zip.size());
+				final Enumeration<? extends ZipEntry> entries = zip.entries();
+				int i = 0;
+				while (entries.hasMoreElements()) {
+					final ZipEntry entry = entries.nextElement();
+					assertEquals(i + ".txt", entry.getName());
+					assertEquals((byte) i, IoUtil.readBytes(zip.getInputStream(entry))[0]);
+					i++;
+				}
+			}
+		} finally {
+			FileUtil.del(zipFile);
+		}
+	}
+}
@@ -0,0 +1,216 @@
+package cn.hutool.core.date;
+
+import cn.hutool.core.util.StrUtil;
+import cn.hutool.core.util.SystemPropsUtil;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link DateStrScanner}单元测试，与{@link DateUtil#parseByDetect(String)}的结果逐个对比
+ */
+public class DateStrScannerTest {
+
+	private static final String[] BLANKS = {"", "", "", " ", "\t", "  "};
+	private static final char[] DATE_SEPARATORS = {'-', '-', '-', '/', '.', '年', '月'};
+	private static final char[] TIME_SEPARATORS = {':', ':', ':', '时', '分'};
+
+	@Test
+	public void parseNormTest() {
+		final Random random = new Random(42);
+		for (int i = 0; i < 10000; i++) {
+			final StringBuilder sb = new StringBuilder();
+			sb.append(StrUtil.padPre(String.valueOf(random.nextInt(10000)), 4, '0'))
+					.append(pick(random, DATE_SEPARATORS)).append(field(random, 13))
+					.append(pick(random, DATE_SEPARATORS)).append(field(random, 32));
+			if (random.nextInt(4) == 0) {
+				sb.append('日');
+			}
+			final int level = random.nextInt(4);
+			if (level > 0) {
+				sb.append(' ').append(field(random, 24)).append(pick(random, TIME_SEPARATORS)).append(field(random, 60));
+				if (level == 1 && random.nextInt(3) == 0) {
+					// 末尾分隔符，如12时30分
+					sb.append(pick(random, TIME_SEPARATORS));
+				}
+			}
+			if (level > 1) {
+				sb.append(pick(random, TIME_SEPARATORS)).append(field(random, 60));
+			}
+			if (level > 2) {
+				sb.append(random.nextBoolean() ? '.' : ',').append(digits(random, 1 + random.nextInt(6)));
+			}
+			if (level > 1 && random.nextInt(4) == 0) {
+				sb.append('秒');
+			}
+			assertSameAsDetect(blank(random) + sb + blank(random));
+		}
+	}
+
+	@Test
+	public void parseTimeTodayTest() {
+		final Random random = new Random(3);
+		for (int i = 0; i < 1000; i++) {
+			final String str = field(random, 24) + (random.nextBoolean() ? ':' : '时') + field(random, 60)
+					+ (random.nextBoolean() ? ':' : '分') + field(random, 60) + (random.nextBoolean() ? "秒" : "");
+			assertSameAsDetect(blank(random) + str + blank(random));
+		}
+	}
+
+	@Test
+	public void parseIsoOffsetTest() {
+		final Random random = new Random(11);
+		for (int i = 0; i < 5000; i++) {
+			final StringBuilder sb = new StringBuilder();
+			sb.append(digits(random, 4))
+					.append('-').append(digits(random, 2))
+					.append('-').append(digits(random, 2))
+					.append('T').append(digits(random, 2)).append(':').append(digits(random, 2))
+					.append(':').append(digits(random, 2));
+			if (random.nextBoolean()) {
+				sb.append('.').append(digits(random, 1 + random.nextInt(9)));
+			}
+			final String hour = StrUtil.padPre(String.valueOf(random.nextInt(15)), 2, '0');
+			if (random.nextBoolean()) {
+				sb.append('+').append(hour);
+				switch (random.nextInt(3)) {
+					case 0:
+						sb.append(':').append(digits(random, 2));
+						break;
+					case 1:
+						sb.append(digits(random, 2));
+						break;
+					default:
+				}
+			} else {
+				sb.append('-').append(hour).append(random.nextBoolean() ? ":00" : "00");
+			}
+			assertSameAsDetect(blank(random) + sb + blank(random));
+		}
+	}
+
+	@Test
+	public void parseIsoTest() {
+		final Random random = new Random(7);
+		for (int i = 0; i < 5000; i++) {
+			final StringBuilder sb = new StringBuilder();
+			sb.append(digits(random, 4))
+					.append('-').append(digits(random, 2))
+					.append('-').append(digits(random, 2))
+					.append('T').append(digits(random, 2)).append(':').append(digits(random, 2));
+			switch (random.nextInt(5)) {
+				case 0:
+					break;
+				case 1:
+					sb.append(':').append(digits(random, 2));
+					break;
+				case 2:
+					sb.append(':').append(digits(random, 2)).append('.').append(digits(random, 1 + random.nextInt(9)));
+					break;
+				case 3:
+					sb.append(':').append(digits(random, 2)).append('Z');
+					break;
+				default:
+					sb.append(':').append(digits(random, 2)).append('.').append(digits(random, 1 + random.nextInt(7))).append('Z');
+			}
+			assertSameAsDetect(blank(random) + sb + blank(random));
+		}
+	}
+
+	@Test
+	public void parsePureTest() {
+		final Random random = new Random(2024);
+		final int[] lengths = {6, 8, 13, 14, 17};
+		for (int i = 0; i < 5000; i++) {
+			assertSameAsDetect(blank(random) + digits(random, lengths[random.nextInt(lengths.length)]) + blank(random));
+		}
+		assertSameAsDetect("20240229");
+		assertSameAsDetect("20231231235959999");
+		assertSameAsDetect("1718000000000");
+	}
+
+	@Test
+	public void parseFixedTest() {
+		assertSameAsDetect("2024-02-29 23:59:59.999");
+		assertSameAsDetect("2024-2-9 3:5:7.1");
+		assertSameAsDetect("2023-02-29");
+		assertSameAsDetect("2024-01-01 24:60:60.123456");
+		assertSameAsDetect("2018-09-13T05:34:31.999Z");
+		assertSameAsDetect("2018-09-13T05:34:31.123456Z");
+		assertSameAsDetect("2021-03-17T06:31:33.99");
+		assertSameAsDetect("2018-09-13T05:34");
+		assertSameAsDetect("2024-01-01T12:30:00.123+08:00");
+		assertSameAsDetect("2019-06-01T19:45:43+0800");
+		assertSameAsDetect("2022-09-14T23:59:00-08:00");
+		assertSameAsDetect("2024年01月01日 12时30分00秒");
+		assertSameAsDetect("2024/1/1 12:30");
+		assertSameAsDetect("12:30:00");
+
+		final DateTime dateTime = DateStrScanner.parse("2018-09-13T05:34:31Z");
+		assertNotNull(dateTime);
+		assertEquals("UTC", dateTime.getTimeZone().getID());
+	}
+
+	@Test
+	public void notSupportTest() {
+		final String[] strs = {
+				"12:30", "12时30分", "2024-01-01 12:00:00.1234567", "2024-1-01T12:00:00", "2024-01-01T12:00:00+8:00",
+				"2024-01-01T12:00:00-08:30", "2024-01-01T12:00:00+080", "2024-01-01T12:00:00.12345678Z", "2024-01-01T12:00Z",
+				"2024-01-01 12:30秒", "2024-01-01日T12:00:00", "2024/01/01T12:00:00", "20240101日", ":30:00",
+				"20240101 120000", "2024-01-01  12:00", "2024-01-01 12", "2024-01-01 12:00:00.",
+				"Wed Aug 01 00:00:00 CST 2012", "123", "202401011", "-20240101", "24-01-01"
+		};
+		for (String str : strs) {
+			assertNull(DateStrScanner.parse(str), str);
+		}
+	}
+
+	@Test
+	public void notLenientTest() {
+		System.setProperty(SystemPropsUtil.HUTOOL_DATE_LENIENT, "false");
+		try {
+			// 非宽松模式下字段超出范围，与其它解析方式一样抛出DateException
+			assertThrows(DateException.class, () -> DateUtil.parse("2024-02-30 12:00:00"));
+			assertThrows(DateException.class, () -> DateUtil.parse("20241301"));
+			assertEquals(DateUtil.parseByDetect("2024-02-29 12:00:00"), DateUtil.parse("2024-02-29 12:00:00"));
+		} finally {
+			System.clearProperty(SystemPropsUtil.HUTOOL_DATE_LENIENT);
+		}
+	}
+
+	private static void assertSameAsDetect(String str) {
+		final DateTime actual = DateStrScanner.parse(str);
+		assertNotNull(actual, str);
+		final DateTime expected = DateUtil.parseByDetect(str);
+		assertEquals(expected.getTime(), actual.getTime(), str);
+		assertEquals(expected.getTimeZone(), actual.getTimeZone(), str);
+		assertEquals(expected.getFirstDayOfWeek(), actual.getFirstDayOfWeek(), str);
+		assertEquals(expected, DateUtil.parse(str), str);
+	}
+
+	/**
+	 * 随机1~2位的字段
+	 */
+	private static String field(Random random, int bound) {
+		final String value = String.valueOf(random.nextInt(bound + 1));
+		return random.nextBoolean() ? StrUtil.padPre(value, 2, '0') : value;
+	}
+
+	private static char pick(Random random, char[] chars) {
+		return chars[random.nextInt(chars.length)];
+	}
+
+	private static String digits(Random random, int length) {
+		final StringBuilder sb = new StringBuilder(length);
+		for (int i = 0; i < length; i++) {
+			sb.append((char) ('0' + random.nextInt(10)));
+		}
+		return sb.toString();
+	}
+
+	private static String blank(Random random) {
+		return BLANKS[random.nextInt(BLANKS.length)];
+	}
+}
@@ -3,8 +3,12 @@ package cn.hutool.core.date;
 import cn.hutool.core.date.format.FastDateFormat;
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
 import java.text.SimpleDateFormat;
+import java.util.Calendar;
 import java.util.Date;
+import java.util.Locale;
+import java.util.Random;
 import java.util.TimeZone;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -56,4 +60,83 @@ public class FastDateFormatTest {
 			getHutoolInstance("YY").format(date)
 		);
 	}
+
+	@Test
+	public void directFormatTest() {
+		final String[] patterns = {
+				"yyyy-MM-dd HH:mm:ss", "yyyy-MM-dd HH:mm:ss.SSS", "yyyyMMddHHmmssSSS", "yy/M/d H:m:s.S",
+				"yyyy年MM月dd日 HH时mm分ss秒", "HH:mm:ss.SS", "yyyy-MM-dd'T'HH:mm:ss.SSSSS", "dd.MM.yyyy", "EEE yyyy-MM-dd"
+		};
+		final String[] zones = {
+				"UTC", "Asia/Shanghai", "America/New_York", "Australia/Lord_Howe", "Asia/Kathmandu", "Pacific/Apia", "Europe/London"
+		};
+		final Random random = new Random(1);
+		// 1600-01-01 ~ 9999-12-31及超出的范围
+		final long min = -11676096000000L - 86400000L * 400;
+		final long max = 253402300800000L + 86400000L * 400;
+		for (String zone : zones) {
+			final TimeZone timeZone = TimeZone.getTimeZone(zone);
+			for (String pattern : patterns) {
+				final FastDateFormat format = FastDateFormat.getInstance(pattern, timeZone, Locale.US);
+				long millis = min + (long) (random.nextDouble() * (max - min));
+				for (int i = 0; i < 2000; i++) {
+					// 连续的毫秒数用于测试同一秒内的缓存
+					millis = i % 4 == 0 ? min + (long) (random.nextDouble() * (max - min)) : millis + random.nextInt(1500);
+					assertDirectFormat(format, millis);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void directFormatTransitionTest() {
+		// 夏令时切换前后
+		final FastDateFormat format = FastDateFormat.getInstance("yyyy-MM-dd HH:mm:ss.SSS", TimeZone.getTimeZone("America/New_York"));
+		final long start = DateUtil.parse("2024-03-10T06:59:58Z").getTime();
+		for (long millis = start; millis < start + 4000; millis += 7) {
+			assertDirectFormat(format, millis);
+		}
+		assertEquals("2024-03-10 01:59:59.999", format.format(DateUtil.parse("2024-03-10T06:59:59.999Z")));
+		assertEquals("2024-03-10 03:00:00.000", format.format(DateUtil.parse("2024-03-10T07:00:00.000Z")));
+	}
+
+	@Test
+	public void formatToArrayTest() {
+		final FastDateFormat format = FastDateFormat.getInstance("yyyy年MM月dd日 HH:mm:ss.SSS", TimeZone.getTimeZone("Asia/Shanghai"));
+		final long millis = DateUtil.parse("2024-01-01T19:04:05.678Z").getTime();
+
+		final char[] chars = new char[32];
+		final int charLength = format.format(millis, chars, 2);
+		assertEquals("2024年01月02日 03:04:05.678", new String(chars, 2, charLength));
+
+		final byte[] bytes = new byte[32];
+		final int byteLength = format.format(millis, bytes, 1);
+		assertEquals("2024年01月02日 03:04:05.678", new String(bytes, 1, byteLength, StandardCharsets.UTF_8));
+
+		assertThrows(IndexOutOfBoundsException.class, () -> format.format(millis, new char[10], 0));
+		assertThrows(IndexOutOfBoundsException.class, () -> format.format(millis, new byte[30], 1));
+	}
+
+	@Test
+	public void thaiLocaleFormatTest() {
+		// 泰国佛历不直接计算字段
+		final FastDateFormat format = FastDateFormat.getInstance("yyyy-MM-dd", TimeZone.getTimeZone("Asia/Bangkok"), new Locale("th", "TH"));
+		final long millis = DateUtil.parse("2024-01-02T00:00:00Z").getTime();
+		final Calendar calendar = Calendar.getInstance(format.getTimeZone(), format.getLocale());
+		calendar.setTimeInMillis(millis);
+		assertEquals(format.format(calendar), format.format(millis));
+	}
+
+	private static void assertDirectFormat(FastDateFormat format, long millis) {
+		final Calendar calendar = Calendar.getInstance(format.getTimeZone(), format.getLocale());
+		calendar.setTimeInMillis(millis);
+		final String expected = format.format(calendar);
+		assertEquals(expected, format.format(millis), () -> format.getPattern() + " " + millis);
+		assertEquals(expected, format.format(new Date(millis)));
+		assertEquals(expected, format.format(millis, new StringBuilder()).toString());
+		final char[] chars = new char[64];
+		assertEquals(expected, new String(chars, 0, format.format(millis, chars, 0)));
+		final byte[] bytes = new byte[128];
+		assertEquals(expected, new String(bytes, 0, format.format(millis, bytes, 0), StandardCharsets.UTF_8));
+	}
 }
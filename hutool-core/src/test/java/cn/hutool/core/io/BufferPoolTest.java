@@ -0,0 +1,133 @@
+package cn.hutool.core.io;
+
+import cn.hutool.core.text.StrBuilder;
+import cn.hutool.core.util.RandomUtil;
+import cn.hutool.core.util.StrUtil;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link BufferPool}单元测试
+ */
+public class BufferPoolTest {
+
+	@Test
+	public void borrowAndReturnTest() {
+		final BufferPool pool = new BufferPool(1024 * 1024);
+
+		// 长度向上取整到2的幂，最小1024
+		final byte[] small = pool.borrowBytes(10);
+		assertEquals(1024, small.length);
+		final byte[] bytes = pool.borrowBytes(5000);
+		assertEquals(8192, bytes.length);
+		assertEquals(0, pool.getHitCount());
+		assertEquals(2, pool.getMissCount());
+
+		// 线程本地缓存命中
+		pool.returnBytes(bytes);
+		assertSame(bytes, pool.borrowBytes(4097));
+		assertEquals(1, pool.getHitCount());
+
+		// 线程本地缓存已满时进入共享池
+		final byte[] other = pool.borrowBytes(8192);
+		pool.returnBytes(bytes);
+		pool.returnBytes(other);
+		assertEquals(8192, pool.getRetainedBytes());
+		assertSame(bytes, pool.borrowBytes(8192));
+		assertSame(other, pool.borrowBytes(8192));
+		assertEquals(0, pool.getRetainedBytes());
+
+		// char数组按照两个字节计算保留大小
+		final char[] chars = pool.borrowChars(1 << 16);
+		pool.returnChars(chars);
+		assertEquals(1 << 17, pool.getRetainedBytes());
+		assertSame(chars, pool.borrowChars(40000));
+		assertEquals(0.5, pool.getHitRate(), 0.0001);
+
+		// 非分级长度和超出范围的数组不入池
+		pool.returnBytes(new byte[3000]);
+		pool.returnBytes(new byte[BufferPool.MAX_POOLED_LENGTH << 1]);
+		assertEquals(0, pool.getRetainedBytes());
+		assertEquals(BufferPool.MAX_POOLED_LENGTH + 1, pool.borrowBytes(BufferPool.MAX_POOLED_LENGTH + 1).length);
+	}
+
+	@Test
+	public void maxRetainedTest() {
+		final BufferPool pool = new BufferPool(100000);
+		final byte[][] arrays = new byte[3][];
+		for (int i = 0; i < arrays.length; i++) {
+			arrays[i] = pool.borrowBytes(1 << 16);
+		}
+		for (byte[] array : arrays) {
+			pool.returnBytes(array);
+		}
+		// 64K超出线程本地缓存范围，共享池只能保留一个
+		assertEquals(1 << 16, pool.getRetainedBytes());
+		assertEquals(2, pool.getDiscardCount());
+
+		pool.clear();
+		assertEquals(0, pool.getRetainedBytes());
+	}
+
+	@Test
+	public void fastByteArrayOutputStreamTest() {
+		final BufferPool pool = BufferPool.enableGlobal();
+		try {
+			final byte[] data = RandomUtil.randomBytes(100000);
+			final FastByteArrayOutputStream out = new FastByteArrayOutputStream();
+			for (int i = 0; i < data.length; i += 777) {
+				out.write(data, i, Math.min(777, data.length - i));
+			}
+			assertArrayEquals(data, out.toByteArray());
+			final long missCount = pool.getMissCount();
+			assertTrue(missCount > 0);
+
+			// 关闭后数据不变，缓冲区归还
+			out.close();
+			assertArrayEquals(data, out.toByteArray());
+			out.write(data, 0, 10);
+			assertEquals(data.length + 10, out.size());
+			assertEquals(data[5], out.toByteArray()[data.length + 5]);
+
+			// 重置后归还，再次写出时复用
+			out.reset();
+			out.write(data, 0, data.length);
+			assertArrayEquals(data, out.toByteArray());
+			assertTrue(pool.getHitCount() > 0);
+			out.reset();
+
+			assertArrayEquals(data, IoUtil.readBytes(IoUtil.toStream(data)));
+		} finally {
+			BufferPool.disableGlobal();
+		}
+	}
+
+	@Test
+	public void strBuilderTest() {
+		final BufferPool pool = BufferPool.enableGlobal();
+		try {
+			final String str = RandomUtil.randomString(5000);
+			final StrBuilder builder = StrBuilder.create();
+			for (int i = 0; i < 3; i++) {
+				builder.append(str);
+				builder.insert(10, "abc");
+				assertEquals(StrUtil.sub(str, 0, 10) + "abc" + StrUtil.subSuf(str, 10), builder.toStringAndReset());
+			}
+			// 扩容和重置时归还的缓冲区被复用
+			assertTrue(pool.getHitCount() > 0);
+
+			final char[] chars = new char[3000];
+			Arrays.fill(chars, 'a');
+			final FastStringWriter writer = new FastStringWriter();
+			writer.write(chars);
+			assertEquals(new String(chars), writer.toString());
+			writer.reset();
+			assertEquals("", writer.toString());
+		} finally {
+			BufferPool.disableGlobal();
+		}
+	}
+}
@@ -0,0 +1,202 @@
+package cn.hutool.core.io.copy;
+
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.io.NioUtil;
+import cn.hutool.core.io.StreamProgress;
+import cn.hutool.core.thread.ThreadUtil;
+import cn.hutool.core.util.RandomUtil;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.Pipe;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * {@link ChannelCopier}和{@link StreamCopier}单元测试，覆盖直接传输、直接缓冲区和堆缓冲区几种拷贝方式
+ */
+public class ChannelCopierTest {
+
+	@Test
+	public void transferToTest() throws IOException {
+		final byte[] data = RandomUtil.randomBytes(100000);
+		final File src = FileUtil.createTempFile("copier", ".bin", true);
+		try {
+			FileUtil.writeBytes(data, src);
+			try (final FileChannel in = FileChannel.open(src.toPath(), StandardOpenOption.READ)) {
+				in.position(10);
+				final ByteArrayOutputStream out = new ByteArrayOutputStream();
+				final AtomicLong progress = new AtomicLong();
+				final long size = new ChannelCopier(1024, 5000, new ProgressRecorder(progress)).copy(in, Channels.newChannel(out));
+				assertEquals(5000, size);
+				assertEquals(5000, progress.get());
+				assertArrayEquals(Arrays.copyOfRange(data, 10, 5010), out.toByteArray());
+				// 源通道位置移动到读取结束处
+				assertEquals(5010, in.position());
+
+				out.reset();
+				assertEquals(data.length - 5010, new ChannelCopier().copy(in, Channels.newChannel(out)));
+				assertArrayEquals(Arrays.copyOfRange(data, 5010, data.length), out.toByteArray());
+			}
+		} finally {
+			FileUtil.del(src);
+		}
+	}
+
+	@Test
+	public void transferFromTest() throws IOException {
+		final byte[] data = RandomUtil.randomBytes(100000);
+		final File dest = FileUtil.createTempFile("copier", ".bin", true);
+		try (final FileChannel out = FileChannel.open(dest.toPath(), StandardOpenOption.WRITE)) {
+			out.write(ByteBuffer.wrap(new byte[]{1, 2, 3}));
+			assertEquals(data.length, new ChannelCopier().copy(Channels.newChannel(new ByteArrayInputStream(data)), out));
+			// 目标通道位置移动到写入结束处
+			assertEquals(data.length + 3, out.position());
+		} finally {
+			final byte[] bytes = FileUtil.readBytes(dest);
+			FileUtil.del(dest);
+			assertEquals(data.length + 3, bytes.length);
+			assertArrayEquals(data, Arrays.copyOfRange(bytes, 3, bytes.length));
+		}
+	}
+
+	@Test
+	public void directBufferTest() throws Exception {
+		final byte[] data = RandomUtil.randomBytes(200000);
+		final Pipe in = Pipe.open();
+		final Pipe out = Pipe.open();
+		final Thread writer = new Thread(() -> IoUtil.write(Channels.newOutputStream(in.sink()), true, data));
+		final ByteArrayOutputStream result = new ByteArrayOutputStream();
+		final Thread reader = new Thread(() -> IoUtil.copy(Channels.newInputStream(out.source()), result));
+		writer.start();
+		reader.start();
+
+		// 两端均为系统通道，使用直接缓冲区，限制长度时不多读取
+		assertEquals(150000, new ChannelCopier(4096, 150000).copy(in.source(), out.sink()));
+		assertEquals(data.length - 150000, NioUtil.copy(in.source(), out.sink(), 4096, null));
+		out.sink().close();
+		writer.join();
+		reader.join();
+		assertArrayEquals(data, result.toByteArray());
+	}
+
+	@Test
+	public void copyStreamTest() {
+		final byte[] data = RandomUtil.randomBytes(50000);
+		final File src = FileUtil.createTempFile("copier", ".bin", true);
+		final File dest = FileUtil.createTempFile("copier", ".bin", true);
+		try {
+			FileUtil.writeBytes(data, src);
+			// 文件流之间转为通道传输
+			try (final FileInputStream in = new FileInputStream(src); final FileOutputStream out = new FileOutputStream(dest)) {
+				assertEquals(2, in.skip(2));
+				assertEquals(40000, IoUtil.copy(in, out, 1024, 40000, null));
+				assertEquals(40002, in.getChannel().position());
+				assertEquals(data.length - 40002, NioUtil.copyByNIO(in, out, 1024, null));
+			} catch (IOException e) {
+				throw new RuntimeException(e);
+			}
+			assertArrayEquals(Arrays.copyOfRange(data, 2, data.length), FileUtil.readBytes(dest));
+
+			final ByteArrayOutputStream out = new ByteArrayOutputStream();
+			assertEquals(data.length, IoUtil.copy(new ByteArrayInputStream(data), out));
+			assertArrayEquals(data, out.toByteArray());
+		} finally {
+			FileUtil.del(src);
+			FileUtil.del(dest);
+		}
+	}
+
+	@Test
+	public void nonRegularSourceTest() throws IOException {
+		// /proc、字符设备等非普通文件的size()为0，需读取到末尾
+		final File status = new File("/proc/self/status");
+		assumeTrue(status.exists());
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (final FileInputStream in = new FileInputStream(status)) {
+			assertTrue(NioUtil.copyByNIO(in, out, 1024, null) > 0);
+		}
+		assertTrue(out.toString("UTF-8").startsWith("Name:"));
+
+		final File dest = FileUtil.createTempFile("copier", ".bin", true);
+		try {
+			try (final FileInputStream in = new FileInputStream(status); final FileOutputStream fileOut = new FileOutputStream(dest)) {
+				assertTrue(IoUtil.copy(in, (OutputStream) fileOut) > 0);
+			}
+			assertTrue(FileUtil.readUtf8String(dest).startsWith("Name:"));
+
+			try (final FileInputStream in = new FileInputStream("/dev/zero"); final FileOutputStream fileOut = new FileOutputStream(dest)) {
+				assertEquals(1024, IoUtil.copy(in, fileOut, 256, 1024, null));
+			}
+			assertArrayEquals(new byte[1024], FileUtil.readBytes(dest));
+		} finally {
+			FileUtil.del(dest);
+		}
+	}
+
+	@Test
+	public void nonBlockingSourceTest() throws Exception {
+		// 非阻塞源暂时无数据时transferFrom返回0，不能视为结束
+		final byte[] data = RandomUtil.randomBytes(100000);
+		final Pipe pipe = Pipe.open();
+		pipe.source().configureBlocking(false);
+		final Thread writer = new Thread(() -> {
+			try (final OutputStream out = Channels.newOutputStream(pipe.sink())) {
+				for (int i = 0; i < data.length; i += 10000) {
+					ThreadUtil.sleep(20);
+					out.write(data, i, 10000);
+				}
+			} catch (IOException e) {
+				throw new RuntimeException(e);
+			}
+		});
+		writer.start();
+
+		final File dest = FileUtil.createTempFile("copier", ".bin", true);
+		try {
+			try (final FileChannel out = FileChannel.open(dest.toPath(), StandardOpenOption.WRITE)) {
+				assertEquals(data.length, new ChannelCopier().copy(pipe.source(), out));
+			}
+			writer.join();
+			assertArrayEquals(data, FileUtil.readBytes(dest));
+		} finally {
+			pipe.source().close();
+			FileUtil.del(dest);
+		}
+	}
+
+	private static class ProgressRecorder implements StreamProgress {
+		private final AtomicLong progress;
+
+		ProgressRecorder(AtomicLong progress) {
+			this.progress = progress;
+		}
+
+		@Override
+		public void start() {
+		}
+
+		@Override
+		public void progress(long total, long progressSize) {
+			progress.set(progressSize);
+		}
+
+		@Override
+		public void finish() {
+		}
+	}
+}
@@ -0,0 +1,117 @@
+package cn.hutool.core.io.file;
+
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.util.CharsetUtil;
+import cn.hutool.core.util.StrUtil;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link MappedLineReader}单元测试，与{@link FileUtil#readLines(File, Charset)}的结果对比
+ */
+public class MappedLineReaderTest {
+
+	private static final String[] LINE_ENDS = {"\n", "\n", "\r\n", "\r"};
+	private static final String[] WORDS = {"", "hutool", "日志", "ERROR", "😀", " "};
+
+	@Test
+	public void readLinesTest() {
+		final Random random = new Random(42);
+		for (int i = 0; i < 50; i++) {
+			final String content = randomContent(random, random.nextInt(200));
+			assertSameAsReadLines(content, CharsetUtil.CHARSET_UTF_8, 1 + random.nextInt(64));
+			assertSameAsReadLines(content, CharsetUtil.CHARSET_GBK, 1 + random.nextInt(64));
+		}
+		assertSameAsReadLines("", CharsetUtil.CHARSET_UTF_8, 16);
+		assertSameAsReadLines("\n", CharsetUtil.CHARSET_UTF_8, 16);
+		assertSameAsReadLines("a\r", CharsetUtil.CHARSET_UTF_8, 1);
+		assertSameAsReadLines("\r\n\r\n", CharsetUtil.CHARSET_UTF_8, 1);
+		// 单行超出解码窗口
+		assertSameAsReadLines(StrUtil.repeat("日志a\r", 30000) + StrUtil.repeat("日志a", 50000) + "\r\nb", CharsetUtil.CHARSET_UTF_8, 1 << 20);
+	}
+
+	@Test
+	public void malformedTest() {
+		final File file = FileUtil.createTempFile("mapped-line", ".txt", true);
+		try {
+			FileUtil.writeBytes(new byte[]{'a', (byte) 0xe6, '\n', (byte) 0xff, 'b'}, file);
+			assertEquals(FileUtil.readUtf8Lines(file), readAll(file, CharsetUtil.CHARSET_UTF_8, 2));
+		} finally {
+			FileUtil.del(file);
+		}
+	}
+
+	@Test
+	public void notSupportTest() {
+		final File file = FileUtil.file("test.txt");
+		assertThrows(IllegalArgumentException.class, () -> MappedLineReader.create(file, StandardCharsets.UTF_16));
+	}
+
+	private static void assertSameAsReadLines(String content, Charset charset, int chunkSize) {
+		final File file = FileUtil.createTempFile("mapped-line", ".txt", true);
+		try {
+			FileUtil.writeString(content, file, charset);
+			final List<String> expected = FileUtil.readLines(file, charset);
+			assertEquals(expected, readAll(file, charset, chunkSize), content);
+
+			final Queue<String> unordered = new ConcurrentLinkedQueue<>();
+			MappedLineReader.create(file, charset).setChunkSize(chunkSize).readLines(unordered::add, false);
+			final Queue<String> parallel = new ConcurrentLinkedQueue<>();
+			FileUtil.readLinesParallel(file, charset, true, parallel::add);
+			assertEquals(expected, new ArrayList<>(parallel), content);
+			final List<String> sorted = new ArrayList<>(unordered);
+			Collections.sort(sorted);
+			final List<String> expectedSorted = new ArrayList<>(expected);
+			Collections.sort(expectedSorted);
+			assertEquals(expectedSorted, sorted, content);
+
+			final List<String> streamLines = MappedLineReader.create(file, charset).setChunkSize(chunkSize)
+					.lines(true).map(CharSequence::toString).collect(Collectors.toList());
+			assertEquals(expected, streamLines, content);
+
+			// 逐个遍历
+			final List<String> iterLines = new ArrayList<>();
+			final Iterator<CharSequence> iter = FileUtil.mappedLines(file, charset, false).iterator();
+			while (iter.hasNext()) {
+				iterLines.add(iter.next().toString());
+			}
+			assertEquals(expected, iterLines, content);
+		} finally {
+			FileUtil.del(file);
+		}
+	}
+
+	private static List<String> readAll(File file, Charset charset, int chunkSize) {
+		final List<String> lines = new ArrayList<>();
+		MappedLineReader.create(file, charset).setChunkSize(chunkSize).setPool(new ForkJoinPool(2)).readLines(lines::add);
+		return lines;
+	}
+
+	private static String randomContent(Random random, int lines) {
+		final StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < lines; i++) {
+			final int words = random.nextInt(4);
+			for (int j = 0; j < words; j++) {
+				builder.append(WORDS[random.nextInt(WORDS.length)]);
+			}
+			if (i < lines - 1 || random.nextBoolean()) {
+				builder.append(LINE_ENDS[random.nextInt(LINE_ENDS.length)]);
+			}
+		}
+		return builder.toString();
+	}
+}
@@ -0,0 +1,155 @@
+package cn.hutool.core.io.watch;
+
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.util.RandomUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link BatchWatchServer}单元测试
+ */
+public class BatchWatchServerTest {
+
+	private File root;
+	private final BlockingQueue<List<WatchChange>> batches = new LinkedBlockingQueue<>();
+	private final BatchWatcher watcher = (path, changes) -> batches.add(changes);
+
+	@BeforeEach
+	public void setUp() {
+		root = FileUtil.mkdir(FileUtil.file(FileUtil.getTmpDir(), "hutool-batch-watch-" + RandomUtil.randomString(6)));
+	}
+
+	@AfterEach
+	public void tearDown() {
+		FileUtil.del(root);
+	}
+
+	@Test
+	public void pollingTest() throws InterruptedException {
+		final File dir = FileUtil.mkdir(FileUtil.file(root, "poll"));
+		FileUtil.writeUtf8String("a", FileUtil.file(dir, "a.txt"));
+		try (final BatchWatchServer server = new BatchWatchServer().setForcePolling(true).setPollInterval(50).setDebounce(100)) {
+			server.register(dir.toPath(), 2, watcher);
+			assertTrue(server.isPolling(dir.toPath()));
+			assertEquals(0, server.getWatchDirCount());
+
+			final File sub = FileUtil.file(dir, "sub");
+			FileUtil.writeUtf8String("b", FileUtil.file(sub, "b.txt"));
+			// 超出深度的文件不通知
+			FileUtil.writeUtf8String("c", FileUtil.file(sub, "deep/c.txt"));
+			Map<Path, WatchKind> changes = awaitChanges(3);
+			assertEquals(WatchKind.CREATE, changes.get(sub.toPath()));
+			assertEquals(WatchKind.CREATE, changes.get(FileUtil.file(sub, "b.txt").toPath()));
+			assertEquals(WatchKind.CREATE, changes.get(FileUtil.file(sub, "deep").toPath()));
+
+			FileUtil.writeUtf8String("aa", FileUtil.file(dir, "a.txt"));
+			changes = awaitChanges(1);
+			assertEquals(WatchKind.MODIFY, changes.get(FileUtil.file(dir, "a.txt").toPath()));
+
+			FileUtil.del(FileUtil.file(sub, "b.txt"));
+			changes = awaitChanges(1);
+			assertEquals(WatchKind.DELETE, changes.get(FileUtil.file(sub, "b.txt").toPath()));
+		}
+	}
+
+	@Test
+	public void pollingFileTest() throws InterruptedException {
+		final File file = FileUtil.writeUtf8String("a", FileUtil.file(root, "a.txt"));
+		try (final BatchWatchServer server = new BatchWatchServer().setForcePolling(true).setPollInterval(50).setDebounce(100)) {
+			server.register(file.toPath(), 0, watcher);
+			FileUtil.writeUtf8String("b", FileUtil.file(root, "b.txt"));
+			FileUtil.writeUtf8String("aaa", file);
+			final Map<Path, WatchKind> changes = awaitChanges(1);
+			assertEquals(1, changes.size());
+			assertEquals(WatchKind.MODIFY, changes.get(file.toPath()));
+		}
+	}
+
+	@Test
+	public void nativeTest() throws InterruptedException {
+		final File dir = FileUtil.mkdir(FileUtil.file(root, "native"));
+		try (final BatchWatchServer server = new BatchWatchServer().setDebounce(300)) {
+			server.register(dir.toPath(), 3, watcher);
+			if (server.isPolling(dir.toPath())) {
+				// 不支持原生监听的系统跳过
+				return;
+			}
+			assertEquals(1, server.getWatchDirCount());
+
+			// 多次写入合并为一次创建，创建后删除相互抵消
+			final File a = FileUtil.file(dir, "a.txt");
+			for (int i = 0; i < 20; i++) {
+				FileUtil.appendUtf8String("line" + i, a);
+			}
+			final File tmp = FileUtil.writeUtf8String("tmp", FileUtil.file(dir, "tmp.txt"));
+			FileUtil.del(tmp);
+			Map<Path, WatchKind> changes = awaitChanges(1);
+			assertEquals(WatchKind.CREATE, changes.get(a.toPath()));
+			assertFalse(changes.containsKey(tmp.toPath()));
+
+			// 新建的子目录自动加入监听
+			final File sub = FileUtil.mkdir(FileUtil.file(dir, "sub"));
+			changes = awaitChanges(1);
+			assertEquals(WatchKind.CREATE, changes.get(sub.toPath()));
+			assertEquals(2, server.getWatchDirCount());
+			FileUtil.writeUtf8String("b", FileUtil.file(sub, "b.txt"));
+			changes = awaitChanges(1);
+			assertEquals(WatchKind.CREATE, changes.get(FileUtil.file(sub, "b.txt").toPath()));
+		}
+	}
+
+	@Test
+	public void multiRootTest() throws InterruptedException {
+		final File dir1 = FileUtil.mkdir(FileUtil.file(root, "dir1"));
+		final File dir2 = FileUtil.mkdir(FileUtil.file(root, "dir2"));
+		FileUtil.mkdir(FileUtil.file(dir2, "sub"));
+		final BlockingQueue<List<WatchChange>> batches2 = new LinkedBlockingQueue<>();
+		try (final BatchWatchServer server = new BatchWatchServer().setDebounce(100).setPollInterval(50).setMaxWatchDirs(1)) {
+			server.register(dir1.toPath(), 1, watcher);
+			// 超出目录数限制，退化为轮询
+			server.register(dir2.toPath(), 2, (path, changes) -> batches2.add(changes));
+			assertTrue(server.isPolling(dir2.toPath()));
+
+			FileUtil.writeUtf8String("a", FileUtil.file(dir1, "a.txt"));
+			FileUtil.writeUtf8String("b", FileUtil.file(dir2, "sub/b.txt"));
+			final Map<Path, WatchKind> changes = awaitChanges(1);
+			assertEquals(1, changes.size());
+			assertEquals(WatchKind.CREATE, changes.get(FileUtil.file(dir1, "a.txt").toPath()));
+
+			final List<WatchChange> changes2 = batches2.poll(10, TimeUnit.SECONDS);
+			assertNotNull(changes2);
+			assertEquals(new WatchChange(FileUtil.file(dir2, "sub/b.txt").toPath(), WatchKind.CREATE), changes2.get(0));
+
+			server.unregister(dir1.toPath());
+			assertEquals(0, server.getWatchDirCount());
+		}
+	}
+
+	/**
+	 * 等待收到指定数量的不同路径的变更，同一路径以最后一次为准
+	 */
+	private Map<Path, WatchKind> awaitChanges(int count) throws InterruptedException {
+		final Map<Path, WatchKind> result = new HashMap<>();
+		final long deadline = System.currentTimeMillis() + 10000;
+		while (result.size() < count && System.currentTimeMillis() < deadline) {
+			final List<WatchChange> changes = batches.poll(100, TimeUnit.MILLISECONDS);
+			if (null != changes) {
+				changes.forEach(change -> result.put(change.getPath(), change.getKind()));
+			}
+		}
+		assertTrue(result.size() >= count, "Changes: " + result);
+		return result;
+	}
+}
@@ -0,0 +1,106 @@
+package cn.hutool.core.lang;
+
+import cn.hutool.core.collection.ListUtil;
+import cn.hutool.core.util.HashUtil;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link ConsistentHash}、{@link RendezvousHash}和Jump Consistent Hash单元测试
+ */
+public class ConsistentHashTest {
+
+	private static final List<String> NODES = ListUtil.of("node-a", "node-b", "node-c", "node-d");
+
+	@Test
+	public void getTest() {
+		final ConsistentHash<String> hash = new ConsistentHash<>(key -> (Integer) key, 1, ListUtil.empty());
+		assertNull(hash.get(1));
+
+		// 使用固定的hash，节点名+序号作为hash值
+		final ConsistentHash<String> fixed = new ConsistentHash<>(key -> key.toString().length() * 100, 1, ListUtil.empty());
+		fixed.add("a");
+		fixed.add("bbb");
+		assertEquals(200, fixed.hashFunc.hash32("a0"));
+		// 顺时针查找大于等于hash的第一个节点
+		assertEquals("a", fixed.get("x"));
+		assertEquals("a", fixed.get("xx"));
+		assertEquals("bbb", fixed.get("xxx"));
+		assertEquals("bbb", fixed.get("xxxx"));
+		// 超过最大值回到起点
+		assertEquals("a", fixed.get("xxxxx"));
+
+		fixed.remove("a");
+		assertEquals("bbb", fixed.get("x"));
+	}
+
+	@Test
+	public void distributionTest() {
+		final ConsistentHash<String> hash = new ConsistentHash<>(160, NODES);
+		final List<String> keys = new ArrayList<>();
+		for (int i = 0; i < 10000; i++) {
+			keys.add("key" + i);
+		}
+		final Map<String, Integer> distribution = hash.getDistribution(keys);
+		assertEquals(4, distribution.size());
+		assertEquals(10000, distribution.values().stream().mapToInt(Integer::intValue).sum());
+		for (Integer count : distribution.values()) {
+			assertTrue(count > 1000 && count < 4000, "count: " + count);
+		}
+
+		hash.remove("node-a");
+		assertEquals(0, hash.getDistribution(keys).getOrDefault("node-a", 0));
+		assertEquals(3, hash.getDistribution(keys).size());
+	}
+
+	@Test
+	public void rendezvousTest() {
+		final RendezvousHash<String> hash = new RendezvousHash<>(NODES);
+		assertEquals(4, hash.size());
+		hash.add("node-a");
+		assertEquals(4, hash.size());
+
+		final String[] before = new String[1000];
+		for (int i = 0; i < before.length; i++) {
+			before[i] = hash.get("key" + i);
+		}
+
+		// 移除节点后，只有属于该节点的key被重新映射
+		hash.remove("node-b");
+		assertEquals(3, hash.size());
+		for (int i = 0; i < before.length; i++) {
+			final String node = hash.get("key" + i);
+			if ("node-b".equals(before[i])) {
+				assertNotEquals("node-b", node);
+			} else {
+				assertEquals(before[i], node);
+			}
+		}
+
+		assertNull(new RendezvousHash<String>(ListUtil.empty()).get("key"));
+	}
+
+	@Test
+	public void jumpConsistentHashTest() {
+		assertEquals(0, HashUtil.jumpConsistentHash(123456L, 1));
+		int moved = 0;
+		for (long key = 0; key < 10000; key++) {
+			final int b10 = HashUtil.jumpConsistentHash(key, 10);
+			final int b11 = HashUtil.jumpConsistentHash(key, 11);
+			assertTrue(b10 >= 0 && b10 < 10);
+			// 增加桶时，key要么不变，要么移动到新桶
+			if (b10 != b11) {
+				assertEquals(10, b11);
+				moved++;
+			}
+		}
+		// 约1/11的key移动
+		assertTrue(moved > 600 && moved < 1200, "moved: " + moved);
+		assertThrows(IllegalArgumentException.class, () -> HashUtil.jumpConsistentHash(1, 0));
+	}
+}
@@ -25,6 +25,16 @@ public class ObjectIdTest {
 		assertEquals(10000, set.size());
 	}
 
+	@Test
+	public void withHyphenTest() {
+		final String id = ObjectId.next(true);
+		assertEquals(26, id.length());
+		assertEquals('-', id.charAt(8));
+		assertEquals('-', id.charAt(17));
+		assertTrue(ObjectId.isValid(id));
+		assertTrue(ObjectId.isValid(ObjectId.next()));
+	}
+
 	@Test
 	@Disabled
 	public void nextTest() {
@@ -2,6 +2,7 @@ package cn.hutool.core.lang;
 
 import cn.hutool.core.collection.ConcurrentHashSet;
 import cn.hutool.core.exceptions.UtilException;
+import cn.hutool.core.lang.id.BufferedSnowflake;
 import cn.hutool.core.thread.ThreadUtil;
 import cn.hutool.core.util.IdUtil;
 import cn.hutool.core.util.RandomUtil;
@@ -127,4 +128,36 @@ public class SnowflakeTest {
 			}
 		});
 	}
+
+	@Test
+	public void nextIdsTest(){
+		final Snowflake snowflake = new Snowflake(1, 2);
+		// 超过单毫秒序号上限，跨越多个毫秒
+		final long[] ids = snowflake.nextIds(10000);
+		assertEquals(10000, ids.length);
+		for (int i = 1; i < ids.length; i++) {
+			assertTrue(ids[i] > ids[i - 1]);
+		}
+		assertEquals(1, snowflake.getWorkerId(ids[9999]));
+		assertEquals(2, snowflake.getDataCenterId(ids[9999]));
+		assertTrue(snowflake.nextId() > ids[9999]);
+	}
+
+	@Test
+	public void concurrentUniqueTest(){
+		final Snowflake snowflake = new Snowflake(0, 0);
+		final BufferedSnowflake buffered = new BufferedSnowflake(snowflake, 100);
+
+		final Set<Long> ids = new ConcurrentHashSet<>();
+		ThreadUtil.concurrencyTest(16, () -> {
+			for (int i = 0; i < 5000; i++) {
+				ids.add(snowflake.nextId());
+				ids.add(buffered.nextId());
+				for (long id : snowflake.nextIds(10)) {
+					ids.add(id);
+				}
+			}
+		});
+		assertEquals(16 * 5000 * 12, ids.size());
+	}
 }
@@ -18,4 +18,16 @@ public class UUIDTest {
 		ThreadUtil.concurrencyTest(100, ()-> set.add(UUID.fastUUID().toString()));
 		assertEquals(100, set.size());
 	}
+
+	@Test
+	public void toStringTest(){
+		final UUID uuid = UUID.fastUUID();
+		assertEquals(4, uuid.version());
+		assertEquals(2, uuid.variant());
+
+		final java.util.UUID jdkUUID = new java.util.UUID(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+		assertEquals(jdkUUID.toString(), uuid.toString());
+		assertEquals(jdkUUID.toString().replace("-", ""), uuid.toString(true));
+		assertEquals("00000000-0000-000a-0000-00000000000f", new UUID(10, 15).toString());
+	}
 }
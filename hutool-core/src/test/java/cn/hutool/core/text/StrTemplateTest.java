@@ -0,0 +1,85 @@
+package cn.hutool.core.text;
+
+import cn.hutool.core.map.MapUtil;
+import cn.hutool.core.util.RandomUtil;
+import cn.hutool.core.util.StrUtil;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link StrTemplate}单元测试
+ */
+public class StrTemplateTest {
+
+	@Test
+	public void formatTest() {
+		final StrTemplate template = StrTemplate.compile("this is {} for {}");
+		assertEquals("this is a for b", template.format("a", "b"));
+		assertEquals("this is a for {}", template.format("a"));
+		assertEquals("this is a for b", template.format("a", "b", "c"));
+		assertEquals("this is {} for {}", template.format());
+		assertEquals("this is null for b", template.format(null, "b"));
+
+		assertEquals("this is {} for a", StrTemplate.compile("this is \\{} for {}").format("a", "b"));
+		assertEquals("this is \\a for b", StrTemplate.compile("this is \\\\{} for {}").format("a", "b"));
+
+		final StringBuilder builder = new StringBuilder("> ");
+		assertSame(builder, template.appendTo(builder, 1, 2));
+		assertEquals("> this is 1 for 2", builder.toString());
+	}
+
+	@Test
+	public void formatSameAsScanTest() {
+		// 与逐次扫描的实现对比（使用[]作为占位符走原有实现）
+		final String chars = "a\\{}";
+		final Object[][] argsList = {{"X"}, {"X", "Y"}, {"X", "Y", "Z", "W", "V"}};
+		for (int i = 0; i < 20000; i++) {
+			final String pattern = RandomUtil.randomString(chars, RandomUtil.randomInt(12));
+			final String scanPattern = pattern.replace('{', '[').replace('}', ']');
+			for (Object[] args : argsList) {
+				final String expected = StrFormatter.formatWith(scanPattern, "[]", args);
+				final String actual = StrTemplate.compile(pattern).format(args);
+				assertEquals(null == expected ? null : expected.replace('[', '{').replace(']', '}'), actual, "pattern: " + pattern);
+			}
+		}
+	}
+
+	@Test
+	public void formatMapTest() {
+		final StrTemplate template = StrTemplate.compile("{a} and {b}, {c}{{a}}");
+		final Map<String, Object> map = new HashMap<>();
+		map.put("a", "aValue");
+		map.put("b", null);
+		assertEquals("aValue and {b}, {c}{aValue}", template.format(map, true));
+		assertEquals("aValue and , {c}{aValue}", template.format(map, false));
+		assertEquals("{a} and {b}, {c}{{a}}", template.format(MapUtil.empty(), false));
+
+		// 非String的键按照字符串形式匹配
+		assertEquals("1 is one", StrTemplate.compile("1 is {1}").format(MapUtil.of(1, "one"), true));
+
+		// 与StrUtil.format一致
+		assertEquals(StrUtil.format("{a} and {b}, {c}{{a}}", map, true), template.format(map, true));
+	}
+
+	@Test
+	public void formatUncachedTest() {
+		// 超过缓存长度的模板不编译，直接扫描格式化，结果与编译后的模板一致
+		final String padding = StrUtil.repeat('x', 2048);
+		final Map<Object, Object> map = new HashMap<>();
+		map.put("a", "aValue");
+		map.put("b", null);
+		map.put(1, "one");
+		for (String pattern : new String[]{"{a} and {b}, {c}{{a}}", "{1} {a", "}{a}{", "{}"}) {
+			final String longPattern = padding + pattern;
+			assertEquals(StrTemplate.compile(longPattern).format(map, true), StrFormatter.format(longPattern, map, true));
+			assertEquals(StrTemplate.compile(longPattern).format(map, false), StrFormatter.format(longPattern, map, false));
+		}
+
+		final String longPattern = padding + "this is \\{} for \\{} and \\{}";
+		assertEquals(StrTemplate.compile(longPattern).format("a", "b"), StrFormatter.format(longPattern, "a", "b"));
+	}
+}
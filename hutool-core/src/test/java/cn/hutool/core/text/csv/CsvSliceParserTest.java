@@ -0,0 +1,229 @@
+package cn.hutool.core.text.csv;
+
+import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.util.CharsetUtil;
+import cn.hutool.core.util.StrUtil;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link CsvSliceParser}单元测试，与{@link CsvParser}的结果逐个对比
+ */
+public class CsvSliceParserTest {
+
+	private static final String[] LINE_ENDS = {"\n", "\n", "\r\n", "\r"};
+
+	@Test
+	public void parseSameAsParserTest() {
+		final Random random = new Random(42);
+		for (int i = 0; i < 300; i++) {
+			final String csv = randomCsv(random, 1 + random.nextInt(50), true);
+			assertSameAsParser(csv, CsvReadConfig.defaultConfig());
+			assertSameAsParser(csv, CsvReadConfig.defaultConfig().setTrimField(true).setSkipEmptyRows(false));
+			assertSameAsParser(csv, CsvReadConfig.defaultConfig().setContainsHeader(true).disableComment());
+			assertSameAsParser(csv, CsvReadConfig.defaultConfig().setBeginLineNo(3).setEndLineNo(20).setHeaderLineNo(5));
+			assertSameAsParser(csv, CsvReadConfig.defaultConfig().setFieldSeparator(';').setTextDelimiter('\''));
+		}
+	}
+
+	@Test
+	public void parseLargeTest() {
+		// 多次补充窗口数据，行跨越窗口边界
+		final String csv = randomCsv(new Random(7), 20000, true);
+		assertTrue(csv.length() > 4 * 65536);
+		assertSameAsParser(csv, CsvReadConfig.defaultConfig());
+
+		// 单个字段超出窗口大小
+		final String longField = StrUtil.repeat("ab,\"\"c\n", 30000);
+		final CsvSliceParser parser = new CsvSliceParser(StrUtil.getReader("x,\"" + longField + "\",y\nz"), null);
+		CsvSliceRow row = parser.nextRow();
+		assertNotNull(row);
+		assertEquals(3, row.getFieldCount());
+		assertEquals(StrUtil.replace(longField, "\"\"", "\""), row.get(1));
+		assertEquals("y", row.get(2));
+		row = parser.nextRow();
+		assertNotNull(row);
+		assertEquals("z", row.get(0));
+		assertEquals(30001, row.getOriginalLineNumber());
+		assertNull(parser.nextRow());
+		IoUtil.close(parser);
+	}
+
+	@Test
+	public void columnsTest() {
+		final CsvReadConfig config = CsvReadConfig.defaultConfig().setContainsHeader(true).setColumns(3, 1);
+		final CsvSliceParser parser = new CsvSliceParser(StrUtil.getReader("a,b,c,d,e\n1,\"2,x\",3,\"4\"\"\",5\n6,7"), config);
+
+		CsvSliceRow row = parser.nextRow();
+		assertNotNull(row);
+		assertEquals(CollUtil.newArrayList("a", "b", "c", "d", "e"), parser.getHeader());
+		assertEquals(5, row.getFieldCount());
+		assertNull(row.get(0));
+		assertEquals("2,x", row.get(1));
+		assertEquals("2,x", row.getSlice(1).toString());
+		assertNull(row.get(2));
+		assertEquals("4\"", row.getByName("d"));
+		assertEquals("4\"", row.getSlice(3).toString());
+		assertNull(row.get(4));
+		assertEquals(CollUtil.newArrayList(null, "2,x", null, "4\"", null), row.toCsvRow().getRawList());
+
+		row = parser.nextRow();
+		assertNotNull(row);
+		assertEquals(2, row.getFieldCount());
+		assertEquals("7", row.get(1));
+		assertNull(row.getByName("d"));
+		final CsvSliceRow lastRow = row;
+		assertThrows(IndexOutOfBoundsException.class, () -> lastRow.get(2));
+		assertNull(parser.nextRow());
+		IoUtil.close(parser);
+	}
+
+	@Test
+	public void escapeInQuotesTest() {
+		// 转义的包装符不结束包装，包装内的分隔符和换行符作为普通字符
+		final CsvSliceParser parser = new CsvSliceParser(StrUtil.getReader("\"a\"\",b\",\"c\"\"\n\"\"d\"\nx"), null);
+		final CsvSliceRow row = parser.nextRow();
+		assertNotNull(row);
+		assertEquals(2, row.getFieldCount());
+		assertEquals("a\",b", row.get(0));
+		assertEquals("c\"\n\"d", row.get(1));
+		assertEquals("x", parser.nextRow().get(0));
+		IoUtil.close(parser);
+	}
+
+	@Test
+	public void readSliceTest() {
+		final List<String> values = new ArrayList<>();
+		CsvUtil.getReader(CsvReadConfig.defaultConfig().setColumns(1))
+				.readSlice(StrUtil.getReader("a,b\nc,d"), row -> values.add(row.get(1)));
+		assertEquals(CollUtil.newArrayList("b", "d"), values);
+	}
+
+	@Test
+	public void parallelParseTest() {
+		final StringBuilder builder = new StringBuilder("名称,值,备注\n");
+		final Random random = new Random(2024);
+		while (builder.length() < 5 * 1024 * 1024) {
+			builder.append(randomCsv(random, 100, false));
+			builder.append('\n');
+		}
+		final File file = FileUtil.createTempFile("csv-slice", ".csv", true);
+		try {
+			FileUtil.writeUtf8String(builder.toString(), file);
+			final CsvReadConfig config = CsvReadConfig.defaultConfig().setContainsHeader(true).setColumns(0, 1);
+
+			final List<String> expected = new ArrayList<>();
+			CsvUtil.getReader(config).readSlice(StrUtil.getReader(builder), row -> expected.add(row.toCsvRow().getRawList() + row.getByName("值")));
+
+			final Queue<String> actual = new ConcurrentLinkedQueue<>();
+			CsvUtil.getReader(config).readSlice(file.toPath(), CharsetUtil.CHARSET_UTF_8, 4, row -> {
+				assertEquals(-1, row.getOriginalLineNumber());
+				actual.add(row.toCsvRow().getRawList() + row.getByName("值"));
+			});
+
+			final List<String> actualList = new ArrayList<>(actual);
+			Collections.sort(expected);
+			Collections.sort(actualList);
+			assertEquals(expected.size(), actualList.size());
+			assertEquals(expected, actualList);
+		} finally {
+			FileUtil.del(file);
+		}
+	}
+
+	@Test
+	public void parallelParseNotSupportTest() {
+		final File file = FileUtil.createTempFile("csv-slice", ".csv", true);
+		try {
+			assertThrows(IllegalArgumentException.class, () -> CsvSliceParser.parallelParse(file.toPath(), java.nio.charset.StandardCharsets.UTF_16, null, 2, row -> {
+			}));
+			assertThrows(IllegalArgumentException.class, () -> CsvSliceParser.parallelParse(file.toPath(), null, CsvReadConfig.defaultConfig().setBeginLineNo(1), 2, row -> {
+			}));
+		} finally {
+			FileUtil.del(file);
+		}
+	}
+
+	private static void assertSameAsParser(String csv, CsvReadConfig config) {
+		final List<CsvRow> expected = new ArrayList<>();
+		final CsvParser parser = new CsvParser(StrUtil.getReader(csv), config);
+		CsvRow row;
+		while (null != (row = parser.nextRow())) {
+			expected.add(row);
+		}
+
+		final List<CsvRow> actual = new ArrayList<>();
+		final CsvSliceParser sliceParser = new CsvSliceParser(StrUtil.getReader(csv), config);
+		sliceParser.parse(sliceRow -> actual.add(sliceRow.toCsvRow()));
+
+		assertEquals(expected.size(), actual.size(), csv);
+		for (int i = 0; i < expected.size(); i++) {
+			assertEquals(expected.get(i).getRawList(), actual.get(i).getRawList(), csv);
+			assertEquals(expected.get(i).getOriginalLineNumber(), actual.get(i).getOriginalLineNumber(), csv);
+		}
+		if (false == expected.isEmpty() && null != expected.get(0).headerMap) {
+			assertEquals(parser.getHeader(), sliceParser.getHeader(), csv);
+		}
+	}
+
+	/**
+	 * 随机生成CSV，包装内的转义包装符只出现在末尾，以便与{@link CsvParser}的结果对比
+	 */
+	private static String randomCsv(Random random, int rows, boolean multiLine) {
+		final StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < rows; i++) {
+			if (i > 0) {
+				builder.append(multiLine ? LINE_ENDS[random.nextInt(LINE_ENDS.length)] : "\n");
+			}
+			switch (random.nextInt(12)) {
+				case 0:
+					// 空行
+					continue;
+				case 1:
+					builder.append("# comment, \"x");
+					continue;
+				default:
+			}
+			final int fieldCount = 1 + random.nextInt(5);
+			for (int j = 0; j < fieldCount; j++) {
+				if (j > 0) {
+					builder.append(',');
+				}
+				switch (random.nextInt(6)) {
+					case 0:
+						break;
+					case 1:
+						builder.append('"').append(random.nextBoolean() ? " a,b " : "c;'d").append('"');
+						break;
+					case 2:
+						builder.append('"').append("x");
+						if (multiLine) {
+							builder.append(LINE_ENDS[random.nextInt(LINE_ENDS.length)]).append('y');
+						}
+						builder.append(random.nextBoolean() ? "\"\"" : "").append('"');
+						break;
+					case 3:
+						builder.append(" 数据 ").append(random.nextInt(1000));
+						break;
+					default:
+						builder.append("v").append(random.nextInt(100000));
+				}
+			}
+		}
+		if (random.nextBoolean()) {
+			builder.append(LINE_ENDS[random.nextInt(LINE_ENDS.length)]);
+		}
+		return builder.toString();
+	}
+}
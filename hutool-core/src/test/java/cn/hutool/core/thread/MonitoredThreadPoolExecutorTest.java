@@ -0,0 +1,118 @@
+package cn.hutool.core.thread;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MonitoredThreadPoolExecutorTest {
+
+	@Test
+	public void statsTest() throws InterruptedException {
+		final MonitoredThreadPoolExecutor executor = ThreadUtil.newMonitoredExecutor(2, 2, 1);
+		final CountDownLatch block = new CountDownLatch(1);
+		final CountDownLatch done = new CountDownLatch(3);
+		try {
+			// 两个线程阻塞，第三个任务排队，第四个任务被拒绝
+			for (int i = 0; i < 2; i++) {
+				executor.execute(() -> {
+					try {
+						block.await();
+					} catch (InterruptedException ignore) {
+						// ignore
+					} finally {
+						done.countDown();
+					}
+				});
+			}
+			executor.execute(() -> {
+				done.countDown();
+				throw new IllegalStateException("failed");
+			});
+			assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> {
+			}));
+
+			ThreadUtil.sleep(50);
+			ExecutorStats stats = executor.getStats();
+			assertEquals(2, stats.getActive());
+			assertEquals(1, stats.getQueueSize());
+			assertEquals(1, stats.getRejected());
+			assertEquals(1.0, stats.getSaturation());
+
+			block.countDown();
+			assertTrue(done.await(5, TimeUnit.SECONDS));
+			ThreadUtil.sleep(50);
+
+			stats = executor.getStats();
+			assertEquals(4, stats.getSubmitted());
+			assertEquals(3, stats.getCompleted());
+			assertEquals(1, stats.getFailed());
+			assertEquals(2, stats.getPeakActive());
+			assertEquals(0, stats.getActive());
+			assertEquals(3, stats.getQueueTime().getCount());
+			// 排队的任务至少等待了50毫秒
+			assertTrue(stats.getQueueTime().getMax(TimeUnit.MILLISECONDS) >= 40);
+			assertTrue(stats.getRunTime().getPercentile(1, TimeUnit.MILLISECONDS) >= 40);
+			assertTrue(stats.getQueueTime().getPercentile(0.5, TimeUnit.NANOSECONDS)
+					<= stats.getQueueTime().getMax(TimeUnit.NANOSECONDS));
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void submitFailedTest() {
+		final MonitoredThreadPoolExecutor executor = ThreadUtil.newMonitoredExecutor(1, 1, 10);
+		try {
+			// submit提交的任务异常由Future持有，同样计入失败数
+			final Future<?> failed = executor.submit(() -> {
+				throw new IllegalStateException("failed");
+			});
+			final Future<?> success = executor.submit(() -> {
+			});
+			assertThrows(ExecutionException.class, failed::get);
+			assertDoesNotThrow(() -> success.get());
+
+			final long deadline = System.currentTimeMillis() + 5000;
+			while (executor.getStats().getCompleted() < 2 && System.currentTimeMillis() < deadline) {
+				ThreadUtil.sleep(10);
+			}
+			assertEquals(2, executor.getStats().getCompleted());
+			assertEquals(1, executor.getStats().getFailed());
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void adaptiveSizingTest() throws InterruptedException {
+		final MonitoredThreadPoolExecutor executor = (MonitoredThreadPoolExecutor) ExecutorBuilder.create()
+				.setCorePoolSize(1)
+				.setMaxPoolSize(4)
+				.useArrayBlockingQueue(1000)
+				.setAdaptiveSizing(1, 1, 10, TimeUnit.MILLISECONDS)
+				.build();
+		try {
+			final CountDownLatch latch = new CountDownLatch(200);
+			for (int i = 0; i < 200; i++) {
+				executor.execute(() -> {
+					ThreadUtil.sleep(2);
+					latch.countDown();
+				});
+			}
+			assertTrue(latch.await(10, TimeUnit.SECONDS));
+			// 排队严重，核心线程数增长到最大
+			assertEquals(4, executor.getCorePoolSize());
+		} finally {
+			executor.shutdown();
+		}
+	}
+}
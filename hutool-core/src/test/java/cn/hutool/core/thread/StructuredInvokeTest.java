@@ -0,0 +1,121 @@
+package cn.hutool.core.thread;
+
+import cn.hutool.core.collection.ListUtil;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StructuredInvokeTest {
+
+	@Test
+	public void invokeAllAfterGlobalPoolRestartTest() {
+		// 公共线程池关闭并重新初始化后，默认执行器仍可用
+		ThreadUtil.invokeAll(ListUtil.of((Callable<Integer>) () -> 1), 0, 5, TimeUnit.SECONDS);
+		GlobalThreadPool.shutdown(false);
+		GlobalThreadPool.init();
+		assertEquals(ListUtil.of(1, 2), ThreadUtil.invokeAll(ListUtil.of(() -> 1, () -> 2), 0, 5, TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void invokeAllOrderTest() {
+		final List<Callable<Integer>> tasks = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			final int value = i;
+			tasks.add(() -> {
+				ThreadUtil.sleep(20 - value);
+				return value;
+			});
+		}
+		final List<Integer> results = ThreadUtil.invokeAll(tasks, 0, 5, TimeUnit.SECONDS);
+		assertEquals(20, results.size());
+		for (int i = 0; i < 20; i++) {
+			assertEquals(i, results.get(i));
+		}
+	}
+
+	@Test
+	public void maxConcurrencyTest() {
+		final AtomicInteger running = new AtomicInteger();
+		final AtomicInteger peak = new AtomicInteger();
+		final List<Callable<Integer>> tasks = new ArrayList<>();
+		for (int i = 0; i < 30; i++) {
+			tasks.add(() -> {
+				peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+				ThreadUtil.sleep(5);
+				running.decrementAndGet();
+				return 1;
+			});
+		}
+		ThreadUtil.invokeAll(tasks, 3, 0, TimeUnit.SECONDS);
+		assertTrue(peak.get() <= 3);
+	}
+
+	@Test
+	public void firstFailureCancelTest() {
+		final AtomicBoolean interrupted = new AtomicBoolean();
+		final CountDownLatch started = new CountDownLatch(1);
+		final List<Callable<Object>> tasks = ListUtil.of(
+				() -> {
+					started.countDown();
+					try {
+						Thread.sleep(5000);
+					} catch (InterruptedException e) {
+						interrupted.set(true);
+					}
+					return null;
+				},
+				() -> {
+					// 等待第一个任务开始执行，保证取消时中断的是运行中的任务
+					started.await();
+					throw new IllegalStateException("failed");
+				});
+		final long start = System.currentTimeMillis();
+		final ThreadException e = assertThrows(ThreadException.class, () -> ThreadUtil.invokeAll(tasks, 0, 0, TimeUnit.SECONDS));
+		assertInstanceOf(IllegalStateException.class, e.getCause());
+		assertTrue(System.currentTimeMillis() - start < 4000);
+		for (int i = 0; i < 100 && false == interrupted.get(); i++) {
+			ThreadUtil.sleep(20);
+		}
+		assertTrue(interrupted.get());
+	}
+
+	@Test
+	public void deadlineTest() {
+		final List<Callable<Object>> tasks = ListUtil.of(() -> {
+			Thread.sleep(5000);
+			return null;
+		});
+		final ThreadException e = assertThrows(ThreadException.class, () -> ThreadUtil.invokeAll(tasks, 0, 50, TimeUnit.MILLISECONDS));
+		assertInstanceOf(TimeoutException.class, e.getCause());
+	}
+
+	@Test
+	public void virtualExecutorTest() throws Exception {
+		// 不支持虚拟线程时退化为平台线程，两种情况均可执行
+		final java.util.concurrent.ExecutorService executor = ThreadUtil.newVirtualExecutor();
+		try {
+			assertNotNull(executor.submit(() -> Thread.currentThread().getName()).get());
+		} finally {
+			executor.shutdown();
+		}
+
+		final AtomicInteger count = new AtomicInteger();
+		final SyncFinisher finisher = new SyncFinisher(10).setUseVirtualThread(true);
+		finisher.addRepeatWorker(count::incrementAndGet).start();
+		finisher.stop();
+		assertEquals(10, count.get());
+	}
+}
@@ -287,6 +287,13 @@ public class ArrayUtilTest {
 		assertArrayEquals(new String[]{"aa", "bb", "cc", "dd"}, distinct);
 	}
 
+	@Test
+	public void distinctPrimitiveTest() {
+		assertArrayEquals(new int[]{3, 1, 2}, ArrayUtil.distinct(new int[]{3, 1, 3, 2, 1}));
+		assertArrayEquals(new long[]{0L, -1L}, ArrayUtil.distinct(new long[]{0L, -1L, 0L}));
+		assertArrayEquals(new int[0], ArrayUtil.distinct(new int[0]));
+	}
+
 	@Test
 	public void distinctByFunctionTest() {
 		String[] array = {"aa", "Aa", "BB", "bb"};
@@ -544,6 +544,17 @@ public class NumberUtilTest {
 		assertEquals(5, set.size());
 	}
 
+	@Test
+	public void generateRandomNumberLargeRangeTest(){
+		// 范围远大于个数时不创建种子数组
+		final int[] ints = NumberUtil.generateRandomNumber(Integer.MAX_VALUE - 100000000, Integer.MAX_VALUE, 1000);
+		assertEquals(1000, ints.length);
+		assertEquals(1000, ArrayUtil.distinct(ints).length);
+		for (int i : ints) {
+			assertTrue(i >= Integer.MAX_VALUE - 100000000);
+		}
+	}
+
 	@Test
 	public void toStrTest(){
 		assertEquals("1", NumberUtil.toStr(new BigDecimal("1.0000000000")));
@@ -1,5 +1,7 @@
 package cn.hutool.cron;
 
+import cn.hutool.cron.lock.TaskLock;
+
 import java.util.TimeZone;
 
 /**
@@ -10,6 +12,11 @@ import java.util.TimeZone;
  */
 public class CronConfig {
 
+	/**
+	 * 默认的执行锁租约时长：1小时
+	 */
+	public static final long DEFAULT_LOCK_LEASE_MILLIS = 3600_000L;
+
 	/**
 	 * 时区
 	 */
@@ -18,6 +25,26 @@ public class CronConfig {
 	 * 是否支持秒匹配
 	 */
 	protected boolean matchSecond;
+	/**
+	 * 是否按照预先计算的下次执行时间调度
+	 */
+	protected boolean useNextFireTime;
+	/**
+	 * 任务执行锁，{@code null}表示不使用
+	 */
+	protected TaskLock taskLock;
+	/**
+	 * 是否允许同一任务重叠执行
+	 */
+	protected boolean allowOverlap = true;
+	/**
+	 * 不允许重叠执行时，执行锁的租约时长
+	 */
+	protected long lockLeaseMillis = DEFAULT_LOCK_LEASE_MILLIS;
+	/**
+	 * 错过执行的处理策略
+	 */
+	protected MisfirePolicy misfirePolicy = MisfirePolicy.IGNORE;
 
 	public CronConfig(){
 	}
@@ -61,4 +88,120 @@ public class CronConfig {
 		this.matchSecond = isMatchSecond;
 		return this;
 	}
+
+	/**
+	 * 是否按照预先计算的下次执行时间调度
+	 *
+	 * @return 是否按照下次执行时间调度
+	 * @since 5.8.31
+	 */
+	public boolean isUseNextFireTime() {
+		return this.useNextFireTime;
+	}
+
+	/**
+	 * 设置是否按照预先计算的下次执行时间调度，默认不使用<br>
+	 * 默认情况下，每次检查都会逐个匹配所有任务的表达式，任务数很多时检查本身会成为瓶颈；
+	 * 开启后每个任务预先计算下次执行时间并放入优先队列，每次检查只处理到期的任务。
+	 *
+	 * @param useNextFireTime {@code true}使用，{@code false}不使用
+	 * @return this
+	 * @since 5.8.31
+	 */
+	public CronConfig setUseNextFireTime(boolean useNextFireTime) {
+		this.useNextFireTime = useNextFireTime;
+		return this;
+	}
+
+	/**
+	 * 获取任务执行锁
+	 *
+	 * @return 任务执行锁，{@code null}表示不使用
+	 * @since 5.8.31
+	 */
+	public TaskLock getTaskLock() {
+		return this.taskLock;
+	}
+
+	/**
+	 * 设置任务执行锁，默认不使用<br>
+	 * 设置{@link cn.hutool.cron.lock.LocalTaskLock}可保证本节点内同一任务的每个执行时间只执行一次；
+	 * 多个节点注册相同任务时，设置共享的锁（如{@link cn.hutool.cron.lock.JdbcTaskLock}）可保证每次执行只在一个节点上运行
+	 *
+	 * @param taskLock 任务执行锁，{@code null}表示不使用
+	 * @return this
+	 * @since 5.8.31
+	 */
+	public CronConfig setTaskLock(TaskLock taskLock) {
+		this.taskLock = taskLock;
+		return this;
+	}
+
+	/**
+	 * 是否允许同一任务重叠执行
+	 *
+	 * @return 是否允许重叠执行
+	 * @since 5.8.31
+	 */
+	public boolean isAllowOverlap() {
+		return this.allowOverlap;
+	}
+
+	/**
+	 * 设置是否允许同一任务重叠执行，默认允许<br>
+	 * 不允许时，任务上一次执行未结束则跳过本次执行；设置了执行锁时，跨节点同样生效
+	 *
+	 * @param allowOverlap {@code true}允许，{@code false}不允许
+	 * @return this
+	 * @since 5.8.31
+	 */
+	public CronConfig setAllowOverlap(boolean allowOverlap) {
+		this.allowOverlap = allowOverlap;
+		return this;
+	}
+
+	/**
+	 * 获取执行锁的租约时长
+	 *
+	 * @return 租约时长（毫秒）
+	 * @since 5.8.31
+	 */
+	public long getLockLeaseMillis() {
+		return this.lockLeaseMillis;
+	}
+
+	/**
+	 * 设置不允许重叠执行时执行锁的租约时长，默认1小时<br>
+	 * 持有锁的节点异常退出未释放锁时，租约过期后其它节点可重新获取，因此租约应大于任务的最长执行时间
+	 *
+	 * @param lockLeaseMillis 租约时长（毫秒）
+	 * @return this
+	 * @since 5.8.31
+	 */
+	public CronConfig setLockLeaseMillis(long lockLeaseMillis) {
+		this.lockLeaseMillis = lockLeaseMillis;
+		return this;
+	}
+
+	/**
+	 * 获取错过执行的处理策略
+	 *
+	 * @return {@link MisfirePolicy}
+	 * @since 5.8.31
+	 */
+	public MisfirePolicy getMisfirePolicy() {
+		return this.misfirePolicy;
+	}
+
+	/**
+	 * 设置错过执行的处理策略，默认{@link MisfirePolicy#IGNORE}
+	 *
+	 * @param misfirePolicy {@link MisfirePolicy}，{@code null}表示{@link MisfirePolicy#IGNORE}
+	 * @return this
+	 * @since 5.8.31
+	 */
+	public CronConfig setMisfirePolicy(MisfirePolicy misfirePolicy) {
+		this.misfirePolicy = null == misfirePolicy ? MisfirePolicy.IGNORE : misfirePolicy;
+		return this;
+	}
 }
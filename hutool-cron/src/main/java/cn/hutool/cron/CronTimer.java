@@ -40,6 +40,9 @@ public class CronTimer extends Thread implements Serializable {
 		final long timerUnit = this.scheduler.config.matchSecond ? TIMER_UNIT_SECOND : TIMER_UNIT_MINUTE;
 		
 		long thisTime = System.currentTimeMillis();
+		// 上一个检查时间点，用于发现错过的检查
+		long lastTick = thisTime / timerUnit * timerUnit;
+		long thisTick;
 		long nextTime;
 		long sleep;
 		while(false == isStop){
@@ -54,7 +57,9 @@ public class CronTimer extends Thread implements Serializable {
 				}
 				//执行点，时间记录为执行开始的时间，而非结束时间
 				thisTime = System.currentTimeMillis();
-				spawnLauncher(thisTime);
+				thisTick = thisTime / timerUnit * timerUnit;
+				spawnLauncher(thisTime, misfireFrom(lastTick, thisTick, timerUnit));
+				lastTick = thisTick;
 			} else{
 				// 非正常时间重新计算（issue#1224@Github）
 				thisTime = System.currentTimeMillis();
@@ -74,9 +79,27 @@ public class CronTimer extends Thread implements Serializable {
 	/**
 	 * 启动匹配
 	 * @param millis 当前时间
+	 * @param misfireFrom 错过的检查时间段开始时间，小于0表示没有错过
 	 */
-	private void spawnLauncher(final long millis){
-		this.scheduler.taskLauncherManager.spawnLauncher(millis);
+	private void spawnLauncher(final long millis, final long misfireFrom){
+		if(misfireFrom >= 0 && MisfirePolicy.IGNORE != this.scheduler.config.misfirePolicy){
+			this.scheduler.taskLauncherManager.spawnLauncher(millis, misfireFrom);
+		} else{
+			this.scheduler.taskLauncherManager.spawnLauncher(millis);
+		}
+	}
+
+	/**
+	 * 计算错过的检查时间段开始时间，两次检查间隔超过一个定时单位（如系统休眠或时间向后调整）时，中间的时间点被错过
+	 *
+	 * @param lastTick  上一个检查时间点，已对齐
+	 * @param thisTick  本次检查时间点，已对齐
+	 * @param timerUnit 定时单位，为秒或者分的毫秒值
+	 * @return 错过的检查时间段开始时间，没有错过返回-1
+	 * @since 5.8.31
+	 */
+	static long misfireFrom(long lastTick, long thisTick, long timerUnit) {
+		return thisTick - lastTick > timerUnit ? lastTick + timerUnit : -1;
 	}
 
 	/**
@@ -0,0 +1,218 @@
+package cn.hutool.cron;
+
+import cn.hutool.core.date.DateUnit;
+import cn.hutool.cron.pattern.CronPattern;
+import cn.hutool.cron.task.CronTask;
+import cn.hutool.cron.task.Task;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TimeZone;
+import java.util.TreeSet;
+
+/**
+ * 按照下次执行时间排序的任务队列<br>
+ * 每个任务预先计算下次执行时间，每次检查时只取出到期的任务，执行后重新计算下次执行时间并放回队列，
+ * 因此检查的代价与到期任务数相关，而与任务总数无关。任务的新增、移除和表达式更新复杂度均为O(log n)。
+ *
+ * @author looly
+ * @since 5.8.31
+ */
+class FireTimeQueue {
+
+	/**
+	 * 永远不会执行的任务的下次执行时间
+	 */
+	private static final long NEVER = Long.MAX_VALUE;
+
+	private final TreeSet<Entry> queue = new TreeSet<>();
+	private final Map<String, Entry> entries = new HashMap<>();
+	private long sequence;
+
+	private TimeZone timezone;
+	private boolean matchSecond;
+	/**
+	 * 上一次检查的时间点，已按照定时单位对齐
+	 */
+	private long lastTick;
+
+	/**
+	 * 构造，根据当前任务表构建队列，下次执行时间从指定时间点开始计算（包含此时间点）
+	 *
+	 * @param ids         ID列表
+	 * @param patterns    表达式列表
+	 * @param tasks       任务列表
+	 * @param timezone    时区
+	 * @param matchSecond 是否匹配秒
+	 * @param millis      开始时间
+	 */
+	FireTimeQueue(List<String> ids, List<CronPattern> patterns, List<Task> tasks, TimeZone timezone, boolean matchSecond, long millis) {
+		this.timezone = timezone;
+		this.matchSecond = matchSecond;
+		this.lastTick = align(millis) - unit();
+		for (int i = 0; i < ids.size(); i++) {
+			add(ids.get(i), patterns.get(i), tasks.get(i));
+		}
+	}
+
+	/**
+	 * 新增任务，下次执行时间从上一次检查之后开始计算
+	 *
+	 * @param id      ID
+	 * @param pattern 表达式
+	 * @param task    任务
+	 */
+	synchronized void add(String id, CronPattern pattern, Task task) {
+		final Entry entry = new Entry(id, pattern, task, sequence++);
+		entries.put(id, entry);
+		schedule(entry, lastTick + unit());
+	}
+
+	/**
+	 * 移除任务
+	 *
+	 * @param id ID
+	 */
+	synchronized void remove(String id) {
+		final Entry entry = entries.remove(id);
+		if (null != entry) {
+			queue.remove(entry);
+		}
+	}
+
+	/**
+	 * 更新任务的表达式，并重新计算下次执行时间
+	 *
+	 * @param id      ID
+	 * @param pattern 新的表达式
+	 */
+	synchronized void updatePattern(String id, CronPattern pattern) {
+		final Entry entry = entries.get(id);
+		if (null != entry) {
+			queue.remove(entry);
+			entry.pattern = pattern;
+			schedule(entry, lastTick + unit());
+		}
+	}
+
+	/**
+	 * 队列中的任务数
+	 *
+	 * @return 任务数
+	 */
+	synchronized int size() {
+		return entries.size();
+	}
+
+	/**
+	 * 取出指定时间到期的任务，并重新计算这些任务的下次执行时间<br>
+	 * 时区或秒匹配模式变化，或者时间回退时，重新计算所有任务的下次执行时间
+	 *
+	 * @param millis      检查的时间
+	 * @param timezone    时区
+	 * @param matchSecond 是否匹配秒
+	 * @return 到期的任务
+	 */
+	synchronized List<CronTask> poll(long millis, TimeZone timezone, boolean matchSecond) {
+		if (matchSecond != this.matchSecond || false == Objects.equals(timezone, this.timezone)) {
+			this.timezone = timezone;
+			this.matchSecond = matchSecond;
+			rebuild(align(millis));
+		}
+
+		final long tick = align(millis);
+		if (tick < this.lastTick) {
+			// 系统时间被向前调整
+			rebuild(tick);
+		}
+		this.lastTick = tick;
+
+		final List<Entry> polled = new ArrayList<>();
+		while (false == queue.isEmpty() && queue.first().nextFire <= tick) {
+			polled.add(queue.pollFirst());
+		}
+
+		final List<CronTask> dueTasks = new ArrayList<>(polled.size());
+		for (Entry entry : polled) {
+			// 错过的执行时间不补偿，只有当前时间点匹配才执行，与逐个匹配的行为保持一致
+			if (entry.nextFire == tick || entry.pattern.match(timezone, tick, matchSecond)) {
+				dueTasks.add(entry.toCronTask());
+			}
+			schedule(entry, tick + unit());
+		}
+		return dueTasks;
+	}
+
+	/**
+	 * 从指定时间点开始重新计算所有任务的下次执行时间
+	 *
+	 * @param tick 时间点，已对齐
+	 */
+	private void rebuild(long tick) {
+		this.lastTick = tick - unit();
+		queue.clear();
+		for (Entry entry : entries.values()) {
+			schedule(entry, tick);
+		}
+	}
+
+	/**
+	 * 计算任务的下次执行时间并加入队列
+	 *
+	 * @param entry 任务项，不能在队列中
+	 * @param from  开始时间（包含），已对齐
+	 */
+	private void schedule(Entry entry, long from) {
+		final long nextFire = entry.pattern.nextMatch(this.timezone, from, this.matchSecond);
+		entry.nextFire = nextFire < 0 ? NEVER : nextFire;
+		queue.add(entry);
+	}
+
+	/**
+	 * 按照定时单位对齐时间，即秒或分以下部分清零
+	 *
+	 * @param millis 时间
+	 * @return 对齐后的时间
+	 */
+	private long align(long millis) {
+		return millis / unit() * unit();
+	}
+
+	/**
+	 * @return 定时单位的毫秒数
+	 */
+	private long unit() {
+		return this.matchSecond ? DateUnit.SECOND.getMillis() : DateUnit.MINUTE.getMillis();
+	}
+
+	/**
+	 * 队列中的任务项，按照下次执行时间排序，时间相同时按照加入顺序排序
+	 */
+	private static class Entry implements Comparable<Entry> {
+		private final String id;
+		private final Task task;
+		private final long seq;
+		private CronPattern pattern;
+		private long nextFire;
+
+		Entry(String id, CronPattern pattern, Task task, long seq) {
+			this.id = id;
+			this.pattern = pattern;
+			this.task = task;
+			this.seq = seq;
+		}
+
+		CronTask toCronTask() {
+			return new CronTask(this.id, this.pattern, this.task);
+		}
+
+		@Override
+		public int compareTo(Entry o) {
+			final int result = Long.compare(this.nextFire, o.nextFire);
+			return 0 != result ? result : Long.compare(this.seq, o.seq);
+		}
+	}
+}
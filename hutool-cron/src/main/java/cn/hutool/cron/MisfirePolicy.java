@@ -0,0 +1,29 @@
+package cn.hutool.cron;
+
+/**
+ * 错过执行的处理策略<br>
+ * 定时器因系统休眠、长时间GC停顿或系统时间向后调整等原因，可能跳过若干个检查时间点，这些时间点上应执行的任务即为错过的执行。
+ *
+ * @author looly
+ * @since 5.8.31
+ */
+public enum MisfirePolicy {
+
+	/**
+	 * 忽略错过的执行，只按照当前时间点匹配，默认策略
+	 */
+	IGNORE,
+	/**
+	 * 错过的时间段内有应执行的时间点时，补偿执行一次，执行时间为第一个错过的时间点
+	 */
+	FIRE_ONCE,
+	/**
+	 * 补偿执行所有错过的时间点，每个任务最多补偿{@link #MAX_FIRE_ALL}次
+	 */
+	FIRE_ALL;
+
+	/**
+	 * {@link #FIRE_ALL}策略下，单个任务一次最多补偿执行的次数，防止长时间停顿后大量任务同时执行
+	 */
+	public static final int MAX_FIRE_ALL = 100;
+}
@@ -8,6 +8,7 @@ import cn.hutool.core.util.IdUtil;
 import cn.hutool.core.util.StrUtil;
 import cn.hutool.cron.listener.TaskListener;
 import cn.hutool.cron.listener.TaskListenerManager;
+import cn.hutool.cron.lock.TaskLock;
 import cn.hutool.cron.pattern.CronPattern;
 import cn.hutool.cron.task.InvokeTask;
 import cn.hutool.cron.task.RunnableTask;
@@ -167,6 +168,77 @@ public class Scheduler implements Serializable {
 		return this;
 	}
 
+	/**
+	 * 是否按照预先计算的下次执行时间调度
+	 *
+	 * @return 是否按照下次执行时间调度
+	 * @since 5.8.31
+	 */
+	public boolean isUseNextFireTime() {
+		return this.config.isUseNextFireTime();
+	}
+
+	/**
+	 * 设置是否按照预先计算的下次执行时间调度，默认不使用<br>
+	 * 开启后每次检查只处理到期的任务，适用于任务数很多的场景，见{@link CronConfig#setUseNextFireTime(boolean)}
+	 *
+	 * @param useNextFireTime {@code true}使用，{@code false}不使用
+	 * @return this
+	 * @since 5.8.31
+	 */
+	public Scheduler setUseNextFireTime(boolean useNextFireTime) {
+		this.config.setUseNextFireTime(useNextFireTime);
+		return this;
+	}
+
+	/**
+	 * 设置任务执行锁，默认不使用，多节点部署时设置共享的锁保证每次执行只在一个节点上运行，见{@link CronConfig#setTaskLock(TaskLock)}
+	 *
+	 * @param taskLock 任务执行锁，{@code null}表示不使用
+	 * @return this
+	 * @since 5.8.31
+	 */
+	public Scheduler setTaskLock(TaskLock taskLock) {
+		this.config.setTaskLock(taskLock);
+		return this;
+	}
+
+	/**
+	 * 设置是否允许同一任务重叠执行，默认允许，见{@link CronConfig#setAllowOverlap(boolean)}
+	 *
+	 * @param allowOverlap {@code true}允许，{@code false}不允许
+	 * @return this
+	 * @since 5.8.31
+	 */
+	public Scheduler setAllowOverlap(boolean allowOverlap) {
+		this.config.setAllowOverlap(allowOverlap);
+		return this;
+	}
+
+	/**
+	 * 设置不允许重叠执行时执行锁的租约时长，默认1小时，见{@link CronConfig#setLockLeaseMillis(long)}
+	 *
+	 * @param lockLeaseMillis 租约时长（毫秒）
+	 * @return this
+	 * @since 5.8.31
+	 */
+	public Scheduler setLockLeaseMillis(long lockLeaseMillis) {
+		this.config.setLockLeaseMillis(lockLeaseMillis);
+		return this;
+	}
+
+	/**
+	 * 设置错过执行的处理策略，默认{@link MisfirePolicy#IGNORE}
+	 *
+	 * @param misfirePolicy {@link MisfirePolicy}
+	 * @return this
+	 * @since 5.8.31
+	 */
+	public Scheduler setMisfirePolicy(MisfirePolicy misfirePolicy) {
+		this.config.setMisfirePolicy(misfirePolicy);
+		return this;
+	}
+
 	/**
 	 * 增加监听器
 	 *
@@ -302,7 +374,12 @@ public class Scheduler implements Serializable {
 	 * @since 5.7.17
 	 */
 	public boolean descheduleWithStatus(String id) {
-		return this.taskTable.remove(id);
+		final boolean removed = this.taskTable.remove(id);
+		final TaskLock taskLock = this.config.taskLock;
+		if (removed && null != taskLock) {
+			taskLock.release(id);
+		}
+		return removed;
 	}
 
 	/**
@@ -376,7 +453,12 @@ public class Scheduler implements Serializable {
 	 * @since 4.1.17
 	 */
 	public Scheduler clear() {
+		final TaskTable removed = this.taskTable;
 		this.taskTable = new TaskTable();
+		final TaskLock taskLock = this.config.taskLock;
+		if (null != taskLock) {
+			removed.getIds().forEach(taskLock::release);
+		}
 		return this;
 	}
 	// -------------------------------------------------------------------- shcedule end
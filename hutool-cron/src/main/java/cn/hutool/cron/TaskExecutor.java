@@ -1,5 +1,6 @@
 package cn.hutool.cron;
 
+import cn.hutool.cron.lock.TaskLock;
 import cn.hutool.cron.task.CronTask;
 import cn.hutool.cron.task.Task;
 
@@ -14,6 +15,14 @@ public class TaskExecutor implements Runnable {
 
 	private final Scheduler scheduler;
 	private final CronTask task;
+	/**
+	 * 计划执行时间
+	 */
+	private final long fireTime;
+	/**
+	 * 是否已获取执行权
+	 */
+	private boolean locked;
 
 	/**
 	 * 获得原始任务对象
@@ -35,14 +44,57 @@ public class TaskExecutor implements Runnable {
 	}
 
 	/**
-	 * 构造
+	 * 获得计划执行时间，即匹配到此任务的时间点（按照秒或分对齐）
+	 *
+	 * @return 计划执行时间
+	 * @since 5.8.31
+	 */
+	public long getFireTime() {
+		return this.fireTime;
+	}
+
+	/**
+	 * 构造，计划执行时间为当前时间按照秒或分对齐后的时间点
 	 *
 	 * @param scheduler 调度器
 	 * @param task 被执行的任务
 	 */
 	public TaskExecutor(Scheduler scheduler, CronTask task) {
+		this(scheduler, task, TaskTable.alignFireTime(scheduler.config, System.currentTimeMillis()));
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param scheduler 调度器
+	 * @param task      被执行的任务
+	 * @param fireTime  计划执行时间
+	 * @since 5.8.31
+	 */
+	public TaskExecutor(Scheduler scheduler, CronTask task, long fireTime) {
 		this.scheduler = scheduler;
 		this.task = task;
+		this.fireTime = fireTime;
+	}
+
+	/**
+	 * 获取本次执行的执行权，由{@link TaskExecutorManager}在线程池中启动执行前调用<br>
+	 * 获取过程中的异常（如数据库不可用）通知给监听器，并跳过本次执行
+	 *
+	 * @return 是否获取成功，未设置执行锁时始终成功
+	 */
+	boolean tryLock() {
+		final TaskLock taskLock = scheduler.config.taskLock;
+		if (null == taskLock) {
+			return true;
+		}
+		try {
+			this.locked = taskLock.tryLock(task.getId(), this.fireTime, leaseMillis());
+		} catch (Exception e) {
+			scheduler.listenerManager.notifyTaskFailed(this, e);
+			return false;
+		}
+		return this.locked;
 	}
 
 	@Override
@@ -54,7 +106,25 @@ public class TaskExecutor implements Runnable {
 		} catch (Exception e) {
 			scheduler.listenerManager.notifyTaskFailed(this, e);
 		} finally {
-			scheduler.taskExecutorManager.notifyExecutorCompleted(this);
+			try {
+				if (this.locked && leaseMillis() > 0) {
+					scheduler.config.taskLock.unlock(task.getId(), this.fireTime);
+				}
+			} catch (Exception e) {
+				scheduler.listenerManager.notifyTaskFailed(this, e);
+			} finally {
+				scheduler.taskExecutorManager.notifyExecutorCompleted(this);
+			}
 		}
 	}
+
+	/**
+	 * 执行锁的租约时长，允许重叠执行时只保证每次执行恰好一次，不需要租约
+	 *
+	 * @return 租约时长
+	 */
+	private long leaseMillis() {
+		final CronConfig config = scheduler.config;
+		return config.allowOverlap ? 0 : config.lockLeaseMillis;
+	}
 }
@@ -2,11 +2,17 @@ package cn.hutool.cron;
 
 import cn.hutool.cron.task.CronTask;
 import cn.hutool.cron.task.Task;
+import cn.hutool.log.StaticLog;
 
 import java.io.Serializable;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 作业执行管理器<br>
@@ -24,42 +30,79 @@ public class TaskExecutorManager implements Serializable {
 
 	protected Scheduler scheduler;
 	/**
-	 * 执行器列表
+	 * 执行器集合
 	 */
-	private final List<TaskExecutor> executors = new ArrayList<>();
+	private final Set<TaskExecutor> executors = ConcurrentHashMap.newKeySet();
+	/**
+	 * 不允许重叠执行时，正在执行的任务ID与执行器对应关系
+	 */
+	private final Map<String, TaskExecutor> runningById = new ConcurrentHashMap<>();
+	/**
+	 * 使用执行锁时，等待获取执行权的执行器，按照任务ID排队，同一任务依次获取
+	 */
+	private final Map<String, Queue<TaskExecutor>> claimQueues = new ConcurrentHashMap<>();
 
 	public TaskExecutorManager(Scheduler scheduler) {
 		this.scheduler = scheduler;
 	}
 
 	/**
-	 * 获取所有正在执行的任务调度执行器
+	 * 获取所有正在执行的任务调度执行器，返回值为快照，不随执行状态变化
 	 *
 	 * @return 任务执行器列表
 	 * @since 4.6.7
 	 */
 	public List<TaskExecutor> getExecutors() {
-		return Collections.unmodifiableList(this.executors);
+		return Collections.unmodifiableList(new ArrayList<>(this.executors));
 	}
 
 	/**
-	 * 启动 执行器TaskExecutor，即启动作业
+	 * 启动 执行器TaskExecutor，即启动作业，计划执行时间为当前时间按照秒或分对齐后的时间点<br>
+	 * 此方法直接执行，不检查重叠执行，也不获取执行锁
 	 *
 	 * @param task {@link Task}
 	 * @return {@link TaskExecutor}
 	 */
 	public TaskExecutor spawnExecutor(CronTask task) {
 		final TaskExecutor executor = new TaskExecutor(this.scheduler, task);
-		synchronized (this.executors) {
-			this.executors.add(executor);
-		}
-		// 子线程是否为deamon线程取决于父线程，因此此处无需显示调用
-		// executor.setDaemon(this.scheduler.daemon);
-//		executor.start();
+		this.executors.add(executor);
 		this.scheduler.threadExecutor.execute(executor);
 		return executor;
 	}
 
+	/**
+	 * 启动 执行器TaskExecutor，即启动作业<br>
+	 * 以下情况跳过本次执行：
+	 * <ul>
+	 *     <li>不允许重叠执行时，此任务在本节点上一次的执行尚未结束，此时返回{@code null}</li>
+	 *     <li>未获取到执行权，即此执行时间已被执行过（包括其它节点），或其它节点的租约未过期</li>
+	 * </ul>
+	 * 设置了执行锁时，执行权在线程池中获取，不阻塞调用线程；同一任务按照调用顺序依次获取，保证补偿执行的多个时间点依次获取。
+	 * 未获取到执行权的执行器不执行任务，也不通知监听器。
+	 *
+	 * @param task     {@link Task}
+	 * @param fireTime 计划执行时间，按照秒或分对齐
+	 * @return {@link TaskExecutor}，因重叠执行跳过时返回{@code null}
+	 * @since 5.8.31
+	 */
+	public TaskExecutor spawnExecutor(CronTask task, long fireTime) {
+		final TaskExecutor executor = new TaskExecutor(this.scheduler, task, fireTime);
+		if (false == this.scheduler.config.allowOverlap) {
+			final TaskExecutor running = this.runningById.putIfAbsent(task.getId(), executor);
+			if (null != running) {
+				StaticLog.debug("Task [{}] is still running, skip execution.", task.getId());
+				return null;
+			}
+		}
+		this.executors.add(executor);
+		if (null == this.scheduler.config.taskLock) {
+			launch(executor);
+		} else {
+			enqueueClaim(executor);
+		}
+		return executor;
+	}
+
 	/**
 	 * 执行器执行完毕调用此方法，将执行器从执行器列表移除，此方法由{@link TaskExecutor}对象调用，用于通知管理器自身已完成执行
 	 *
@@ -67,9 +110,89 @@ public class TaskExecutorManager implements Serializable {
 	 * @return this
 	 */
 	public TaskExecutorManager notifyExecutorCompleted(TaskExecutor executor) {
-		synchronized (executors) {
-			executors.remove(executor);
-		}
+		this.runningById.remove(executor.getCronTask().getId(), executor);
+		this.executors.remove(executor);
 		return this;
 	}
+
+	/**
+	 * 在线程池中执行，线程池拒绝时移除执行器并抛出异常
+	 *
+	 * @param executor 执行器
+	 */
+	private void launch(TaskExecutor executor) {
+		try {
+			// 子线程是否为deamon线程取决于父线程，因此此处无需显示调用
+			this.scheduler.threadExecutor.execute(executor);
+		} catch (RuntimeException e) {
+			notifyExecutorCompleted(executor);
+			throw e;
+		}
+	}
+
+	/**
+	 * 加入获取执行权的队列，队列为空时在线程池中启动获取
+	 *
+	 * @param executor 执行器
+	 */
+	private void enqueueClaim(TaskExecutor executor) {
+		final String id = executor.getCronTask().getId();
+		final boolean[] first = new boolean[1];
+		this.claimQueues.compute(id, (key, queue) -> {
+			if (null == queue) {
+				queue = new ArrayDeque<>();
+				first[0] = true;
+			}
+			queue.add(executor);
+			return queue;
+		});
+		if (first[0]) {
+			try {
+				this.scheduler.threadExecutor.execute(() -> drainClaims(id));
+			} catch (RuntimeException e) {
+				// 线程池拒绝时，丢弃排队中的执行
+				final Queue<TaskExecutor> queue = this.claimQueues.remove(id);
+				if (null != queue) {
+					queue.forEach(this::notifyExecutorCompleted);
+				}
+				throw e;
+			}
+		}
+	}
+
+	/**
+	 * 依次获取同一任务排队中的执行器的执行权，获取成功的在线程池中执行
+	 *
+	 * @param id 任务ID
+	 */
+	private void drainClaims(String id) {
+		TaskExecutor executor;
+		while (null != (executor = pollClaim(id))) {
+			if (false == executor.tryLock()) {
+				StaticLog.debug("Task [{}] at [{}] is not acquired, skip execution.", id, executor.getFireTime());
+				notifyExecutorCompleted(executor);
+				continue;
+			}
+			try {
+				launch(executor);
+			} catch (RuntimeException e) {
+				StaticLog.error(e, "Launch task [{}] error!", id);
+			}
+		}
+	}
+
+	/**
+	 * 取出下一个等待获取执行权的执行器，队列为空时移除队列，之后加入的执行器由新的获取线程处理
+	 *
+	 * @param id 任务ID
+	 * @return 执行器，无则返回{@code null}
+	 */
+	private TaskExecutor pollClaim(String id) {
+		final TaskExecutor[] result = new TaskExecutor[1];
+		this.claimQueues.computeIfPresent(id, (key, queue) -> {
+			result[0] = queue.poll();
+			return null == result[0] ? null : queue;
+		});
+		return result[0];
+	}
 }
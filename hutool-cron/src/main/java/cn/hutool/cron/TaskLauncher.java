@@ -1,5 +1,7 @@
 package cn.hutool.cron;
 
+import cn.hutool.core.date.DateUnit;
+
 /**
  * 作业启动器<br>
  * 负责检查 {@link TaskTable} 是否有匹配到此时运行的Task<br>
@@ -11,6 +13,10 @@ public class TaskLauncher implements Runnable {
 
 	private final Scheduler scheduler;
 	private final long millis;
+	/**
+	 * 错过的检查时间段开始时间，小于0表示没有错过
+	 */
+	private final long misfireFrom;
 
 	/**
 	 * 构造
@@ -19,12 +25,30 @@ public class TaskLauncher implements Runnable {
 	 * @param millis    毫秒数
 	 */
 	public TaskLauncher(Scheduler scheduler, long millis) {
+		this(scheduler, millis, -1);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param scheduler   {@link Scheduler}
+	 * @param millis      毫秒数
+	 * @param misfireFrom 错过的检查时间段开始时间（包含，已对齐），此时间到本次检查时间之间错过的任务按照{@link MisfirePolicy}补偿执行，小于0表示没有错过
+	 * @since 5.8.31
+	 */
+	public TaskLauncher(Scheduler scheduler, long millis, long misfireFrom) {
 		this.scheduler = scheduler;
 		this.millis = millis;
+		this.misfireFrom = misfireFrom;
 	}
 
 	@Override
 	public void run() {
+		if (this.misfireFrom >= 0) {
+			final long unit = scheduler.config.matchSecond ? DateUnit.SECOND.getMillis() : DateUnit.MINUTE.getMillis();
+			scheduler.taskTable.executeMisfiredTasks(this.scheduler, this.misfireFrom, this.millis / unit * unit);
+		}
+
 		//匹配秒部分由用户定义决定，始终不匹配年
 		scheduler.taskTable.executeTaskIfMatch(this.scheduler, this.millis);
 
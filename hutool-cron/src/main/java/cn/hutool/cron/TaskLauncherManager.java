@@ -27,7 +27,18 @@ public class TaskLauncherManager implements Serializable {
 	 * @return {@link TaskLauncher}
 	 */
 	protected TaskLauncher spawnLauncher(long millis) {
-		final TaskLauncher launcher = new TaskLauncher(this.scheduler, millis);
+		return spawnLauncher(millis, -1);
+	}
+
+	/**
+	 * 启动 TaskLauncher，并补偿执行错过的任务
+	 * @param millis 触发事件的毫秒数
+	 * @param misfireFrom 错过的检查时间段开始时间（包含，已对齐），小于0表示没有错过
+	 * @return {@link TaskLauncher}
+	 * @since 5.8.31
+	 */
+	protected TaskLauncher spawnLauncher(long millis, long misfireFrom) {
+		final TaskLauncher launcher = new TaskLauncher(this.scheduler, millis, misfireFrom);
 		synchronized (this.launchers) {
 			this.launchers.add(launcher);
 		}
@@ -1,5 +1,6 @@
 package cn.hutool.cron;
 
+import cn.hutool.core.date.DateUnit;
 import cn.hutool.core.util.StrUtil;
 import cn.hutool.cron.pattern.CronPattern;
 import cn.hutool.cron.task.CronTask;
@@ -31,6 +32,10 @@ public class TaskTable implements Serializable {
 	private final List<CronPattern> patterns;
 	private final List<Task> tasks;
 	private int size;
+	/**
+	 * 按照下次执行时间排序的任务队列，仅在{@link CronConfig#isUseNextFireTime()}为{@code true}时使用
+	 */
+	private transient volatile FireTimeQueue fireTimeQueue;
 
 	/**
 	 * 构造
@@ -71,6 +76,9 @@ public class TaskTable implements Serializable {
 			patterns.add(pattern);
 			tasks.add(task);
 			size++;
+			if (null != fireTimeQueue) {
+				fireTimeQueue.add(id, pattern, task);
+			}
 		} finally {
 			writeLock.unlock();
 		}
@@ -143,6 +151,9 @@ public class TaskTable implements Serializable {
 			patterns.remove(index);
 			ids.remove(index);
 			size--;
+			if (null != fireTimeQueue) {
+				fireTimeQueue.remove(id);
+			}
 		} finally {
 			writeLock.unlock();
 		}
@@ -164,6 +175,9 @@ public class TaskTable implements Serializable {
 			final int index = ids.indexOf(id);
 			if (index > -1) {
 				patterns.set(index, pattern);
+				if (null != fireTimeQueue) {
+					fireTimeQueue.updatePattern(id, pattern);
+				}
 				return true;
 			}
 		} finally {
@@ -290,10 +304,101 @@ public class TaskTable implements Serializable {
 	 * @since 3.1.1
 	 */
 	protected void executeTaskIfMatchInternal(Scheduler scheduler, long millis) {
+		final CronConfig config = scheduler.config;
+		final long fireTime = alignFireTime(config, millis);
+		if (config.isUseNextFireTime()) {
+			final List<CronTask> dueTasks = getFireTimeQueue(config, millis).poll(millis, config.timezone, config.matchSecond);
+			for (CronTask dueTask : dueTasks) {
+				scheduler.taskExecutorManager.spawnExecutor(dueTask, fireTime);
+			}
+			return;
+		}
+
+		// 关闭后释放队列，重新开启时重新构建
+		this.fireTimeQueue = null;
 		for (int i = 0; i < size; i++) {
 			if (patterns.get(i).match(scheduler.config.timezone, millis, scheduler.config.matchSecond)) {
-				scheduler.taskExecutorManager.spawnExecutor(new CronTask(ids.get(i), patterns.get(i), tasks.get(i)));
+				scheduler.taskExecutorManager.spawnExecutor(new CronTask(ids.get(i), patterns.get(i), tasks.get(i)), fireTime);
+			}
+		}
+	}
+
+	/**
+	 * 按照{@link CronConfig#getMisfirePolicy()}补偿执行指定时间段内错过的任务，带读锁
+	 *
+	 * @param scheduler {@link Scheduler}
+	 * @param from      错过的开始时间（包含），已按照定时单位对齐
+	 * @param to        错过的结束时间（不包含），已按照定时单位对齐
+	 * @since 5.8.31
+	 */
+	public void executeMisfiredTasks(Scheduler scheduler, long from, long to) {
+		final CronConfig config = scheduler.config;
+		final MisfirePolicy policy = config.getMisfirePolicy();
+		if (MisfirePolicy.IGNORE == policy || from >= to) {
+			return;
+		}
+
+		final long unit = timerUnit(config);
+		final int maxCount = MisfirePolicy.FIRE_ONCE == policy ? 1 : MisfirePolicy.MAX_FIRE_ALL;
+		final Lock readLock = lock.readLock();
+		readLock.lock();
+		try {
+			CronPattern pattern;
+			long fireTime;
+			for (int i = 0; i < size; i++) {
+				pattern = patterns.get(i);
+				fireTime = pattern.nextMatch(config.timezone, from, config.matchSecond);
+				for (int count = 0; fireTime >= 0 && fireTime < to && count < maxCount; count++) {
+					scheduler.taskExecutorManager.spawnExecutor(new CronTask(ids.get(i), pattern, tasks.get(i)), fireTime);
+					fireTime = pattern.nextMatch(config.timezone, fireTime + unit, config.matchSecond);
+				}
+			}
+		} finally {
+			readLock.unlock();
+		}
+	}
+
+	/**
+	 * 计划执行时间按照定时单位（秒或分）对齐，各节点计算结果一致
+	 *
+	 * @param config 定时任务配置
+	 * @param millis 时间毫秒
+	 * @return 对齐后的计划执行时间
+	 */
+	static long alignFireTime(CronConfig config, long millis) {
+		final long unit = timerUnit(config);
+		return millis / unit * unit;
+	}
+
+	/**
+	 * 获取定时单位的毫秒数
+	 *
+	 * @param config 定时任务配置
+	 * @return 匹配秒时为1秒，否则为1分钟
+	 */
+	private static long timerUnit(CronConfig config) {
+		return config.matchSecond ? DateUnit.SECOND.getMillis() : DateUnit.MINUTE.getMillis();
+	}
+
+	/**
+	 * 获取按照下次执行时间排序的任务队列，不存在则根据当前任务表构建<br>
+	 * 调用时需持有读锁，保证构建过程中任务表不被修改
+	 *
+	 * @param config 定时任务配置
+	 * @param millis 当前时间
+	 * @return {@link FireTimeQueue}
+	 */
+	private FireTimeQueue getFireTimeQueue(CronConfig config, long millis) {
+		FireTimeQueue queue = this.fireTimeQueue;
+		if (null == queue) {
+			synchronized (this) {
+				queue = this.fireTimeQueue;
+				if (null == queue) {
+					queue = new FireTimeQueue(ids, patterns, tasks, config.timezone, config.matchSecond, millis);
+					this.fireTimeQueue = queue;
+				}
 			}
 		}
+		return queue;
 	}
 }
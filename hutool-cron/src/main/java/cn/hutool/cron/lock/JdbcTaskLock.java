@@ -0,0 +1,142 @@
+package cn.hutool.cron.lock;
+
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.util.IdUtil;
+import cn.hutool.core.util.StrUtil;
+import cn.hutool.cron.CronException;
+import cn.hutool.db.Db;
+import cn.hutool.log.StaticLog;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+
+/**
+ * 基于数据库的定时任务执行锁，适用于多节点部署，依赖hutool-db<br>
+ * 每个任务对应表中的一行，记录最后获取的执行时间、锁定截止时间和持有者，获取执行权使用条件更新，依赖数据库行锁保证原子性：
+ * <pre>
+ * UPDATE hutool_cron_lock SET fire_time = ?, locked_until = ?, owner = ?
+ *   WHERE task_id = ? AND fire_time &lt; ? AND locked_until &lt;= ?
+ * </pre>
+ * 表结构见{@link #createTable()}，也可以自行创建。<br>
+ * 任务在某个节点上被移除时不删除对应记录，其它节点可能仍在使用。
+ *
+ * @author looly
+ * @since 5.8.31
+ */
+public class JdbcTaskLock implements TaskLock {
+
+	/**
+	 * 默认表名
+	 */
+	public static final String DEFAULT_TABLE_NAME = "hutool_cron_lock";
+
+	private final Db db;
+	private final String tableName;
+	/**
+	 * 当前节点标识
+	 */
+	private final String owner;
+
+	/**
+	 * 构造，使用默认表名
+	 *
+	 * @param ds 数据源
+	 */
+	public JdbcTaskLock(DataSource ds) {
+		this(ds, DEFAULT_TABLE_NAME);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param ds        数据源
+	 * @param tableName 表名
+	 */
+	public JdbcTaskLock(DataSource ds, String tableName) {
+		this.db = Db.use(Assert.notNull(ds, "DataSource must be not null!"));
+		this.tableName = Assert.notBlank(tableName, "Table name must be not blank!");
+		this.owner = IdUtil.fastSimpleUUID();
+	}
+
+	/**
+	 * 创建锁表，表已存在时抛出异常
+	 *
+	 * @return this
+	 */
+	public JdbcTaskLock createTable() {
+		try {
+			db.execute(StrUtil.format("CREATE TABLE {} (task_id VARCHAR(255) NOT NULL PRIMARY KEY, " +
+					"fire_time BIGINT NOT NULL, locked_until BIGINT NOT NULL, owner VARCHAR(64))", tableName));
+		} catch (SQLException e) {
+			throw new CronException(e, "Create table [{}] error!", tableName);
+		}
+		return this;
+	}
+
+	@Override
+	public boolean tryLock(String taskId, long fireTime, long leaseMillis) {
+		final long now = System.currentTimeMillis();
+		final long lockedUntil = leaseMillis > 0 ? now + leaseMillis : 0;
+		try {
+			final int count = db.execute(StrUtil.format("UPDATE {} SET fire_time = ?, locked_until = ?, owner = ? " +
+					"WHERE task_id = ? AND fire_time < ? AND locked_until <= ?", tableName),
+					fireTime, lockedUntil, owner, taskId, fireTime, now);
+			if (count > 0) {
+				return true;
+			}
+
+			// 更新失败，如果记录已存在，说明被其它节点获取或租约未过期
+			final Number exists = db.queryNumber(StrUtil.format("SELECT COUNT(1) FROM {} WHERE task_id = ?", tableName), taskId);
+			if (null != exists && exists.intValue() > 0) {
+				return false;
+			}
+		} catch (SQLException e) {
+			throw lockError(e, taskId);
+		}
+
+		try {
+			db.execute(StrUtil.format("INSERT INTO {} (task_id, fire_time, locked_until, owner) VALUES (?, ?, ?, ?)", tableName),
+					taskId, fireTime, lockedUntil, owner);
+			return true;
+		} catch (SQLException e) {
+			if (isDuplicateKey(e)) {
+				// 并发插入时主键冲突，说明其它节点已获取
+				return false;
+			}
+			throw lockError(e, taskId);
+		}
+	}
+
+	/**
+	 * 是否为主键冲突等完整性约束异常，SQLState以23开头
+	 *
+	 * @param e SQL异常
+	 * @return 是否主键冲突
+	 */
+	private static boolean isDuplicateKey(SQLException e) {
+		return e instanceof SQLIntegrityConstraintViolationException || StrUtil.startWith(e.getSQLState(), "23");
+	}
+
+	/**
+	 * 记录并包装获取锁时的异常，数据库不可用、表不存在等情况不能视为锁被其它节点获取
+	 *
+	 * @param e      SQL异常
+	 * @param taskId 任务ID
+	 * @return {@link CronException}
+	 */
+	private static CronException lockError(SQLException e, String taskId) {
+		StaticLog.error(e, "Lock task [{}] error!", taskId);
+		return new CronException(e, "Lock task [{}] error!", taskId);
+	}
+
+	@Override
+	public void unlock(String taskId, long fireTime) {
+		try {
+			db.execute(StrUtil.format("UPDATE {} SET locked_until = 0 WHERE task_id = ? AND fire_time = ? AND owner = ?", tableName),
+					taskId, fireTime, owner);
+		} catch (SQLException e) {
+			throw new CronException(e, "Unlock task [{}] error!", taskId);
+		}
+	}
+}
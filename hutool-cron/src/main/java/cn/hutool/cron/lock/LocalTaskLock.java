@@ -0,0 +1,52 @@
+package cn.hutool.cron.lock;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 基于内存的定时任务执行锁，适用于单节点，多个{@link cn.hutool.cron.Scheduler}可以共享同一个实例
+ *
+ * @author looly
+ * @since 5.8.31
+ */
+public class LocalTaskLock implements TaskLock {
+
+	private final Map<String, Lease> leases = new ConcurrentHashMap<>();
+
+	@Override
+	public boolean tryLock(String taskId, long fireTime, long leaseMillis) {
+		final long now = System.currentTimeMillis();
+		final Lease newLease = new Lease(fireTime, leaseMillis > 0 ? now + leaseMillis : 0);
+		final Lease result = leases.compute(taskId, (id, lease) -> {
+			if (null == lease || (lease.fireTime < fireTime && lease.lockedUntil <= now)) {
+				return newLease;
+			}
+			return lease;
+		});
+		return result == newLease;
+	}
+
+	@Override
+	public void unlock(String taskId, long fireTime) {
+		leases.computeIfPresent(taskId, (id, lease) ->
+				(lease.fireTime == fireTime && lease.lockedUntil > 0) ? new Lease(fireTime, 0) : lease);
+	}
+
+	@Override
+	public void release(String taskId) {
+		leases.remove(taskId);
+	}
+
+	/**
+	 * 租约，记录最后获取的执行时间和锁定截止时间
+	 */
+	private static class Lease {
+		private final long fireTime;
+		private final long lockedUntil;
+
+		Lease(long fireTime, long lockedUntil) {
+			this.fireTime = fireTime;
+			this.lockedUntil = lockedUntil;
+		}
+	}
+}
@@ -0,0 +1,43 @@
+package cn.hutool.cron.lock;
+
+/**
+ * 定时任务执行锁<br>
+ * 多个节点注册相同的任务时，每个节点在到达执行时间时都会尝试获取执行权，通过此锁保证：
+ * <ul>
+ *     <li>同一任务的同一执行时间只有一个节点获取成功，即每次执行恰好运行一次</li>
+ *     <li>租约时长大于0时，持有者释放锁或租约过期之前，其它执行时间也无法获取，即不允许重叠执行</li>
+ * </ul>
+ * 执行时间为任务计划的执行时间（按照秒或分对齐），各节点计算结果一致，因此各节点的系统时间需基本同步。
+ *
+ * @author looly
+ * @since 5.8.31
+ */
+public interface TaskLock {
+
+	/**
+	 * 尝试获取任务在指定执行时间的执行权<br>
+	 * 当此任务已被获取过相同或更晚的执行时间，或存在未过期的租约时，返回{@code false}
+	 *
+	 * @param taskId      任务ID
+	 * @param fireTime    计划执行时间
+	 * @param leaseMillis 租约时长（毫秒），0表示只保证每次执行恰好一次，不阻止重叠执行
+	 * @return 是否获取成功
+	 */
+	boolean tryLock(String taskId, long fireTime, long leaseMillis);
+
+	/**
+	 * 任务执行完毕，释放租约，使下一次执行可以被获取
+	 *
+	 * @param taskId   任务ID
+	 * @param fireTime 计划执行时间，与{@link #tryLock(String, long, long)}一致
+	 */
+	void unlock(String taskId, long fireTime);
+
+	/**
+	 * 任务被移除时调用，释放此任务在锁中保存的状态，默认不做处理
+	 *
+	 * @param taskId 任务ID
+	 */
+	default void release(String taskId) {
+	}
+}
@@ -0,0 +1,7 @@
+/**
+ * 定时任务执行锁，用于多节点部署时保证同一任务的每次执行只在一个节点上运行
+ *
+ * @author looly
+ *
+ */
+package cn.hutool.cron.lock;
@@ -1,14 +1,10 @@
 package cn.hutool.cron.pattern;
 
-import cn.hutool.core.collection.CollUtil;
-import cn.hutool.core.date.CalendarUtil;
 import cn.hutool.cron.pattern.matcher.PatternMatcher;
 import cn.hutool.cron.pattern.parser.PatternParser;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.Calendar;
-import java.util.GregorianCalendar;
 import java.util.List;
 import java.util.TimeZone;
 
@@ -114,9 +110,14 @@ public class CronPattern {
 	 * @return 如果匹配返回 {@code true}, 否则返回 {@code false}
 	 */
 	public boolean match(TimeZone timezone, long millis, boolean isMatchSecond) {
-		final GregorianCalendar calendar = new GregorianCalendar(timezone);
-		calendar.setTimeInMillis(millis);
-		return match(calendar, isMatchSecond);
+		// 通过缓存的时区偏移直接计算各字段，避免每次创建Calendar
+		final long localSeconds = ZoneOffsetCache.of(timezone).toLocalSeconds(millis);
+		for (int i = 0; i < matchers.size(); i++) {
+			if (matchers.get(i).match(localSeconds, isMatchSecond)) {
+				return true;
+			}
+		}
+		return false;
 	}
 
 	/**
@@ -163,18 +164,64 @@ public class CronPattern {
 	 * 返回匹配到的下一个时间，如果给定时间匹配，直接返回
 	 *
 	 * @param calendar 时间
-	 * @return 匹配到的下一个时间
+	 * @return 匹配到的下一个时间，400年内无匹配返回{@code null}
 	 * @since 5.8.30
 	 */
 	public Calendar nextMatch(final Calendar calendar) {
-		Calendar next = nextMatchAfter(PatternUtil.getFields(calendar, true), calendar.getTimeZone());
-		if (match(next, true)) {
-			return next;
+		final long next = nextMatch(calendar.getTimeZone(), calendar.getTimeInMillis(), true);
+		if (next < 0) {
+			return null;
 		}
+		final Calendar result = Calendar.getInstance(calendar.getTimeZone());
+		result.setTimeInMillis(next);
+		return result;
+	}
 
-		next.set(Calendar.DAY_OF_MONTH, next.get(Calendar.DAY_OF_MONTH) + 1);
-		next = CalendarUtil.beginOfDay(next);
-		return nextMatch(next);
+	/**
+	 * 返回给定时间及之后第一个匹配的时间，如果给定时间匹配，返回给定时间（毫秒数清零）<br>
+	 * 逐个字段算术计算下一个匹配值，不产生对象。非秒匹配模式下忽略秒部分，返回匹配分钟的起始时间，
+	 * 且给定时间所在的分钟也参与匹配。<br>
+	 * 夏令时跳过的本地时间不匹配，重叠的本地时间两次均匹配。
+	 *
+	 * @param timezone      时区
+	 * @param millis        时间毫秒数
+	 * @param isMatchSecond 是否匹配秒
+	 * @return 匹配的时间毫秒数，400年内无匹配返回-1
+	 * @since 5.8.31
+	 */
+	public long nextMatch(TimeZone timezone, long millis, boolean isMatchSecond) {
+		final ZoneOffsetCache zone = ZoneOffsetCache.of(timezone);
+		final long unit = isMatchSecond ? 1 : 60;
+
+		// 在每个偏移量不变的区间内按照本地时间查找，超出区间则从下一个区间的起点继续，以正确处理夏令时的跳过和重叠
+		ZoneOffsetCache.Window window;
+		long current = millis;
+		long localSeconds, next;
+		boolean isFirst = true;
+		while (true) {
+			window = zone.getWindow(current);
+			localSeconds = Math.floorDiv(current, 1000) + window.offset;
+			// 给定时间所在的单位参与匹配，后续区间从区间起点之后的第一个完整单位开始
+			localSeconds = isFirst ? Math.floorDiv(localSeconds, unit) * unit : -Math.floorDiv(-localSeconds, unit) * unit;
+
+			next = -1;
+			for (int i = 0; i < matchers.size(); i++) {
+				final long candidate = matchers.get(i).nextMatch(localSeconds, isMatchSecond);
+				if (candidate >= 0 && (next < 0 || candidate < next)) {
+					next = candidate;
+				}
+			}
+			if (next < 0) {
+				return -1;
+			}
+
+			next = (next - window.offset) * 1000;
+			if (next < window.end) {
+				return next;
+			}
+			current = window.end;
+			isFirst = false;
+		}
 	}
 
 	@Override
@@ -196,20 +243,4 @@ public class CronPattern {
 		}
 		return false;
 	}
-
-	/**
-	 * 获取下一个最近的匹配日期时间
-	 *
-	 * @param values 时间字段值，{second, minute, hour, dayOfMonth, month, dayOfWeek, year}
-	 * @param zone   时区
-	 * @return {@link Calendar}，毫秒数为0
-	 */
-	private Calendar nextMatchAfter(int[] values, TimeZone zone) {
-		final List<Calendar> nextMatches = new ArrayList<>(matchers.size());
-		for (PatternMatcher matcher : matchers) {
-			nextMatches.add(matcher.nextMatchAfter(values, zone));
-		}
-		// 返回匹配到的最早日期
-		return CollUtil.min(nextMatches);
-	}
 }
@@ -8,6 +8,7 @@ import cn.hutool.core.lang.Assert;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.TimeZone;
 
 /**
  * 定时任务表达式工具类
@@ -99,14 +100,23 @@ public class CronPatternUtil {
 		Assert.isTrue(start < end, "Start date is later than end !");
 
 		final List<Date> result = new ArrayList<>(count);
-		long step = isMatchSecond ? DateUnit.SECOND.getMillis() : DateUnit.MINUTE.getMillis();
-		for (long i = start; i < end; i += step) {
-			if (pattern.match(i, isMatchSecond)) {
-				result.add(DateUtil.date(i));
-				if (result.size() >= count) {
-					break;
-				}
+		final TimeZone timezone = TimeZone.getDefault();
+		final long step = isMatchSecond ? DateUnit.SECOND.getMillis() : DateUnit.MINUTE.getMillis();
+		// 结果保留起始时间中不足一个单位的部分，与逐个单位匹配的结果一致
+		final long phase = Math.floorMod(start, step);
+		long next = start;
+		while (result.size() < count) {
+			// 直接计算下一个匹配时间，而非逐秒（分）匹配
+			next = pattern.nextMatch(timezone, next, isMatchSecond);
+			if (next < 0) {
+				break;
 			}
+			next = next - Math.floorMod(next, step) + phase;
+			if (next >= end) {
+				break;
+			}
+			result.add(DateUtil.date(next));
+			next += step;
 		}
 		return result;
 	}
@@ -0,0 +1,150 @@
+package cn.hutool.cron.pattern;
+
+import java.time.Instant;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 时区偏移缓存，内部使用<br>
+ * 根据{@link ZoneRules}的转换点，缓存最近一次查询所在的区间（两次夏令时转换之间）及其偏移量，
+ * 区间内的时间直接返回缓存的偏移量，不产生对象。
+ *
+ * @author looly
+ * @since 5.8.31
+ */
+final class ZoneOffsetCache {
+
+	private static final Map<String, ZoneOffsetCache> CACHE = new ConcurrentHashMap<>();
+
+	private final TimeZone timezone;
+	/**
+	 * 时区规则，{@code null}表示自定义时区，使用{@link TimeZone#getOffset(long)}
+	 */
+	private final ZoneRules rules;
+	private volatile Window window;
+
+	/**
+	 * 获取时区对应的偏移缓存
+	 *
+	 * @param timezone 时区
+	 * @return ZoneOffsetCache
+	 */
+	static ZoneOffsetCache of(TimeZone timezone) {
+		final String id = timezone.getID();
+		ZoneOffsetCache cache = CACHE.get(id);
+		if (null != cache && (cache.timezone == timezone || cache.timezone.hasSameRules(timezone))) {
+			return cache;
+		}
+		cache = new ZoneOffsetCache(timezone);
+		if (null != cache.rules) {
+			CACHE.put(id, cache);
+		}
+		return cache;
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param timezone 时区
+	 */
+	private ZoneOffsetCache(TimeZone timezone) {
+		this.timezone = timezone;
+		ZoneRules rules = null;
+		try {
+			// 自定义的时区可能与同ID的标准时区规则不同，此时不使用ZoneRules
+			if (TimeZone.getTimeZone(timezone.getID()).hasSameRules(timezone)) {
+				rules = timezone.toZoneId().getRules();
+			}
+		} catch (Exception ignore) {
+			// 无法转换的时区
+		}
+		this.rules = rules;
+	}
+
+	/**
+	 * 将时间戳转换为本地时间秒数
+	 *
+	 * @param millis 时间戳
+	 * @return 本地时间秒数，从1970-01-01T00:00:00（不含时区）开始
+	 */
+	long toLocalSeconds(long millis) {
+		return Math.floorDiv(millis, 1000) + getOffsetSeconds(millis);
+	}
+
+	/**
+	 * 获取指定时间的偏移秒数
+	 *
+	 * @param millis 时间戳
+	 * @return 偏移秒数
+	 */
+	int getOffsetSeconds(long millis) {
+		if (null == this.rules) {
+			return this.timezone.getOffset(millis) / 1000;
+		}
+		return getWindow(millis).offset;
+	}
+
+	/**
+	 * 获取指定时间所在的偏移量不变的区间<br>
+	 * 自定义时区无法获取转换点，返回以当前偏移量覆盖所有时间的区间
+	 *
+	 * @param millis 时间戳
+	 * @return 区间
+	 */
+	Window getWindow(long millis) {
+		if (null == this.rules) {
+			return new Window(Long.MIN_VALUE, Long.MAX_VALUE, this.timezone.getOffset(millis) / 1000);
+		}
+
+		Window window = this.window;
+		if (null == window || millis < window.start || millis >= window.end) {
+			window = createWindow(millis);
+			this.window = window;
+		}
+		return window;
+	}
+
+	/**
+	 * 创建给定时间所在的区间，区间的起止为前后两次转换点
+	 *
+	 * @param millis 时间戳
+	 * @return 区间
+	 */
+	private Window createWindow(long millis) {
+		if (rules.isFixedOffset()) {
+			return new Window(Long.MIN_VALUE, Long.MAX_VALUE, rules.getOffset(Instant.EPOCH).getTotalSeconds());
+		}
+		final Instant instant = Instant.ofEpochMilli(millis);
+		// 转换点均为整秒，加1纳秒使得恰好位于转换点时取到此转换点
+		final ZoneOffsetTransition previous = rules.previousTransition(instant.plusNanos(1));
+		final ZoneOffsetTransition next = rules.nextTransition(instant);
+		return new Window(
+				null == previous ? Long.MIN_VALUE : previous.toEpochSecond() * 1000,
+				null == next ? Long.MAX_VALUE : next.toEpochSecond() * 1000,
+				rules.getOffset(instant).getTotalSeconds());
+	}
+
+	/**
+	 * 偏移量不变的时间区间
+	 */
+	static class Window {
+		private final long start;
+		/**
+		 * 区间结束时间（不包含），即下一个转换点
+		 */
+		final long end;
+		/**
+		 * 偏移秒数
+		 */
+		final int offset;
+
+		Window(long start, long end, int offset) {
+			this.start = start;
+			this.end = end;
+			this.offset = offset;
+		}
+	}
+}
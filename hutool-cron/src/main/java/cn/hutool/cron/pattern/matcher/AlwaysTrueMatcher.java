@@ -16,6 +16,11 @@ public class AlwaysTrueMatcher implements PartMatcher {
 		return true;
 	}
 
+	@Override
+	public boolean match(int value) {
+		return true;
+	}
+
 	@Override
 	public int nextAfter(int value) {
 		return value;
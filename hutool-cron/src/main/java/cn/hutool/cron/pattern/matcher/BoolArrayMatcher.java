@@ -4,11 +4,12 @@ import cn.hutool.core.collection.CollUtil;
 import cn.hutool.core.lang.Assert;
 import cn.hutool.core.util.StrUtil;
 
-import java.util.Collections;
+import java.util.BitSet;
 import java.util.List;
 
 /**
- * 将表达式中的数字值列表转换为Boolean数组，匹配时匹配相应数组位
+ * 将表达式中的数字值列表转换为位集合，匹配时匹配相应位<br>
+ * 匹配和查找下一个值均为位运算，不产生对象
  *
  * @author Looly
  */
@@ -18,7 +19,7 @@ public class BoolArrayMatcher implements PartMatcher {
 	 * 用户定义此字段的最小值
 	 */
 	private final int minValue;
-	private final boolean[] bValues;
+	private final BitSet bValues;
 
 	/**
 	 * 构造
@@ -27,31 +28,34 @@ public class BoolArrayMatcher implements PartMatcher {
 	 */
 	public BoolArrayMatcher(List<Integer> intValueList) {
 		Assert.isTrue(CollUtil.isNotEmpty(intValueList), "Values must be not empty!");
-		bValues = new boolean[Collections.max(intValueList) + 1];
+		bValues = new BitSet();
 		int min = Integer.MAX_VALUE;
 		for (Integer value : intValueList) {
 			min = Math.min(min, value);
-			bValues[value] = true;
+			bValues.set(value);
 		}
 		this.minValue = min;
 	}
 
 	@Override
 	public boolean match(Integer value) {
-		if (null == value || value >= bValues.length) {
+		if (null == value) {
 			return false;
 		}
-		return bValues[value];
+		return match(value.intValue());
+	}
+
+	@Override
+	public boolean match(int value) {
+		return value >= 0 && bValues.get(value);
 	}
 
 	@Override
 	public int nextAfter(int value) {
 		if(value > minValue){
-			while(value < bValues.length){
-				if(bValues[value]){
-					return value;
-				}
-				value++;
+			final int next = bValues.nextSetBit(value);
+			if(next >= 0){
+				return next;
 			}
 		}
 
@@ -72,6 +76,6 @@ public class BoolArrayMatcher implements PartMatcher {
 
 	@Override
 	public String toString() {
-		return StrUtil.format("Matcher:{}", new Object[]{this.bValues});
+		return StrUtil.format("Matcher:{}", this.bValues);
 	}
 }
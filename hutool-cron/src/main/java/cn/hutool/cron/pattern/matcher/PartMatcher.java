@@ -17,4 +17,15 @@ public interface PartMatcher extends Matcher<Integer> {
 	 * @return 匹配到的值或之后的值
 	 */
 	int nextAfter(int value);
+
+	/**
+	 * 给定值是否匹配，与{@link #match(Object)}相同，但避免装箱
+	 *
+	 * @param value 值
+	 * @return 是否匹配
+	 * @since 5.8.31
+	 */
+	default boolean match(int value) {
+		return match(Integer.valueOf(value));
+	}
 }
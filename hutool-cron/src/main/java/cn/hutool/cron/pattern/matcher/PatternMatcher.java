@@ -21,6 +21,8 @@ import java.util.TimeZone;
  */
 public class PatternMatcher {
 
+	private static final long SECONDS_PER_DAY = 86400;
+
 	private final PartMatcher[] matchers;
 
 	/**
@@ -122,6 +124,153 @@ public class PatternMatcher {
 				? ((DayOfMonthMatcher) matcher).match(dayOfMonth, month, isLeapYear) //
 				: matcher.match(dayOfMonth));
 	}
+	/**
+	 * 给定的本地时间是否匹配定时任务表达式<br>
+	 * 本地时间表示为从1970-01-01T00:00:00（不含时区）开始的秒数，直接通过算术运算分解为各个字段，不产生对象
+	 *
+	 * @param localSeconds  本地时间秒数
+	 * @param isMatchSecond 是否匹配秒
+	 * @return 如果匹配返回 {@code true}, 否则返回 {@code false}
+	 * @since 5.8.31
+	 */
+	public boolean match(long localSeconds, boolean isMatchSecond) {
+		final long epochDay = Math.floorDiv(localSeconds, SECONDS_PER_DAY);
+		final int secondOfDay = (int) Math.floorMod(localSeconds, SECONDS_PER_DAY);
+		final int date = toDate(epochDay);
+		return match(isMatchSecond ? secondOfDay % 60 : -1,
+				secondOfDay / 60 % 60,
+				secondOfDay / 3600,
+				date % 100,
+				date / 100 % 100,
+				dayOfWeek(epochDay),
+				date / 10000);
+	}
+	//endregion
+
+	//region nextMatch
+
+	/**
+	 * 获取给定本地时间及之后的第一个匹配的本地时间<br>
+	 * 从年开始逐个字段查找，字段不匹配时直接跳到此字段的下一个匹配值（或进位到上一字段），全部为算术运算，不产生对象。<br>
+	 * 非秒匹配模式下忽略秒部分，返回分钟的起始时间。
+	 *
+	 * @param localSeconds  本地时间秒数，从1970-01-01T00:00:00（不含时区）开始
+	 * @param isMatchSecond 是否匹配秒
+	 * @return 匹配的本地时间秒数，400年内无匹配返回-1
+	 * @since 5.8.31
+	 */
+	public long nextMatch(long localSeconds, boolean isMatchSecond) {
+		final PartMatcher secondMatcher = matchers[0];
+		final PartMatcher minuteMatcher = matchers[1];
+		final PartMatcher hourMatcher = matchers[2];
+		final PartMatcher monthMatcher = matchers[4];
+		final PartMatcher yearMatcher = matchers[6];
+
+		long time = isMatchSecond ? localSeconds : Math.floorDiv(localSeconds, 60) * 60;
+		// 公历每400年一个循环，超出则表示永远无法匹配，例如2月30日
+		final int maxYear = toDate(Math.floorDiv(time, SECONDS_PER_DAY)) / 10000 + 400;
+		long epochDay, dayStart;
+		int secondOfDay, date, year, month, day, hour, minute, second, next;
+		while (true) {
+			epochDay = Math.floorDiv(time, SECONDS_PER_DAY);
+			dayStart = epochDay * SECONDS_PER_DAY;
+			secondOfDay = (int) (time - dayStart);
+			date = toDate(epochDay);
+			year = date / 10000;
+			month = date / 100 % 100;
+			day = date % 100;
+			hour = secondOfDay / 3600;
+			minute = secondOfDay / 60 % 60;
+			second = secondOfDay % 60;
+
+			if (year > maxYear) {
+				return -1;
+			}
+			if (false == yearMatcher.match(year)) {
+				next = yearMatcher.nextAfter(year);
+				if (next <= year) {
+					return -1;
+				}
+				time = toEpochDay(next, 1, 1) * SECONDS_PER_DAY;
+				continue;
+			}
+			if (false == monthMatcher.match(month)) {
+				next = monthMatcher.nextAfter(month);
+				time = (next > month && next <= 12 ? toEpochDay(year, next, 1) : toEpochDay(year + 1, 1, 1)) * SECONDS_PER_DAY;
+				continue;
+			}
+			if (false == matchDayOfMonth(matchers[3], day, month, Year.isLeap(year))
+					|| false == matchers[5].match(dayOfWeek(epochDay))) {
+				time = dayStart + SECONDS_PER_DAY;
+				continue;
+			}
+			if (false == hourMatcher.match(hour)) {
+				next = hourMatcher.nextAfter(hour);
+				time = (next > hour && next < 24) ? dayStart + next * 3600L : dayStart + SECONDS_PER_DAY;
+				continue;
+			}
+			if (false == minuteMatcher.match(minute)) {
+				next = minuteMatcher.nextAfter(minute);
+				time = dayStart + hour * 3600L + ((next > minute && next < 60) ? next * 60L : 3600L);
+				continue;
+			}
+			if (isMatchSecond && false == secondMatcher.match(second)) {
+				next = secondMatcher.nextAfter(second);
+				time = dayStart + hour * 3600L + minute * 60L + ((next > second && next < 60) ? next : 60L);
+				continue;
+			}
+			return time;
+		}
+	}
+
+	/**
+	 * 将从1970-01-01开始的天数转换为日期，格式为yyyyMMdd的整数
+	 *
+	 * @param epochDay 天数
+	 * @return 日期，例如20240229
+	 */
+	private static int toDate(long epochDay) {
+		// 参考：http://howardhinnant.github.io/date_algorithms.html#civil_from_days
+		final long z = epochDay + 719468;
+		final long era = Math.floorDiv(z, 146097);
+		final long doe = z - era * 146097;
+		final long yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+		final long doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+		final long mp = (5 * doy + 2) / 153;
+		final int day = (int) (doy - (153 * mp + 2) / 5 + 1);
+		final int month = (int) (mp < 10 ? mp + 3 : mp - 9);
+		final int year = (int) (yoe + era * 400 + (month <= 2 ? 1 : 0));
+		return year * 10000 + month * 100 + day;
+	}
+
+	/**
+	 * 将日期转换为从1970-01-01开始的天数
+	 *
+	 * @param year  年
+	 * @param month 月，从1开始
+	 * @param day   日
+	 * @return 天数
+	 */
+	private static long toEpochDay(int year, int month, int day) {
+		// 参考：http://howardhinnant.github.io/date_algorithms.html#days_from_civil
+		final long y = month <= 2 ? year - 1 : year;
+		final long era = Math.floorDiv(y, 400);
+		final long yoe = y - era * 400;
+		final long doy = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+		final long doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+		return era * 146097 + doe - 719468;
+	}
+
+	/**
+	 * 获取从1970-01-01开始的天数对应的星期，0表示周日
+	 *
+	 * @param epochDay 天数
+	 * @return 星期，0~6
+	 */
+	private static int dayOfWeek(long epochDay) {
+		// 1970-01-01为周四
+		return (int) Math.floorMod(epochDay + 4, 7);
+	}
 	//endregion
 
 	//region nextMatchAfter
@@ -1,33 +1,44 @@
 package cn.hutool.cron.pattern.matcher;
 
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.LinkedHashSet;
 
 /**
  * 年匹配<br>
- * 考虑年数字太大，不适合boolean数组，单独使用{@link LinkedHashSet}匹配
+ * 考虑年数字太大，不适合位集合，单独使用有序数组二分查找匹配
  *
  * @author Looly
  */
 public class YearValueMatcher implements PartMatcher {
 
-	private final LinkedHashSet<Integer> valueList;
+	/**
+	 * 去重并升序排列的年
+	 */
+	private final int[] years;
 
 	public YearValueMatcher(Collection<Integer> intValueList) {
-		this.valueList = new LinkedHashSet<>(intValueList);
+		this.years = intValueList.stream().mapToInt(Integer::intValue).distinct().sorted().toArray();
 	}
 
 	@Override
 	public boolean match(Integer t) {
-		return valueList.contains(t);
+		return null != t && match(t.intValue());
+	}
+
+	@Override
+	public boolean match(int value) {
+		return Arrays.binarySearch(years, value) >= 0;
 	}
 
 	@Override
 	public int nextAfter(int value) {
-		for (Integer year : valueList) {
-			if (year >= value) {
-				return year;
-			}
+		int index = Arrays.binarySearch(years, value);
+		if (index < 0) {
+			// 未找到时返回插入点，即第一个大于给定值的位置
+			index = -index - 1;
+		}
+		if (index < years.length) {
+			return years[index];
 		}
 
 		// 年无效，此表达式整体无效
@@ -0,0 +1,597 @@
+package cn.hutool.cron.timingwheel;
+
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.thread.GlobalThreadPool;
+import cn.hutool.core.thread.ThreadUtil;
+import cn.hutool.log.StaticLog;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 哈希时间轮定时器，适用于大量短时延迟任务，如请求超时、重试退避等<br>
+ * 与{@link SystemTimer}的多层时间轮不同，此定时器为单层时间轮，超出一圈的任务记录剩余圈数，特点如下：
+ * <ul>
+ *     <li>新增和取消均为O(1)：新增和取消只将任务压入无锁栈，由时钟线程在每个刻度批量转移到时间槽或从时间槽移除</li>
+ *     <li>每个任务只产生一个对象，任务本身即为时间槽链表和无锁栈的节点，百万级待执行任务的GC开销很低</li>
+ *     <li>时钟线程只负责推进和分发，到期任务交给独立的执行器运行，慢任务不影响计时精度</li>
+ * </ul>
+ * 计时精度为一个刻度，到期任务会在到期后的下一个刻度内被分发。
+ *
+ * <pre>
+ * HashedWheelTimer timer = new HashedWheelTimer(10, 512);
+ * Timeout timeout = timer.schedule(() -&gt; Console.log("timeout"), 3000);
+ * // 请求完成，取消超时
+ * timeout.cancel();
+ * </pre>
+ *
+ * @author looly
+ * @since 5.8.31
+ */
+public class HashedWheelTimer {
+
+	private static final int STATE_INIT = 0;
+	private static final int STATE_STARTED = 1;
+	private static final int STATE_STOPPED = 2;
+
+	/**
+	 * 每个刻度最多从新增栈转移的任务数，防止大量新增时时钟线程长时间无法推进
+	 */
+	private static final int MAX_TRANSFER_PER_TICK = 100_000;
+
+	/**
+	 * 刻度时长，单位纳秒
+	 */
+	private final long tickNanos;
+	private final Bucket[] wheel;
+	private final int mask;
+	/**
+	 * 到期任务执行器
+	 */
+	private final Executor executor;
+
+	/**
+	 * 新增任务栈，以{@link Timeout#nextPending}串联
+	 */
+	private final AtomicReference<Timeout> pendingHead = new AtomicReference<>();
+	/**
+	 * 取消任务栈，以{@link Timeout#nextCancelled}串联
+	 */
+	private final AtomicReference<Timeout> cancelledHead = new AtomicReference<>();
+	/**
+	 * 待执行任务数，不包括已取消的任务
+	 */
+	private final AtomicLong pendingCount = new AtomicLong();
+	private long maxPending = -1;
+
+	private final AtomicInteger state = new AtomicInteger(STATE_INIT);
+	private final Object startLock = new Object();
+	private Thread workerThread;
+	/**
+	 * 启动时间，纳秒，为0表示尚未启动
+	 */
+	private volatile long startTime;
+	/**
+	 * 停止时未执行的任务，由时钟线程退出时填充
+	 */
+	private final List<Timeout> unprocessed = new ArrayList<>();
+
+	/**
+	 * 构造，刻度100毫秒，时间轮大小512，到期任务使用全局线程池执行
+	 */
+	public HashedWheelTimer() {
+		this(100, 512);
+	}
+
+	/**
+	 * 构造，到期任务使用全局线程池执行
+	 *
+	 * @param tickMs    刻度时长，单位毫秒
+	 * @param wheelSize 时间轮大小，会向上调整为2的幂
+	 */
+	public HashedWheelTimer(long tickMs, int wheelSize) {
+		this(tickMs, wheelSize, GlobalThreadPool::execute);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param tickMs    刻度时长，单位毫秒
+	 * @param wheelSize 时间轮大小，会向上调整为2的幂
+	 * @param executor  到期任务执行器，不能为{@code null}
+	 */
+	public HashedWheelTimer(long tickMs, int wheelSize, Executor executor) {
+		Assert.isTrue(tickMs > 0, "tickMs must be > 0!");
+		Assert.isTrue(wheelSize > 0 && wheelSize <= (1 << 30), "wheelSize must be in (0, 2^30]!");
+		this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMs);
+		this.executor = Assert.notNull(executor, "Executor must be not null!");
+
+		int size = 1;
+		while (size < wheelSize) {
+			size <<= 1;
+		}
+		this.wheel = new Bucket[size];
+		for (int i = 0; i < size; i++) {
+			this.wheel[i] = new Bucket();
+		}
+		this.mask = size - 1;
+	}
+
+	/**
+	 * 设置最大待执行任务数，超出后新增任务抛出{@link RejectedExecutionException}，默认不限制
+	 *
+	 * @param maxPending 最大待执行任务数，小于等于0表示不限制
+	 * @return this
+	 */
+	public HashedWheelTimer setMaxPending(long maxPending) {
+		this.maxPending = maxPending;
+		return this;
+	}
+
+	/**
+	 * 启动时钟线程，未调用时首次新增任务会自动启动
+	 *
+	 * @return this
+	 */
+	public HashedWheelTimer start() {
+		switch (state.get()) {
+			case STATE_INIT:
+				// 状态变更和时钟线程的赋值在同一临界区中，保证stop()看到已启动状态时时钟线程已创建
+				synchronized (startLock) {
+					if (state.compareAndSet(STATE_INIT, STATE_STARTED)) {
+						workerThread = ThreadUtil.newThread(this::work, "hutool-wheel-timer", true);
+						workerThread.start();
+						// 等待时钟线程初始化启动时间，保证之后计算的到期时间以启动时间为基准
+						while (0 == startTime) {
+							try {
+								startLock.wait();
+							} catch (InterruptedException ignore) {
+								// 继续等待
+							}
+						}
+						break;
+					}
+				}
+				start();
+				break;
+			case STATE_STARTED:
+				while (0 == startTime) {
+					synchronized (startLock) {
+						if (0 == startTime) {
+							try {
+								startLock.wait();
+							} catch (InterruptedException ignore) {
+								// 继续等待
+							}
+						}
+					}
+				}
+				break;
+			default:
+				throw new IllegalStateException("Timer has been stopped!");
+		}
+		return this;
+	}
+
+	/**
+	 * 停止时钟线程，已到期尚未执行的任务和未到期的任务均不再执行
+	 *
+	 * @return 未执行且未取消的任务
+	 */
+	public List<Timeout> stop() {
+		final Thread workerThread;
+		synchronized (startLock) {
+			workerThread = this.workerThread;
+			if (Thread.currentThread() == workerThread) {
+				throw new IllegalStateException("stop() can not be called from the timer thread!");
+			}
+			if (false == state.compareAndSet(STATE_STARTED, STATE_STOPPED)) {
+				state.set(STATE_STOPPED);
+				return new ArrayList<>(0);
+			}
+		}
+
+		boolean interrupted = false;
+		while (workerThread.isAlive()) {
+			workerThread.interrupt();
+			try {
+				workerThread.join(100);
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+		return new ArrayList<>(this.unprocessed);
+	}
+
+	/**
+	 * 新增延迟任务
+	 *
+	 * @param task    任务
+	 * @param delayMs 延迟毫秒数
+	 * @return {@link Timeout}，可用于取消任务
+	 */
+	public Timeout schedule(Runnable task, long delayMs) {
+		return schedule(task, delayMs, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * 新增延迟任务
+	 *
+	 * @param task  任务
+	 * @param delay 延迟时长，小于等于0时在下一个刻度执行
+	 * @param unit  延迟时长单位
+	 * @return {@link Timeout}，可用于取消任务
+	 * @throws RejectedExecutionException 待执行任务数超出限制
+	 * @throws IllegalStateException      定时器已停止
+	 */
+	public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+		Assert.notNull(task, "Task must be not null!");
+		Assert.notNull(unit, "TimeUnit must be not null!");
+
+		final long count = pendingCount.incrementAndGet();
+		if (maxPending > 0 && count > maxPending) {
+			pendingCount.decrementAndGet();
+			throw new RejectedExecutionException("Pending timeouts (" + count + ") exceed max pending (" + maxPending + ")");
+		}
+		if (STATE_STARTED != state.get()) {
+			try {
+				start();
+			} catch (IllegalStateException e) {
+				pendingCount.decrementAndGet();
+				throw e;
+			}
+		}
+
+		long deadline = System.nanoTime() + unit.toNanos(delay) - startTime;
+		if (delay > 0 && deadline < 0) {
+			// 溢出
+			deadline = Long.MAX_VALUE;
+		}
+		final Timeout timeout = new Timeout(this, task, deadline);
+		Timeout head;
+		do {
+			head = pendingHead.get();
+			timeout.nextPending = head;
+		} while (false == pendingHead.compareAndSet(head, timeout));
+		return timeout;
+	}
+
+	/**
+	 * 待执行的任务数，不包括已取消和已分发执行的任务
+	 *
+	 * @return 待执行的任务数
+	 */
+	public long pendingCount() {
+		return pendingCount.get();
+	}
+
+	// ----------------------------------------------------------------------------------------------------------------- Private method start
+
+	/**
+	 * 时钟线程主循环
+	 */
+	private void work() {
+		synchronized (startLock) {
+			long now = System.nanoTime();
+			// 0用于标识未启动
+			startTime = (0 == now) ? 1 : now;
+			startLock.notifyAll();
+		}
+
+		long tick = 0;
+		while (STATE_STARTED == state.get()) {
+			if (false == waitForNextTick(tick)) {
+				continue;
+			}
+			removeCancelled();
+			transferPending(tick);
+			wheel[(int) (tick & mask)].expire();
+			tick++;
+		}
+
+		// 停止后收集未执行的任务
+		for (Bucket bucket : wheel) {
+			bucket.drainTo(unprocessed);
+		}
+		Timeout timeout = pendingHead.getAndSet(null);
+		while (null != timeout) {
+			if (false == timeout.isCancelled()) {
+				unprocessed.add(timeout);
+			}
+			timeout = timeout.nextPending;
+		}
+		removeCancelled();
+	}
+
+	/**
+	 * 等待到下一个刻度
+	 *
+	 * @param tick 当前刻度
+	 * @return 是否到达，定时器停止时返回{@code false}
+	 */
+	private boolean waitForNextTick(long tick) {
+		final long deadline = tickNanos * (tick + 1);
+		long sleepNanos;
+		while (true) {
+			sleepNanos = deadline - (System.nanoTime() - startTime);
+			if (sleepNanos <= 0) {
+				return true;
+			}
+			try {
+				TimeUnit.NANOSECONDS.sleep(sleepNanos);
+			} catch (InterruptedException e) {
+				if (STATE_STOPPED == state.get()) {
+					return false;
+				}
+			}
+		}
+	}
+
+	/**
+	 * 将新增的任务放入对应时间槽
+	 *
+	 * @param tick 当前刻度
+	 */
+	private void transferPending(long tick) {
+		Timeout timeout = pendingHead.getAndSet(null);
+		int count = 0;
+		Timeout next;
+		while (null != timeout) {
+			if (count++ >= MAX_TRANSFER_PER_TICK) {
+				// 剩余任务放回栈中，下一个刻度继续处理
+				pushBack(timeout);
+				return;
+			}
+			next = timeout.nextPending;
+			timeout.nextPending = null;
+			if (false == timeout.isCancelled()) {
+				final long calculated = timeout.deadline / tickNanos;
+				timeout.remainingRounds = (calculated - tick) / wheel.length;
+				// 已过期的任务放入当前刻度，立即执行
+				wheel[(int) (Math.max(calculated, tick) & mask)].add(timeout);
+			}
+			timeout = next;
+		}
+	}
+
+	/**
+	 * 将未转移完的任务链表放回新增栈
+	 *
+	 * @param first 链表头
+	 */
+	private void pushBack(Timeout first) {
+		Timeout last = first;
+		while (null != last.nextPending) {
+			last = last.nextPending;
+		}
+		Timeout head;
+		do {
+			head = pendingHead.get();
+			last.nextPending = head;
+		} while (false == pendingHead.compareAndSet(head, first));
+	}
+
+	/**
+	 * 将已取消的任务从时间槽中移除
+	 */
+	private void removeCancelled() {
+		Timeout timeout = cancelledHead.getAndSet(null);
+		Timeout next;
+		while (null != timeout) {
+			next = timeout.nextCancelled;
+			timeout.nextCancelled = null;
+			if (null != timeout.bucket) {
+				timeout.bucket.remove(timeout);
+			}
+			timeout = next;
+		}
+	}
+
+	/**
+	 * 任务取消，压入取消栈
+	 *
+	 * @param timeout 任务
+	 */
+	private void cancelled(Timeout timeout) {
+		pendingCount.decrementAndGet();
+		Timeout head;
+		do {
+			head = cancelledHead.get();
+			timeout.nextCancelled = head;
+		} while (false == cancelledHead.compareAndSet(head, timeout));
+	}
+
+	/**
+	 * 分发到期任务到执行器
+	 *
+	 * @param timeout 任务
+	 */
+	private void dispatch(Timeout timeout) {
+		pendingCount.decrementAndGet();
+		try {
+			executor.execute(timeout.task);
+		} catch (Throwable e) {
+			StaticLog.warn(e, "Dispatch timeout task error!");
+		}
+	}
+	// ----------------------------------------------------------------------------------------------------------------- Private method end
+
+	/**
+	 * 延迟任务句柄，可用于取消任务
+	 */
+	public static final class Timeout {
+		private static final int ST_INIT = 0;
+		private static final int ST_CANCELLED = 1;
+		private static final int ST_EXPIRED = 2;
+		private static final AtomicIntegerFieldUpdater<Timeout> STATE_UPDATER =
+				AtomicIntegerFieldUpdater.newUpdater(Timeout.class, "state");
+
+		private final HashedWheelTimer timer;
+		private final Runnable task;
+		/**
+		 * 到期时间，相对于定时器启动时间的纳秒数
+		 */
+		private final long deadline;
+		private volatile int state;
+
+		// 以下字段只由时钟线程访问
+		private long remainingRounds;
+		private Bucket bucket;
+		private Timeout prev;
+		private Timeout next;
+		// 无锁栈节点
+		private Timeout nextPending;
+		private Timeout nextCancelled;
+
+		Timeout(HashedWheelTimer timer, Runnable task, long deadline) {
+			this.timer = timer;
+			this.task = task;
+			this.deadline = deadline;
+		}
+
+		/**
+		 * 获取任务
+		 *
+		 * @return 任务
+		 */
+		public Runnable getTask() {
+			return this.task;
+		}
+
+		/**
+		 * 取消任务，已到期或已取消的任务无法取消
+		 *
+		 * @return 是否取消成功
+		 */
+		public boolean cancel() {
+			if (false == STATE_UPDATER.compareAndSet(this, ST_INIT, ST_CANCELLED)) {
+				return false;
+			}
+			timer.cancelled(this);
+			return true;
+		}
+
+		/**
+		 * 是否已取消
+		 *
+		 * @return 是否已取消
+		 */
+		public boolean isCancelled() {
+			return ST_CANCELLED == this.state;
+		}
+
+		/**
+		 * 是否已到期，即任务已分发执行
+		 *
+		 * @return 是否已到期
+		 */
+		public boolean isExpired() {
+			return ST_EXPIRED == this.state;
+		}
+
+		/**
+		 * 标记到期并分发执行
+		 */
+		private void expire() {
+			if (STATE_UPDATER.compareAndSet(this, ST_INIT, ST_EXPIRED)) {
+				timer.dispatch(this);
+			}
+		}
+	}
+
+	/**
+	 * 时间槽，任务双向链表，只由时钟线程访问
+	 */
+	private static final class Bucket {
+		private Timeout head;
+		private Timeout tail;
+
+		/**
+		 * 加入任务到链表尾部
+		 *
+		 * @param timeout 任务
+		 */
+		void add(Timeout timeout) {
+			timeout.bucket = this;
+			if (null == head) {
+				head = tail = timeout;
+			} else {
+				tail.next = timeout;
+				timeout.prev = tail;
+				tail = timeout;
+			}
+		}
+
+		/**
+		 * 从链表中移除任务
+		 *
+		 * @param timeout 任务
+		 * @return 下一个任务
+		 */
+		Timeout remove(Timeout timeout) {
+			final Timeout next = timeout.next;
+			if (null != timeout.prev) {
+				timeout.prev.next = next;
+			}
+			if (null != next) {
+				next.prev = timeout.prev;
+			}
+			if (timeout == head) {
+				head = next;
+			}
+			if (timeout == tail) {
+				tail = timeout.prev;
+			}
+			timeout.prev = null;
+			timeout.next = null;
+			timeout.bucket = null;
+			return next;
+		}
+
+		/**
+		 * 执行到期任务，未到期的任务圈数减一
+		 */
+		void expire() {
+			Timeout timeout = head;
+			while (null != timeout) {
+				if (timeout.remainingRounds <= 0) {
+					// 剩余圈数为0的任务，到期时间必然在当前刻度内
+					final Timeout next = remove(timeout);
+					timeout.expire();
+					timeout = next;
+				} else if (timeout.isCancelled()) {
+					timeout = remove(timeout);
+				} else {
+					timeout.remainingRounds--;
+					timeout = timeout.next;
+				}
+			}
+		}
+
+		/**
+		 * 清空时间槽，未执行且未取消的任务加入列表
+		 *
+		 * @param list 列表
+		 */
+		void drainTo(List<Timeout> list) {
+			Timeout timeout = head;
+			while (null != timeout) {
+				final Timeout next = remove(timeout);
+				if (false == timeout.isCancelled() && false == timeout.isExpired()) {
+					list.add(timeout);
+				}
+				timeout = next;
+			}
+		}
+	}
+}
@@ -20,7 +20,7 @@ public class TimerTask {
 	/**
 	 * 时间槽
 	 */
-	protected TimerTaskList timerTaskList;
+	protected volatile TimerTaskList timerTaskList;
 
 	/**
 	 * 下一个节点
@@ -32,6 +32,11 @@ public class TimerTask {
 	 */
 	protected TimerTask prev;
 
+	/**
+	 * 是否已取消
+	 */
+	private volatile boolean cancelled;
+
 	/**
 	 * 任务描述
 	 */
@@ -65,6 +70,30 @@ public class TimerTask {
 		return delayMs;
 	}
 
+	/**
+	 * 取消任务，将任务从所在的时间槽中移除，之后不再执行<br>
+	 * 已到期并交付执行的任务无法取消
+	 *
+	 * @since 5.8.31
+	 */
+	public void cancel() {
+		this.cancelled = true;
+		final TimerTaskList list = this.timerTaskList;
+		if (null != list) {
+			list.removeTask(this);
+		}
+	}
+
+	/**
+	 * 是否已取消
+	 *
+	 * @return 是否已取消
+	 * @since 5.8.31
+	 */
+	public boolean isCancelled() {
+		return this.cancelled;
+	}
+
 	@Override
 	public String toString() {
 		return desc;
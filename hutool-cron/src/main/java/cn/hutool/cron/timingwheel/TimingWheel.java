@@ -85,6 +85,10 @@ public class TimingWheel {
 	 * @return 是否成功
 	 */
 	public boolean addTask(TimerTask timerTask) {
+		if (timerTask.isCancelled()) {
+			// 已取消的任务直接丢弃
+			return true;
+		}
 		long expiration = timerTask.getDelayMs();
 		//过期任务直接执行
 		if (expiration < currentTime + tickMs) {
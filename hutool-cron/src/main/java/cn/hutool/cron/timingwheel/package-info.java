@@ -5,6 +5,8 @@
  * <p>
  * 时间轮算法介绍：https://www.confluent.io/blog/apache-kafka-purgatory-hierarchical-timing-wheels/<br>
  * 参考：https://github.com/eliasyaoyc/timingwheel
+ * <p>
+ * 大量短时延迟任务（如请求超时）推荐使用单层的{@link cn.hutool.cron.timingwheel.HashedWheelTimer}，支持O(1)的新增和取消。
  *
  * @author looly
  */
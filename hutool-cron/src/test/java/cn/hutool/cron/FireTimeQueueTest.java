@@ -0,0 +1,106 @@
+package cn.hutool.cron;
+
+import cn.hutool.core.date.DateUtil;
+import cn.hutool.cron.pattern.CronPattern;
+import cn.hutool.cron.task.CronTask;
+import cn.hutool.cron.task.Task;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FireTimeQueueTest {
+
+	private static final Task NOOP = () -> {
+	};
+
+	@Test
+	public void sameAsMatchTest() {
+		final String[] patterns = {
+				"* * * * *",
+				"*/7 * * * *",
+				"5 3-18/5 * * *",
+				"0 0 L * *",
+				"30 9 * * 1,3,5",
+				"0 12 29 2 *",
+				"*/20 * * * * *",
+				"0 0 0 1 1 ? 2001"
+		};
+		assertSameAsMatch(patterns, false, DateUtil.parse("2024-02-27 22:00:00").getTime(), 3 * 24 * 60, 60_000);
+		assertSameAsMatch(patterns, true, DateUtil.parse("2024-02-28 23:58:00").getTime(), 2 * 3600, 1000);
+	}
+
+	@Test
+	public void addRemoveUpdateTest() {
+		final TimeZone timezone = TimeZone.getDefault();
+		final long start = DateUtil.parse("2024-01-01 00:00:00").getTime();
+		final List<String> ids = new ArrayList<>();
+		final FireTimeQueue queue = new FireTimeQueue(ids, new ArrayList<>(), new ArrayList<>(), timezone, false, start);
+
+		queue.add("a", CronPattern.of("*/2 * * * *"), NOOP);
+		queue.add("b", CronPattern.of("*/3 * * * *"), NOOP);
+		assertEquals(2, queue.size());
+		assertEquals("a,b", ids(queue.poll(start, timezone, false)));
+		assertEquals("", ids(queue.poll(start + 60_000, timezone, false)));
+		assertEquals("a", ids(queue.poll(start + 2 * 60_000, timezone, false)));
+
+		queue.updatePattern("b", CronPattern.of("* * * * *"));
+		assertEquals("b", ids(queue.poll(start + 3 * 60_000, timezone, false)));
+
+		queue.remove("a");
+		assertEquals(1, queue.size());
+		assertEquals("b", ids(queue.poll(start + 4 * 60_000, timezone, false)));
+	}
+
+	@Test
+	public void timeBackTest() {
+		final TimeZone timezone = TimeZone.getDefault();
+		final long start = DateUtil.parse("2024-01-01 10:00:00").getTime();
+		final FireTimeQueue queue = new FireTimeQueue(new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), timezone, false, start);
+		queue.add("a", CronPattern.of("0 * * * *"), NOOP);
+		assertEquals("a", ids(queue.poll(start, timezone, false)));
+
+		// 时间回退一小时，任务重新计算下次执行时间
+		assertEquals("a", ids(queue.poll(start - 3600_000, timezone, false)));
+	}
+
+	private static void assertSameAsMatch(String[] patterns, boolean matchSecond, long start, int ticks, long unit) {
+		final TimeZone timezone = TimeZone.getDefault();
+		final List<String> ids = new ArrayList<>();
+		final List<CronPattern> cronPatterns = new ArrayList<>();
+		final List<Task> tasks = new ArrayList<>();
+		for (int i = 0; i < patterns.length; i++) {
+			ids.add(String.valueOf(i));
+			cronPatterns.add(CronPattern.of(patterns[i]));
+			tasks.add(NOOP);
+		}
+
+		final FireTimeQueue queue = new FireTimeQueue(ids, cronPatterns, tasks, timezone, matchSecond, start);
+		long millis;
+		int fired = 0;
+		for (int tick = 0; tick < ticks; tick++) {
+			// 模拟定时器的执行时间点略晚于整秒或整分
+			millis = start + tick * unit + 3;
+			final List<String> expected = new ArrayList<>();
+			for (int i = 0; i < patterns.length; i++) {
+				if (cronPatterns.get(i).match(timezone, millis, matchSecond)) {
+					expected.add(String.valueOf(i));
+				}
+			}
+			final List<String> actual = queue.poll(millis, timezone, matchSecond).stream()
+					.map(CronTask::getId).sorted().collect(Collectors.toList());
+			assertEquals(expected, actual, DateUtil.date(millis).toString());
+			fired += actual.size();
+		}
+		assertTrue(fired > 0);
+	}
+
+	private static String ids(List<CronTask> tasks) {
+		return tasks.stream().map(CronTask::getId).sorted().collect(Collectors.joining(","));
+	}
+}
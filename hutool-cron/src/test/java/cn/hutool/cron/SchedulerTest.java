@@ -0,0 +1,227 @@
+package cn.hutool.cron;
+
+import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.date.DateUtil;
+import cn.hutool.cron.listener.SimpleTaskListener;
+import cn.hutool.cron.lock.LocalTaskLock;
+import cn.hutool.cron.lock.TaskLock;
+import cn.hutool.cron.pattern.CronPattern;
+import cn.hutool.cron.task.CronTask;
+import cn.hutool.cron.task.Task;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 执行锁、重叠执行和错过执行处理的单元测试，不启动定时器，直接调用任务表和执行管理器
+ */
+public class SchedulerTest {
+
+	private static final long FROM = DateUtil.parse("2024-01-01 00:00:01").getTime();
+	private static final long TO = DateUtil.parse("2024-01-01 00:01:00").getTime();
+
+	@Test
+	public void misfireFireAllTest() throws InterruptedException {
+		assertEquals(5, misfire(MisfirePolicy.FIRE_ALL).size());
+	}
+
+	@Test
+	public void misfireFireOnceTest() throws InterruptedException {
+		final List<Long> fireTimes = misfire(MisfirePolicy.FIRE_ONCE);
+		assertEquals(1, fireTimes.size());
+		assertEquals(DateUtil.parse("2024-01-01 00:00:10").getTime(), fireTimes.get(0).longValue());
+	}
+
+	@Test
+	public void misfireIgnoreTest() throws InterruptedException {
+		assertTrue(misfire(MisfirePolicy.IGNORE).isEmpty());
+	}
+
+	@Test
+	public void misfireDetectTest() {
+		final long unit = 1000;
+		assertEquals(-1, CronTimer.misfireFrom(FROM, FROM + unit, unit));
+		// 跳过了两个检查时间点
+		assertEquals(FROM + unit, CronTimer.misfireFrom(FROM, FROM + 3 * unit, unit));
+	}
+
+	@Test
+	public void fireOnceTest() throws InterruptedException {
+		final Scheduler scheduler = prepare(new Scheduler());
+		assertNull(scheduler.config.getTaskLock());
+		scheduler.setTaskLock(new LocalTaskLock());
+		final List<Long> fireTimes = listen(scheduler);
+		final CronTask task = new CronTask("a", new CronPattern("* * * * *"), () -> {
+		});
+		// 本地锁保证同一执行时间只执行一次，执行权在线程池中获取
+		assertNotNull(scheduler.taskExecutorManager.spawnExecutor(task, FROM));
+		assertNotNull(scheduler.taskExecutorManager.spawnExecutor(task, FROM));
+		assertNotNull(scheduler.taskExecutorManager.spawnExecutor(task, TO));
+		awaitCompleted(scheduler);
+		assertEquals(CollUtil.newArrayList(FROM, TO), fireTimes);
+
+		// 未指定执行时间时按照分对齐，直接执行
+		final TaskExecutor executor = scheduler.taskExecutorManager.spawnExecutor(new CronTask("b", task.getPattern(), task.getRaw()));
+		assertNotNull(executor);
+		assertEquals(0, executor.getFireTime() % 60_000);
+		shutdown(scheduler);
+	}
+
+	@Test
+	public void misfireWithLockTest() throws InterruptedException {
+		// 多线程获取执行权时，同一任务的补偿执行按照调用顺序获取，不会因乱序而丢失
+		final Scheduler scheduler = new Scheduler().setMatchSecond(true).setMisfirePolicy(MisfirePolicy.FIRE_ALL);
+		scheduler.setTaskLock(new LocalTaskLock());
+		scheduler.setThreadExecutor(Executors.newFixedThreadPool(4));
+		scheduler.taskExecutorManager = new TaskExecutorManager(scheduler);
+		final List<Long> fireTimes = listen(scheduler);
+		scheduler.schedule("a", "*/10 * * * * *", (Task) () -> {
+		});
+		scheduler.taskTable.executeMisfiredTasks(scheduler, FROM, TO);
+		awaitCompleted(scheduler);
+		assertEquals(5, fireTimes.size());
+		shutdown(scheduler);
+	}
+
+	@Test
+	public void releaseTest() throws InterruptedException {
+		final Scheduler scheduler = prepare(new Scheduler());
+		scheduler.setTaskLock(new LocalTaskLock());
+		final List<Long> fireTimes = listen(scheduler);
+		scheduler.schedule("a", "* * * * *", (Task) () -> {
+		});
+		final CronTask task = new CronTask("a", new CronPattern("* * * * *"), () -> {
+		});
+		scheduler.taskExecutorManager.spawnExecutor(task, TO);
+		awaitCompleted(scheduler);
+
+		// 移除任务后释放锁中的状态，重新添加的同名任务可以再次获取
+		assertTrue(scheduler.descheduleWithStatus("a"));
+		scheduler.taskExecutorManager.spawnExecutor(task, FROM);
+		awaitCompleted(scheduler);
+		assertEquals(CollUtil.newArrayList(TO, FROM), fireTimes);
+		shutdown(scheduler);
+	}
+
+	@Test
+	public void unlockErrorTest() throws InterruptedException {
+		final Scheduler scheduler = prepare(new Scheduler().setAllowOverlap(false));
+		scheduler.setTaskLock(new TaskLock() {
+			@Override
+			public boolean tryLock(String taskId, long fireTime, long leaseMillis) {
+				return true;
+			}
+
+			@Override
+			public void unlock(String taskId, long fireTime) {
+				throw new CronException("unlock error");
+			}
+		});
+		final List<Throwable> errors = Collections.synchronizedList(new ArrayList<>());
+		scheduler.addListener(new SimpleTaskListener() {
+			@Override
+			public void onFailed(TaskExecutor executor, Throwable exception) {
+				errors.add(exception);
+			}
+		});
+		scheduler.taskExecutorManager.spawnExecutor(new CronTask("a", new CronPattern("* * * * *"), () -> {
+		}), FROM);
+		awaitCompleted(scheduler);
+		// 释放锁的异常通知给监听器
+		assertEquals(1, errors.size());
+		assertEquals("unlock error", errors.get(0).getMessage());
+		shutdown(scheduler);
+	}
+
+	@Test
+	public void overlapTest() throws InterruptedException {
+		final Scheduler scheduler = new Scheduler().setAllowOverlap(false);
+		scheduler.setThreadExecutor(Executors.newCachedThreadPool());
+		scheduler.taskExecutorManager = new TaskExecutorManager(scheduler);
+		final CountDownLatch started = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		final CronTask task = new CronTask("a", new CronPattern("* * * * *"), () -> {
+			started.countDown();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				throw new RuntimeException(e);
+			}
+		});
+
+		assertNotNull(scheduler.taskExecutorManager.spawnExecutor(task, FROM));
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+		// 上一次执行未结束，跳过
+		assertNull(scheduler.taskExecutorManager.spawnExecutor(task, FROM + 60_000));
+
+		release.countDown();
+		awaitCompleted(scheduler);
+		assertNotNull(scheduler.taskExecutorManager.spawnExecutor(task, FROM + 120_000));
+		shutdown(scheduler);
+	}
+
+	/**
+	 * 按照指定策略补偿执行[FROM, TO)内错过的每10秒一次的任务
+	 *
+	 * @param policy 错过执行的处理策略
+	 * @return 实际执行的计划执行时间
+	 */
+	private static List<Long> misfire(MisfirePolicy policy) throws InterruptedException {
+		final Scheduler scheduler = prepare(new Scheduler().setMatchSecond(true).setMisfirePolicy(policy));
+		final List<Long> fireTimes = listen(scheduler);
+		scheduler.schedule("a", "*/10 * * * * *", (Task) () -> {
+		});
+
+		scheduler.taskTable.executeMisfiredTasks(scheduler, FROM, TO);
+		shutdown(scheduler);
+		return fireTimes;
+	}
+
+	/**
+	 * 不启动定时器，使用单线程执行任务
+	 */
+	private static Scheduler prepare(Scheduler scheduler) {
+		scheduler.setThreadExecutor(Executors.newSingleThreadExecutor());
+		scheduler.taskExecutorManager = new TaskExecutorManager(scheduler);
+		return scheduler;
+	}
+
+	/**
+	 * 记录实际执行的计划执行时间
+	 */
+	private static List<Long> listen(Scheduler scheduler) {
+		final List<Long> fireTimes = Collections.synchronizedList(new ArrayList<>());
+		scheduler.addListener(new SimpleTaskListener() {
+			@Override
+			public void onStart(TaskExecutor executor) {
+				fireTimes.add(executor.getFireTime());
+			}
+		});
+		return fireTimes;
+	}
+
+	/**
+	 * 等待所有执行器执行完毕
+	 */
+	private static void awaitCompleted(Scheduler scheduler) throws InterruptedException {
+		final long deadline = System.currentTimeMillis() + 5000;
+		while (false == scheduler.taskExecutorManager.getExecutors().isEmpty() && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+		assertTrue(scheduler.taskExecutorManager.getExecutors().isEmpty());
+	}
+
+	private static void shutdown(Scheduler scheduler) throws InterruptedException {
+		final ExecutorService executor = scheduler.threadExecutor;
+		executor.shutdown();
+		assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+	}
+}
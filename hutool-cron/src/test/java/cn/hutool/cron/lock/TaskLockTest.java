@@ -0,0 +1,63 @@
+package cn.hutool.cron.lock;
+
+import cn.hutool.cron.CronException;
+import cn.hutool.db.ds.simple.SimpleDataSource;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TaskLockTest {
+
+	@Test
+	public void localLockTest() {
+		final LocalTaskLock lock = new LocalTaskLock();
+		assertLock(lock, lock);
+	}
+
+	@Test
+	public void jdbcLockTest() {
+		final SimpleDataSource ds = new SimpleDataSource("jdbc:h2:mem:cron_lock;DB_CLOSE_DELAY=-1", "sa", "");
+		final JdbcTaskLock node1 = new JdbcTaskLock(ds).createTable();
+		final JdbcTaskLock node2 = new JdbcTaskLock(ds);
+		assertLock(node1, node2);
+	}
+
+	@Test
+	public void jdbcLockErrorTest() {
+		// 表不存在等数据库异常不能视为锁被其它节点获取
+		final SimpleDataSource ds = new SimpleDataSource("jdbc:h2:mem:cron_lock_error;DB_CLOSE_DELAY=-1", "sa", "");
+		final JdbcTaskLock lock = new JdbcTaskLock(ds, "no_such_table");
+		assertThrows(CronException.class, () -> lock.tryLock("a", 1000, 0));
+	}
+
+	/**
+	 * 检查锁的行为
+	 *
+	 * @param node1 节点1
+	 * @param other 节点2，与节点1相同时表示同一个节点
+	 */
+	private static void assertLock(TaskLock node1, TaskLock other) {
+		final boolean shared = node1 == other;
+
+		// 同一执行时间只能获取一次
+		assertTrue(node1.tryLock("a", 1000, 0));
+		assertFalse(other.tryLock("a", 1000, 0));
+		// 更早的执行时间无法获取
+		assertFalse(other.tryLock("a", 500, 0));
+		// 不同任务互不影响
+		assertTrue(other.tryLock("b", 1000, 0));
+
+		// 租约未释放时，下一次执行无法获取
+		assertTrue(node1.tryLock("a", 2000, 60_000));
+		assertFalse(other.tryLock("a", 3000, 60_000));
+		// 其它节点的释放无效
+		if (false == shared) {
+			other.unlock("a", 2000);
+			assertFalse(other.tryLock("a", 3000, 60_000));
+		}
+		node1.unlock("a", 2000);
+		assertTrue(other.tryLock("a", 3000, 60_000));
+	}
+}
@@ -7,6 +7,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import org.junit.jupiter.api.Test;
 
 import java.util.Calendar;
+import java.util.TimeZone;
 
 public class CronPatternNextMatchTest {
 
@@ -228,4 +229,53 @@ public class CronPatternNextMatchTest {
 			}
 		}
 	}
+
+	@Test
+	public void nextMatchSameAsMatchTest() {
+		final String[] patterns = {
+				"*/7 * * * *",
+				"5 3-18/5 * * *",
+				"0 0 L * *",
+				"30 2 * * 0",
+				"0 12 29 2 *",
+				"15,45 */20 1 * * 1-5",
+				"0 0 0 1 1 ? 2001 | 0 0 12 * * ?"
+		};
+		// 包含夏令时切换的时区，2024-03-10 02:00和2024-11-03 01:00
+		final TimeZone timezone = TimeZone.getTimeZone("America/New_York");
+		for (String patternStr : patterns) {
+			final CronPattern pattern = CronPattern.of(patternStr);
+			assertSameAsMatch(pattern, timezone, DateUtil.parse("2024-03-09 00:00:00").getTime(), 3 * 24 * 60, false);
+			assertSameAsMatch(pattern, timezone, DateUtil.parse("2024-11-02 00:00:00").getTime(), 3 * 24 * 60, false);
+			assertSameAsMatch(pattern, timezone, DateUtil.parse("2024-02-28 23:00:00").getTime(), 3600 * 2, true);
+		}
+	}
+
+	@Test
+	public void nextMatchNeverTest() {
+		// 2月30日永远不会匹配
+		assertEquals(-1, CronPattern.of("0 0 30 2 *").nextMatch(TimeZone.getDefault(), System.currentTimeMillis(), false));
+		// 年份已过
+		assertEquals(-1, CronPattern.of("0 0 0 1 1 ? 2001").nextMatch(TimeZone.getDefault(), System.currentTimeMillis(), true));
+	}
+
+	/**
+	 * 逐个单位匹配，检查nextMatch与match的结果一致
+	 */
+	private static void assertSameAsMatch(CronPattern pattern, TimeZone timezone, long start, int count, boolean isMatchSecond) {
+		final long unit = isMatchSecond ? 1000 : 60_000;
+		long expected = -1;
+		for (int i = count - 1; i >= 0; i--) {
+			final long millis = start + i * unit;
+			if (pattern.match(timezone, millis, isMatchSecond)) {
+				expected = millis;
+			}
+			if (expected >= 0) {
+				assertEquals(expected, pattern.nextMatch(timezone, millis, isMatchSecond), pattern + " at " + DateUtil.date(millis));
+			} else {
+				final long next = pattern.nextMatch(timezone, millis, isMatchSecond);
+				assertTrue(next < 0 || next >= start + count * unit, pattern + " at " + DateUtil.date(millis));
+			}
+		}
+	}
 }
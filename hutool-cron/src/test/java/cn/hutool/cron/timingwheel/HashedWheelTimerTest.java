@@ -0,0 +1,91 @@
+package cn.hutool.cron.timingwheel;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HashedWheelTimerTest {
+
+	@Test
+	public void scheduleAndCancelTest() throws InterruptedException {
+		final HashedWheelTimer timer = new HashedWheelTimer(10, 8, Runnable::run);
+		final AtomicInteger fired = new AtomicInteger();
+		final CountDownLatch latch = new CountDownLatch(1);
+		try {
+			final long start = System.nanoTime();
+			// 超过一圈的延迟
+			final HashedWheelTimer.Timeout timeout = timer.schedule(latch::countDown, 200);
+			final HashedWheelTimer.Timeout cancelled = timer.schedule(fired::incrementAndGet, 100);
+			assertTrue(cancelled.cancel());
+			assertFalse(cancelled.cancel());
+
+			assertTrue(latch.await(5, TimeUnit.SECONDS));
+			assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 190);
+			assertTrue(timeout.isExpired());
+			assertFalse(timeout.cancel());
+			assertTrue(cancelled.isCancelled());
+			assertEquals(0, fired.get());
+			assertEquals(0, timer.pendingCount());
+		} finally {
+			timer.stop();
+		}
+	}
+
+	@Test
+	public void manyTimeoutsTest() throws InterruptedException {
+		final HashedWheelTimer timer = new HashedWheelTimer(1, 64, Runnable::run);
+		final int count = 100_000;
+		final CountDownLatch latch = new CountDownLatch(count / 2);
+		try {
+			for (int i = 0; i < count; i++) {
+				final HashedWheelTimer.Timeout timeout = timer.schedule(latch::countDown, i % 200);
+				if (i % 2 == 1) {
+					timeout.cancel();
+				}
+			}
+			assertTrue(latch.await(10, TimeUnit.SECONDS));
+		} finally {
+			timer.stop();
+		}
+	}
+
+	@Test
+	public void stopTest() {
+		final HashedWheelTimer timer = new HashedWheelTimer(10, 16, Runnable::run);
+		timer.schedule(() -> {
+		}, 1, TimeUnit.HOURS);
+		timer.schedule(() -> {
+		}, 1, TimeUnit.HOURS).cancel();
+		final List<HashedWheelTimer.Timeout> unprocessed = timer.stop();
+		assertEquals(1, unprocessed.size());
+	}
+
+	@Test
+	public void concurrentStartStopTest() throws InterruptedException {
+		// start()与stop()并发执行时，stop()不应看到已启动状态但时钟线程尚未创建
+		for (int i = 0; i < 200; i++) {
+			final HashedWheelTimer timer = new HashedWheelTimer(10, 16, Runnable::run);
+			final CountDownLatch ready = new CountDownLatch(1);
+			final Thread starter = new Thread(() -> {
+				ready.countDown();
+				try {
+					timer.start();
+				} catch (IllegalStateException ignore) {
+					// 先被停止
+				}
+			});
+			starter.start();
+			ready.await();
+			timer.stop();
+			starter.join(5000);
+			assertFalse(starter.isAlive());
+		}
+	}
+}
@@ -73,6 +73,28 @@ public abstract class AbstractDb implements Serializable {
 	 */
 	public abstract void closeConnection(Connection conn);
 
+	/**
+	 * 获得用于查询的链接<br>
+	 * 默认与{@link #getConnection()}相同，在读写分离的数据源中，非事务状态下可返回只读副本的连接
+	 *
+	 * @return {@link Connection}
+	 * @throws SQLException 连接获取异常
+	 * @since 5.8.31
+	 */
+	public Connection getReadConnection() throws SQLException {
+		return getConnection();
+	}
+
+	/**
+	 * 关闭通过{@link #getReadConnection()}获得的连接
+	 *
+	 * @param conn 连接 {@link Connection}
+	 * @since 5.8.31
+	 */
+	public void closeReadConnection(Connection conn) {
+		closeConnection(conn);
+	}
+
 	/**
 	 * 查询
 	 *
@@ -163,10 +185,10 @@ public abstract class AbstractDb implements Serializable {
 	public <T> T query(String sql, RsHandler<T> rsh, Object... params) throws SQLException {
 		Connection conn = null;
 		try {
-			conn = this.getConnection();
+			conn = this.getReadConnection();
 			return SqlExecutor.query(conn, sql, rsh, params);
 		} finally {
-			this.closeConnection(conn);
+			this.closeReadConnection(conn);
 		}
 	}
 
@@ -184,10 +206,10 @@ public abstract class AbstractDb implements Serializable {
 	public <T> T query(String sql, RsHandler<T> rsh, Map<String, Object> paramMap) throws SQLException {
 		Connection conn = null;
 		try {
-			conn = this.getConnection();
+			conn = this.getReadConnection();
 			return SqlExecutor.query(conn, sql, rsh, paramMap);
 		} finally {
-			this.closeConnection(conn);
+			this.closeReadConnection(conn);
 		}
 	}
 
@@ -205,10 +227,10 @@ public abstract class AbstractDb implements Serializable {
 	public <T> T query(Func1<Connection, PreparedStatement> statementFunc, RsHandler<T> rsh) throws SQLException {
 		Connection conn = null;
 		try {
-			conn = this.getConnection();
+			conn = this.getReadConnection();
 			return SqlExecutor.query(conn, statementFunc, rsh);
 		} finally {
-			this.closeConnection(conn);
+			this.closeReadConnection(conn);
 		}
 	}
 
@@ -530,10 +552,10 @@ public abstract class AbstractDb implements Serializable {
 	public <T> T find(Collection<String> fields, Entity where, RsHandler<T> rsh) throws SQLException {
 		Connection conn = null;
 		try {
-			conn = this.getConnection();
+			conn = this.getReadConnection();
 			return runner.find(conn, fields, where, rsh);
 		} finally {
-			this.closeConnection(conn);
+			this.closeReadConnection(conn);
 		}
 	}
 
@@ -565,10 +587,10 @@ public abstract class AbstractDb implements Serializable {
 	public <T> T find(Query query, RsHandler<T> rsh) throws SQLException {
 		Connection conn = null;
 		try {
-			conn = this.getConnection();
+			conn = this.getReadConnection();
 			return runner.find(conn, query, rsh);
 		} finally {
-			this.closeConnection(conn);
+			this.closeReadConnection(conn);
 		}
 	}
 
@@ -704,10 +726,10 @@ public abstract class AbstractDb implements Serializable {
 	public long count(Entity where) throws SQLException {
 		Connection conn = null;
 		try {
-			conn = this.getConnection();
+			conn = this.getReadConnection();
 			return runner.count(conn, where);
 		} finally {
-			this.closeConnection(conn);
+			this.closeReadConnection(conn);
 		}
 	}
 
@@ -721,10 +743,10 @@ public abstract class AbstractDb implements Serializable {
 	public long count(SqlBuilder sql) throws SQLException {
 		Connection conn = null;
 		try {
-			conn = this.getConnection();
+			conn = this.getReadConnection();
 			return runner.count(conn, sql);
 		} finally {
-			this.closeConnection(conn);
+			this.closeReadConnection(conn);
 		}
 	}
 
@@ -740,10 +762,10 @@ public abstract class AbstractDb implements Serializable {
 	public long count(CharSequence selectSql, Object... params) throws SQLException {
 		Connection conn = null;
 		try {
-			conn = this.getConnection();
+			conn = this.getReadConnection();
 			return runner.count(conn, selectSql, params);
 		} finally {
-			this.closeConnection(conn);
+			this.closeReadConnection(conn);
 		}
 	}
 
@@ -763,10 +785,10 @@ public abstract class AbstractDb implements Serializable {
 	public <T> T page(Collection<String> fields, Entity where, int page, int numPerPage, RsHandler<T> rsh) throws SQLException {
 		Connection conn = null;
 		try {
-			conn = this.getConnection();
+			conn = this.getReadConnection();
 			return runner.page(conn, fields, where, page, numPerPage, rsh);
 		} finally {
-			this.closeConnection(conn);
+			this.closeReadConnection(conn);
 		}
 	}
 
@@ -847,10 +869,10 @@ public abstract class AbstractDb implements Serializable {
 	public <T> T page(Collection<String> fields, Entity where, Page page, RsHandler<T> rsh) throws SQLException {
 		Connection conn = null;
 		try {
-			conn = this.getConnection();
+			conn = this.getReadConnection();
 			return runner.page(conn, fields, where, page, rsh);
 		} finally {
-			this.closeConnection(conn);
+			this.closeReadConnection(conn);
 		}
 	}
 
@@ -869,10 +891,10 @@ public abstract class AbstractDb implements Serializable {
 	public <T> T page(CharSequence sql, Page page, RsHandler<T> rsh, Object... params) throws SQLException {
 		Connection conn = null;
 		try {
-			conn = this.getConnection();
+			conn = this.getReadConnection();
 			return runner.page(conn, SqlBuilder.of(sql).addParams(params), page, rsh);
 		} finally {
-			this.closeConnection(conn);
+			this.closeReadConnection(conn);
 		}
 	}
 
@@ -889,7 +911,7 @@ public abstract class AbstractDb implements Serializable {
 	 * @since 5.8.11
 	 */
 	public <T> PageResult<T> page(CharSequence sql, Page page, Class<T> elementBeanType, Object... params) throws SQLException {
-		final PageResult<T> result = new PageResult<>(page.getPageNumber(), page.getPageSize(), (int) count(sql, params));
+		final PageResult<T> result = new PageResult<>(page.getPageNumber(), page.getPageSize(), page.isSearchCount() ? (int) count(sql, params) : 0);
 		return page(sql, page,
 			(RsHandler<? extends PageResult<T>>) rs -> HandleHelper.handleRsToBeanList(rs, result, elementBeanType),
 			params);
@@ -908,10 +930,10 @@ public abstract class AbstractDb implements Serializable {
 	public <T> T page(SqlBuilder sql, Page page, RsHandler<T> rsh) throws SQLException {
 		Connection conn = null;
 		try {
-			conn = this.getConnection();
+			conn = this.getReadConnection();
 			return runner.page(conn, sql, page, rsh);
 		} finally {
-			this.closeConnection(conn);
+			this.closeReadConnection(conn);
 		}
 	}
 
@@ -928,10 +950,10 @@ public abstract class AbstractDb implements Serializable {
 	public PageResult<Entity> page(CharSequence sql, Page page, Object... params) throws SQLException {
 		Connection conn = null;
 		try {
-			conn = this.getConnection();
+			conn = this.getReadConnection();
 			return runner.page(conn, SqlBuilder.of(sql).addParams(params), page);
 		} finally {
-			this.closeConnection(conn);
+			this.closeReadConnection(conn);
 		}
 	}
 
@@ -963,10 +985,10 @@ public abstract class AbstractDb implements Serializable {
 	public PageResult<Entity> page(Collection<String> fields, Entity where, Page page) throws SQLException {
 		Connection conn = null;
 		try {
-			conn = this.getConnection();
+			conn = this.getReadConnection();
 			return runner.page(conn, fields, where, page);
 		} finally {
-			this.closeConnection(conn);
+			this.closeReadConnection(conn);
 		}
 	}
 
@@ -0,0 +1,277 @@
+package cn.hutool.db;
+
+import cn.hutool.core.lang.func.Func1;
+import cn.hutool.core.thread.ExecutorBuilder;
+import cn.hutool.core.thread.ThreadUtil;
+import cn.hutool.core.util.RuntimeUtil;
+import cn.hutool.db.handler.BeanListHandler;
+import cn.hutool.db.handler.EntityListHandler;
+import cn.hutool.db.handler.RsHandler;
+import cn.hutool.db.sql.SqlExecutor;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 异步数据库操作类，所有方法立即返回{@link CompletableFuture}，SQL在指定的{@link Executor}中执行<br>
+ * 与{@link Db}不同，此类不使用{@link ThreadLocalConnection}绑定连接，每个操作在执行线程中从数据源获取连接，
+ * 执行完毕后立即关闭（归还连接池），因此可以安全的运行在线程池或虚拟线程中。<br>
+ * 同时发起的多个操作相互独立，分别使用不同的连接，如需在同一事务中执行多条语句，使用{@link #tx(Func1)}。<br>
+ * {@link Executor}拒绝任务时（如默认线程池队列已满），不会在调用线程中执行，而是返回以{@link RejectedExecutionException}失败的{@link CompletableFuture}。
+ *
+ * <pre>
+ *     AsyncDb db = Db.use().async();
+ *     CompletableFuture&lt;List&lt;Entity&gt;&gt; users = db.query("select * from user where age &gt; ?", 18);
+ *     CompletableFuture&lt;Integer&gt; count = db.execute("update user set age = age + 1");
+ * </pre>
+ *
+ * @author looly
+ * @since 5.8.31
+ */
+public class AsyncDb {
+
+	private final DataSource ds;
+	private final SqlConnRunner runner;
+	private final boolean caseInsensitive;
+	private final Executor executor;
+
+	/**
+	 * 构造
+	 *
+	 * @param ds              数据源
+	 * @param runner          {@link SqlConnRunner}，包含方言信息
+	 * @param caseInsensitive 结果中是否忽略大小写
+	 * @param executor        执行SQL的{@link Executor}，{@code null}表示使用默认的全局有界线程池
+	 */
+	public AsyncDb(DataSource ds, SqlConnRunner runner, boolean caseInsensitive, Executor executor) {
+		this.ds = ds;
+		this.runner = runner;
+		this.caseInsensitive = caseInsensitive;
+		this.executor = (null != executor) ? executor : DefaultExecutorHolder.EXECUTOR;
+	}
+
+	/**
+	 * 获取执行SQL的{@link Executor}
+	 *
+	 * @return {@link Executor}
+	 */
+	public Executor getExecutor() {
+		return this.executor;
+	}
+
+	// ---------------------------------------------------------------------------- Query
+
+	/**
+	 * 查询
+	 *
+	 * @param sql    查询语句
+	 * @param params 参数
+	 * @return 结果对象
+	 */
+	public CompletableFuture<List<Entity>> query(String sql, Object... params) {
+		return query(sql, new EntityListHandler(this.caseInsensitive), params);
+	}
+
+	/**
+	 * 查询，支持命名占位符，例如：select * from table where field1=:name1
+	 *
+	 * @param sql      查询语句
+	 * @param paramMap 参数
+	 * @return 结果对象
+	 */
+	public CompletableFuture<List<Entity>> query(String sql, Map<String, Object> paramMap) {
+		return call(conn -> SqlExecutor.query(conn, sql, new EntityListHandler(this.caseInsensitive), paramMap));
+	}
+
+	/**
+	 * 查询
+	 *
+	 * @param <T>       结果集需要处理的对象类型
+	 * @param sql       查询语句
+	 * @param beanClass 元素Bean类型
+	 * @param params    参数
+	 * @return 结果对象
+	 */
+	public <T> CompletableFuture<List<T>> query(String sql, Class<T> beanClass, Object... params) {
+		return query(sql, new BeanListHandler<>(beanClass), params);
+	}
+
+	/**
+	 * 查询
+	 *
+	 * @param <T>    结果集需要处理的对象类型
+	 * @param sql    查询语句
+	 * @param rsh    结果集处理对象
+	 * @param params 参数
+	 * @return 结果对象
+	 */
+	public <T> CompletableFuture<T> query(String sql, RsHandler<T> rsh, Object... params) {
+		return call(conn -> SqlExecutor.query(conn, sql, rsh, params));
+	}
+
+	/**
+	 * 根据条件实体查询
+	 *
+	 * @param where 条件实体类（包含表名）
+	 * @return 结果对象
+	 */
+	public CompletableFuture<List<Entity>> find(Entity where) {
+		return call(conn -> runner.find(conn, where));
+	}
+
+	/**
+	 * 分页查询
+	 *
+	 * @param where 条件实体类（包含表名）
+	 * @param page  分页对象
+	 * @return 分页结果
+	 */
+	public CompletableFuture<PageResult<Entity>> page(Entity where, Page page) {
+		return call(conn -> runner.page(conn, where, page));
+	}
+
+	/**
+	 * 结果的条目数
+	 *
+	 * @param where 查询条件
+	 * @return 复合条件的结果数
+	 */
+	public CompletableFuture<Long> count(Entity where) {
+		return call(conn -> runner.count(conn, where));
+	}
+
+	// ---------------------------------------------------------------------------- Execute
+
+	/**
+	 * 执行非查询语句<br>
+	 * 语句包括 插入、更新、删除
+	 *
+	 * @param sql    SQL
+	 * @param params 参数
+	 * @return 影响行数
+	 */
+	public CompletableFuture<Integer> execute(String sql, Object... params) {
+		return call(conn -> SqlExecutor.execute(conn, sql, params));
+	}
+
+	/**
+	 * 批量执行非查询语句
+	 *
+	 * @param sql         SQL
+	 * @param paramsBatch 批量的参数
+	 * @return 每个SQL执行影响的行数
+	 */
+	public CompletableFuture<int[]> executeBatch(String sql, Iterable<Object[]> paramsBatch) {
+		return call(conn -> SqlExecutor.executeBatch(conn, sql, paramsBatch));
+	}
+
+	/**
+	 * 插入数据
+	 *
+	 * @param record 记录
+	 * @return 插入行数
+	 */
+	public CompletableFuture<Integer> insert(Entity record) {
+		return call(conn -> runner.insert(conn, record));
+	}
+
+	// ---------------------------------------------------------------------------- Custom
+
+	/**
+	 * 在执行线程中获取连接并执行自定义操作，执行完毕后关闭连接<br>
+	 * {@link Executor}拒绝任务时，返回以{@link RejectedExecutionException}失败的{@link CompletableFuture}
+	 *
+	 * @param <T>  结果类型
+	 * @param func 使用连接的操作
+	 * @return 结果
+	 */
+	public <T> CompletableFuture<T> call(Func1<Connection, T> func) {
+		try {
+			return CompletableFuture.supplyAsync(() -> {
+				Connection conn = null;
+				try {
+					conn = ds.getConnection();
+					return func.call(conn);
+				} catch (Exception e) {
+					throw (e instanceof DbRuntimeException) ? (DbRuntimeException) e : new DbRuntimeException(e);
+				} finally {
+					DbUtil.close(conn);
+				}
+			}, this.executor);
+		} catch (RejectedExecutionException e) {
+			final CompletableFuture<T> future = new CompletableFuture<>();
+			future.completeExceptionally(e);
+			return future;
+		}
+	}
+
+	/**
+	 * 在执行线程中获取连接，并在同一事务中执行自定义操作，成功提交，失败回滚
+	 *
+	 * @param <T>  结果类型
+	 * @param func 使用连接的操作
+	 * @return 结果
+	 */
+	public <T> CompletableFuture<T> tx(Func1<Connection, T> func) {
+		return call(conn -> {
+			final boolean autoCommit = conn.getAutoCommit();
+			if (autoCommit) {
+				conn.setAutoCommit(false);
+			}
+			try {
+				final T result = func.call(conn);
+				conn.commit();
+				return result;
+			} catch (Exception e) {
+				try {
+					conn.rollback();
+				} catch (Exception rollbackException) {
+					e.addSuppressed(rollbackException);
+				}
+				throw e;
+			} finally {
+				conn.setAutoCommit(autoCommit);
+			}
+		});
+	}
+
+	// ---------------------------------------------------------------------------- Executor
+
+	/**
+	 * 创建虚拟线程的{@link ExecutorService}，每个任务一个虚拟线程<br>
+	 * 虚拟线程需要Java 21及以上版本，低版本中返回{@code null}。<br>
+	 * 使用虚拟线程时并发量由连接池大小控制。
+	 *
+	 * @return {@link ExecutorService}，不支持时返回{@code null}
+	 */
+	public static ExecutorService newVirtualThreadExecutor() {
+		return ThreadUtil.isVirtualThreadSupported() ? ThreadUtil.newVirtualExecutor("hutool-db-async-") : null;
+	}
+
+	/**
+	 * 默认线程池，懒加载<br>
+	 * 线程数为CPU核数的2倍，队列有界，队列满时拒绝任务（返回失败的{@link CompletableFuture}），避免无限堆积任务，也不会阻塞调用线程
+	 */
+	private static class DefaultExecutorHolder {
+		private static final ExecutorService EXECUTOR;
+
+		static {
+			final int size = RuntimeUtil.getProcessorCount() * 2;
+			EXECUTOR = ExecutorBuilder.create()
+					.setCorePoolSize(size)
+					.setMaxPoolSize(size)
+					.setWorkQueue(new LinkedBlockingQueue<>(ExecutorBuilder.DEFAULT_QUEUE_CAPACITY))
+					.setThreadFactory(ThreadUtil.newNamedThreadFactory("hutool-db-async-", true))
+					.setHandler(new ThreadPoolExecutor.AbortPolicy())
+					.build();
+		}
+	}
+}
@@ -11,6 +11,7 @@ import cn.hutool.log.StaticLog;
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.concurrent.Executor;
 
 /**
  * 数据库操作类<br>
@@ -124,6 +125,29 @@ public class Db extends AbstractDb {
 	}
 	// ---------------------------------------------------------------------------- Getters and Setters end
 
+	/**
+	 * 获取异步操作对象，SQL在默认的全局有界线程池中执行，结果以{@link java.util.concurrent.CompletableFuture}返回<br>
+	 * 异步操作不使用线程绑定的连接，每个操作独立获取和关闭连接
+	 *
+	 * @return {@link AsyncDb}
+	 * @since 5.8.31
+	 */
+	public AsyncDb async() {
+		return async(null);
+	}
+
+	/**
+	 * 获取异步操作对象，SQL在指定的{@link Executor}中执行，结果以{@link java.util.concurrent.CompletableFuture}返回<br>
+	 * 异步操作不使用线程绑定的连接，每个操作独立获取和关闭连接，可传入{@link AsyncDb#newVirtualThreadExecutor()}使用虚拟线程
+	 *
+	 * @param executor 执行SQL的{@link Executor}，{@code null}表示使用默认的全局有界线程池
+	 * @return {@link AsyncDb}
+	 * @since 5.8.31
+	 */
+	public AsyncDb async(Executor executor) {
+		return new AsyncDb(this.ds, this.runner, this.caseInsensitive, executor);
+	}
+
 	@Override
 	public Connection getConnection() throws SQLException {
 		return ThreadLocalConnection.INSTANCE.get(this.ds);
@@ -143,6 +167,16 @@ public class Db extends AbstractDb {
 		ThreadLocalConnection.INSTANCE.close(this.ds);
 	}
 
+	@Override
+	public Connection getReadConnection() throws SQLException {
+		return ThreadLocalConnection.INSTANCE.getForRead(this.ds);
+	}
+
+	@Override
+	public void closeReadConnection(Connection conn) {
+		ThreadLocalConnection.INSTANCE.closeForRead(this.ds, conn);
+	}
+
 	/**
 	 * 执行事务，使用默认的事务级别<br>
 	 * 在同一事务中，所有对数据库操作都是原子的，同时提交或者同时回滚
@@ -6,6 +6,7 @@ import cn.hutool.db.dialect.Dialect;
 import cn.hutool.db.dialect.DialectFactory;
 import cn.hutool.db.ds.DSFactory;
 import cn.hutool.db.sql.SqlLog;
+import cn.hutool.db.sql.SqlMonitor;
 import cn.hutool.log.Log;
 import cn.hutool.log.level.Level;
 import cn.hutool.setting.Setting;
@@ -180,6 +181,8 @@ public final class DbUtil {
 		setting.remove(SqlLog.KEY_FORMAT_SQL);
 		setting.remove(SqlLog.KEY_SHOW_PARAMS);
 		setting.remove(SqlLog.KEY_SQL_LEVEL);
+		setting.remove(SqlMonitor.KEY_SQL_STAT);
+		setting.remove(SqlMonitor.KEY_SLOW_SQL_MILLIS);
 	}
 
 	/**
@@ -200,6 +203,14 @@ public final class DbUtil {
 		final Level level = Convert.toEnum(Level.class, sqlLevelStr, Level.DEBUG);
 		log.debug("Show sql: [{}], format sql: [{}], show params: [{}], level: [{}]", isShowSql, isFormatSql, isShowParams, level);
 		setShowSqlGlobal(isShowSql, isFormatSql, isShowParams, level);
+
+		// 初始化SQL监控
+		final boolean isSqlStat = Convert.toBool(setting.remove(SqlMonitor.KEY_SQL_STAT), false);
+		final long slowSqlMillis = Convert.toLong(setting.remove(SqlMonitor.KEY_SLOW_SQL_MILLIS), 0L);
+		if (isSqlStat || slowSqlMillis > 0) {
+			log.debug("Sql stat: [{}], slow sql millis: [{}]", isSqlStat, slowSqlMillis);
+		}
+		GlobalDbConfig.setSqlMonitor(isSqlStat, slowSqlMillis);
 	}
 
 	/**
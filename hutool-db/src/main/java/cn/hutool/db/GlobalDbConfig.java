@@ -2,6 +2,7 @@ package cn.hutool.db;
 
 import cn.hutool.core.io.resource.NoResourceException;
 import cn.hutool.db.sql.SqlLog;
+import cn.hutool.db.sql.SqlMonitor;
 import cn.hutool.log.level.Level;
 import cn.hutool.setting.Setting;
 
@@ -108,4 +109,15 @@ public class GlobalDbConfig {
 	public static void setShowSql(boolean isShowSql, boolean isFormatSql, boolean isShowParams, Level level) {
 		SqlLog.INSTANCE.init(isShowSql, isFormatSql, isShowParams, level);
 	}
+
+	/**
+	 * 设置全局配置：SQL监控，包括SQL统计和慢SQL日志
+	 *
+	 * @param isSqlStat     是否开启SQL统计，统计结果见{@link SqlMonitor#getStats()}
+	 * @param slowSqlMillis 慢SQL阈值（毫秒），执行和读取结果集耗时超过此值时打印WARN日志，小于等于0表示关闭
+	 * @since 5.8.31
+	 */
+	public static void setSqlMonitor(boolean isSqlStat, long slowSqlMillis) {
+		SqlMonitor.INSTANCE.init(isSqlStat, slowSqlMillis);
+	}
 }
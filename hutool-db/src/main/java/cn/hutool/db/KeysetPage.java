@@ -0,0 +1,174 @@
+package cn.hutool.db;
+
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.util.ArrayUtil;
+import cn.hutool.db.sql.Direction;
+import cn.hutool.db.sql.Order;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * 游标（Keyset/Seek）分页对象<br>
+ * 与{@link Page}使用LIMIT/OFFSET跳过前N条记录不同，游标分页记录上一页最后一条记录的排序字段值，
+ * 下一页直接从此位置之后查询，生成类似于：
+ * <pre>
+ *     SELECT * FROM user WHERE (a, b) &gt; (?, ?) ORDER BY a, b LIMIT 20
+ * </pre>
+ * 因此无论翻到第几页，查询代价与第一页相同。使用时需注意：
+ * <ul>
+ *     <li>排序字段组合必须唯一（通常以主键结尾），否则翻页时可能丢失或重复记录</li>
+ *     <li>排序字段必须为结果集中的列名，且值不能为{@code null}</li>
+ *     <li>只能顺序翻页，不能直接跳转到指定页</li>
+ *     <li>默认不查询总数，如需总数可调用{@link #setSearchCount(boolean)}</li>
+ * </ul>
+ * 使用方式：
+ * <pre>
+ *     KeysetPage page = KeysetPage.of(20, new Order("id"));
+ *     PageResult&lt;Entity&gt; result = db.page(where, page);
+ *     // 下一页
+ *     page.next(CollUtil.getLast(result));
+ * </pre>
+ *
+ * @author looly
+ * @since 5.8.31
+ */
+public class KeysetPage extends Page {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 上一页最后一条记录的排序字段值，与排序字段一一对应，{@code null}表示第一页
+	 */
+	private Object[] lastValues;
+
+	/**
+	 * 创建游标分页对象
+	 *
+	 * @param pageSize 每页结果数
+	 * @param orders   排序字段，至少一个
+	 * @return KeysetPage
+	 */
+	public static KeysetPage of(int pageSize, Order... orders) {
+		return new KeysetPage(pageSize, orders);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param pageSize 每页结果数
+	 * @param orders   排序字段，至少一个
+	 */
+	public KeysetPage(int pageSize, Order... orders) {
+		super(0, pageSize);
+		setOrder(orders);
+		setSearchCount(false);
+	}
+
+	/**
+	 * 获取上一页最后一条记录的排序字段值
+	 *
+	 * @return 排序字段值，{@code null}表示第一页
+	 */
+	public Object[] getLastValues() {
+		return this.lastValues;
+	}
+
+	/**
+	 * 设置上一页最后一条记录的排序字段值，值的顺序与排序字段一致
+	 *
+	 * @param lastValues 排序字段值，{@code null}表示第一页
+	 * @return this
+	 */
+	public KeysetPage setLastValues(Object... lastValues) {
+		if (null != lastValues) {
+			Assert.isTrue(lastValues.length == ArrayUtil.length(getOrders()),
+					"Last values size [{}] not match order fields size [{}] !", lastValues.length, ArrayUtil.length(getOrders()));
+			Assert.noNullElements(lastValues, "Last values must not contain null !");
+		}
+		this.lastValues = lastValues;
+		return this;
+	}
+
+	/**
+	 * 设置排序字段，排序字段变化后上一页的排序字段值不再对应，因此重置为第一页
+	 *
+	 * @param orders 排序字段，至少一个
+	 */
+	@Override
+	public void setOrder(Order... orders) {
+		Assert.notEmpty(orders, "Keyset page must have at least one order field !");
+		super.setOrder(orders);
+		this.lastValues = null;
+	}
+
+	/**
+	 * 追加排序字段，同{@link #setOrder(Order...)}，重置为第一页
+	 *
+	 * @param orders 排序字段
+	 */
+	@Override
+	public void addOrder(Order... orders) {
+		super.addOrder(orders);
+		this.lastValues = null;
+	}
+
+	/**
+	 * 是否为第一页，即没有上一页的排序字段值
+	 *
+	 * @return 是否为第一页
+	 */
+	public boolean isFirstPage() {
+		return ArrayUtil.isEmpty(this.lastValues);
+	}
+
+	/**
+	 * 根据当前页最后一条记录，移动到下一页<br>
+	 * 从记录中按照排序字段名读取值作为下一页的起始位置，页码加1
+	 *
+	 * @param lastRow 当前页最后一条记录，一般为{@link Entity}
+	 * @return this
+	 */
+	public KeysetPage next(Map<String, Object> lastRow) {
+		Assert.notNull(lastRow, "Last row must not be null !");
+		final Order[] orders = getOrders();
+		final Object[] values = new Object[orders.length];
+		for (int i = 0; i < orders.length; i++) {
+			values[i] = lastRow.get(orders[i].getField());
+		}
+		setLastValues(values);
+		setPageNumber(getPageNumber() + 1);
+		return this;
+	}
+
+	/**
+	 * 所有排序字段的排序方式是否一致，一致时可以使用行值比较，例如：(a, b) &gt; (?, ?)
+	 *
+	 * @return 排序方式是否一致
+	 */
+	public boolean isSameDirection() {
+		final Order[] orders = getOrders();
+		final boolean firstDesc = isDesc(orders[0]);
+		for (int i = 1; i < orders.length; i++) {
+			if (isDesc(orders[i]) != firstDesc) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 排序是否为倒序，未指定排序方式时为正序
+	 *
+	 * @param order 排序
+	 * @return 是否倒序
+	 */
+	public static boolean isDesc(Order order) {
+		return Direction.DESC == order.getDirection();
+	}
+
+	@Override
+	public String toString() {
+		return "KeysetPage [page=" + getPageNumber() + ", pageSize=" + getPageSize() + ", order=" + Arrays.toString(getOrders())
+				+ ", lastValues=" + Arrays.toString(lastValues) + "]";
+	}
+}
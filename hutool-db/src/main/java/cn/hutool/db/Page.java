@@ -30,6 +30,10 @@ public class Page implements Segment<Integer>, Serializable {
 	 * 排序
 	 */
 	private Order[] orders;
+	/**
+	 * 是否查询总数，关闭后分页查询不再执行count语句，结果中的总数为0
+	 */
+	private boolean searchCount = true;
 
 	/**
 	 * 创建Page对象
@@ -136,6 +140,28 @@ public class Page implements Segment<Integer>, Serializable {
 	public void addOrder(Order... orders) {
 		this.orders = ArrayUtil.append(this.orders, orders);
 	}
+
+	/**
+	 * 是否查询总数，关闭后分页查询不再执行count语句，结果中的总数为0
+	 *
+	 * @return 是否查询总数
+	 * @since 5.8.31
+	 */
+	public boolean isSearchCount() {
+		return this.searchCount;
+	}
+
+	/**
+	 * 设置是否查询总数，对于大表，count语句代价较高，不需要总数时可关闭
+	 *
+	 * @param searchCount 是否查询总数
+	 * @return this
+	 * @since 5.8.31
+	 */
+	public Page setSearchCount(boolean searchCount) {
+		this.searchCount = searchCount;
+		return this;
+	}
 	// ---------------------------------------------------------- Getters and Setters end
 
 	/**
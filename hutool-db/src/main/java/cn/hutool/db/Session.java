@@ -300,6 +300,16 @@ public class Session extends AbstractDb implements Closeable {
 		ThreadLocalConnection.INSTANCE.close(this.ds);
 	}
 
+	@Override
+	public Connection getReadConnection() throws SQLException {
+		return ThreadLocalConnection.INSTANCE.getForRead(this.ds);
+	}
+
+	@Override
+	public void closeReadConnection(Connection conn) {
+		ThreadLocalConnection.INSTANCE.closeForRead(this.ds, conn);
+	}
+
 	@Override
 	public void close() {
 		closeConnection(null);
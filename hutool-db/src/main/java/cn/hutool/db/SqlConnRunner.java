@@ -303,7 +303,7 @@ public class SqlConnRunner extends DialectRunner {
 	 */
 	public PageResult<Entity> page(Connection conn, SqlBuilder sqlBuilder, Page page) throws SQLException {
 		final PageResultHandler pageResultHandler = new PageResultHandler(
-				new PageResult<>(page.getPageNumber(), page.getPageSize(), (int) count(conn, sqlBuilder)),
+				new PageResult<>(page.getPageNumber(), page.getPageSize(), page.isSearchCount() ? (int) count(conn, sqlBuilder) : 0),
 				this.caseInsensitive);
 		return page(conn, sqlBuilder, page, pageResultHandler);
 	}
@@ -351,7 +351,7 @@ public class SqlConnRunner extends DialectRunner {
 	 */
 	public PageResult<Entity> page(Connection conn, Collection<String> fields, Entity where, Page page) throws SQLException {
 		final PageResultHandler pageResultHandler = new PageResultHandler(
-				new PageResult<>(page.getPageNumber(), page.getPageSize(), (int) count(conn, where)),
+				new PageResult<>(page.getPageNumber(), page.getPageSize(), page.isSearchCount() ? (int) count(conn, where) : 0),
 				this.caseInsensitive);
 		return page(conn, fields, where, page, pageResultHandler);
 	}
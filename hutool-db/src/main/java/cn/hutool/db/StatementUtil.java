@@ -11,6 +11,7 @@ import cn.hutool.db.handler.RsHandler;
 import cn.hutool.db.sql.NamedSql;
 import cn.hutool.db.sql.SqlBuilder;
 import cn.hutool.db.sql.SqlLog;
+import cn.hutool.db.sql.SqlMonitor;
 import cn.hutool.db.sql.SqlUtil;
 
 import java.io.InputStream;
@@ -151,7 +152,7 @@ public class StatementUtil {
 		} else {
 			ps = conn.prepareStatement(sql);
 		}
-		return fillParams(ps, params);
+		return SqlMonitor.INSTANCE.wrap(fillParams(ps, params), sql);
 	}
 
 	/**
@@ -189,7 +190,7 @@ public class StatementUtil {
 			fillParams(ps, new ArrayIter<>(params), nullTypeMap);
 			ps.addBatch();
 		}
-		return ps;
+		return SqlMonitor.INSTANCE.wrap(ps, sql);
 	}
 
 	/**
@@ -215,7 +216,7 @@ public class StatementUtil {
 			fillParams(ps, CollUtil.valuesOfKeys(entity, fields), nullTypeMap);
 			ps.addBatch();
 		}
-		return ps;
+		return SqlMonitor.INSTANCE.wrap(ps, sql);
 	}
 
 	/**
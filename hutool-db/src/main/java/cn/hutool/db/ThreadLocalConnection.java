@@ -1,5 +1,7 @@
 package cn.hutool.db;
 
+import cn.hutool.db.ds.routing.RoutingDataSource;
+
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.SQLException;
@@ -52,6 +54,57 @@ public enum ThreadLocalConnection {
 		}
 	}
 
+	/**
+	 * 获取用于查询的连接<br>
+	 * 如果数据源为读写分离数据源{@link RoutingDataSource}，且当前线程不在事务中，返回只读副本的连接（不与线程绑定），
+	 * 否则与{@link #get(DataSource)}相同
+	 *
+	 * @param ds 数据源
+	 * @return Connection
+	 * @throws SQLException SQL异常
+	 * @since 5.8.31
+	 */
+	public Connection getForRead(DataSource ds) throws SQLException {
+		final RoutingDataSource routingDataSource = RoutingDataSource.unwrap(ds);
+		if (null == routingDataSource) {
+			return get(ds);
+		}
+
+		final Connection conn = getBound(ds);
+		if (null != conn && false == conn.getAutoCommit()) {
+			// 事务中，读写使用同一连接，保证读到事务中的数据
+			return conn;
+		}
+		return routingDataSource.getReadConnection();
+	}
+
+	/**
+	 * 关闭通过{@link #getForRead(DataSource)}获取的连接
+	 *
+	 * @param ds   数据源
+	 * @param conn 连接
+	 * @since 5.8.31
+	 */
+	public void closeForRead(DataSource ds, Connection conn) {
+		if (null != conn && conn != getBound(ds)) {
+			// 未与线程绑定的只读副本连接，直接关闭
+			DbUtil.close(conn);
+			return;
+		}
+		close(ds);
+	}
+
+	/**
+	 * 获取当前线程已经绑定的连接，不存在返回{@code null}
+	 *
+	 * @param ds 数据源
+	 * @return Connection
+	 */
+	private Connection getBound(DataSource ds) {
+		final GroupedConnection groupedConnection = threadLocal.get();
+		return null == groupedConnection ? null : groupedConnection.connMap.get(ds);
+	}
+
 	/**
 	 * 分组连接，根据不同的分组获取对应的连接，用于多数据源情况
 	 * 
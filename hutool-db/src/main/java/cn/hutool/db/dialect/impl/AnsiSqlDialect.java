@@ -6,11 +6,14 @@ import cn.hutool.core.util.ArrayUtil;
 import cn.hutool.core.util.StrUtil;
 import cn.hutool.db.DbRuntimeException;
 import cn.hutool.db.Entity;
+import cn.hutool.db.KeysetPage;
 import cn.hutool.db.Page;
 import cn.hutool.db.StatementUtil;
 import cn.hutool.db.dialect.Dialect;
 import cn.hutool.db.dialect.DialectName;
 import cn.hutool.db.sql.Condition;
+import cn.hutool.db.sql.ConditionBuilder;
+import cn.hutool.db.sql.Order;
 import cn.hutool.db.sql.Query;
 import cn.hutool.db.sql.SqlBuilder;
 import cn.hutool.db.sql.Wrapper;
@@ -18,6 +21,8 @@ import cn.hutool.db.sql.Wrapper;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -100,14 +105,45 @@ public class AnsiSqlDialect implements Dialect {
 			throw new DbRuntimeException("Table name must be not empty !");
 		}
 
+		final Page page = query.getPage();
+		if (page instanceof KeysetPage && false == ((KeysetPage) page).isFirstPage()) {
+			// 游标分页条件直接加入查询条件中
+			final KeysetPage keysetPage = (KeysetPage) page;
+			final SqlBuilder find = SqlBuilder.create(wrapper).select(query.getFields()).from(query.getTableNames());
+			Condition[] where = query.getWhere();
+			if (ArrayUtil.isEmpty(where)) {
+				find.append(" WHERE ");
+			} else {
+				// 原有条件整体加括号，避免其中的OR条件只与游标条件的最后一项结合
+				if (null != wrapper) {
+					where = wrapper.wrap(where);
+				}
+				final List<Object> params = new ArrayList<>();
+				find.append(" WHERE (").append(ConditionBuilder.of(where).build(params)).append(") AND ").addParams(params.toArray());
+			}
+			appendKeysetCondition(find, keysetPage, this.wrapper);
+			return StatementUtil.prepareStatement(conn, wrapKeysetPageSql(find, keysetPage));
+		}
+
 		final SqlBuilder find = SqlBuilder.create(wrapper).query(query);
-		return psForPage(conn, find, query.getPage());
+		if (page instanceof KeysetPage) {
+			return StatementUtil.prepareStatement(conn, wrapKeysetPageSql(find, (KeysetPage) page));
+		}
+		return psForPage(conn, find, page);
 	}
 
 	@Override
 	public PreparedStatement psForPage(Connection conn, SqlBuilder sqlBuilder, Page page) throws SQLException {
-		// 根据不同数据库在查询SQL语句基础上包装其分页的语句
-		if(null != page){
+		if (page instanceof KeysetPage) {
+			// 自定义SQL无法确定条件插入位置，包装为子查询后再加入游标分页条件
+			final KeysetPage keysetPage = (KeysetPage) page;
+			if (false == keysetPage.isFirstPage()) {
+				sqlBuilder.insertPreFragment("SELECT * FROM (").append(") hutool_alias_keyset_ WHERE ");
+				appendKeysetCondition(sqlBuilder, keysetPage, null);
+			}
+			sqlBuilder = wrapKeysetPageSql(sqlBuilder, keysetPage);
+		} else if(null != page){
+			// 根据不同数据库在查询SQL语句基础上包装其分页的语句
 			sqlBuilder = wrapPageSql(sqlBuilder.orderBy(page.getOrders()), page);
 		}
 		return StatementUtil.prepareStatement(conn, sqlBuilder);
@@ -131,6 +167,71 @@ public class AnsiSqlDialect implements Dialect {
 				.append(page.getStartPosition());
 	}
 
+	/**
+	 * 包装游标分页的排序和行数限制语句，游标分页始终从第0条开始取，因此复用{@link #wrapPageSql(SqlBuilder, Page)}
+	 *
+	 * @param find 已经包含游标条件的查询语句
+	 * @param page 游标分页对象
+	 * @return 分页语句
+	 * @since 5.8.31
+	 */
+	protected SqlBuilder wrapKeysetPageSql(SqlBuilder find, KeysetPage page) {
+		return wrapPageSql(find.orderBy(page.getOrders()), Page.of(0, page.getPageSize()));
+	}
+
+	/**
+	 * 追加游标分页条件，即排序字段值在上一页最后一条记录之后<br>
+	 * 排序方式一致且数据库支持行值比较时，生成：(a, b) &gt; (?, ?)<br>
+	 * 否则生成等价的展开形式：(a &gt; ? OR (a = ? AND b &lt; ?))
+	 *
+	 * @param builder SQL构建器
+	 * @param page    游标分页对象
+	 * @param wrapper 字段包装器，{@code null}表示不包装
+	 * @since 5.8.31
+	 */
+	protected void appendKeysetCondition(SqlBuilder builder, KeysetPage page, Wrapper wrapper) {
+		final Order[] orders = page.getOrders();
+		final Object[] values = page.getLastValues();
+		final String[] fields = new String[orders.length];
+		for (int i = 0; i < orders.length; i++) {
+			fields[i] = (null != wrapper) ? wrapper.wrap(orders[i].getField()) : orders[i].getField();
+		}
+
+		if (fields.length > 1 && isSupportRowValue() && page.isSameDirection()) {
+			builder.append("(").append(ArrayUtil.join(fields, ", "))
+					.append(KeysetPage.isDesc(orders[0]) ? ") < (" : ") > (")
+					.append(StrUtil.repeatAndJoin("?", fields.length, ", ")).append(")")
+					.addParams(values);
+			return;
+		}
+
+		builder.append("(");
+		for (int i = 0; i < fields.length; i++) {
+			if (0 != i) {
+				builder.append(" OR (");
+				for (int j = 0; j < i; j++) {
+					builder.append(fields[j]).append(" = ? AND ").addParams(values[j]);
+				}
+			}
+			builder.append(fields[i]).append(KeysetPage.isDesc(orders[i]) ? " < ?" : " > ?").addParams(values[i]);
+			if (0 != i) {
+				builder.append(")");
+			}
+		}
+		builder.append(")");
+	}
+
+	/**
+	 * 数据库是否支持行值比较，例如：(a, b) &gt; (?, ?)<br>
+	 * 支持的数据库可以更好的利用联合索引，ANSI方言默认不支持，使用展开形式
+	 *
+	 * @return 是否支持行值比较
+	 * @since 5.8.31
+	 */
+	protected boolean isSupportRowValue() {
+		return false;
+	}
+
 	@Override
 	public String dialectName() {
 		return DialectName.ANSI.name();
@@ -25,6 +25,11 @@ public class H2Dialect extends AnsiSqlDialect {
 //		wrapper = new Wrapper('"');
 	}
 
+	@Override
+	protected boolean isSupportRowValue() {
+		return true;
+	}
+
 	@Override
 	public String dialectName() {
 		return DialectName.H2.name();
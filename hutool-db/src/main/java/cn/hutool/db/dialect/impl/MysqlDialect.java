@@ -29,6 +29,11 @@ public class MysqlDialect extends AnsiSqlDialect{
 		return find.append(" LIMIT ").append(page.getStartPosition()).append(", ").append(page.getPageSize());
 	}
 
+	@Override
+	protected boolean isSupportRowValue() {
+		return true;
+	}
+
 	@Override
 	public String dialectName() {
 		return DialectName.MYSQL.toString();
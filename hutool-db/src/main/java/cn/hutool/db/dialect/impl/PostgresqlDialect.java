@@ -29,6 +29,11 @@ public class PostgresqlDialect extends AnsiSqlDialect{
 		wrapper = new Wrapper('"');
 	}
 
+	@Override
+	protected boolean isSupportRowValue() {
+		return true;
+	}
+
 	@Override
 	public String dialectName() {
 		return DialectName.POSTGRESQL.name();
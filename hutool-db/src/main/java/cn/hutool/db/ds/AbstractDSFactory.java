@@ -8,10 +8,15 @@ import cn.hutool.db.DbRuntimeException;
 import cn.hutool.db.DbUtil;
 import cn.hutool.db.GlobalDbConfig;
 import cn.hutool.db.dialect.DriverUtil;
+import cn.hutool.db.ds.routing.BalanceStrategy;
+import cn.hutool.db.ds.routing.ReplicaNode;
+import cn.hutool.db.ds.routing.RoutingDataSource;
 import cn.hutool.setting.Setting;
 
 import javax.sql.DataSource;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -33,6 +38,27 @@ public abstract class AbstractDSFactory extends DSFactory {
 	 */
 	private final Map<String, DataSourceWrapper> dsMap;
 
+	/**
+	 * 读写分离配置项：主库分组
+	 */
+	public static final String KEY_ROUTING_PRIMARY = "primary";
+	/**
+	 * 读写分离配置项：副本分组，多个副本逗号分隔，冒号后为权重，例如：slave1, slave2:2
+	 */
+	public static final String KEY_ROUTING_REPLICAS = "replicas";
+	/**
+	 * 读写分离配置项：负载均衡策略，见{@link BalanceStrategy}
+	 */
+	public static final String KEY_ROUTING_BALANCE = "balance";
+	/**
+	 * 读写分离配置项：健康检查间隔（毫秒）
+	 */
+	public static final String KEY_ROUTING_HEALTH_CHECK_INTERVAL = "healthCheckInterval";
+	/**
+	 * 读写分离配置项：副本获取连接失败后的重试间隔（毫秒）
+	 */
+	public static final String KEY_ROUTING_RETRY_INTERVAL = "retryInterval";
+
 	/**
 	 * 构造
 	 *
@@ -101,6 +127,12 @@ public abstract class AbstractDSFactory extends DSFactory {
 			throw new DbRuntimeException("No config for group: [{}]", group);
 		}
 
+		// 读写分离分组，主库和副本引用其它分组
+		final String primaryGroup = config.getAndRemoveStr(KEY_ROUTING_PRIMARY);
+		if (StrUtil.isNotBlank(primaryGroup)) {
+			return createRoutingDataSource(primaryGroup, config);
+		}
+
 		// 基本信息
 		final String url = config.getAndRemoveStr(KEY_ALIAS_URL);
 		if (StrUtil.isBlank(url)) {
@@ -122,6 +154,35 @@ public abstract class AbstractDSFactory extends DSFactory {
 		return DataSourceWrapper.wrap(createDataSource(url, driver, user, pass, config), driver);
 	}
 
+	/**
+	 * 创建读写分离数据源，主库和副本数据源均从本工厂中按照分组获取
+	 *
+	 * @param primaryGroup 主库分组
+	 * @param config       读写分离分组配置
+	 * @return {@link DataSourceWrapper} 数据源包装
+	 */
+	private DataSourceWrapper createRoutingDataSource(String primaryGroup, Setting config) {
+		final DataSourceWrapper primary = (DataSourceWrapper) getDataSource(primaryGroup);
+
+		final List<ReplicaNode> replicas = new ArrayList<>();
+		for (String replica : StrUtil.splitTrim(config.getAndRemoveStr(KEY_ROUTING_REPLICAS), StrUtil.C_COMMA)) {
+			// 格式为：分组名:权重
+			final List<String> nameAndWeight = StrUtil.splitTrim(replica, StrUtil.C_COLON, 2);
+			final String replicaGroup = nameAndWeight.get(0);
+			final int weight = nameAndWeight.size() > 1 ? Integer.parseInt(nameAndWeight.get(1)) : 1;
+			replicas.add(new ReplicaNode(replicaGroup, getDataSource(replicaGroup), weight));
+		}
+
+		final RoutingDataSource routingDataSource = new RoutingDataSource(primary,
+				BalanceStrategy.of(config.getAndRemoveStr(KEY_ROUTING_BALANCE)),
+				replicas.toArray(new ReplicaNode[0]));
+		routingDataSource.setRetryInterval(
+				config.getLong(KEY_ROUTING_RETRY_INTERVAL, RoutingDataSource.DEFAULT_RETRY_INTERVAL));
+		routingDataSource.setHealthCheckInterval(
+				config.getLong(KEY_ROUTING_HEALTH_CHECK_INTERVAL, RoutingDataSource.DEFAULT_HEALTH_CHECK_INTERVAL));
+		return DataSourceWrapper.wrap(routingDataSource, primary.getDriver());
+	}
+
 	/**
 	 * 创建新的{@link DataSource}<br>
 	 *
@@ -0,0 +1,36 @@
+package cn.hutool.db.ds.routing;
+
+/**
+ * 只读副本的负载均衡策略
+ *
+ * @author looly
+ * @since 5.8.31
+ */
+public enum BalanceStrategy {
+	/**
+	 * 加权轮询，按照权重比例平滑的分配到各个副本
+	 */
+	ROUND_ROBIN,
+	/**
+	 * 最少活跃连接，选择活跃连接数与权重比值最小的副本
+	 */
+	LEAST_ACTIVE;
+
+	/**
+	 * 根据名称获取策略，忽略大小写和下划线，例如：roundRobin、round_robin、leastActive，无匹配时返回{@link #ROUND_ROBIN}
+	 *
+	 * @param name 名称
+	 * @return 策略
+	 */
+	public static BalanceStrategy of(String name) {
+		if (null != name) {
+			final String normalName = name.replace("_", "").trim();
+			for (BalanceStrategy strategy : values()) {
+				if (strategy.name().replace("_", "").equalsIgnoreCase(normalName)) {
+					return strategy;
+				}
+			}
+		}
+		return ROUND_ROBIN;
+	}
+}
@@ -0,0 +1,43 @@
+package cn.hutool.db.ds.routing;
+
+import cn.hutool.db.ds.pooled.ConnectionWraper;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 只读副本连接包装，关闭时减少副本的活跃连接数，用于最少活跃连接负载均衡
+ *
+ * @author looly
+ * @since 5.8.31
+ */
+class ReplicaConnection extends ConnectionWraper {
+
+	private final ReplicaNode node;
+	private boolean isClosed;
+
+	/**
+	 * 构造
+	 *
+	 * @param node 副本节点
+	 * @param conn 实际连接
+	 */
+	ReplicaConnection(ReplicaNode node, Connection conn) {
+		this.node = node;
+		this.raw = conn;
+	}
+
+	@Override
+	public void close() throws SQLException {
+		if (false == this.isClosed) {
+			this.isClosed = true;
+			this.node.release();
+			this.raw.close();
+		}
+	}
+
+	@Override
+	public boolean isClosed() throws SQLException {
+		return isClosed || raw.isClosed();
+	}
+}
@@ -0,0 +1,141 @@
+package cn.hutool.db.ds.routing;
+
+import cn.hutool.core.lang.Assert;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 只读副本节点，记录副本的数据源、权重、活跃连接数和可用状态
+ *
+ * @author looly
+ * @since 5.8.31
+ */
+public class ReplicaNode {
+
+	private final String name;
+	private final DataSource ds;
+	private final int weight;
+	/**
+	 * 当前借出未关闭的连接数
+	 */
+	private final AtomicInteger active = new AtomicInteger();
+	/**
+	 * 是否可用，健康检查失败时标记为不可用，健康检查成功后恢复
+	 */
+	private volatile boolean available = true;
+	/**
+	 * 获取连接失败后暂停使用的截止时间（毫秒时间戳），0表示未暂停
+	 */
+	private volatile long unavailableUntil;
+
+	/**
+	 * 构造，权重为1
+	 *
+	 * @param name 节点名称，一般为配置分组名
+	 * @param ds   数据源
+	 */
+	public ReplicaNode(String name, DataSource ds) {
+		this(name, ds, 1);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param name   节点名称，一般为配置分组名
+	 * @param ds     数据源
+	 * @param weight 权重，必须大于0
+	 */
+	public ReplicaNode(String name, DataSource ds, int weight) {
+		Assert.isTrue(weight > 0, "Weight of replica [{}] must be greater than 0 !", name);
+		this.name = name;
+		this.ds = Assert.notNull(ds, "DataSource of replica [{}] must not be null !", name);
+		this.weight = weight;
+	}
+
+	/**
+	 * @return 节点名称
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * @return 数据源
+	 */
+	public DataSource getDataSource() {
+		return ds;
+	}
+
+	/**
+	 * @return 权重
+	 */
+	public int getWeight() {
+		return weight;
+	}
+
+	/**
+	 * @return 当前借出未关闭的连接数
+	 */
+	public int getActive() {
+		return active.get();
+	}
+
+	/**
+	 * 是否可用，健康检查标记为不可用或处于获取连接失败后的暂停期内时不可用
+	 *
+	 * @return 是否可用
+	 */
+	public boolean isAvailable() {
+		if (false == available) {
+			return false;
+		}
+		final long until = this.unavailableUntil;
+		return 0 == until || System.currentTimeMillis() >= until;
+	}
+
+	/**
+	 * 设置是否可用，同时清除暂停状态
+	 *
+	 * @param available 是否可用
+	 */
+	void setAvailable(boolean available) {
+		this.unavailableUntil = 0;
+		this.available = available;
+	}
+
+	/**
+	 * 暂停使用此节点，暂停期过后自动恢复，用于获取连接失败时临时剔除节点
+	 *
+	 * @param millis 暂停时长（毫秒）
+	 */
+	void suspend(long millis) {
+		this.unavailableUntil = System.currentTimeMillis() + millis;
+	}
+
+	/**
+	 * 从副本获取连接，返回的连接关闭时自动减少活跃连接数
+	 *
+	 * @return 连接
+	 * @throws SQLException 获取连接失败
+	 */
+	Connection getConnection() throws SQLException {
+		final Connection conn = ds.getConnection();
+		active.incrementAndGet();
+		return new ReplicaConnection(this, conn);
+	}
+
+	/**
+	 * 归还连接，减少活跃连接数
+	 */
+	void release() {
+		active.decrementAndGet();
+	}
+
+	@Override
+	public String toString() {
+		return "ReplicaNode [name=" + name + ", weight=" + weight + ", active=" + active + ", available=" + isAvailable() + "]";
+	}
+}
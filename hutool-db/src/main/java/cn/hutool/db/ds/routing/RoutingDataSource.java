@@ -0,0 +1,303 @@
+package cn.hutool.db.ds.routing;
+
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.thread.ThreadUtil;
+import cn.hutool.db.DbUtil;
+import cn.hutool.db.ds.DataSourceWrapper;
+import cn.hutool.db.ds.simple.AbstractDataSource;
+import cn.hutool.log.Log;
+import cn.hutool.log.LogFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 读写分离数据源<br>
+ * {@link #getConnection()}始终返回主库连接，用于写操作和事务；
+ * {@link #getReadConnection()}按照负载均衡策略返回只读副本的连接，副本不可用时自动切换到其它副本，全部不可用时使用主库。<br>
+ * {@link cn.hutool.db.Db}和{@link cn.hutool.db.Session}的查询方法在非事务状态下自动使用只读副本。
+ *
+ * <p>
+ * 可以在db.setting中配置读写分离分组，主库和副本引用其它分组：
+ * <pre>
+ * [rw]
+ * primary = master
+ * # 副本分组，冒号后为权重，默认为1
+ * replicas = slave1, slave2:2
+ * # 负载均衡策略：roundRobin（加权轮询，默认）或leastActive（最少活跃连接）
+ * balance = roundRobin
+ * # 健康检查间隔（毫秒），0表示不检查，默认5000
+ * healthCheckInterval = 5000
+ * # 副本获取连接失败后的重试间隔（毫秒），默认5000
+ * retryInterval = 5000
+ * </pre>
+ *
+ * @author looly
+ * @since 5.8.31
+ */
+public class RoutingDataSource extends AbstractDataSource {
+	private static final Log log = LogFactory.get();
+
+	/**
+	 * 默认健康检查间隔（毫秒）
+	 */
+	public static final long DEFAULT_HEALTH_CHECK_INTERVAL = 5000;
+	/**
+	 * 默认副本获取连接失败后的重试间隔（毫秒）
+	 */
+	public static final long DEFAULT_RETRY_INTERVAL = 5000;
+	/**
+	 * 健康检查时连接校验的超时时间（秒）
+	 */
+	private static final int VALID_TIMEOUT = 3;
+
+	private final DataSource primary;
+	private final ReplicaNode[] replicas;
+	private final BalanceStrategy strategy;
+	/**
+	 * 加权轮询的调度序列，每个元素为副本下标，权重越大出现次数越多，且尽量均匀分布
+	 */
+	private final int[] schedule;
+	private final AtomicInteger counter = new AtomicInteger();
+	private ScheduledExecutorService healthChecker;
+	private volatile long retryInterval = DEFAULT_RETRY_INTERVAL;
+
+	/**
+	 * 从数据源中获取读写分离数据源，如果数据源不是读写分离数据源，返回{@code null}
+	 *
+	 * @param ds 数据源，可以是{@link DataSourceWrapper}包装的数据源
+	 * @return {@link RoutingDataSource}或{@code null}
+	 */
+	public static RoutingDataSource unwrap(DataSource ds) {
+		if (ds instanceof DataSourceWrapper) {
+			ds = ((DataSourceWrapper) ds).getRaw();
+		}
+		return (ds instanceof RoutingDataSource) ? (RoutingDataSource) ds : null;
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param primary  主库数据源
+	 * @param strategy 负载均衡策略，{@code null}表示加权轮询
+	 * @param replicas 只读副本
+	 */
+	public RoutingDataSource(DataSource primary, BalanceStrategy strategy, ReplicaNode... replicas) {
+		this.primary = Assert.notNull(primary, "Primary DataSource must not be null !");
+		this.strategy = (null != strategy) ? strategy : BalanceStrategy.ROUND_ROBIN;
+		this.replicas = (null != replicas) ? replicas : new ReplicaNode[0];
+		this.schedule = buildSchedule(this.replicas);
+	}
+
+	/**
+	 * 设置健康检查间隔并启动健康检查，健康检查定期校验每个副本的连接，更新其可用状态
+	 *
+	 * @param interval 健康检查间隔（毫秒），小于等于0表示关闭健康检查
+	 * @return this
+	 */
+	synchronized public RoutingDataSource setHealthCheckInterval(long interval) {
+		if (null != this.healthChecker) {
+			this.healthChecker.shutdownNow();
+			this.healthChecker = null;
+		}
+		if (interval > 0 && this.replicas.length > 0) {
+			final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1,
+					ThreadUtil.newNamedThreadFactory("hutool-db-health-", true));
+			executor.scheduleWithFixedDelay(this::checkHealth, interval, interval, TimeUnit.MILLISECONDS);
+			this.healthChecker = executor;
+		}
+		return this;
+	}
+
+	/**
+	 * 设置副本获取连接失败后的重试间隔，失败的副本在此期间不参与负载均衡，之后重新尝试
+	 *
+	 * @param retryInterval 重试间隔（毫秒），小于0时视为0，即每次都重试
+	 * @return this
+	 */
+	public RoutingDataSource setRetryInterval(long retryInterval) {
+		this.retryInterval = Math.max(retryInterval, 0);
+		return this;
+	}
+
+	/**
+	 * @return 主库数据源
+	 */
+	public DataSource getPrimary() {
+		return this.primary;
+	}
+
+	/**
+	 * @return 只读副本列表
+	 */
+	public ReplicaNode[] getReplicas() {
+		return this.replicas.clone();
+	}
+
+	/**
+	 * @return 负载均衡策略
+	 */
+	public BalanceStrategy getStrategy() {
+		return this.strategy;
+	}
+
+	/**
+	 * 获取主库连接，用于写操作和事务
+	 *
+	 * @return 主库连接
+	 * @throws SQLException 获取连接失败
+	 */
+	@Override
+	public Connection getConnection() throws SQLException {
+		return primary.getConnection();
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return primary.getConnection(username, password);
+	}
+
+	/**
+	 * 获取只读副本连接<br>
+	 * 按照负载均衡策略选择可用副本，获取连接失败的副本在重试间隔内暂停使用并尝试下一个，全部不可用时返回主库连接
+	 *
+	 * @return 只读副本连接或主库连接
+	 * @throws SQLException 主库获取连接失败
+	 */
+	public Connection getReadConnection() throws SQLException {
+		ReplicaNode node;
+		for (int i = 0; i < this.replicas.length; i++) {
+			node = select();
+			if (null == node) {
+				break;
+			}
+			try {
+				return node.getConnection();
+			} catch (SQLException e) {
+				node.suspend(this.retryInterval);
+				log.warn(e, "Replica [{}] is unavailable, retry after {}ms, try next.", node.getName(), this.retryInterval);
+			}
+		}
+		return primary.getConnection();
+	}
+
+	/**
+	 * 立即执行一次健康检查，校验每个副本的连接并更新可用状态
+	 */
+	public void checkHealth() {
+		for (ReplicaNode node : this.replicas) {
+			final boolean available = isValid(node.getDataSource());
+			if (available != node.isAvailable()) {
+				log.info("Replica [{}] available changed to: {}", node.getName(), available);
+				node.setAvailable(available);
+			}
+		}
+	}
+
+	/**
+	 * 关闭健康检查，主库和副本数据源由创建者负责关闭
+	 */
+	@Override
+	public void close() {
+		setHealthCheckInterval(0);
+	}
+
+	/**
+	 * 按照负载均衡策略选择一个可用的副本
+	 *
+	 * @return 副本，无可用副本返回{@code null}
+	 */
+	private ReplicaNode select() {
+		if (0 == this.replicas.length) {
+			return null;
+		}
+		if (BalanceStrategy.LEAST_ACTIVE == this.strategy) {
+			return selectLeastActive();
+		}
+
+		final int start = counter.getAndIncrement() & Integer.MAX_VALUE;
+		ReplicaNode node;
+		for (int i = 0; i < schedule.length; i++) {
+			node = replicas[schedule[(start + i) % schedule.length]];
+			if (node.isAvailable()) {
+				return node;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * 选择活跃连接数与权重比值最小的可用副本，比值相同时轮流选择
+	 *
+	 * @return 副本，无可用副本返回{@code null}
+	 */
+	private ReplicaNode selectLeastActive() {
+		final int start = counter.getAndIncrement() & Integer.MAX_VALUE;
+		ReplicaNode selected = null;
+		ReplicaNode node;
+		for (int i = 0; i < replicas.length; i++) {
+			node = replicas[(start + i) % replicas.length];
+			if (false == node.isAvailable()) {
+				continue;
+			}
+			// active / weight < selectedActive / selectedWeight
+			if (null == selected || (long) node.getActive() * selected.getWeight() < (long) selected.getActive() * node.getWeight()) {
+				selected = node;
+			}
+		}
+		return selected;
+	}
+
+	/**
+	 * 检查数据源是否可用
+	 *
+	 * @param ds 数据源
+	 * @return 是否可用
+	 */
+	private static boolean isValid(DataSource ds) {
+		Connection conn = null;
+		try {
+			conn = ds.getConnection();
+			return conn.isValid(VALID_TIMEOUT);
+		} catch (Exception e) {
+			return false;
+		} finally {
+			DbUtil.close(conn);
+		}
+	}
+
+	/**
+	 * 构建平滑加权轮询的调度序列，例如权重为5、1、1的三个副本，序列为：[0, 0, 1, 0, 2, 0, 0]
+	 *
+	 * @param replicas 副本
+	 * @return 调度序列
+	 */
+	private static int[] buildSchedule(ReplicaNode[] replicas) {
+		int totalWeight = 0;
+		for (ReplicaNode replica : replicas) {
+			totalWeight += replica.getWeight();
+		}
+
+		final List<Integer> schedule = new ArrayList<>(totalWeight);
+		final int[] currentWeights = new int[replicas.length];
+		for (int i = 0; i < totalWeight; i++) {
+			int selected = 0;
+			for (int j = 0; j < replicas.length; j++) {
+				currentWeights[j] += replicas[j].getWeight();
+				if (currentWeights[j] > currentWeights[selected]) {
+					selected = j;
+				}
+			}
+			currentWeights[selected] -= totalWeight;
+			schedule.add(selected);
+		}
+		return schedule.stream().mapToInt(Integer::intValue).toArray();
+	}
+}
@@ -0,0 +1,7 @@
+/**
+ * 读写分离数据源，写操作使用主库，读操作在多个只读副本间负载均衡
+ *
+ * @author looly
+ *
+ */
+package cn.hutool.db.ds.routing;
@@ -0,0 +1,140 @@
+package cn.hutool.db.sql;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * 带执行统计的{@link PreparedStatement}，记录执行耗时、读取结果集耗时和行数，并交给{@link SqlMonitor}处理<br>
+ * 查询返回的{@link ResultSet}被代理，统计遍历的行数，关闭时记录从执行返回到关闭的读取耗时。
+ *
+ * @author looly
+ * @since 5.8.31
+ */
+class MonitoredStatement extends StatementWrapper {
+
+	private final String sql;
+	private final SqlMonitor monitor;
+	/**
+	 * 未关闭的查询结果集，语句关闭时如果结果集未关闭，由语句负责记录
+	 */
+	private ResultSetHandler pending;
+
+	/**
+	 * 构造
+	 *
+	 * @param rawStatement {@link PreparedStatement}
+	 * @param sql          SQL语句
+	 * @param monitor      {@link SqlMonitor}
+	 */
+	MonitoredStatement(PreparedStatement rawStatement, String sql, SqlMonitor monitor) {
+		super(rawStatement);
+		this.sql = sql;
+		this.monitor = monitor;
+	}
+
+	@Override
+	public ResultSet executeQuery() throws SQLException {
+		final long start = System.nanoTime();
+		final ResultSet rs = super.executeQuery();
+		final long executed = System.nanoTime();
+		this.pending = new ResultSetHandler(rs, executed - start, executed);
+		return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class[]{ResultSet.class}, this.pending);
+	}
+
+	@Override
+	public int executeUpdate() throws SQLException {
+		final long start = System.nanoTime();
+		final int rows = super.executeUpdate();
+		monitor.record(sql, System.nanoTime() - start, 0, rows);
+		return rows;
+	}
+
+	@Override
+	public boolean execute() throws SQLException {
+		final long start = System.nanoTime();
+		final boolean isResultSet = super.execute();
+		final long executeNanos = System.nanoTime() - start;
+		monitor.record(sql, executeNanos, 0, isResultSet ? 0 : Math.max(getUpdateCount(), 0));
+		return isResultSet;
+	}
+
+	@Override
+	public int[] executeBatch() throws SQLException {
+		final long start = System.nanoTime();
+		final int[] result = super.executeBatch();
+		final long executeNanos = System.nanoTime() - start;
+		long rows = 0;
+		for (int count : result) {
+			if (count > 0) {
+				rows += count;
+			}
+		}
+		monitor.record(sql, executeNanos, 0, rows);
+		return result;
+	}
+
+	@Override
+	public void close() throws SQLException {
+		if (null != this.pending) {
+			this.pending.finish();
+			this.pending = null;
+		}
+		super.close();
+	}
+
+	/**
+	 * 结果集代理，统计{@link ResultSet#next()}返回{@code true}的次数，关闭时记录统计
+	 */
+	private class ResultSetHandler implements InvocationHandler {
+		private final ResultSet raw;
+		private final long executeNanos;
+		private final long fetchStart;
+		private long rows;
+		private boolean finished;
+
+		ResultSetHandler(ResultSet raw, long executeNanos, long fetchStart) {
+			this.raw = raw;
+			this.executeNanos = executeNanos;
+			this.fetchStart = fetchStart;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			final Object result;
+			try {
+				result = method.invoke(raw, args);
+			} catch (InvocationTargetException e) {
+				throw e.getTargetException();
+			}
+
+			switch (method.getName()) {
+				case "next":
+					if (Boolean.TRUE.equals(result)) {
+						rows++;
+					}
+					break;
+				case "close":
+					finish();
+					break;
+				default:
+					break;
+			}
+			return result;
+		}
+
+		/**
+		 * 记录统计，只记录一次
+		 */
+		void finish() {
+			if (false == finished) {
+				finished = true;
+				monitor.record(sql, executeNanos, System.nanoTime() - fetchStart, rows);
+			}
+		}
+	}
+}
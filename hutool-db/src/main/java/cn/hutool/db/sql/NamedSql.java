@@ -1,11 +1,12 @@
 package cn.hutool.db.sql;
 
 import cn.hutool.core.map.MapUtil;
-import cn.hutool.core.text.StrBuilder;
+import cn.hutool.core.map.WeakConcurrentMap;
 import cn.hutool.core.util.ArrayUtil;
 import cn.hutool.core.util.StrUtil;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -25,6 +26,15 @@ public class NamedSql {
 
 	private static final char[] NAME_START_CHARS = {':', '@', '?'};
 
+	/**
+	 * 命名SQL解析结果缓存，同一SQL只解析一次
+	 */
+	private static final WeakConcurrentMap<String, Segment[]> SEGMENTS_CACHE = new WeakConcurrentMap<>();
+	/**
+	 * 常用个数的in占位符缓存，例如?,?,?
+	 */
+	private static final String[] PLACEHOLDERS_CACHE = new String[128];
+
 	private String sql;
 	private final List<Object> params;
 
@@ -35,7 +45,7 @@ public class NamedSql {
 	 * @param paramMap 名和参数的对应Map
 	 */
 	public NamedSql(String namedSql, Map<String, Object> paramMap) {
-		this.params = new LinkedList<>();
+		this.params = new ArrayList<>();
 		parse(namedSql, paramMap);
 	}
 
@@ -67,7 +77,8 @@ public class NamedSql {
 	}
 
 	/**
-	 * 解析命名占位符的SQL
+	 * 解析命名占位符的SQL<br>
+	 * 同一SQL的占位符结构只解析一次并缓存，之后每次仅按照参数Map填充参数
 	 *
 	 * @param namedSql 命名占位符的SQL
 	 * @param paramMap 名和参数的对应Map
@@ -78,17 +89,114 @@ public class NamedSql {
 			return;
 		}
 
+		final Segment[] segments = SEGMENTS_CACHE.computeIfAbsent(namedSql, NamedSql::compile);
+		final StringBuilder sqlBuilder = new StringBuilder(namedSql.length() + 16);
+		// 已经输出的SQL中是否包含in
+		boolean hasIn = false;
+		for (final Segment segment : segments) {
+			if (null == segment.name) {
+				// 普通SQL片段
+				sqlBuilder.append(segment.text);
+				hasIn |= segment.hasIn;
+			} else if (paramMap.containsKey(segment.name)) {
+				// 有变量对应值（值可以为null），替换占位符为?，变量值放入相应index位置
+				replaceVar(paramMap.get(segment.name), hasIn, sqlBuilder);
+			} else {
+				// 无变量对应值，原样输出
+				sqlBuilder.append(segment.text);
+				hasIn |= segment.hasIn;
+			}
+		}
+
+		this.sql = sqlBuilder.toString();
+	}
+
+	/**
+	 * 替换变量为占位符，并将变量值放入参数列表
+	 *
+	 * @param paramValue 变量值
+	 * @param hasIn      之前的SQL中是否有in
+	 * @param sqlBuilder 结果SQL缓存
+	 */
+	private void replaceVar(Object paramValue, boolean hasIn, StringBuilder sqlBuilder) {
+		if (hasIn) {
+			// 可能为select in (xxx)语句，则拆分参数为多个参数，变成in (?,?,?)
+			if (ArrayUtil.isArray(paramValue)) {
+				final int length = ArrayUtil.length(paramValue);
+				sqlBuilder.append(placeholders(length));
+				for (int i = 0; i < length; i++) {
+					this.params.add(ArrayUtil.get(paramValue, i));
+				}
+				return;
+			} else if (paramValue instanceof Collection) {
+				final Collection<?> collection = (Collection<?>) paramValue;
+				sqlBuilder.append(placeholders(collection.size()));
+				this.params.addAll(collection);
+				return;
+			}
+		}
+
+		sqlBuilder.append('?');
+		this.params.add(paramValue);
+	}
+
+	/**
+	 * 获取指定个数的占位符，例如3个为：?,?,?，常用个数的结果会被缓存
+	 *
+	 * @param count 占位符个数
+	 * @return 占位符
+	 */
+	private static String placeholders(int count) {
+		if (count >= PLACEHOLDERS_CACHE.length) {
+			return buildPlaceholders(count);
+		}
+		String placeholders = PLACEHOLDERS_CACHE[count];
+		if (null == placeholders) {
+			placeholders = buildPlaceholders(count);
+			PLACEHOLDERS_CACHE[count] = placeholders;
+		}
+		return placeholders;
+	}
+
+	/**
+	 * 构建指定个数的占位符，例如3个为：?,?,?
+	 *
+	 * @param count 占位符个数
+	 * @return 占位符
+	 */
+	private static String buildPlaceholders(int count) {
+		if (count <= 0) {
+			return StrUtil.EMPTY;
+		}
+		final StringBuilder builder = new StringBuilder(count * 2 - 1);
+		for (int i = 0; i < count; i++) {
+			if (0 != i) {
+				builder.append(',');
+			}
+			builder.append('?');
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * 将命名占位符的SQL拆分为普通SQL片段和变量片段，结果与参数无关，可缓存复用
+	 *
+	 * @param namedSql 命名占位符的SQL
+	 * @return 片段数组
+	 */
+	private static Segment[] compile(String namedSql) {
 		final int len = namedSql.length();
 
-		final StrBuilder name = StrUtil.strBuilder();
-		final StrBuilder sqlBuilder = StrUtil.strBuilder();
+		final List<Segment> segments = new ArrayList<>();
+		final StringBuilder name = new StringBuilder();
+		final StringBuilder literal = new StringBuilder();
 		char c;
 		Character nameStartChar = null;
 		for (int i = 0; i < len; i++) {
 			c = namedSql.charAt(i);
 			if (ArrayUtil.contains(NAME_START_CHARS, c)) {
 				// 新的变量开始符出现，要处理之前的变量
-				replaceVar(nameStartChar, name, sqlBuilder, paramMap);
+				addVar(nameStartChar, name, literal, segments);
 				nameStartChar = c;
 			} else if (null != nameStartChar) {
 				// 变量状态
@@ -96,69 +204,54 @@ public class NamedSql {
 					// 变量名
 					name.append(c);
 				} else {
-					// 非标准字符也非变量开始的字符出现表示变量名结束，开始替换
-					replaceVar(nameStartChar, name, sqlBuilder, paramMap);
+					// 非标准字符也非变量开始的字符出现表示变量名结束
+					addVar(nameStartChar, name, literal, segments);
 					nameStartChar = null;
-					sqlBuilder.append(c);
+					literal.append(c);
 				}
 			} else {
 				// 变量以外的字符原样输出
-				sqlBuilder.append(c);
+				literal.append(c);
 			}
 		}
 
 		// 收尾，如果SQL末尾存在变量，处理之
-		if (false == name.isEmpty()) {
-			replaceVar(nameStartChar, name, sqlBuilder, paramMap);
+		if (name.length() > 0) {
+			addVar(nameStartChar, name, literal, segments);
+		}
+		if (literal.length() > 0) {
+			segments.add(new Segment(literal.toString(), null));
 		}
 
-		this.sql = sqlBuilder.toString();
+		return segments.toArray(new Segment[0]);
 	}
 
 	/**
-	 * 替换变量，如果无变量，原样输出到SQL中去
+	 * 加入变量片段，如果无变量，按照普通字符处理
 	 *
 	 * @param nameStartChar 变量开始字符
-	 * @param name 变量名
-	 * @param sqlBuilder 结果SQL缓存
-	 * @param paramMap 变量map（非空）
+	 * @param name          变量名
+	 * @param literal       当前普通SQL片段
+	 * @param segments      片段列表
 	 */
-	private void replaceVar(Character nameStartChar, StrBuilder name, StrBuilder sqlBuilder, Map<String, Object> paramMap){
-		if(name.isEmpty()){
-			if(null != nameStartChar){
+	private static void addVar(Character nameStartChar, StringBuilder name, StringBuilder literal, List<Segment> segments) {
+		if (name.length() == 0) {
+			if (null != nameStartChar) {
 				// 类似于:的情况，需要补上:
-				sqlBuilder.append(nameStartChar);
+				literal.append(nameStartChar);
 			}
 			// 无变量，按照普通字符处理
 			return;
 		}
 
-		// 变量结束
-		final String nameStr = name.toString();
-		if(paramMap.containsKey(nameStr)) {
-			// 有变量对应值（值可以为null），替换占位符为?，变量值放入相应index位置
-			final Object paramValue = paramMap.get(nameStr);
-			if(ArrayUtil.isArray(paramValue) && StrUtil.containsIgnoreCase(sqlBuilder, "in")){
-				// 可能为select in (xxx)语句，则拆分参数为多个参数，变成in (?,?,?)
-				final int length = ArrayUtil.length(paramValue);
-				for (int i = 0; i < length; i++) {
-					if(0 != i){
-						sqlBuilder.append(',');
-					}
-					sqlBuilder.append('?');
-					this.params.add(ArrayUtil.get(paramValue, i));
-				}
-			} else{
-				sqlBuilder.append('?');
-				this.params.add(paramValue);
-			}
-		} else {
-			// 无变量对应值，原样输出
-			sqlBuilder.append(nameStartChar).append(name);
+		if (literal.length() > 0) {
+			segments.add(new Segment(literal.toString(), null));
+			literal.setLength(0);
 		}
+		segments.add(new Segment(nameStartChar + name.toString(), name.toString()));
 
 		//清空变量，表示此变量处理结束
-		name.clear();
+		name.setLength(0);
 	}
 
 	/**
@@ -170,4 +263,28 @@ public class NamedSql {
 	private static boolean isGenerateChar(char c) {
 		return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_' || (c >= '0' && c <= '9');
 	}
+
+	/**
+	 * SQL片段，为普通SQL片段或变量片段
+	 */
+	private static class Segment {
+		/**
+		 * 原始文本，变量片段为包括开始字符的变量，例如:name
+		 */
+		private final String text;
+		/**
+		 * 变量名，普通SQL片段为{@code null}
+		 */
+		private final String name;
+		/**
+		 * 原始文本中是否包含in（忽略大小写）
+		 */
+		private final boolean hasIn;
+
+		private Segment(String text, String name) {
+			this.text = text;
+			this.name = name;
+			this.hasIn = StrUtil.containsIgnoreCase(text, "in");
+		}
+	}
 }
@@ -0,0 +1,283 @@
+package cn.hutool.db.sql;
+
+import cn.hutool.core.map.WeakConcurrentMap;
+import cn.hutool.log.Log;
+import cn.hutool.log.LogFactory;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SQL执行监控，提供：
+ * <pre>
+ * 1. 慢SQL日志：执行耗时与读取结果集耗时之和超过阈值时，以WARN级别打印SQL（不包含参数）、耗时和行数
+ * 2. SQL统计：按照SQL指纹（去除字面量和空白差异后的SQL）汇总执行次数、耗时、行数和耗时分布，见{@link SqlStat}
+ * </pre>
+ * 默认关闭，关闭时不产生任何额外开销。可以在db.setting中配置：
+ * <pre>
+ * # 是否开启SQL统计
+ * sqlStat = true
+ * # 慢SQL阈值（毫秒），0表示不打印慢SQL日志
+ * slowSqlMillis = 1000
+ * </pre>
+ *
+ * @author looly
+ * @since 5.8.31
+ */
+public enum SqlMonitor {
+	INSTANCE;
+
+	/**
+	 * 配置文件中配置属性名：是否开启SQL统计
+	 */
+	public static final String KEY_SQL_STAT = "sqlStat";
+	/**
+	 * 配置文件中配置属性名：慢SQL阈值（毫秒）
+	 */
+	public static final String KEY_SLOW_SQL_MILLIS = "slowSqlMillis";
+	/**
+	 * 最多统计的SQL指纹数，超出后新的SQL不再统计，避免拼接SQL导致内存无限增长
+	 */
+	public static final int MAX_STAT_SIZE = 1000;
+
+	private final static Log log = LogFactory.get();
+
+	/**
+	 * 原始SQL与统计的对应关系，避免重复计算指纹
+	 */
+	private final WeakConcurrentMap<String, SqlStat> statCache = new WeakConcurrentMap<>();
+	/**
+	 * SQL指纹与统计的对应关系
+	 */
+	private final Map<String, SqlStat> stats = new ConcurrentHashMap<>();
+
+	/** 是否开启SQL统计 */
+	private volatile boolean stat;
+	/** 慢SQL阈值（纳秒），0表示关闭 */
+	private volatile long slowNanos;
+
+	/**
+	 * 设置全局配置
+	 *
+	 * @param isStat     是否开启SQL统计
+	 * @param slowMillis 慢SQL阈值（毫秒），小于等于0表示不打印慢SQL日志
+	 */
+	public void init(boolean isStat, long slowMillis) {
+		this.stat = isStat;
+		this.slowNanos = slowMillis > 0 ? TimeUnit.MILLISECONDS.toNanos(slowMillis) : 0;
+	}
+
+	/**
+	 * 是否开启了监控，即开启了SQL统计或慢SQL日志
+	 *
+	 * @return 是否开启
+	 */
+	public boolean isEnabled() {
+		return this.stat || this.slowNanos > 0;
+	}
+
+	/**
+	 * 包装{@link PreparedStatement}，监控未开启时返回原对象
+	 *
+	 * @param ps  {@link PreparedStatement}
+	 * @param sql SQL语句
+	 * @return 带监控的{@link PreparedStatement}或原对象
+	 */
+	public PreparedStatement wrap(PreparedStatement ps, String sql) {
+		if (false == isEnabled() || ps instanceof MonitoredStatement) {
+			return ps;
+		}
+		return new MonitoredStatement(ps, sql, this);
+	}
+
+	/**
+	 * 记录一次SQL执行
+	 *
+	 * @param sql          SQL语句
+	 * @param executeNanos 执行耗时（纳秒）
+	 * @param fetchNanos   读取结果集耗时（纳秒）
+	 * @param rows         返回或影响的行数
+	 */
+	public void record(String sql, long executeNanos, long fetchNanos, long rows) {
+		final long slowNanos = this.slowNanos;
+		if (slowNanos > 0 && executeNanos + fetchNanos >= slowNanos) {
+			log.warn("\n[Slow SQL] {}ms (execute: {}ms, fetch: {}ms, rows: {}) -> {}",
+					TimeUnit.NANOSECONDS.toMillis(executeNanos + fetchNanos),
+					TimeUnit.NANOSECONDS.toMillis(executeNanos),
+					TimeUnit.NANOSECONDS.toMillis(fetchNanos), rows, sql);
+		}
+
+		if (this.stat) {
+			final SqlStat sqlStat = getOrCreateStat(sql);
+			if (null != sqlStat) {
+				sqlStat.record(executeNanos, fetchNanos, rows);
+			}
+		}
+	}
+
+	/**
+	 * 获取指定SQL的统计
+	 *
+	 * @param sql SQL语句，可以是原始SQL或指纹
+	 * @return 统计，无统计返回{@code null}
+	 */
+	public SqlStat getStat(String sql) {
+		return this.stats.get(fingerprint(sql));
+	}
+
+	/**
+	 * 获取所有SQL统计
+	 *
+	 * @return 统计列表
+	 */
+	public List<SqlStat> getStats() {
+		return new ArrayList<>(this.stats.values());
+	}
+
+	/**
+	 * 获取总耗时最多的前N条SQL统计
+	 *
+	 * @param n 条数
+	 * @return 统计列表，按照总耗时倒序
+	 */
+	public List<SqlStat> top(int n) {
+		final List<SqlStat> list = getStats();
+		list.sort(Comparator.comparingLong(SqlStat::getTotalTime).reversed());
+		return list.size() > n ? new ArrayList<>(list.subList(0, Math.max(n, 0))) : list;
+	}
+
+	/**
+	 * 清空统计
+	 */
+	public void reset() {
+		this.statCache.clear();
+		this.stats.clear();
+	}
+
+	/**
+	 * 计算SQL指纹，用于将只有字面量不同的SQL归为一类：
+	 * <ul>
+	 *     <li>连续空白字符合并为一个空格，去除首尾空白</li>
+	 *     <li>字符串和数字字面量替换为?</li>
+	 *     <li>连续的?列表（例如IN中的?, ?, ?）合并为一个?</li>
+	 * </ul>
+	 * 例如：{@code select * from user where id in (1, 2,3) and name='a'}的指纹为{@code select * from user where id in (?) and name=?}
+	 *
+	 * @param sql SQL语句
+	 * @return 指纹
+	 */
+	public static String fingerprint(String sql) {
+		if (null == sql) {
+			return null;
+		}
+		final int length = sql.length();
+		final StringBuilder builder = new StringBuilder(length);
+		// 最后一个?在builder中的位置，其后只有逗号和空白时，新的?被合并
+		int lastMark = -1;
+		char c;
+		for (int i = 0; i < length; i++) {
+			c = sql.charAt(i);
+			if (Character.isWhitespace(c)) {
+				while (i + 1 < length && Character.isWhitespace(sql.charAt(i + 1))) {
+					i++;
+				}
+				if (builder.length() > 0 && i + 1 < length) {
+					builder.append(' ');
+				}
+				continue;
+			}
+
+			if ('\'' == c) {
+				// 字符串字面量，''为转义的单引号
+				i++;
+				while (i < length) {
+					if ('\'' == sql.charAt(i)) {
+						if (i + 1 < length && '\'' == sql.charAt(i + 1)) {
+							i++;
+						} else {
+							break;
+						}
+					}
+					i++;
+				}
+				lastMark = appendMark(builder, lastMark);
+			} else if (isDigit(c) && (0 == builder.length() || false == isIdentifierPart(builder.charAt(builder.length() - 1)))) {
+				// 数字字面量，前一个字符不能是标识符的一部分，例如t1中的1
+				while (i + 1 < length && (isDigit(sql.charAt(i + 1)) || '.' == sql.charAt(i + 1))) {
+					i++;
+				}
+				lastMark = appendMark(builder, lastMark);
+			} else if ('?' == c) {
+				lastMark = appendMark(builder, lastMark);
+			} else {
+				builder.append(c);
+			}
+		}
+		return builder.toString();
+	}
+
+	// ----------------------------------------------------------------------------------------------- Private method start
+
+	/**
+	 * 获取或创建SQL对应的统计，超过{@link #MAX_STAT_SIZE}时返回{@code null}
+	 *
+	 * @param sql SQL语句
+	 * @return 统计
+	 */
+	private SqlStat getOrCreateStat(String sql) {
+		SqlStat sqlStat = this.statCache.get(sql);
+		if (null == sqlStat) {
+			final String fingerprint = fingerprint(sql);
+			sqlStat = this.stats.get(fingerprint);
+			if (null == sqlStat) {
+				if (this.stats.size() >= MAX_STAT_SIZE) {
+					return null;
+				}
+				sqlStat = this.stats.computeIfAbsent(fingerprint, SqlStat::new);
+			}
+			this.statCache.put(sql, sqlStat);
+		}
+		return sqlStat;
+	}
+
+	/**
+	 * 追加?，如果前一个?和当前位置之间只有逗号和空白，则合并
+	 *
+	 * @param builder  {@link StringBuilder}
+	 * @param lastMark 上一个?的位置
+	 * @return 当前?的位置
+	 */
+	private static int appendMark(StringBuilder builder, int lastMark) {
+		if (lastMark >= 0 && lastMark < builder.length()) {
+			boolean onlySeparator = true;
+			char c;
+			for (int i = lastMark + 1; i < builder.length(); i++) {
+				c = builder.charAt(i);
+				if (',' != c && ' ' != c) {
+					onlySeparator = false;
+					break;
+				}
+			}
+			if (onlySeparator) {
+				builder.setLength(lastMark + 1);
+				return lastMark;
+			}
+		}
+		builder.append('?');
+		return builder.length() - 1;
+	}
+
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	private static boolean isIdentifierPart(char c) {
+		return Character.isLetterOrDigit(c) || '_' == c || '$' == c || '.' == c || '"' == c || '`' == c;
+	}
+	// ----------------------------------------------------------------------------------------------- Private method end
+}
@@ -0,0 +1,195 @@
+package cn.hutool.db.sql;
+
+import java.io.Serializable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 单条SQL（按照{@link SqlMonitor#fingerprint(String)}归一化后）的执行统计，包括：
+ * <pre>
+ * 1. 执行次数、返回或影响的行数
+ * 2. 执行耗时（从执行到数据库返回）与读取耗时（遍历结果集）的总和、最大值
+ * 3. 执行耗时与读取耗时的直方图，用于估算百分位耗时
+ * </pre>
+ * 直方图按照2的幂次划分微秒数，第i个桶表示[2^i, 2^(i+1))微秒，百分位返回对应桶的上界，误差在2倍以内。
+ *
+ * @author looly
+ * @since 5.8.31
+ */
+public class SqlStat implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 直方图桶数，最后一个桶包含所有超过2^31微秒（约36分钟）的耗时
+	 */
+	private static final int BUCKET_SIZE = 32;
+
+	private final String sql;
+	private final LongAdder count = new LongAdder();
+	private final LongAdder rows = new LongAdder();
+	private final LongAdder executeNanos = new LongAdder();
+	private final LongAdder fetchNanos = new LongAdder();
+	private final AtomicLong maxNanos = new AtomicLong();
+	private final AtomicLongArray executeHistogram = new AtomicLongArray(BUCKET_SIZE);
+	private final AtomicLongArray fetchHistogram = new AtomicLongArray(BUCKET_SIZE);
+
+	/**
+	 * 构造
+	 *
+	 * @param sql 归一化后的SQL
+	 */
+	public SqlStat(String sql) {
+		this.sql = sql;
+	}
+
+	/**
+	 * 记录一次执行
+	 *
+	 * @param executeNanos 执行耗时（纳秒）
+	 * @param fetchNanos   读取结果集耗时（纳秒），非查询语句为0
+	 * @param rows         返回或影响的行数
+	 */
+	public void record(long executeNanos, long fetchNanos, long rows) {
+		this.count.increment();
+		this.rows.add(rows);
+		this.executeNanos.add(executeNanos);
+		this.fetchNanos.add(fetchNanos);
+		this.executeHistogram.incrementAndGet(bucket(executeNanos));
+		if (fetchNanos > 0) {
+			this.fetchHistogram.incrementAndGet(bucket(fetchNanos));
+		}
+
+		final long total = executeNanos + fetchNanos;
+		long max;
+		do {
+			max = this.maxNanos.get();
+		} while (total > max && false == this.maxNanos.compareAndSet(max, total));
+	}
+
+	/**
+	 * @return 归一化后的SQL
+	 */
+	public String getSql() {
+		return sql;
+	}
+
+	/**
+	 * @return 执行次数
+	 */
+	public long getCount() {
+		return count.sum();
+	}
+
+	/**
+	 * @return 返回或影响的总行数
+	 */
+	public long getRows() {
+		return rows.sum();
+	}
+
+	/**
+	 * @return 总耗时（毫秒），包括执行和读取结果集
+	 */
+	public long getTotalTime() {
+		return TimeUnit.NANOSECONDS.toMillis(executeNanos.sum() + fetchNanos.sum());
+	}
+
+	/**
+	 * @return 执行总耗时（毫秒）
+	 */
+	public long getExecuteTime() {
+		return TimeUnit.NANOSECONDS.toMillis(executeNanos.sum());
+	}
+
+	/**
+	 * @return 读取结果集总耗时（毫秒）
+	 */
+	public long getFetchTime() {
+		return TimeUnit.NANOSECONDS.toMillis(fetchNanos.sum());
+	}
+
+	/**
+	 * @return 单次最大耗时（毫秒），包括执行和读取结果集
+	 */
+	public long getMaxTime() {
+		return TimeUnit.NANOSECONDS.toMillis(maxNanos.get());
+	}
+
+	/**
+	 * @return 平均耗时（毫秒），包括执行和读取结果集
+	 */
+	public double getAvgTime() {
+		final long count = getCount();
+		return 0 == count ? 0 : (executeNanos.sum() + fetchNanos.sum()) / 1_000_000.0 / count;
+	}
+
+	/**
+	 * 估算执行耗时的百分位值，例如0.99表示99%的执行耗时不超过此值
+	 *
+	 * @param percentile 百分位，0~1
+	 * @return 耗时（微秒），为所在直方图桶的上界
+	 */
+	public long getExecutePercentile(double percentile) {
+		return percentile(executeHistogram, percentile);
+	}
+
+	/**
+	 * 估算读取结果集耗时的百分位值，例如0.99表示99%的读取耗时不超过此值
+	 *
+	 * @param percentile 百分位，0~1
+	 * @return 耗时（微秒），为所在直方图桶的上界
+	 */
+	public long getFetchPercentile(double percentile) {
+		return percentile(fetchHistogram, percentile);
+	}
+
+	@Override
+	public String toString() {
+		return "SqlStat [sql=" + sql + ", count=" + getCount() + ", rows=" + getRows()
+				+ ", totalTime=" + getTotalTime() + "ms, avgTime=" + String.format("%.3f", getAvgTime())
+				+ "ms, maxTime=" + getMaxTime() + "ms, p99=" + getExecutePercentile(0.99) + "us]";
+	}
+
+	/**
+	 * 计算耗时所在的直方图桶
+	 *
+	 * @param nanos 耗时（纳秒）
+	 * @return 桶下标
+	 */
+	private static int bucket(long nanos) {
+		final long micros = nanos / 1000;
+		if (micros <= 0) {
+			return 0;
+		}
+		return Math.min(63 - Long.numberOfLeadingZeros(micros), BUCKET_SIZE - 1);
+	}
+
+	/**
+	 * 根据直方图估算百分位值
+	 *
+	 * @param histogram  直方图
+	 * @param percentile 百分位，0~1
+	 * @return 耗时（微秒）
+	 */
+	private static long percentile(AtomicLongArray histogram, double percentile) {
+		long total = 0;
+		for (int i = 0; i < BUCKET_SIZE; i++) {
+			total += histogram.get(i);
+		}
+		if (0 == total) {
+			return 0;
+		}
+
+		final long threshold = (long) Math.ceil(total * Math.min(Math.max(percentile, 0), 1));
+		long current = 0;
+		for (int i = 0; i < BUCKET_SIZE; i++) {
+			current += histogram.get(i);
+			if (current >= threshold && current > 0) {
+				return 1L << (i + 1);
+			}
+		}
+		return 1L << BUCKET_SIZE;
+	}
+}
@@ -2,14 +2,29 @@ package cn.hutool.db;
 
 import cn.hutool.core.map.CaseInsensitiveMap;
 import cn.hutool.core.map.MapUtil;
+import cn.hutool.db.ds.DSFactory;
+import cn.hutool.db.ds.simple.AbstractDataSource;
+import cn.hutool.db.sql.Condition;
+import cn.hutool.db.sql.LogicalOperator;
+import cn.hutool.db.sql.Order;
+import cn.hutool.db.sql.SqlExecutor;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import javax.sql.DataSource;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * H2数据库单元测试
@@ -49,6 +64,97 @@ public class H2Test {
 		assertEquals(1, query.size());
 	}
 
+	@Test
+	public void keysetPageTest() throws SQLException {
+		final Db db = Db.use(DS_GROUP_NAME);
+		final KeysetPage page = KeysetPage.of(3, new Order("a"), new Order("b"));
+		PageResult<Entity> result = db.page(Entity.create("test"), page);
+		assertEquals(3, result.size());
+		assertEquals(3, result.get(2).getInt("a"));
+		// 不查询总数
+		assertEquals(0, result.getTotal());
+
+		result = db.page(Entity.create("test"), page.next(result.get(2)));
+		assertEquals(1, result.size());
+		assertEquals(4, result.get(0).getInt("a"));
+
+		// 自定义SQL
+		final List<Entity> list = db.page("select * from test", KeysetPage.of(2, new Order("a")).setLastValues(2));
+		assertEquals(2, list.size());
+		assertEquals(3, list.get(0).getInt("a"));
+
+		// OR条件整体与游标条件组合
+		final Condition orCondition = new Condition("b", 41);
+		orCondition.setLinkOperator(LogicalOperator.OR);
+		final KeysetPage orPage = KeysetPage.of(10, new Order("a")).setLastValues(1);
+		result = db.page(Entity.create("test").set("a", 1).set("b", orCondition), orPage);
+		assertEquals(1, result.size());
+		assertEquals(4, result.get(0).getInt("a"));
+
+		// 修改排序字段后重置为第一页
+		orPage.setOrder(new Order("b"));
+		assertTrue(orPage.isFirstPage());
+	}
+
+	@Test
+	public void asyncTest() {
+		final AsyncDb db = Db.use(DS_GROUP_NAME).async();
+		final CompletableFuture<List<Entity>> query = db.query("select * from test where a > ?", 2);
+		final CompletableFuture<Long> count = db.count(Entity.create("test"));
+		CompletableFuture.allOf(query, count).join();
+		assertEquals(2, query.join().size());
+		assertEquals(4L, count.join().longValue());
+
+		// 事务回滚后数据不变
+		final CompletableFuture<Integer> tx = db.tx(conn -> {
+			SqlExecutor.execute(conn, "delete from test");
+			throw new SQLException("rollback");
+		});
+		assertThrows(CompletionException.class, tx::join);
+		assertEquals(4L, db.count(Entity.create("test")).join().longValue());
+	}
+
+	@Test
+	public void asyncFailureTest() {
+		// 线程池拒绝任务时返回失败的Future，不在调用线程中执行
+		final AsyncDb rejectDb = Db.use(DS_GROUP_NAME).async(command -> {
+			throw new RejectedExecutionException("full");
+		});
+		final CompletionException e = assertThrows(CompletionException.class, () -> rejectDb.count(Entity.create("test")).join());
+		assertInstanceOf(RejectedExecutionException.class, e.getCause());
+
+		// 回滚失败时原始异常不被覆盖，回滚异常作为被抑制的异常附加
+		final DataSource ds = DSFactory.get(DS_GROUP_NAME);
+		final AsyncDb failRollbackDb = new AsyncDb(new AbstractDataSource() {
+			@Override
+			public Connection getConnection() throws SQLException {
+				final Connection conn = ds.getConnection();
+				return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+					if ("rollback".equals(method.getName())) {
+						conn.rollback();
+						throw new SQLException("rollback failed");
+					}
+					return method.invoke(conn, args);
+				});
+			}
+
+			@Override
+			public Connection getConnection(String username, String password) throws SQLException {
+				return getConnection();
+			}
+
+			@Override
+			public void close() {
+			}
+		}, SqlConnRunner.create(ds), false, null);
+		final CompletionException txException = assertThrows(CompletionException.class, () -> failRollbackDb.tx(conn -> {
+			throw new SQLException("origin");
+		}).join());
+		final Throwable cause = txException.getCause().getCause();
+		assertEquals("origin", cause.getMessage());
+		assertEquals("rollback failed", cause.getSuppressed()[0].getMessage());
+	}
+
 	@Test
 	public void findTest() throws SQLException {
 		List<Entity> query = Db.use(DS_GROUP_NAME).find(Entity.create("test"));
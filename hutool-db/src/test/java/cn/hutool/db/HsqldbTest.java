@@ -1,5 +1,7 @@
 package cn.hutool.db;
 
+import cn.hutool.db.sql.Direction;
+import cn.hutool.db.sql.Order;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
@@ -34,6 +36,23 @@ public class HsqldbTest {
 		assertEquals(4, query.size());
 	}
 
+	@Test
+	public void keysetPageTest() throws SQLException {
+		final Db db = Db.use(DS_GROUP_NAME);
+		// 排序方式不一致，使用展开形式的条件
+		final KeysetPage page = KeysetPage.of(2, new Order("b", Direction.DESC), new Order("a"));
+		page.setSearchCount(true);
+		PageResult<Entity> result = db.page(Entity.create("test"), page);
+		assertEquals(4, result.getTotal());
+		assertEquals(2, result.size());
+		assertEquals(41L, result.get(0).getLong("b").longValue());
+
+		result = db.page(Entity.create("test"), page.next(result.get(1)));
+		assertEquals(2, result.size());
+		assertEquals(21L, result.get(0).getLong("b").longValue());
+		assertEquals(11L, result.get(1).getLong("b").longValue());
+	}
+
 	@Test
 	public void findTest() throws SQLException {
 		List<Entity> query = Db.use(DS_GROUP_NAME).find(Entity.create("test"));
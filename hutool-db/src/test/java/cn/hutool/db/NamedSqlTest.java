@@ -1,5 +1,6 @@
 package cn.hutool.db;
 
+import cn.hutool.core.collection.ListUtil;
 import cn.hutool.core.map.MapUtil;
 import cn.hutool.db.sql.NamedSql;
 import static org.junit.jupiter.api.Assertions.*;
@@ -86,6 +87,37 @@ public class NamedSqlTest {
 		assertEquals(3, namedSql.getParams()[2]);
 	}
 
+	@Test
+	public void parseInCollectionTest(){
+		String sql = "select * from user where id in (:ids) and name = :name";
+		final Map<String, Object> paramMap = MapUtil
+				.builder("ids", (Object) ListUtil.of(1, 2))
+				.put("name", "张三")
+				.build();
+
+		NamedSql namedSql = new NamedSql(sql, paramMap);
+		assertEquals("select * from user where id in (?,?) and name = ?", namedSql.getSql());
+		assertArrayEquals(new Object[]{1, 2, "张三"}, namedSql.getParams());
+
+		// 同一SQL再次解析使用缓存的结构，参数个数变化不影响结果
+		paramMap.put("ids", ListUtil.of(1, 2, 3));
+		namedSql = new NamedSql(sql, paramMap);
+		assertEquals("select * from user where id in (?,?,?) and name = ?", namedSql.getSql());
+		assertArrayEquals(new Object[]{1, 2, 3, "张三"}, namedSql.getParams());
+	}
+
+	@Test
+	public void parseEndWithNameTest(){
+		String sql = "select * from user where name = :name";
+		NamedSql namedSql = new NamedSql(sql, MapUtil.of("name", "张三"));
+		assertEquals("select * from user where name = ?", namedSql.getSql());
+
+		// 未指定参数的变量原样输出
+		namedSql = new NamedSql(sql, MapUtil.of("age", 12));
+		assertEquals(sql, namedSql.getSql());
+		assertEquals(0, namedSql.getParams().length);
+	}
+
 	@Test
 	public void queryTest() throws SQLException {
 		Map<String, Object> paramMap = MapUtil
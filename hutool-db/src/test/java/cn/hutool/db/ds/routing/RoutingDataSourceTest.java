@@ -0,0 +1,144 @@
+package cn.hutool.db.ds.routing;
+
+import cn.hutool.db.Db;
+import cn.hutool.db.Entity;
+import cn.hutool.db.ds.DSFactory;
+import cn.hutool.db.ds.simple.AbstractDataSource;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 读写分离数据源单元测试，主库和副本写入不同数据，以此判断查询路由到了哪个库
+ */
+public class RoutingDataSourceTest {
+
+	@BeforeAll
+	public static void init() throws SQLException {
+		for (String group : new String[]{"h2_primary", "h2_replica1", "h2_replica2"}) {
+			final Db db = Db.use(group);
+			db.execute("CREATE TABLE rw_test(id INTEGER, source VARCHAR(32))");
+			db.insert(Entity.create("rw_test").set("id", 1).set("source", group));
+		}
+	}
+
+	@Test
+	public void readFromReplicaTest() throws SQLException {
+		final Db db = Db.use("h2_rw");
+		assertNotNull(RoutingDataSource.unwrap(DSFactory.get("h2_rw")));
+
+		// 权重1:2加权轮询
+		int replica1 = 0;
+		int replica2 = 0;
+		for (int i = 0; i < 30; i++) {
+			final String source = db.queryString("select source from rw_test where id = 1");
+			if ("h2_replica1".equals(source)) {
+				replica1++;
+			} else if ("h2_replica2".equals(source)) {
+				replica2++;
+			}
+		}
+		assertEquals(10, replica1);
+		assertEquals(20, replica2);
+	}
+
+	@Test
+	public void writeAndTxToPrimaryTest() throws SQLException {
+		final Db db = Db.use("h2_rw");
+		db.insert(Entity.create("rw_test").set("id", 2).set("source", "write"));
+		assertEquals(1, Db.use("h2_primary").count(Entity.create("rw_test").set("id", 2)));
+
+		// 事务中的查询使用主库连接
+		db.tx(txDb -> assertEquals("h2_primary", txDb.queryString("select source from rw_test where id = 1")));
+	}
+
+	@Test
+	public void failoverTest() throws SQLException {
+		final RoutingDataSource ds = new RoutingDataSource(DSFactory.get("h2_primary"), BalanceStrategy.LEAST_ACTIVE,
+				new ReplicaNode("bad", new FailDataSource()),
+				new ReplicaNode("h2_replica1", DSFactory.get("h2_replica1")));
+		final Db db = Db.use(ds, "org.h2.Driver");
+		for (int i = 0; i < 3; i++) {
+			assertEquals("h2_replica1", db.queryString("select source from rw_test where id = 1"));
+		}
+		assertEquals(false, ds.getReplicas()[0].isAvailable());
+		assertEquals(0, ds.getReplicas()[1].getActive());
+	}
+
+	@Test
+	public void retryTest() throws SQLException, InterruptedException {
+		final FailDataSource failDs = new FailDataSource();
+		final RoutingDataSource ds = new RoutingDataSource(DSFactory.get("h2_primary"), BalanceStrategy.ROUND_ROBIN,
+				new ReplicaNode("h2_replica1", new DelegateDataSource(DSFactory.get("h2_replica1"), failDs)))
+				.setRetryInterval(100);
+		final Db db = Db.use(ds, "org.h2.Driver");
+
+		// 副本获取连接失败，暂停期内使用主库
+		failDs.fail = true;
+		assertEquals("h2_primary", db.queryString("select source from rw_test where id = 1"));
+		assertFalse(ds.getReplicas()[0].isAvailable());
+
+		// 暂停期过后重新尝试副本
+		failDs.fail = false;
+		assertEquals("h2_primary", db.queryString("select source from rw_test where id = 1"));
+		Thread.sleep(150);
+		assertTrue(ds.getReplicas()[0].isAvailable());
+		assertEquals("h2_replica1", db.queryString("select source from rw_test where id = 1"));
+	}
+
+	/**
+	 * 获取连接失败的数据源，默认始终失败
+	 */
+	private static class FailDataSource extends AbstractDataSource {
+		volatile boolean fail = true;
+
+		@Override
+		public Connection getConnection() throws SQLException {
+			throw new SQLException("Connection refused");
+		}
+
+		@Override
+		public Connection getConnection(String username, String password) throws SQLException {
+			throw new SQLException("Connection refused");
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+
+	/**
+	 * 失败数据源处于失败状态时抛出异常，否则使用目标数据源获取连接
+	 */
+	private static class DelegateDataSource extends AbstractDataSource {
+		private final DataSource target;
+		private final FailDataSource failDs;
+
+		DelegateDataSource(DataSource target, FailDataSource failDs) {
+			this.target = target;
+			this.failDs = failDs;
+		}
+
+		@Override
+		public Connection getConnection() throws SQLException {
+			return failDs.fail ? failDs.getConnection() : target.getConnection();
+		}
+
+		@Override
+		public Connection getConnection(String username, String password) throws SQLException {
+			return getConnection();
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+}
@@ -0,0 +1,58 @@
+package cn.hutool.db.sql;
+
+import cn.hutool.db.Db;
+import cn.hutool.db.Entity;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SqlMonitorTest {
+
+	@Test
+	public void fingerprintTest() {
+		assertEquals("select * from user where id in (?) and name=?",
+				SqlMonitor.fingerprint("  select *  from user\n where id in (1, 2,3) and name='a''b'  "));
+		assertEquals("select * from t1 where a = ? and b = ?",
+				SqlMonitor.fingerprint("select * from t1 where a = ? and b = 1.5"));
+		assertEquals("insert into user(name) values (?)",
+				SqlMonitor.fingerprint("insert into user(name) values (?, ?, ?)"));
+	}
+
+	@Test
+	public void statTest() throws SQLException {
+		final Db db = Db.use("h2");
+		db.execute("CREATE TABLE sql_monitor_test(a INTEGER, b VARCHAR(20))");
+		SqlMonitor.INSTANCE.reset();
+		SqlMonitor.INSTANCE.init(true, 0);
+		try {
+			db.insert(Entity.create("sql_monitor_test").set("a", 1).set("b", "a"));
+			db.insert(Entity.create("sql_monitor_test").set("a", 2).set("b", "b"));
+			db.execute("update sql_monitor_test set b = 'c' where a = 1");
+			db.execute("update sql_monitor_test set b = 'd' where a = 2");
+			final List<Entity> list = db.query("select * from sql_monitor_test where a > ?", 0);
+			assertEquals(2, list.size());
+
+			final SqlStat update = SqlMonitor.INSTANCE.getStat("update sql_monitor_test set b = ? where a = ?");
+			assertNotNull(update);
+			assertEquals(2, update.getCount());
+			assertEquals(2, update.getRows());
+
+			final SqlStat query = SqlMonitor.INSTANCE.getStat("select * from sql_monitor_test where a > ?");
+			assertNotNull(query);
+			assertEquals(1, query.getCount());
+			assertEquals(2, query.getRows());
+			assertTrue(query.getExecutePercentile(0.99) > 0);
+
+			assertEquals(1, SqlMonitor.INSTANCE.top(1).size());
+		} finally {
+			SqlMonitor.INSTANCE.init(false, 0);
+			SqlMonitor.INSTANCE.reset();
+			db.execute("DROP TABLE sql_monitor_test");
+		}
+	}
+}
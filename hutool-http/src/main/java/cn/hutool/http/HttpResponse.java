@@ -644,6 +644,8 @@ public class HttpResponse extends HttpBase<HttpResponse> implements Closeable {
 		final FastByteArrayOutputStream out = new FastByteArrayOutputStream((int) contentLength);
 		copyBody(in, out, contentLength, null, this.config.ignoreEOFError);
 		this.body = new BytesResource(out.toByteArray());
+		// 启用缓冲池时归还缓冲区
+		out.reset();
 	}
 
 	/**
@@ -1,8 +1,8 @@
 package cn.hutool.http.server;
 
-import cn.hutool.core.io.FileUtil;
 import cn.hutool.core.io.IORuntimeException;
 import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.io.NioUtil;
 import cn.hutool.core.util.ObjectUtil;
 import cn.hutool.core.util.StrUtil;
 import cn.hutool.core.util.URLUtil;
@@ -13,9 +13,9 @@ import cn.hutool.http.HttpUtil;
 import com.sun.net.httpserver.Headers;
 import com.sun.net.httpserver.HttpExchange;
 
-import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -355,7 +355,8 @@ public class HttpServerResponse extends HttpServerBase {
 		OutputStream out = null;
 		try {
 			out = this.httpExchange.getResponseBody();
-			IoUtil.copy(in, out);
+			// 已知长度时按照长度确定缓存大小，大文件使用大缓存减少写出次数
+			IoUtil.copy(in, out, length > 0 ? Math.min(length, NioUtil.DEFAULT_LARGE_BUFFER_SIZE) : IoUtil.DEFAULT_BUFFER_SIZE);
 		} finally {
 			IoUtil.close(out);
 			IoUtil.close(in);
@@ -392,9 +393,10 @@ public class HttpServerResponse extends HttpServerBase {
 			fileName = file.getName();
 		}
 		final String contentType = ObjectUtil.defaultIfNull(HttpUtil.getMimeType(fileName), "application/octet-stream");
-		BufferedInputStream in = null;
+		FileInputStream in = null;
 		try {
-			in = FileUtil.getInputStream(file);
+			// 拷贝时自带缓存，无需BufferedInputStream
+			in = IoUtil.toStream(file);
 			write(in, (int)fileSize, contentType, fileName);
 		} finally {
 			IoUtil.close(in);
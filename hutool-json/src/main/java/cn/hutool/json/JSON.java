@@ -2,10 +2,10 @@ package cn.hutool.json;
 
 import cn.hutool.core.bean.BeanPath;
 import cn.hutool.core.bean.copier.IJSONTypeConverter;
+import cn.hutool.core.io.FastStringWriter;
 import cn.hutool.core.lang.TypeReference;
 
 import java.io.Serializable;
-import java.io.StringWriter;
 import java.io.Writer;
 import java.lang.reflect.Type;
 
@@ -116,8 +116,11 @@ public interface JSON extends Cloneable, Serializable, IJSONTypeConverter {
 	 * @throws JSONException 包含非法数抛出此异常
 	 */
 	default String toJSONString(int indentFactor) throws JSONException {
-		final StringWriter sw = new StringWriter();
-		return this.write(sw, indentFactor, 0).toString();
+		final FastStringWriter sw = new FastStringWriter();
+		final String result = this.write(sw, indentFactor, 0).toString();
+		// 启用缓冲池时归还缓冲区
+		sw.reset();
+		return result;
 	}
 
 	/**
@@ -2,6 +2,7 @@ package cn.hutool.json;
 
 import cn.hutool.core.bean.BeanPath;
 import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.io.FastStringWriter;
 import cn.hutool.core.lang.Filter;
 import cn.hutool.core.lang.Validator;
 import cn.hutool.core.lang.mutable.Mutable;
@@ -11,7 +12,6 @@ import cn.hutool.core.text.StrJoiner;
 import cn.hutool.core.util.ObjectUtil;
 import cn.hutool.json.serialize.JSONWriter;
 
-import java.io.StringWriter;
 import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -535,10 +535,11 @@ public class JSONArray implements JSON, JSONGetter<Integer>, List<Object>, Rando
 	 * @since 5.7.15
 	 */
 	public String toJSONString(int indentFactor, Filter<MutablePair<Object, Object>> filter) {
-		final StringWriter sw = new StringWriter();
-		synchronized (sw.getBuffer()) {
-			return this.write(sw, indentFactor, 0, filter).toString();
-		}
+		final FastStringWriter sw = new FastStringWriter();
+		final String result = this.write(sw, indentFactor, 0, filter).toString();
+		// 启用缓冲池时归还缓冲区
+		sw.reset();
+		return result;
 	}
 
 	@Override